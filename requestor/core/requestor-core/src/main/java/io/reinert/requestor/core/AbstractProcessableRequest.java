@@ -193,6 +193,11 @@ abstract class AbstractProcessableRequest implements ProcessableRequest {
         return request.getDelay();
     }
 
+    @Override
+    public int getPriority() {
+        return request.getPriority();
+    }
+
     @Override
     public RetryPolicy getRetryPolicy() {
         return request.getRetryPolicy();
@@ -98,6 +98,12 @@ abstract class AbstractRequestInvoker extends RequestBuilderImpl implements Poll
         return this;
     }
 
+    @Override
+    public AbstractRequestInvoker priority(int priority) {
+        super.priority(priority);
+        return this;
+    }
+
     @Override
     public AbstractRequestInvoker charset(String charset) {
         super.charset(charset);
@@ -158,6 +164,24 @@ abstract class AbstractRequestInvoker extends RequestBuilderImpl implements Poll
         return this;
     }
 
+    @Override
+    public AbstractRequestInvoker pollAfterCompletion() {
+        super.pollAfterCompletion();
+        return this;
+    }
+
+    @Override
+    public AbstractRequestInvoker adaptiveInterval(int minIntervalMillis, int maxIntervalMillis) {
+        super.adaptiveInterval(minIntervalMillis, maxIntervalMillis);
+        return this;
+    }
+
+    @Override
+    public void send(HttpMethod method) {
+        setMethod(method);
+        dispatcher.dispatchAndForget(build(), this.<ErrorSink>getValue(ErrorSink.KEY));
+    }
+
     //===================================================================
     // Internal methods
     //===================================================================
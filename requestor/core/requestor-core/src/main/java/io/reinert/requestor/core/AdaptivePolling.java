@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+/**
+ * <p>Adapts the interval of a short polling request to the responses it receives.</p>
+ *
+ * <p>The interval starts at the polling interval of the request when it's first dispatched, bounded by the given
+ * minimum and maximum, and after each poll it is:</p>
+ * <ul>
+ *     <li>doubled when the poll fails, is answered with an error status, takes longer than the current interval or
+ *     finds no changes (304 Not Modified or an identical body, see {@link ConditionalPolling});</li>
+ *     <li>halved when the poll brings new data (2xx).</li>
+ * </ul>
+ *
+ * <p>So a quiet or struggling upstream is polled less often, while a resource that is changing is followed
+ * closely.</p>
+ *
+ * <p>Unchanged data is only recognized by {@link ConditionalPolling}. Without it, a server that doesn't send
+ * validators answers every poll with 200, which always halves the interval down to the minimum. Enable conditional
+ * polling along with the adaptive interval to back off while the resource is quiet.</p>
+ *
+ * <p>It's enabled through {@link PollingRequestBuilder#adaptiveInterval(int, int)}, which saves a new instance in the
+ * request store under the {@link #KEY} key. An instance holds the state of a single polling request and must not be
+ * shared.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class AdaptivePolling {
+
+    public static final String KEY = "requestor.core.adaptivePolling";
+
+    private final int minIntervalMillis;
+    private final int maxIntervalMillis;
+
+    private int intervalMillis;
+    private boolean started;
+
+    public AdaptivePolling(int minIntervalMillis, int maxIntervalMillis) {
+        if (minIntervalMillis < 0) {
+            throw new IllegalArgumentException("Min interval cannot be negative");
+        }
+        if (maxIntervalMillis < minIntervalMillis) {
+            throw new IllegalArgumentException("Max interval cannot be less than min interval");
+        }
+        this.minIntervalMillis = minIntervalMillis;
+        this.maxIntervalMillis = maxIntervalMillis;
+        this.intervalMillis = minIntervalMillis;
+    }
+
+    public int getMinIntervalMillis() {
+        return minIntervalMillis;
+    }
+
+    public int getMaxIntervalMillis() {
+        return maxIntervalMillis;
+    }
+
+    /**
+     * @return the interval to wait before the next poll
+     */
+    public synchronized int getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    /**
+     * Sets the initial interval from the polling interval of the request. Only the first call has effect.
+     */
+    synchronized void start(int pollingIntervalMillis) {
+        if (started) return;
+        started = true;
+        intervalMillis = Math.max(minIntervalMillis, Math.min(maxIntervalMillis, pollingIntervalMillis));
+    }
+
+    static class Ticket {
+        long startMillis;
+    }
+
+    synchronized void record(Ticket ticket, Response response, RequestException error, long nowMillis) {
+        final int status = response != null ? response.getStatusCode() : 0;
+        final boolean unchanged = status == 304 ||
+                (response instanceof RawResponse && ((RawResponse) response).isUnchanged());
+        final boolean slow = ticket.startMillis > 0 && nowMillis - ticket.startMillis > intervalMillis;
+
+        if (error != null || slow || unchanged || status < 200 || status >= 300) {
+            // Keep growing from at least 1ms, so a zero min interval can still back off
+            intervalMillis = (int) Math.min(maxIntervalMillis, Math.max(1L, intervalMillis) * 2);
+        } else {
+            intervalMillis = Math.max(minIntervalMillis, intervalMillis / 2);
+        }
+    }
+}
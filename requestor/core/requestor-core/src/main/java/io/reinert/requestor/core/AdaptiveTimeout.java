@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>Computes the timeout of each request from the latencies recently observed in its route, instead of a static
+ * timeout.</p>
+ *
+ * <p>The timeout is a percentile of the route latencies times a multiplier, e.g. p99.9 &times; 1.5, bounded by a floor
+ * and a ceiling. So fast endpoints get tight timeouts that release resources promptly during partial outages, while
+ * slow endpoints get looser ones. Timed out requests are recorded with their timeout as latency, pushing the
+ * percentile up when the route slows down.</p>
+ *
+ * <p>Until a route has enough samples, the request's own timeout is kept, or the ceiling is used if there's none.
+ * Routes are keyed by origin and path, so paths with ids create many routes; only the most recently used ones are
+ * tracked.</p>
+ *
+ * <p>An adaptive timeout is usually set in a {@link Session}, but it can be bound to any request, service or session
+ * by saving it in the store under the {@link #KEY} key. It overrides the static timeout of the requests.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class AdaptiveTimeout {
+
+    public static final String KEY = "requestor.core.adaptiveTimeout";
+
+    private static final int LATENCY_WINDOW = 1024;
+    private static final int MIN_LATENCY_SAMPLES = 64;
+    private static final int MAX_ROUTES = 256;
+
+    private final double percentile;
+    private final double multiplier;
+    private final int floorMillis;
+    private final int ceilingMillis;
+
+    private final Map<String, LatencyWindow> routes = new LinkedHashMap<String, LatencyWindow>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LatencyWindow> eldest) {
+            return size() > MAX_ROUTES;
+        }
+    };
+
+    /**
+     * @param percentile    the latency percentile the timeout is based on, e.g. 0.999
+     * @param multiplier    the factor applied to the percentile latency, e.g. 1.5
+     * @param floorMillis   the min timeout
+     * @param ceilingMillis the max timeout
+     */
+    public AdaptiveTimeout(double percentile, double multiplier, int floorMillis, int ceilingMillis) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("Percentile must be greater than 0 and less than 1");
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("Multiplier cannot be less than 1");
+        }
+        if (floorMillis < 1) {
+            throw new IllegalArgumentException("Floor must be greater than zero");
+        }
+        if (ceilingMillis < floorMillis) {
+            throw new IllegalArgumentException("Ceiling cannot be less than floor");
+        }
+        this.percentile = percentile;
+        this.multiplier = multiplier;
+        this.floorMillis = floorMillis;
+        this.ceilingMillis = ceilingMillis;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public int getFloorMillis() {
+        return floorMillis;
+    }
+
+    public int getCeilingMillis() {
+        return ceilingMillis;
+    }
+
+    /**
+     * Returns the timeout currently computed for the route.
+     *
+     * @param route             the route as given by {@link OriginLimiter#getRoute}
+     * @param defaultTimeout    the timeout to be used while there are not enough samples; zero means the ceiling
+     *
+     * @return the timeout in milliseconds
+     */
+    public int getTimeout(String route, int defaultTimeout) {
+        final LatencyWindow window;
+        synchronized (this) {
+            window = routes.get(route);
+        }
+
+        if (window == null || window.getCount() < MIN_LATENCY_SAMPLES) {
+            return defaultTimeout > 0 ? defaultTimeout : ceilingMillis;
+        }
+
+        final long timeout = (long) Math.ceil(window.getPercentile(0) * multiplier);
+        return (int) Math.max(floorMillis, Math.min(ceilingMillis, timeout));
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    void record(String route, long latencyMillis) {
+        LatencyWindow window;
+        synchronized (this) {
+            window = routes.get(route);
+            if (window == null) {
+                window = new LatencyWindow(LATENCY_WINDOW, percentile);
+                routes.put(route, window);
+            }
+        }
+        window.record(latencyMillis);
+    }
+}
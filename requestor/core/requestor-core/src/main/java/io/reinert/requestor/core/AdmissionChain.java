@@ -0,0 +1,380 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link AdmissionStep}s a request goes through before being dispatched.
+ * <p></p>
+ * The steps are taken from the request store in the following order: load balancer, circuit breaker, bulkhead,
+ * rate limiters and origin limiter. So an open circuit rejects the request before it waits for any permit, and the
+ * rate limit tokens are taken only by the requests admitted by the bulkhead.
+ *
+ * @author Danilo Reinert
+ */
+final class AdmissionChain implements ObservedDeferred.Observer {
+
+    // The admission chain of a request, so every attempt sent is notified to the steps
+    static final String KEY = "requestor.core.admission";
+
+    /**
+     * Receives the outcome of the admission.
+     */
+    interface Callback {
+        void admit();
+
+        void reject(RequestException error);
+    }
+
+    private final MutableSerializedRequest request;
+    private final AsyncRunner runner;
+    private final List<AdmissionStep> steps;
+
+    private AdmissionChain(MutableSerializedRequest request, AsyncRunner runner, List<AdmissionStep> steps) {
+        this.request = request;
+        this.runner = runner;
+        this.steps = steps;
+    }
+
+    /**
+     * Creates the admission chain of the request with the gates bound to it.
+     *
+     * @param request   the request to be admitted
+     * @param runner    the runner in which delayed steps are executed
+     * @return the admission chain of the request
+     */
+    static AdmissionChain of(MutableSerializedRequest request, AsyncRunner runner) {
+        final List<AdmissionStep> steps = new ArrayList<AdmissionStep>();
+
+        final LoadBalancer loadBalancer = request.getValue(LoadBalancer.KEY);
+        if (loadBalancer != null) steps.add(new LoadBalancerStep(loadBalancer));
+
+        final CircuitBreaker circuitBreaker = request.getValue(CircuitBreaker.KEY);
+        if (circuitBreaker != null) steps.add(new CircuitBreakerStep(circuitBreaker));
+
+        final Bulkhead bulkhead = request.getValue(Bulkhead.KEY);
+        if (bulkhead != null) steps.add(new BulkheadStep(bulkhead));
+
+        final List<RateLimiter> rateLimiters = getRateLimiters(request);
+        if (!rateLimiters.isEmpty()) steps.add(new RateLimiterStep(rateLimiters));
+
+        final OriginLimiter originLimiter = request.getValue(OriginLimiter.KEY);
+        if (originLimiter != null) steps.add(new OriginLimiterStep(originLimiter, request.getPriority()));
+
+        return new AdmissionChain(request, runner, steps);
+    }
+
+    boolean isEmpty() {
+        return steps.isEmpty();
+    }
+
+    /**
+     * Prepares the request right when it's scheduled.
+     */
+    void prepare() {
+        for (AdmissionStep step : steps) {
+            step.prepare(request);
+        }
+    }
+
+    /**
+     * Passes the request through the steps after the given delay.
+     */
+    void start(long delayMillis, Callback callback) {
+        final Link first = new Link(0, callback);
+        if (delayMillis > 0) {
+            runner.run(AdmissionStep.proceedTask(first), delayMillis);
+        } else {
+            first.proceed();
+        }
+    }
+
+    /**
+     * Notifies the steps an attempt of the request is about to be sent.
+     *
+     * @return the error to reject the attempt with, or null to let it be sent
+     */
+    RequestException onSend() {
+        final long nowMillis = Clock.now();
+        for (AdmissionStep step : steps) {
+            final RequestException error = step.onSend(nowMillis);
+            if (error != null) return error;
+        }
+        return null;
+    }
+
+    public void onResponse(Response response) {
+        for (AdmissionStep step : steps) {
+            step.onResponse(response);
+        }
+    }
+
+    public void onError(RequestException error) {
+        for (AdmissionStep step : steps) {
+            step.onError(error);
+        }
+    }
+
+    public void onSettled(Response response, RequestException error) {
+        // Released in reverse order, so the inner permits are free when the next request in an outer queue goes on
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            steps.get(i).onSettled(response, error);
+        }
+    }
+
+    private static List<RateLimiter> getRateLimiters(MutableSerializedRequest request) {
+        final List<RateLimiter> rateLimiters = new ArrayList<RateLimiter>();
+
+        final Map<String, RateLimiter> prefixes = request.getValue(RateLimiter.PREFIXES_KEY);
+        if (prefixes != null) {
+            final String uri = request.getUri().toString();
+            for (Map.Entry<String, RateLimiter> entry : prefixes.entrySet()) {
+                if (uri.startsWith(entry.getKey())) rateLimiters.add(entry.getValue());
+            }
+        }
+
+        final RateLimiter rateLimiter = request.getValue(RateLimiter.KEY);
+        if (rateLimiter != null && !rateLimiters.contains(rateLimiter)) rateLimiters.add(rateLimiter);
+
+        return rateLimiters;
+    }
+
+    private class Link implements AdmissionStep.Chain {
+        private final int index;
+        private final Callback callback;
+
+        Link(int index, Callback callback) {
+            this.index = index;
+            this.callback = callback;
+        }
+
+        public MutableSerializedRequest getRequest() {
+            return request;
+        }
+
+        public AsyncRunner getRunner() {
+            return runner;
+        }
+
+        public void proceed() {
+            if (index < steps.size()) {
+                steps.get(index).enter(new Link(index + 1, callback));
+            } else {
+                callback.admit();
+            }
+        }
+
+        public void reject(RequestException error) {
+            callback.reject(error);
+        }
+    }
+
+    //===================================================================
+    // Steps
+    //===================================================================
+
+    private static class LoadBalancerStep extends AdmissionStep {
+        private final LoadBalancer loadBalancer;
+        private final LoadBalancer.Ticket ticket = new LoadBalancer.Ticket();
+
+        LoadBalancerStep(LoadBalancer loadBalancer) {
+            this.loadBalancer = loadBalancer;
+        }
+
+        @Override
+        void prepare(MutableSerializedRequest request) {
+            // The endpoint is chosen when the request is scheduled, so each poll is balanced again
+            loadBalancer.route(ticket, request);
+        }
+
+        @Override
+        void enter(Chain chain) {
+            chain.proceed();
+        }
+
+        @Override
+        RequestException onSend(long nowMillis) {
+            ticket.startMillis = nowMillis;
+            return null;
+        }
+
+        @Override
+        public void onResponse(Response response) {
+            loadBalancer.record(ticket, response, null, Clock.now());
+        }
+
+        @Override
+        public void onError(RequestException error) {
+            loadBalancer.record(ticket, null, error, Clock.now());
+        }
+
+        @Override
+        public void onSettled(Response response, RequestException error) {
+            loadBalancer.release(ticket);
+        }
+    }
+
+    private static class CircuitBreakerStep extends AdmissionStep {
+        private final CircuitBreaker circuitBreaker;
+        private CircuitBreaker.Ticket ticket = new CircuitBreaker.Ticket();
+        private MutableSerializedRequest request;
+        private String circuitKey;
+        private boolean sent;
+
+        CircuitBreakerStep(CircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+        }
+
+        @Override
+        void enter(Chain chain) {
+            request = chain.getRequest();
+            circuitKey = circuitBreaker.getCircuitKey(request.getUri());
+            if (circuitBreaker.tryAcquire(ticket, circuitKey, Clock.now())) {
+                chain.proceed();
+            } else {
+                chain.reject(new CircuitOpenException(request, circuitKey));
+            }
+        }
+
+        @Override
+        RequestException onSend(long nowMillis) {
+            // The first attempt was admitted when entering; each retry must be admitted by the circuit again
+            if (sent) {
+                ticket = new CircuitBreaker.Ticket();
+                if (!circuitBreaker.tryAcquire(ticket, circuitKey, nowMillis)) {
+                    return new CircuitOpenException(request, circuitKey);
+                }
+            }
+            sent = true;
+            // Slow calls are measured from the actual dispatch, after delays and queues
+            ticket.startMillis = nowMillis;
+            return null;
+        }
+
+        @Override
+        public void onResponse(Response response) {
+            circuitBreaker.release(ticket, response, null, Clock.now());
+        }
+
+        @Override
+        public void onError(RequestException error) {
+            circuitBreaker.release(ticket, null, error, Clock.now());
+        }
+
+        @Override
+        public void onSettled(Response response, RequestException error) {
+            circuitBreaker.release(ticket, response, error, Clock.now());
+        }
+    }
+
+    private static class BulkheadStep extends AdmissionStep {
+        private final Bulkhead bulkhead;
+        private final Bulkhead.Ticket ticket = new Bulkhead.Ticket();
+
+        BulkheadStep(Bulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        void enter(Chain chain) {
+            if (!bulkhead.enter(ticket, proceedTask(chain))) {
+                chain.reject(new BulkheadFullException(chain.getRequest(), bulkhead));
+            }
+        }
+
+        @Override
+        public void onSettled(Response response, RequestException error) {
+            bulkhead.release(ticket);
+        }
+    }
+
+    private static class RateLimiterStep extends AdmissionStep {
+        private final List<RateLimiter> rateLimiters;
+
+        RateLimiterStep(List<RateLimiter> rateLimiters) {
+            this.rateLimiters = rateLimiters;
+        }
+
+        @Override
+        void enter(Chain chain) {
+            // Rate limiting delays the dispatching instead of blocking
+            long delay = 0;
+            for (RateLimiter rateLimiter : rateLimiters) {
+                delay = Math.max(delay, rateLimiter.reserve());
+            }
+
+            if (delay > 0) {
+                chain.getRunner().run(proceedTask(chain), delay);
+            } else {
+                chain.proceed();
+            }
+        }
+
+        @Override
+        public void onResponse(Response response) {
+            for (RateLimiter rateLimiter : rateLimiters) {
+                rateLimiter.onResponse(response);
+            }
+        }
+    }
+
+    private static class OriginLimiterStep extends AdmissionStep {
+        private final OriginLimiter originLimiter;
+        private final OriginLimiter.Ticket ticket;
+        private long attemptStartMillis = -1;
+
+        OriginLimiterStep(OriginLimiter originLimiter, int priority) {
+            this.originLimiter = originLimiter;
+            this.ticket = new OriginLimiter.Ticket(priority);
+        }
+
+        @Override
+        void enter(Chain chain) {
+            originLimiter.enter(ticket, OriginLimiter.getOrigin(chain.getRequest().getUri()), proceedTask(chain));
+        }
+
+        @Override
+        RequestException onSend(long nowMillis) {
+            attemptStartMillis = nowMillis;
+            return null;
+        }
+
+        @Override
+        public void onResponse(Response response) {
+            sample(response, null);
+        }
+
+        @Override
+        public void onError(RequestException error) {
+            sample(null, error);
+        }
+
+        @Override
+        public void onSettled(Response response, RequestException error) {
+            originLimiter.release(ticket);
+        }
+
+        private void sample(Response response, RequestException error) {
+            // Only attempts actually sent are sampled, without the retry delays and the callbacks
+            if (attemptStartMillis < 0) return;
+            originLimiter.sample(ticket, Clock.now() - attemptStartMillis, response, error);
+            attemptStartMillis = -1;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+/**
+ * A gate a request must pass through before being dispatched, such as a bulkhead or a rate limiter.
+ * <p></p>
+ * Each step either lets the request through by calling {@link Chain#proceed()}, right away or later, or rejects it
+ * with {@link Chain#reject(RequestException)}. The step is notified of every result of the request afterwards, so it
+ * can sample the outcome and release what it holds.
+ *
+ * @author Danilo Reinert
+ */
+abstract class AdmissionStep implements ObservedDeferred.Observer {
+
+    /**
+     * The remaining steps of the admission of a request.
+     */
+    interface Chain {
+        MutableSerializedRequest getRequest();
+
+        AsyncRunner getRunner();
+
+        void proceed();
+
+        void reject(RequestException error);
+    }
+
+    /**
+     * Called when the request is scheduled, before any delay.
+     */
+    void prepare(MutableSerializedRequest request) { }
+
+    /**
+     * Lets the request through or rejects it.
+     */
+    abstract void enter(Chain chain);
+
+    /**
+     * Called right before each attempt of the request is sent, including the retries.
+     *
+     * @return the error to reject the attempt with, or null to let it be sent
+     */
+    RequestException onSend(long nowMillis) {
+        return null;
+    }
+
+    public void onResponse(Response response) { }
+
+    public void onError(RequestException error) { }
+
+    public void onSettled(Response response, RequestException error) { }
+
+    static Runnable proceedTask(final Chain chain) {
+        return new Runnable() {
+            public void run() {
+                chain.proceed();
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+/**
+ * <p>A {@link ConcurrencyLimit} following the Additive Increase / Multiplicative Decrease algorithm.</p>
+ *
+ * <p>The limit grows by one after each successful request made while the limit was being used, and it's multiplied
+ * by the backoff ratio whenever a request is dropped or takes longer than the given timeout.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class AimdLimit implements ConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long timeoutMillis;
+
+    private int limit;
+
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, 0.9, 5000);
+    }
+
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long timeoutMillis) {
+        if (minLimit < 1) throw new IllegalArgumentException("Min limit must be greater than zero");
+        if (maxLimit < minLimit) throw new IllegalArgumentException("Max limit cannot be less than min limit");
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Initial limit must be between min and max limits");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be greater than 0 and less than 1");
+        }
+        if (timeoutMillis < 1) throw new IllegalArgumentException("Timeout must be greater than zero");
+
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public void onSample(long rttMillis, int inFlight, boolean dropped) {
+        if (dropped || rttMillis > timeoutMillis) {
+            limit = Math.max(minLimit, (int) (limit * backoffRatio));
+        } else if (inFlight * 2 >= limit) {
+            // Only grow when the limit is actually being used
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+}
@@ -22,6 +22,12 @@ package io.reinert.requestor.core;
  */
 public interface AsyncRunner {
 
+    /**
+     * A lock for threads to wait for a signal.
+     * <p></p>
+     * Waiters hold the monitor of the lock while checking their condition and calling {@link #await(long)}, so
+     * implementations based on {@link Object#wait(long)} must synchronize on the lock itself to avoid losing signals.
+     */
     interface Lock {
         void await(long timeout) throws InterruptedException;
 
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * <p>Retry policy with exponential backoff and randomized delays.</p>
+ *
+ * <p>Fixed delays make all clients retry in lockstep when an upstream blips, hitting it with synchronized waves of
+ * retries. Jitter spreads the retries over time:</p>
+ * <ul>
+ *     <li><b>Full jitter</b>: each delay is random between zero and {@code min(cap, base * 2^retry)};</li>
+ *     <li><b>Decorrelated jitter</b>: each delay is random between {@code base} and three times the previous delay,
+ *     limited by {@code cap}.</li>
+ * </ul>
+ *
+ * <p>The factory methods return providers, so each request gets its own policy instance. A server can defer a retry
+ * with the Retry-After header up to {@link RequestRetrier#DEFAULT_MAX_RETRY_AFTER_MILLIS}, unless another limit is
+ * set with {@link Factory#maxRetryAfter(int)}.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class BackoffRetryPolicy implements RetryPolicy, RetryPolicy.RetryAfterLimit {
+
+    /**
+     * The strategy for randomizing the delays.
+     */
+    public enum Jitter {
+        NONE, FULL, DECORRELATED
+    }
+
+    private final Jitter jitter;
+    private final int baseMillis;
+    private final int capMillis;
+    private final int maxRetries;
+    private final int maxRetryAfterMillis;
+    private final List<RequestEvent> events;
+    private final Random random;
+
+    private int previousDelay;
+
+    public BackoffRetryPolicy(Jitter jitter, int baseMillis, int capMillis, int maxRetries, RequestEvent... events) {
+        this(jitter, baseMillis, capMillis, maxRetries, RequestRetrier.DEFAULT_MAX_RETRY_AFTER_MILLIS, new Random(),
+                events);
+    }
+
+    BackoffRetryPolicy(Jitter jitter, int baseMillis, int capMillis, int maxRetries, int maxRetryAfterMillis,
+                       Random random, RequestEvent... events) {
+        if (jitter == null) throw new NullPointerException("Jitter cannot be null");
+        if (baseMillis < 1) throw new IllegalArgumentException("Base delay must be greater than zero");
+        if (capMillis < baseMillis) throw new IllegalArgumentException("Cap delay cannot be less than base delay");
+        if (maxRetries < 0) throw new IllegalArgumentException("Max retries cannot be negative");
+        if (maxRetryAfterMillis < 0) throw new IllegalArgumentException("Max Retry-After cannot be negative");
+        if (events.length == 0) throw new IllegalArgumentException("At least one retry event must be informed");
+        this.jitter = jitter;
+        this.baseMillis = baseMillis;
+        this.capMillis = capMillis;
+        this.maxRetries = maxRetries;
+        this.maxRetryAfterMillis = maxRetryAfterMillis;
+        this.random = random;
+        this.events = Arrays.asList(events);
+        this.previousDelay = baseMillis;
+    }
+
+    /**
+     * Exponential backoff without jitter.
+     */
+    public static Factory exponential(int baseMillis, int capMillis, int maxRetries, RequestEvent... events) {
+        return new Factory(Jitter.NONE, baseMillis, capMillis, maxRetries, events);
+    }
+
+    /**
+     * Exponential backoff with full jitter.
+     */
+    public static Factory fullJitter(int baseMillis, int capMillis, int maxRetries, RequestEvent... events) {
+        return new Factory(Jitter.FULL, baseMillis, capMillis, maxRetries, events);
+    }
+
+    /**
+     * Exponential backoff with decorrelated jitter.
+     */
+    public static Factory decorrelatedJitter(int baseMillis, int capMillis, int maxRetries, RequestEvent... events) {
+        return new Factory(Jitter.DECORRELATED, baseMillis, capMillis, maxRetries, events);
+    }
+
+    @Override
+    public int retryIn(RequestAttempt attempt) {
+        if (attempt.getRetryCount() >= maxRetries || !matches(attempt.getEvent())) return -1;
+
+        // Zero means no retry for the RequestRetrier, so the delay is at least one millisecond
+        return Math.max(1, nextDelay(attempt.getRetryCount()));
+    }
+
+    @Override
+    public int getMaxRetryAfterMillis() {
+        return maxRetryAfterMillis;
+    }
+
+    int nextDelay(int retryCount) {
+        switch (jitter) {
+            case FULL:
+                return (int) (random.nextDouble() * exponentialDelay(retryCount));
+            case DECORRELATED:
+                final long upper = Math.min((long) capMillis, previousDelay * 3L);
+                previousDelay = (int) (baseMillis + random.nextDouble() * (upper - baseMillis));
+                return previousDelay;
+            default:
+                return exponentialDelay(retryCount);
+        }
+    }
+
+    private int exponentialDelay(int retryCount) {
+        final double delay = baseMillis * Math.pow(2, retryCount);
+        return delay >= capMillis ? capMillis : (int) delay;
+    }
+
+    private boolean matches(RequestEvent event) {
+        while (event != null) {
+            if (events.contains(event)) return true;
+            event = event.getParent();
+        }
+        return false;
+    }
+
+    /**
+     * Provides a new policy instance for each request.
+     */
+    public static class Factory implements RetryPolicy.Provider {
+
+        private final Jitter jitter;
+        private final int baseMillis;
+        private final int capMillis;
+        private final int maxRetries;
+        private final RequestEvent[] events;
+        private int maxRetryAfterMillis = RequestRetrier.DEFAULT_MAX_RETRY_AFTER_MILLIS;
+
+        Factory(Jitter jitter, int baseMillis, int capMillis, int maxRetries, RequestEvent... events) {
+            // Validate eagerly so misconfiguration is reported when the policy is set
+            new BackoffRetryPolicy(jitter, baseMillis, capMillis, maxRetries, events);
+            this.jitter = jitter;
+            this.baseMillis = baseMillis;
+            this.capMillis = capMillis;
+            this.maxRetries = maxRetries;
+            this.events = events;
+        }
+
+        /**
+         * Sets the longest Retry-After delay the requests wait for. If the server asks for more, they fail instead.
+         *
+         * @param millis    the maximum delay in milliseconds
+         * @return this factory
+         */
+        public Factory maxRetryAfter(int millis) {
+            if (millis < 0) throw new IllegalArgumentException("Max Retry-After cannot be negative");
+            maxRetryAfterMillis = millis;
+            return this;
+        }
+
+        public RetryPolicy getInstance() {
+            return new BackoffRetryPolicy(jitter, baseMillis, capMillis, maxRetries, maxRetryAfterMillis,
+                    new Random(), events);
+        }
+    }
+}
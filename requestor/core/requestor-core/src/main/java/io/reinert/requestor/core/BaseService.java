@@ -28,6 +28,9 @@ import io.reinert.requestor.core.uri.UriBuilder;
  */
 public class BaseService implements Service {
 
+    private static final String[] GATE_KEYS = { Bulkhead.KEY, RateLimiter.KEY, CircuitBreaker.KEY, LoadBalancer.KEY,
+            SingleFlight.KEY };
+
     private final Session session;
     private final RequestOptionsHolder options;
     private final Store store;
@@ -40,6 +43,18 @@ public class BaseService implements Service {
         this.uriBuilder = UriBuilder.fromUri(resourceUri);
     }
 
+    /**
+     * Creates a service whose requests are balanced across the endpoints of the given {@link LoadBalancer}.
+     *
+     * @param session       The session of the service
+     * @param loadBalancer  The load balancer holding the base uris of the replicas
+     * @param resourcePath  The path of the resource, relative to the base uris
+     */
+    public BaseService(Session session, LoadBalancer loadBalancer, String resourcePath) {
+        this(session, resourcePath);
+        if (loadBalancer != null) store.save(LoadBalancer.KEY, loadBalancer);
+    }
+
     //===================================================================
     // RequestOptions methods
     //===================================================================
@@ -94,11 +109,21 @@ public class BaseService implements Service {
         options.setDelay(delayMillis);
     }
 
+    @Override
+    public void setPriority(int priority) {
+        options.setPriority(priority);
+    }
+
     @Override
     public int getDelay() {
         return options.getDelay();
     }
 
+    @Override
+    public int getPriority() {
+        return options.getPriority();
+    }
+
     @Override
     public void setCharset(String charset) {
         options.setCharset(charset);
@@ -174,6 +199,94 @@ public class BaseService implements Service {
         return session;
     }
 
+    /**
+     * Isolates the requests of this service by limiting their concurrency with the given {@link Bulkhead}.
+     *
+     * @param bulkhead  The bulkhead to be applied to every request of this service; null removes it
+     */
+    public void setBulkhead(Bulkhead bulkhead) {
+        if (bulkhead == null) {
+            store.remove(Bulkhead.KEY);
+        } else {
+            store.save(Bulkhead.KEY, bulkhead);
+        }
+    }
+
+    public Bulkhead getBulkhead() {
+        return store.getValue(Bulkhead.KEY);
+    }
+
+    /**
+     * Limits the dispatching rate of the requests of this service with the given {@link RateLimiter}.
+     * The rate limiters of the session are still respected.
+     *
+     * @param rateLimiter  The rate limiter to be applied to every request of this service; null removes it
+     */
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        if (rateLimiter == null) {
+            store.remove(RateLimiter.KEY);
+        } else {
+            store.save(RateLimiter.KEY, rateLimiter);
+        }
+    }
+
+    public RateLimiter getRateLimiter() {
+        return store.getValue(RateLimiter.KEY);
+    }
+
+    /**
+     * Stops sending the requests of this service to failing origins with the given {@link CircuitBreaker}.
+     * It overrides the circuit breaker of the session.
+     *
+     * @param circuitBreaker  The circuit breaker to be applied to every request of this service; null removes it
+     */
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        if (circuitBreaker == null) {
+            store.remove(CircuitBreaker.KEY);
+        } else {
+            store.save(CircuitBreaker.KEY, circuitBreaker);
+        }
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return store.getValue(CircuitBreaker.KEY);
+    }
+
+    /**
+     * Balances the requests of this service across the endpoints of the given {@link LoadBalancer}.
+     * The resource uri of this service must be relative.
+     *
+     * @param loadBalancer  The load balancer to be applied to every request of this service; null removes it
+     */
+    public void setLoadBalancer(LoadBalancer loadBalancer) {
+        if (loadBalancer == null) {
+            store.remove(LoadBalancer.KEY);
+        } else {
+            store.save(LoadBalancer.KEY, loadBalancer);
+        }
+    }
+
+    public LoadBalancer getLoadBalancer() {
+        return store.getValue(LoadBalancer.KEY);
+    }
+
+    /**
+     * Coalesces the identical requests of this service in flight with the given {@link SingleFlight}.
+     *
+     * @param singleFlight  The single-flight to be applied to every request of this service; null removes it
+     */
+    public void setSingleFlight(SingleFlight singleFlight) {
+        if (singleFlight == null) {
+            store.remove(SingleFlight.KEY);
+        } else {
+            store.save(SingleFlight.KEY, singleFlight);
+        }
+    }
+
+    public SingleFlight getSingleFlight() {
+        return store.getValue(SingleFlight.KEY);
+    }
+
     //===================================================================
     // Store methods
     //===================================================================
@@ -313,6 +426,11 @@ public class BaseService implements Service {
     protected RequestInvoker req(Uri uri) {
         final RequestInvoker request = session.req(uri);
         options.apply(request);
+        // The requests don't inherit the service store, so its gates are bound to each of them
+        for (String key : GATE_KEYS) {
+            final Object gate = store.getValue(key);
+            if (gate != null) request.save(key, gate);
+        }
         return request;
     }
 }
@@ -0,0 +1,401 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.reinert.requestor.core.callback.ExceptionCallback;
+import io.reinert.requestor.core.callback.ResponseCallback;
+
+/**
+ * <p>Dispatches many calls with a bounded concurrency window and aggregates their completion.</p>
+ *
+ * <p>Calls are started in the order they were added, at most {@link #getMaxConcurrentCalls()} at a time.
+ * When all of them are settled, the {@link Callback} is executed once with a {@link Result} holding one {@link Item}
+ * per call, in the same order they were added.</p>
+ *
+ * <p>Optionally, the batch may {@link #failFast() fail fast}, finishing as soon as any call fails, or have a
+ * {@link #deadline(int) deadline}, finishing with the partial results when it expires. In both cases, the calls not
+ * started yet are skipped and the ones in flight are cancelled.</p>
+ *
+ * <pre>
+ * session.batch(10)
+ *         .add(new Batch.Call&lt;Book&gt;() {
+ *             public Request&lt;Book&gt; call() {
+ *                 return bookService.get(1);
+ *             }
+ *         })
+ *         .deadline(30000)
+ *         .dispatch(new Batch.Callback() {
+ *             public void execute(Batch.Result result) { ... }
+ *         });
+ * </pre>
+ *
+ * @author Danilo Reinert
+ */
+public class Batch {
+
+    /**
+     * A deferred call to be dispatched by the batch.
+     *
+     * @param <T> the type of the response payload
+     */
+    public interface Call<T> {
+        Request<T> call();
+    }
+
+    /**
+     * Executed once when the batch finishes.
+     */
+    public interface Callback {
+        void execute(Result result);
+    }
+
+    /**
+     * The outcome of a call.
+     */
+    public enum Outcome {
+        /** The call was not settled yet. */
+        PENDING,
+        /** The call responded with a successful status. */
+        SUCCESS,
+        /** The call responded with an unsuccessful status. */
+        FAIL,
+        /** The call could not be completed. */
+        ERROR,
+        /** The call was in flight when the batch finished early and was cancelled. */
+        CANCELLED,
+        /** The call was not started because the batch finished early. */
+        SKIPPED
+    }
+
+    /**
+     * The result of a call.
+     *
+     * @param <T> the type of the response payload
+     */
+    public static class Item<T> {
+        private final int index;
+        private Outcome outcome = Outcome.PENDING;
+        private Request<T> request;
+        private Response response;
+        private RequestException error;
+
+        Item(int index) {
+            this.index = index;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        /**
+         * @return the request of the call or null if it was skipped
+         */
+        public Request<T> getRequest() {
+            return request;
+        }
+
+        /**
+         * @return the response of the call or null if it did not respond
+         */
+        public Response getResponse() {
+            return response;
+        }
+
+        /**
+         * @return the deserialized payload of the response or null if it did not respond
+         */
+        public T getPayload() {
+            return response != null ? response.<T>getPayload() : null;
+        }
+
+        /**
+         * @return the error of the call if its outcome is {@link Outcome#ERROR}
+         */
+        public RequestException getError() {
+            return error;
+        }
+    }
+
+    /**
+     * The aggregated result of a batch.
+     */
+    public static class Result {
+        private final List<Item<?>> items;
+        private final boolean complete;
+        private final int successCount;
+
+        Result(List<Item<?>> items, boolean complete, int successCount) {
+            this.items = items;
+            this.complete = complete;
+            this.successCount = successCount;
+        }
+
+        /**
+         * @return the items in the same order their calls were added
+         */
+        public List<Item<?>> getItems() {
+            return items;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> Item<T> getItem(int index) {
+            return (Item<T>) items.get(index);
+        }
+
+        /**
+         * @return true if every call was settled, i.e., the batch neither failed fast nor reached the deadline
+         */
+        public boolean isComplete() {
+            return complete;
+        }
+
+        /**
+         * @return true if every call responded with a successful status
+         */
+        public boolean isSuccessful() {
+            return successCount == items.size();
+        }
+
+        public int getSuccessCount() {
+            return successCount;
+        }
+    }
+
+    private final AsyncRunner asyncRunner;
+    private final int maxConcurrentCalls;
+    private final List<Call<?>> calls = new ArrayList<Call<?>>();
+
+    private boolean failFast;
+    private int deadlineMillis;
+
+    private List<Item<?>> items;
+    private Callback callback;
+    private int nextIndex;
+    private int settledCount;
+    private int successCount;
+    private boolean finished;
+
+    public Batch(AsyncRunner asyncRunner, int maxConcurrentCalls) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("Max concurrent calls must be greater than zero");
+        }
+        this.asyncRunner = asyncRunner;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    /**
+     * Adds a call to the batch. It's only executed when its turn comes after {@link #dispatch(Callback)}.
+     *
+     * @param call the call to be dispatched
+     * @return this batch
+     */
+    public synchronized Batch add(Call<?> call) {
+        if (call == null) throw new IllegalArgumentException("Call cannot be null");
+        if (items != null) throw new IllegalStateException("The batch was already dispatched");
+        calls.add(call);
+        return this;
+    }
+
+    /**
+     * Finishes the batch as soon as any call fails or errors.
+     *
+     * @return this batch
+     */
+    public synchronized Batch failFast() {
+        this.failFast = true;
+        return this;
+    }
+
+    /**
+     * Finishes the batch with the partial results if it takes longer than the deadline.
+     *
+     * @param deadlineMillis the max time the batch can take, counted from the dispatch
+     * @return this batch
+     */
+    public synchronized Batch deadline(int deadlineMillis) {
+        this.deadlineMillis = deadlineMillis;
+        return this;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public synchronized int size() {
+        return calls.size();
+    }
+
+    /**
+     * Starts dispatching the calls.
+     *
+     * @param callback executed once when the batch finishes
+     */
+    public void dispatch(Callback callback) {
+        final int initialCalls;
+        synchronized (this) {
+            if (items != null) throw new IllegalStateException("The batch was already dispatched");
+            this.callback = callback;
+            final List<Item<?>> list = new ArrayList<Item<?>>(calls.size());
+            for (int i = 0; i < calls.size(); i++) list.add(new Item<Object>(i));
+            items = Collections.unmodifiableList(list);
+            initialCalls = Math.min(maxConcurrentCalls, calls.size());
+        }
+
+        if (initialCalls == 0) {
+            finish(true);
+            return;
+        }
+
+        if (deadlineMillis > 0) {
+            asyncRunner.run(new Runnable() {
+                public void run() {
+                    finish(false);
+                }
+            }, deadlineMillis);
+        }
+
+        for (int i = 0; i < initialCalls; i++) startNext();
+    }
+
+    /**
+     * @return true if the batch has finished
+     */
+    public synchronized boolean isFinished() {
+        return finished;
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    @SuppressWarnings("unchecked")
+    private void startNext() {
+        final Item<Object> item;
+        final Call<Object> call;
+        synchronized (this) {
+            if (finished || nextIndex >= calls.size()) return;
+            item = (Item<Object>) items.get(nextIndex);
+            call = (Call<Object>) calls.get(nextIndex);
+            nextIndex++;
+        }
+
+        final Request<Object> request;
+        try {
+            request = call.call();
+        } catch (RuntimeException e) {
+            settle(item, null, new BatchCallException(item.index, e));
+            return;
+        }
+
+        final boolean lateStart;
+        synchronized (this) {
+            item.request = request;
+            lateStart = finished;
+        }
+
+        if (lateStart) {
+            // The batch finished while the call was being started
+            cancel(request);
+            return;
+        }
+
+        request.onLoad(new ResponseCallback() {
+            public void execute(Response response) {
+                settle(item, response, null);
+            }
+        }).onError(new ExceptionCallback() {
+            public void execute(RequestException error) {
+                settle(item, null, error);
+            }
+        });
+    }
+
+    private void settle(Item<?> item, Response response, RequestException error) {
+        final boolean shouldFail;
+        final boolean allSettled;
+        synchronized (this) {
+            // A polling request may be settled many times; only the first one counts
+            if (finished || item.outcome != Outcome.PENDING) return;
+
+            item.response = response;
+            item.error = error;
+            if (error != null) {
+                item.outcome = Outcome.ERROR;
+            } else if (response.getStatus().getFamily() == StatusFamily.SUCCESSFUL) {
+                item.outcome = Outcome.SUCCESS;
+                successCount++;
+            } else {
+                item.outcome = Outcome.FAIL;
+            }
+
+            settledCount++;
+            allSettled = settledCount == calls.size();
+            shouldFail = failFast && item.outcome != Outcome.SUCCESS;
+        }
+
+        if (allSettled) {
+            finish(true);
+        } else if (shouldFail) {
+            finish(false);
+        } else {
+            startNext();
+        }
+    }
+
+    private void finish(boolean complete) {
+        final List<Request<?>> inFlight = new ArrayList<Request<?>>();
+        final Result result;
+        final Callback cb;
+        synchronized (this) {
+            if (finished) return;
+            finished = true;
+
+            for (Item<?> item : items) {
+                if (item.outcome != Outcome.PENDING) continue;
+                if (item.request != null) {
+                    item.outcome = Outcome.CANCELLED;
+                    inFlight.add(item.request);
+                } else if (item.index < nextIndex) {
+                    // The call is being started right now
+                    item.outcome = Outcome.CANCELLED;
+                } else {
+                    item.outcome = Outcome.SKIPPED;
+                }
+            }
+
+            result = new Result(items, complete, successCount);
+            cb = callback;
+        }
+
+        for (Request<?> request : inFlight) cancel(request);
+
+        if (cb != null) cb.execute(result);
+    }
+
+    private static void cancel(Request<?> request) {
+        // Requests whose connection was not opened yet cannot be cancelled, but their results are ignored anyway
+        final HttpConnection connection = request.getHttpConnection();
+        if (connection != null && connection.isPending()) connection.cancel();
+    }
+}
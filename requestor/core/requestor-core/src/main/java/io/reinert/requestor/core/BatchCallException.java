@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+/**
+ * Thrown to indicate that a call of a {@link Batch} failed to produce its request.
+ * <p></p>
+ *
+ * The request was never built, so there is no uri or method. The failure of the call is the cause.
+ *
+ * @author Danilo Reinert
+ */
+public class BatchCallException extends RequestAbortException {
+
+    private static final long serialVersionUID = -6407516812287341290L;
+
+    private int index;
+
+    protected BatchCallException() {
+        super();
+    }
+
+    public BatchCallException(int index, RuntimeException cause) {
+        super("The call #" + index + " of the batch failed to produce its request.", cause);
+        this.index = index;
+    }
+
+    /**
+     * @return the index of the call in the batch
+     */
+    public int getIndex() {
+        return index;
+    }
+}
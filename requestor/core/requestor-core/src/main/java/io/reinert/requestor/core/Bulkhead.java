@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.LinkedList;
+
+/**
+ * <p>Isolates a group of requests by limiting how many of them can be in flight at the same time.</p>
+ *
+ * <p>Requests exceeding the concurrency limit wait in a bounded queue. When the queue is also full, the request is
+ * promptly rejected with a {@link BulkheadFullException}.</p>
+ *
+ * <p>Optionally, a dedicated {@link AsyncRunner} can be set so the requests are dispatched apart from the Session's
+ * runner.</p>
+ *
+ * <p>A bulkhead is usually set in a {@link BaseService}, but it can be bound to any request, service or session by
+ * saving it in the store under the {@link #KEY} key.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class Bulkhead {
+
+    public static final String KEY = "requestor.core.bulkhead";
+
+    /**
+     * A slot request waiting for or holding a permit in a bulkhead.
+     */
+    static class Ticket {
+        private Runnable task;
+        private boolean active;
+        private boolean released;
+    }
+
+    private final int maxConcurrentRequests;
+    private final int maxQueueLength;
+    private final AsyncRunner asyncRunner;
+    private final LinkedList<Ticket> queue = new LinkedList<Ticket>();
+
+    private int activeCount;
+    private long rejectedCount;
+
+    public Bulkhead(int maxConcurrentRequests, int maxQueueLength) {
+        this(maxConcurrentRequests, maxQueueLength, null);
+    }
+
+    public Bulkhead(int maxConcurrentRequests, int maxQueueLength, AsyncRunner asyncRunner) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("Max concurrent requests must be greater than zero");
+        }
+        if (maxQueueLength < 0) {
+            throw new IllegalArgumentException("Max queue length cannot be negative");
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxQueueLength = maxQueueLength;
+        this.asyncRunner = asyncRunner;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int getMaxQueueLength() {
+        return maxQueueLength;
+    }
+
+    /**
+     * Returns the dedicated AsyncRunner of this bulkhead.
+     *
+     * @return the dedicated runner or null if the requests should be dispatched by the Session's runner
+     */
+    public AsyncRunner getAsyncRunner() {
+        return asyncRunner;
+    }
+
+    /**
+     * @return the number of requests currently holding a permit
+     */
+    public synchronized int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * @return the number of requests currently waiting for a permit
+     */
+    public synchronized int getQueueLength() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of requests rejected since this bulkhead was created
+     */
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    /**
+     * Tries to admit the ticket. If there's a free permit, the task is executed right away in the calling thread.
+     * Otherwise, it's enqueued to be executed as soon as a permit is released.
+     *
+     * @return false if the bulkhead is saturated and the ticket was rejected
+     */
+    boolean enter(Ticket ticket, Runnable task) {
+        synchronized (this) {
+            if (ticket.released) return true;
+
+            ticket.task = task;
+
+            if (activeCount >= maxConcurrentRequests) {
+                if (queue.size() >= maxQueueLength) {
+                    rejectedCount++;
+                    ticket.released = true;
+                    return false;
+                }
+                queue.add(ticket);
+                return true;
+            }
+
+            activeCount++;
+            ticket.active = true;
+        }
+
+        task.run();
+        return true;
+    }
+
+    /**
+     * Releases the permit held by the ticket or removes it from the queue if it was still waiting.
+     * If a permit is released, then the next ticket in the queue is executed in the calling thread.
+     */
+    void release(Ticket ticket) {
+        Ticket next;
+
+        synchronized (this) {
+            if (ticket.released) return;
+            ticket.released = true;
+
+            if (!ticket.active) {
+                queue.remove(ticket);
+                return;
+            }
+
+            ticket.active = false;
+            next = queue.poll();
+            if (next == null) {
+                activeCount--;
+                return;
+            }
+            next.active = true;
+        }
+
+        next.task.run();
+    }
+}
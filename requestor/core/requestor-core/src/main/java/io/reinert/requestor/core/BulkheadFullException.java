@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+/**
+ * Thrown to indicate that a request was rejected because its {@link Bulkhead} was saturated.
+ *
+ * @author Danilo Reinert
+ */
+public class BulkheadFullException extends RequestAbortException {
+
+    private static final long serialVersionUID = 4032137318623524301L;
+
+    private int maxConcurrentRequests;
+    private int maxQueueLength;
+
+    protected BulkheadFullException() {
+        super();
+    }
+
+    public BulkheadFullException(RequestOptions requestOptions, Bulkhead bulkhead) {
+        super(requestOptions, "The request was rejected because the bulkhead is full. It allows up to " +
+                bulkhead.getMaxConcurrentRequests() + " concurrent requests and " + bulkhead.getMaxQueueLength() +
+                " waiting requests.");
+        this.maxConcurrentRequests = bulkhead.getMaxConcurrentRequests();
+        this.maxQueueLength = bulkhead.getMaxQueueLength();
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int getMaxQueueLength() {
+        return maxQueueLength;
+    }
+}
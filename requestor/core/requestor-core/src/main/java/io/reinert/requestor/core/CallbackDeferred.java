@@ -47,6 +47,7 @@ class CallbackDeferred implements Deferred<Response>, DeferredPool<Response>, Po
     private ResponseCallback resolveCallback;
     private Boolean resolved;
     private HttpConnection connection;
+    private RequestRetrier retrier;
 
     protected CallbackDeferred(DualCallback callback, SerializedRequest serializedRequest) {
         this.callback = callback;
@@ -74,6 +75,8 @@ class CallbackDeferred implements Deferred<Response>, DeferredPool<Response>, Po
 
     @Override
     public void resolve(Response response) {
+        if (retrier != null && retrier.maybeRetry(response)) return;
+
         resolved = Boolean.TRUE;
         if (resolveCallback != null) {
             try {
@@ -87,6 +90,8 @@ class CallbackDeferred implements Deferred<Response>, DeferredPool<Response>, Po
 
     @Override
     public void reject(RequestException exception) {
+        if (retrier != null && retrier.maybeRetry(exception)) return;
+
         resolved = Boolean.FALSE;
         callback.onError(exception);
     }
@@ -110,7 +115,7 @@ class CallbackDeferred implements Deferred<Response>, DeferredPool<Response>, Po
 
     @Override
     public void setRequestRetrier(RequestRetrier retrier) {
-        throw new UnsupportedOperationException();
+        this.retrier = retrier;
     }
 
     @Override
@@ -134,16 +139,29 @@ class CallbackDeferred implements Deferred<Response>, DeferredPool<Response>, Po
     }
 
     @Override
+    public AsyncRunner.Lock getStateLock() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void signalStateChange() {
+        // No one can wait on a callback deferred
+    }
+
+    @Override
+    @Deprecated
     public AsyncRunner.Lock getResponseHeaderLock() {
         throw new UnsupportedOperationException();
     }
 
     @Override
+    @Deprecated
     public AsyncRunner.Lock getResponseBodyLock() {
         throw new UnsupportedOperationException();
     }
 
     @Override
+    @Deprecated
     public AsyncRunner.Lock getResponseLock() {
         throw new UnsupportedOperationException();
     }
@@ -192,6 +210,11 @@ class CallbackDeferred implements Deferred<Response>, DeferredPool<Response>, Po
         return serializedRequest.getDelay();
     }
 
+    @Override
+    public int getPriority() {
+        return serializedRequest.getPriority();
+    }
+
     @Override
     public String getCharset() {
         return serializedRequest.getCharset();
@@ -376,7 +399,7 @@ class CallbackDeferred implements Deferred<Response>, DeferredPool<Response>, Po
 
     @Override
     public int getRetryCount() {
-        throw new UnsupportedOperationException();
+        return retrier == null ? 0 : retrier.getRetryCount();
     }
 
     @Override
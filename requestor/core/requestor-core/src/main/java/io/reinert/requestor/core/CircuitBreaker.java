@@ -0,0 +1,343 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.reinert.requestor.core.uri.Uri;
+
+/**
+ * <p>Stops sending requests to an origin (or route) that is failing, so callers fail fast instead of waiting for
+ * timeouts that would pile up and exhaust the resources of the whole session.</p>
+ *
+ * <p>Each origin has its own circuit tracking the outcome of the last {@code windowSize} calls:</p>
+ * <ul>
+ *     <li><b>CLOSED</b>: requests flow normally. When the failure rate or the slow-call rate of the window reaches its
+ *     threshold, the circuit opens;</li>
+ *     <li><b>OPEN</b>: requests are promptly rejected with a {@link CircuitOpenException}. After the open duration, the
+ *     circuit becomes half-open;</li>
+ *     <li><b>HALF_OPEN</b>: a few probe requests are let through. If all of them succeed, the circuit closes; if any
+ *     of them fails, it opens again.</li>
+ * </ul>
+ *
+ * <p>The outcomes are classified by their {@link RequestEvent}. By default, TIMEOUT, CANCEL and 5xx responses are
+ * failures. ABORT events are never counted since such requests didn't reach the server. Every attempt of a request is
+ * a call of its own, so a retry must pass through the circuit again and is rejected if the circuit has opened
+ * meanwhile.</p>
+ *
+ * <p>Only the most recently used circuits are kept, so a breaker with the ROUTE scope doesn't grow unbounded with the
+ * paths it sees.</p>
+ *
+ * <p>A circuit breaker is usually set in a {@link Session} or in a {@link BaseService}, but it can be bound to any
+ * request by saving it in the store under the {@link #KEY} key.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class CircuitBreaker {
+
+    public static final String KEY = "requestor.core.circuitBreaker";
+
+    private static final int MAX_CIRCUITS = 256;
+
+    /**
+     * The state of a circuit.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * What a circuit is tracking.
+     */
+    public enum Scope {
+        /**
+         * One circuit per scheme, host and port.
+         */
+        ORIGIN,
+        /**
+         * One circuit per origin and path.
+         */
+        ROUTE
+    }
+
+    /**
+     * A request admitted by a circuit.
+     */
+    static class Ticket {
+        private Circuit circuit;
+        private boolean probe;
+        private boolean released;
+        long startMillis;
+    }
+
+    private static class Circuit {
+        private final boolean[] failures;
+        private final boolean[] slows;
+        private State state = State.CLOSED;
+        private int index;
+        private int count;
+        private int failureCount;
+        private int slowCount;
+        private long openUntilMillis;
+        private int probesInFlight;
+        private int probeSuccesses;
+
+        Circuit(int windowSize) {
+            failures = new boolean[windowSize];
+            slows = new boolean[windowSize];
+        }
+
+        void record(boolean failure, boolean slow) {
+            if (count == failures.length) {
+                if (failures[index]) failureCount--;
+                if (slows[index]) slowCount--;
+            } else {
+                count++;
+            }
+            failures[index] = failure;
+            slows[index] = slow;
+            if (failure) failureCount++;
+            if (slow) slowCount++;
+            index = (index + 1) % failures.length;
+        }
+
+        void reset() {
+            Arrays.fill(failures, false);
+            Arrays.fill(slows, false);
+            index = count = failureCount = slowCount = 0;
+        }
+    }
+
+    private final double failureRateThreshold;
+    private final int windowSize;
+    private final int openDurationMillis;
+    private final Map<String, Circuit> circuits = new LinkedHashMap<String, Circuit>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Circuit> eldest) {
+            return size() > MAX_CIRCUITS;
+        }
+    };
+
+    private Scope scope = Scope.ORIGIN;
+    private int minimumCalls;
+    private int halfOpenProbes = 1;
+    private int slowCallDurationMillis;
+    private double slowCallRateThreshold = 1;
+    private List<RequestEvent> failureEvents = Arrays.<RequestEvent>asList(RequestEvent.TIMEOUT,
+            RequestEvent.CANCEL, StatusFamily.SERVER_ERROR);
+
+    /**
+     * @param failureRateThreshold  the ratio of failures in the window that opens the circuit, from 0 to 1
+     * @param windowSize            the number of the last calls considered
+     * @param openDurationMillis    how long the circuit stays open before letting probes through
+     */
+    public CircuitBreaker(double failureRateThreshold, int windowSize, int openDurationMillis) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("Failure rate threshold must be greater than 0 and up to 1");
+        }
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be greater than zero");
+        }
+        if (openDurationMillis < 0) {
+            throw new IllegalArgumentException("Open duration cannot be negative");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.windowSize = windowSize;
+        this.openDurationMillis = openDurationMillis;
+        this.minimumCalls = windowSize;
+    }
+
+    /**
+     * Tracks a circuit per origin (default) or per route.
+     */
+    public synchronized CircuitBreaker scope(Scope scope) {
+        if (scope == null) throw new NullPointerException("Scope cannot be null");
+        this.scope = scope;
+        return this;
+    }
+
+    /**
+     * Sets the min number of calls in the window before the rates are evaluated. Defaults to the window size.
+     */
+    public synchronized CircuitBreaker minimumCalls(int minimumCalls) {
+        if (minimumCalls < 1) throw new IllegalArgumentException("Minimum calls must be greater than zero");
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        return this;
+    }
+
+    /**
+     * Sets the number of probe requests let through in the half-open state. Defaults to one.
+     */
+    public synchronized CircuitBreaker halfOpenProbes(int halfOpenProbes) {
+        if (halfOpenProbes < 1) throw new IllegalArgumentException("Half-open probes must be greater than zero");
+        this.halfOpenProbes = halfOpenProbes;
+        return this;
+    }
+
+    /**
+     * Opens the circuit also when too many calls are slow, even if they succeed.
+     *
+     * @param slowCallDurationMillis    the duration from which a call is considered slow
+     * @param slowCallRateThreshold     the ratio of slow calls in the window that opens the circuit, from 0 to 1
+     */
+    public synchronized CircuitBreaker slowCalls(int slowCallDurationMillis, double slowCallRateThreshold) {
+        if (slowCallDurationMillis < 1) {
+            throw new IllegalArgumentException("Slow call duration must be greater than zero");
+        }
+        if (slowCallRateThreshold <= 0 || slowCallRateThreshold > 1) {
+            throw new IllegalArgumentException("Slow call rate threshold must be greater than 0 and up to 1");
+        }
+        this.slowCallDurationMillis = slowCallDurationMillis;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the events counted as failures, replacing the default ones.
+     */
+    public synchronized CircuitBreaker failOn(RequestEvent... events) {
+        if (events.length == 0) throw new IllegalArgumentException("At least one failure event must be informed");
+        this.failureEvents = Arrays.asList(events);
+        return this;
+    }
+
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public int getOpenDurationMillis() {
+        return openDurationMillis;
+    }
+
+    /**
+     * Returns the state of the circuit of the given uri.
+     *
+     * @param uri the uri of a request
+     * @return the current state of the respective circuit
+     */
+    public State getState(Uri uri) {
+        return getState(getCircuitKey(uri), Clock.now());
+    }
+
+    /**
+     * Returns the key of the circuit of the given uri according to the scope of this circuit breaker.
+     */
+    public String getCircuitKey(Uri uri) {
+        return scope == Scope.ORIGIN ? OriginLimiter.getOrigin(uri) : OriginLimiter.getRoute(uri);
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    /**
+     * Asks the circuit of the given key to admit the ticket.
+     *
+     * @return false if the circuit is open and the request must be rejected
+     */
+    synchronized boolean tryAcquire(Ticket ticket, String key, long nowMillis) {
+        Circuit circuit = circuits.get(key);
+        if (circuit == null) {
+            circuit = new Circuit(windowSize);
+            circuits.put(key, circuit);
+        }
+
+        if (circuit.state == State.OPEN) {
+            if (nowMillis < circuit.openUntilMillis) return false;
+            circuit.state = State.HALF_OPEN;
+            circuit.probesInFlight = 0;
+            circuit.probeSuccesses = 0;
+        }
+
+        if (circuit.state == State.HALF_OPEN) {
+            if (circuit.probesInFlight + circuit.probeSuccesses >= halfOpenProbes) return false;
+            circuit.probesInFlight++;
+            ticket.probe = true;
+        }
+
+        ticket.circuit = circuit;
+        ticket.startMillis = nowMillis;
+        return true;
+    }
+
+    /**
+     * Records the outcome of the ticket's call in its circuit.
+     */
+    synchronized void release(Ticket ticket, Response response, RequestException error, long nowMillis) {
+        final Circuit circuit = ticket.circuit;
+        if (circuit == null || ticket.released) return;
+        ticket.released = true;
+
+        final RequestEvent event = response != null ? response.getStatus() :
+                error != null ? error.getEvent() : null;
+
+        if (ticket.probe) {
+            if (circuit.state != State.HALF_OPEN) return;
+            circuit.probesInFlight--;
+            if (event == null || RequestEvent.ABORT.is(event)) return;
+
+            if (isFailure(event) || isSlow(ticket, nowMillis)) {
+                open(circuit, nowMillis);
+            } else if (++circuit.probeSuccesses >= halfOpenProbes) {
+                circuit.state = State.CLOSED;
+                circuit.reset();
+            }
+            return;
+        }
+
+        // Calls admitted before the circuit opened don't affect it anymore
+        if (circuit.state != State.CLOSED || event == null || RequestEvent.ABORT.is(event)) return;
+
+        circuit.record(isFailure(event), isSlow(ticket, nowMillis));
+
+        if (circuit.count >= minimumCalls && (circuit.failureCount >= failureRateThreshold * circuit.count ||
+                (slowCallDurationMillis > 0 && circuit.slowCount >= slowCallRateThreshold * circuit.count))) {
+            open(circuit, nowMillis);
+        }
+    }
+
+    synchronized State getState(String key, long nowMillis) {
+        final Circuit circuit = circuits.get(key);
+        if (circuit == null) return State.CLOSED;
+        if (circuit.state == State.OPEN && nowMillis >= circuit.openUntilMillis) return State.HALF_OPEN;
+        return circuit.state;
+    }
+
+    private void open(Circuit circuit, long nowMillis) {
+        circuit.state = State.OPEN;
+        circuit.openUntilMillis = nowMillis + openDurationMillis;
+        circuit.reset();
+    }
+
+    private boolean isSlow(Ticket ticket, long nowMillis) {
+        return slowCallDurationMillis > 0 && nowMillis - ticket.startMillis >= slowCallDurationMillis;
+    }
+
+    private boolean isFailure(RequestEvent event) {
+        while (event != null) {
+            if (failureEvents.contains(event)) return true;
+            event = event.getParent();
+        }
+        return false;
+    }
+}
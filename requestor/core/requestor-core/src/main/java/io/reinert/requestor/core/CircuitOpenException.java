@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+/**
+ * Thrown to indicate that a request was rejected because the circuit of its origin was open.
+ *
+ * @author Danilo Reinert
+ */
+public class CircuitOpenException extends RequestAbortException {
+
+    private static final long serialVersionUID = -2715937044520358231L;
+
+    private String circuitKey;
+
+    protected CircuitOpenException() {
+        super();
+    }
+
+    public CircuitOpenException(RequestOptions requestOptions, String circuitKey) {
+        super(requestOptions, "The request was rejected because the circuit of '" + circuitKey + "' is open.");
+        this.circuitKey = circuitKey;
+    }
+
+    /**
+     * @return the origin or route whose circuit is open
+     */
+    public String getCircuitKey() {
+        return circuitKey;
+    }
+}
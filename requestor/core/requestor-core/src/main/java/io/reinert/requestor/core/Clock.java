@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+/**
+ * <p>Source of the current time for time-based policies, such as store TTLs, rate limits and adaptive limits.</p>
+ *
+ * <p>It defaults to the system clock. A virtual clock can be installed to simulate those policies without waiting
+ * for the wall clock time to pass. Blocking waits always use the system clock.</p>
+ *
+ * @author Danilo Reinert
+ */
+public abstract class Clock {
+
+    public static final Clock SYSTEM = new Clock() {
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+    };
+
+    private static volatile Clock current = SYSTEM;
+
+    /**
+     * @return the current time in milliseconds according to this clock
+     */
+    public abstract long currentTimeMillis();
+
+    /**
+     * @return the current time in milliseconds according to the installed clock
+     */
+    public static long now() {
+        return current.currentTimeMillis();
+    }
+
+    public static Clock getCurrent() {
+        return current;
+    }
+
+    /**
+     * Installs the clock to be used by the library. Passing null restores the system clock.
+     *
+     * @param clock the clock to be installed
+     */
+    public static void setCurrent(Clock clock) {
+        current = clock != null ? clock : SYSTEM;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+/**
+ * <p>Abstraction for the algorithms that determine how many requests can be in flight at the same time.</p>
+ *
+ * <p>The limit is updated with samples taken from each completed request. Implementations are not required to be
+ * thread-safe since their methods are always called under the lock of the {@link OriginLimiter}.</p>
+ *
+ * @author Danilo Reinert
+ */
+public interface ConcurrencyLimit {
+
+    interface Provider extends io.reinert.requestor.core.Provider<ConcurrencyLimit> { }
+
+    /**
+     * @return the current number of requests allowed to be in flight at the same time
+     */
+    int getLimit();
+
+    /**
+     * Updates the limit with the result of a completed request.
+     *
+     * @param rttMillis the round-trip time of the request in milliseconds
+     * @param inFlight  the number of requests in flight when the request completed, including itself
+     * @param dropped   whether the request failed due to overload (timeout, network error, 429 or 503 status)
+     */
+    void onSample(long rttMillis, int inFlight, boolean dropped);
+}
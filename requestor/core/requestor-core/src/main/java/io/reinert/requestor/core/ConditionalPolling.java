@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import io.reinert.requestor.core.payload.SerializedPayload;
+
+/**
+ * <p>Makes short polling requests conditional.</p>
+ *
+ * <p>When enabled, each polling request remembers the validators (ETag and Last-Modified) of its last successful
+ * response and sends them with the next polls as If-None-Match and If-Modified-Since headers. The server can then
+ * answer 304 Not Modified without a body whenever the resource is unchanged. The first poll is never conditional.</p>
+ *
+ * <p>For servers that don't support validators, changes are also detected in the client: a fast hash of the last
+ * serialized body is kept, and a 200 response whose body is identical to the previous one keeps its status but is
+ * neither processed nor delivered. No callback is triggered for it, and the pending result of the polling request is
+ * settled by the next poll that brings changes.</p>
+ *
+ * <p>A 304 response to a conditional poll triggers neither onSuccess nor onFail callbacks and its body is not
+ * deserialized. Register an {@code onStatus(304, ...)} callback to be notified when the server found no changes.</p>
+ *
+ * <p>Conditional polling is enabled for a request, a service or the whole session by saving {@code true} in the store
+ * under the {@link #KEY} key.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class ConditionalPolling {
+
+    public static final String KEY = "requestor.core.conditionalPolling";
+
+    static final String STATE_KEY = "requestor.core.conditionalPolling.state";
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private String etag;
+    private String lastModified;
+    private boolean hasBodyHash;
+    private long bodyHash;
+    private long notModifiedCount;
+    private long unchangedCount;
+
+    ConditionalPolling() { }
+
+    /**
+     * Returns the conditional polling state of a polling request.
+     *
+     * @param request the polling request
+     * @return the state or null if the request was not dispatched with conditional polling
+     */
+    public static ConditionalPolling get(PollingRequest<?> request) {
+        return request.getValue(STATE_KEY);
+    }
+
+    /**
+     * @return the number of polls answered with 304 by the server
+     */
+    public synchronized long getNotModifiedCount() {
+        return notModifiedCount;
+    }
+
+    /**
+     * @return the number of polls suppressed in the client because the body didn't change
+     */
+    public synchronized long getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    /**
+     * Returns the conditional polling state of the request, which is shared among its polls.
+     *
+     * @return the state or null if conditional polling is not enabled for the request
+     */
+    static ConditionalPolling of(MutableSerializedRequest request) {
+        if (!request.exists(KEY, Boolean.TRUE)) return null;
+
+        synchronized (ConditionalPolling.class) {
+            ConditionalPolling state = request.getValue(STATE_KEY);
+            if (state == null) {
+                state = new ConditionalPolling();
+                request.save(STATE_KEY, state);
+            }
+            return state;
+        }
+    }
+
+    public synchronized String getETag() {
+        return etag;
+    }
+
+    public synchronized String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Adds the validators of the last successful response to the request.
+     */
+    synchronized void apply(MutableSerializedRequest request) {
+        if (etag != null) request.setHeader("If-None-Match", etag);
+        if (lastModified != null) request.setHeader("If-Modified-Since", lastModified);
+    }
+
+    synchronized void record(Response response) {
+        final int statusCode = response.getStatusCode();
+
+        if (statusCode == 304) {
+            // The server may update the validators while confirming the representation is unchanged
+            final String newEtag = response.getHeader("ETag");
+            if (newEtag != null) etag = newEtag;
+            return;
+        }
+
+        if (statusCode / 100 == 2) {
+            etag = response.getHeader("ETag");
+            lastModified = response.getHeader("Last-Modified");
+        }
+    }
+
+    /**
+     * Tells whether the body of a 200 response is identical to the body of the previous poll.
+     * It must be called after the body is loaded and before the response is processed.
+     */
+    boolean isUnchanged(RawResponse response) {
+        if (response.getStatusCode() == 304) {
+            synchronized (this) {
+                notModifiedCount++;
+            }
+            return false;
+        }
+
+        if (response.getStatusCode() != 200) return false;
+
+        // Bodies not requested or streamed to a publisher are not accumulated, thus they cannot be compared
+        final SerializedPayload payload = response.getSerializedPayload();
+        if (payload == null || (response.getPayloadType() != null &&
+                response.getPayloadType().getType() == Void.class) ||
+                response.exists(RequestDispatcher.STREAMED_BODY_KEY)) return false;
+
+        final long hash = hash(payload);
+
+        synchronized (this) {
+            if (hasBodyHash && hash == bodyHash) {
+                unchangedCount++;
+                return true;
+            }
+            hasBodyHash = true;
+            bodyHash = hash;
+        }
+        return false;
+    }
+
+    // 64-bit FNV-1a over the available representation, avoiding a conversion between bytes and string
+    private static long hash(SerializedPayload payload) {
+        long hash = FNV_OFFSET_BASIS;
+        if (payload.isBytesAvailable() || !payload.isStringAvailable()) {
+            for (byte b : payload.asBytes()) {
+                hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+            }
+        } else {
+            final String string = payload.asString();
+            for (int i = 0; i < string.length(); i++) {
+                hash = (hash ^ string.charAt(i)) * FNV_PRIME;
+            }
+            hash = ~hash;
+        }
+        return hash;
+    }
+}
@@ -50,10 +50,37 @@ public interface Deferred<T> {
 
     Response getResolveResult();
 
+    /**
+     * Returns the lock used to wait for changes in the state of this deferred: response received, payload loaded,
+     * response resolved or request rejected.
+     * <p></p>
+     * The lock is lazily created in the first call.
+     *
+     * @return the state lock of this deferred
+     */
+    AsyncRunner.Lock getStateLock();
+
+    /**
+     * Wakes up the threads waiting on the state lock, if it was ever created.
+     */
+    void signalStateChange();
+
+    /**
+     * @deprecated use {@link #getStateLock()} instead.
+     */
+    @Deprecated
     AsyncRunner.Lock getResponseHeaderLock();
 
+    /**
+     * @deprecated use {@link #getStateLock()} instead.
+     */
+    @Deprecated
     AsyncRunner.Lock getResponseBodyLock();
 
+    /**
+     * @deprecated use {@link #getStateLock()} instead.
+     */
+    @Deprecated
     AsyncRunner.Lock getResponseLock();
 
 }
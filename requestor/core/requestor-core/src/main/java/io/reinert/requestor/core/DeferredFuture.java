@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * <p>A {@link Future} that waits for a state of a {@link Deferred} to be reached.</p>
+ *
+ * <p>The waiting is driven by the state of the deferred, not by the signals: the caller checks the state and parks on
+ * the {@link Deferred#getStateLock() state lock} only while it is not ready, waking up only to check it again.
+ * The lock is allocated on the first wait, so requests that are never awaited do not create it.</p>
+ *
+ * <p>A timeout of zero means waiting indefinitely.</p>
+ *
+ * @param <T> The type of the result
+ *
+ * @author Danilo Reinert
+ */
+public abstract class DeferredFuture<T> implements Future<T> {
+
+    private final Deferred<?> deferred;
+    private volatile boolean cancelled;
+
+    protected DeferredFuture(Deferred<?> deferred) {
+        this.deferred = deferred;
+    }
+
+    /**
+     * @return true when the awaited state was reached and the result can be retrieved
+     */
+    protected abstract boolean isReady();
+
+    /**
+     * @return the result of this future; only called after it is ready
+     */
+    protected abstract T getResult();
+
+    /**
+     * Cancels the underlying operation.
+     *
+     * @return true if the operation was cancelled
+     */
+    protected boolean doCancel() {
+        return true;
+    }
+
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        if (isDone() || !mayInterruptIfRunning) return false;
+
+        cancelled = doCancel();
+        return cancelled;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isDone() {
+        return cancelled || deferred.isRejected() || isReady();
+    }
+
+    public T get() throws InterruptedException, ExecutionException {
+        try {
+            return get(0, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ExecutionException(e);
+        }
+    }
+
+    public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (!isDone()) await(unit.toMillis(timeout));
+
+        if (cancelled) {
+            throw new CancellationException("Future was cancelled.");
+        }
+
+        if (deferred.isRejected()) {
+            throw new ExecutionException(deferred.getRejectResult());
+        }
+
+        return getResult();
+    }
+
+    private void await(long timeoutMillis) throws InterruptedException, TimeoutException {
+        final long deadline = System.currentTimeMillis() + timeoutMillis;
+        final AsyncRunner.Lock lock = deferred.getStateLock();
+
+        // Check the state and park while holding the lock monitor so no signal is lost in between
+        synchronized (lock) {
+            while (!isDone()) {
+                long remaining = 0;
+                if (timeoutMillis > 0) {
+                    remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        throw new TimeoutException("The timeout of " + timeoutMillis + "ms has expired.");
+                    }
+                }
+                lock.await(remaining);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+/**
+ * <p>Receives the failures of requests sent with {@link RequestInvoker#send(HttpMethod)}.</p>
+ *
+ * <p>Since fire-and-forget requests have no callbacks, failures are reported only to the error sink set in the
+ * {@link Session}, or to any one saved in the store under the {@link #KEY} key.</p>
+ *
+ * @author Danilo Reinert
+ */
+public interface ErrorSink {
+
+    String KEY = "requestor.core.errorSink";
+
+    /**
+     * Called when the request could not be completed.
+     *
+     * @param error the cause of the failure
+     */
+    void onError(RequestException error);
+
+    /**
+     * Called when the response status is not successful.
+     *
+     * @param response the unsuccessful response
+     */
+    void onFail(Response response);
+}
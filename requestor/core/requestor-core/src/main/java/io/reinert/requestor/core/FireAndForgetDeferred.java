@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import io.reinert.requestor.core.callback.DualCallback;
+
+/**
+ * The deferred of a request sent with {@link RequestInvoker#send(HttpMethod)}.
+ * <p></p>
+ *
+ * Its response is settled by {@link RequestDispatcher#evalResponse(RawResponse)} without being processed, so no
+ * filter, deserializer or interceptor runs and no response object is created. Only an error or an unsuccessful status
+ * is reported, to the error sink.
+ *
+ * @author Danilo Reinert
+ */
+class FireAndForgetDeferred extends CallbackDeferred {
+
+    FireAndForgetDeferred(SerializedRequest request, final ErrorSink errorSink) {
+        super(new DualCallback() {
+            public void onError(RequestException error) {
+                if (errorSink != null) errorSink.onError(error);
+            }
+
+            public void onLoad(Response response) {
+                if (errorSink != null && response.getStatus().getFamily() != StatusFamily.SUCCESSFUL) {
+                    errorSink.onFail(response);
+                }
+            }
+        }, request);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+/**
+ * <p>A {@link ConcurrencyLimit} that adjusts the limit by the gradient between the long-term and the short-term
+ * round-trip times.</p>
+ *
+ * <p>While the latest round-trip times stay close to the long-term average, the limit grows by a queue allowance
+ * (the square root of the limit). As soon as latency increases, which indicates requests are queueing at the server,
+ * the limit shrinks proportionally. Dropped requests shrink the limit by the worst gradient.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class GradientLimit implements ConcurrencyLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final int longWindow;
+    private final double smoothing;
+
+    private double estimatedLimit;
+    private double longRtt;
+
+    public GradientLimit() {
+        this(20, 1, 200);
+    }
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, 1.5, 100, 0.2);
+    }
+
+    /**
+     * @param initialLimit  the limit before any sample is taken
+     * @param minLimit      the lower bound of the limit
+     * @param maxLimit      the upper bound of the limit
+     * @param rttTolerance  how many times the latest rtt can exceed the long-term rtt before the limit shrinks
+     * @param longWindow    the number of samples taken into account by the long-term rtt average
+     * @param smoothing     the weight of each new estimate in the limit, between 0 (exclusive) and 1
+     */
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double rttTolerance, int longWindow,
+                         double smoothing) {
+        if (minLimit < 1) throw new IllegalArgumentException("Min limit must be greater than zero");
+        if (maxLimit < minLimit) throw new IllegalArgumentException("Max limit cannot be less than min limit");
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Initial limit must be between min and max limits");
+        }
+        if (rttTolerance < 1) throw new IllegalArgumentException("Rtt tolerance cannot be less than 1");
+        if (longWindow < 1) throw new IllegalArgumentException("Long window must be greater than zero");
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("Smoothing must be greater than 0 and less than or equal to 1");
+        }
+
+        this.estimatedLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.longWindow = longWindow;
+        this.smoothing = smoothing;
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    @Override
+    public void onSample(long rttMillis, int inFlight, boolean dropped) {
+        final double shortRtt = Math.max(1, rttMillis);
+
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else if (!dropped) {
+            longRtt = longRtt + (shortRtt - longRtt) / longWindow;
+        }
+
+        // Don't grow while the limit isn't being used
+        if (!dropped && inFlight * 2 < estimatedLimit) return;
+
+        final double newLimit = dropped ? estimatedLimit * MIN_GRADIENT :
+                estimatedLimit * Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * longRtt / shortRtt))
+                        + Math.sqrt(estimatedLimit);
+
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit,
+                estimatedLimit * (1 - smoothing) + newLimit * smoothing));
+    }
+}
@@ -59,6 +59,10 @@ public interface HasRequestOptions extends HasHeaders {
 
     int getDelay();
 
+    void setPriority(int priority);
+
+    int getPriority();
+
     void setCharset(String charset);
 
     String getCharset();
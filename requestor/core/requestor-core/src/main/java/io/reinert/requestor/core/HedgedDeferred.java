@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.reinert.requestor.core.payload.type.PayloadType;
+
+/**
+ * A deferred of a single copy of a hedged request. The first copy receiving a response settles the actual deferred
+ * and the other copies are cancelled.
+ *
+ * @param <T> Expected type in Request#then.
+ *
+ * @author Danilo Reinert
+ */
+class HedgedDeferred<T> implements Deferred<T> {
+
+    /**
+     * Coordinates the copies of a hedged request.
+     */
+    static class Group<T> implements Runnable {
+        private final RequestDispatcher dispatcher;
+        private final PreparedRequest request;
+        private final Deferred<T> deferred;
+        private final PayloadType responsePayloadType;
+        private final HedgingPolicy policy;
+        private final List<HedgedDeferred<T>> copies = new ArrayList<HedgedDeferred<T>>(2);
+
+        private HedgedDeferred<T> winner;
+        private long startMillis;
+        private int inFlight;
+        private boolean hedgePending;
+
+        Group(RequestDispatcher dispatcher, PreparedRequest request, Deferred<T> deferred,
+              PayloadType responsePayloadType, HedgingPolicy policy) {
+            this.dispatcher = dispatcher;
+            this.request = request;
+            this.deferred = deferred;
+            this.responsePayloadType = responsePayloadType;
+            this.policy = policy;
+        }
+
+        void start() {
+            policy.onRequest();
+
+            deferred.setHttpConnection(new HttpConnection() {
+                public void cancel() {
+                    for (HttpConnection connection : getConnections(null)) connection.cancel();
+                }
+
+                public boolean isPending() {
+                    return deferred.isPending();
+                }
+            });
+
+            synchronized (this) {
+                hedgePending = true;
+                startMillis = Clock.now();
+            }
+            sendCopy();
+            dispatcher.run(this, policy.getDelayMillis());
+        }
+
+        /**
+         * Sends the hedge when the delay expires.
+         */
+        public void run() {
+            synchronized (this) {
+                if (!hedgePending) return;
+                hedgePending = false;
+                if (winner != null || inFlight == 0 || !deferred.isPending() || !policy.tryHedge()) return;
+            }
+            sendCopy();
+        }
+
+        private void sendCopy() {
+            final HedgedDeferred<T> copy;
+            synchronized (this) {
+                copy = new HedgedDeferred<T>(this, copies.isEmpty());
+                copies.add(copy);
+                inFlight++;
+            }
+            try {
+                dispatcher.send(request, copy, responsePayloadType);
+            } catch (RuntimeException e) {
+                copy.reject(new RequestDispatchException(request,
+                        "Some non-caught exception occurred while dispatching the request", e));
+            }
+        }
+
+        /**
+         * Makes the copy the winner if there's none yet.
+         *
+         * @return true if the copy is the winner
+         */
+        boolean claim(HedgedDeferred<T> copy) {
+            synchronized (this) {
+                if (winner != null) return winner == copy;
+                winner = copy;
+                hedgePending = false;
+            }
+
+            // The latency the caller saw, even if the hedge won, so the percentile delay isn't dragged down
+            policy.recordLatency(Clock.now() - startMillis);
+
+            for (HttpConnection connection : getConnections(copy)) connection.cancel();
+            return true;
+        }
+
+        /**
+         * Decides whether the rejection of the copy settles the actual deferred. It doesn't while there's another
+         * copy in flight, which may still succeed.
+         */
+        synchronized boolean shouldReject(HedgedDeferred<T> copy) {
+            if (winner != null) return winner == copy;
+            if (copy.done) return false;
+            copy.done = true;
+            if (--inFlight > 0) return false;
+            winner = copy;
+            hedgePending = false;
+            return true;
+        }
+
+        synchronized boolean isLoser(HedgedDeferred<T> copy) {
+            return winner != null && winner != copy;
+        }
+
+        private synchronized List<HttpConnection> getConnections(HedgedDeferred<T> except) {
+            final List<HttpConnection> connections = new ArrayList<HttpConnection>(copies.size());
+            for (HedgedDeferred<T> copy : copies) {
+                if (copy != except && copy.connection != null) connections.add(copy.connection);
+            }
+            return connections;
+        }
+    }
+
+    private final Group<T> group;
+    private final Deferred<T> deferred;
+    private final boolean primary;
+    private HttpConnection connection;
+    private boolean done;
+
+    private HedgedDeferred(Group<T> group, boolean primary) {
+        this.group = group;
+        this.primary = primary;
+        this.deferred = group.deferred;
+    }
+
+    @Override
+    public boolean isPending() {
+        return !group.isLoser(this) && deferred.isPending();
+    }
+
+    @Override
+    public boolean isRejected() {
+        return deferred.isRejected();
+    }
+
+    @Override
+    public boolean isResolved() {
+        return deferred.isResolved();
+    }
+
+    @Override
+    public void resolve(Response response) {
+        if (group.claim(this)) deferred.resolve(response);
+    }
+
+    @Override
+    public void reject(RequestException error) {
+        if (group.shouldReject(this)) deferred.reject(error);
+    }
+
+    @Override
+    public void notifyDownload(ReadProgress progress) {
+        if (!group.isLoser(this)) deferred.notifyDownload(progress);
+    }
+
+    @Override
+    public void notifyUpload(WriteProgress progress) {
+        // Only the first copy reports the upload to avoid duplicated progress
+        if (primary && !group.isLoser(this)) deferred.notifyUpload(progress);
+    }
+
+    @Override
+    public void notifyResponse(RawResponse response) {
+        if (group.claim(this)) deferred.notifyResponse(response);
+    }
+
+    @Override
+    public void setHttpConnection(HttpConnection connection) {
+        synchronized (group) {
+            this.connection = connection;
+        }
+        if (group.isLoser(this)) connection.cancel();
+    }
+
+    @Override
+    public void setRequestRetrier(RequestRetrier retrier) {
+        deferred.setRequestRetrier(retrier);
+    }
+
+    @Override
+    public Request<T> getRequest() {
+        return deferred.getRequest();
+    }
+
+    @Override
+    public RequestException getRejectResult() {
+        return deferred.getRejectResult();
+    }
+
+    @Override
+    public Response getResolveResult() {
+        return deferred.getResolveResult();
+    }
+
+    @Override
+    public AsyncRunner.Lock getStateLock() {
+        return deferred.getStateLock();
+    }
+
+    @Override
+    public void signalStateChange() {
+        deferred.signalStateChange();
+    }
+
+    @Override
+    @Deprecated
+    public AsyncRunner.Lock getResponseHeaderLock() {
+        return deferred.getStateLock();
+    }
+
+    @Override
+    @Deprecated
+    public AsyncRunner.Lock getResponseBodyLock() {
+        return deferred.getStateLock();
+    }
+
+    @Override
+    @Deprecated
+    public AsyncRunner.Lock getResponseLock() {
+        return deferred.getStateLock();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import io.reinert.requestor.core.payload.SerializedPayload;
+
+/**
+ * <p>Sends a second copy of an idempotent request when the first one has not answered within a delay. The first
+ * response wins and the other copy is cancelled through its {@link HttpConnection}.</p>
+ *
+ * <p>The delay can be fixed or derived from a percentile of the latencies observed by this policy, e.g. hedging
+ * requests slower than the p95. It cuts the tail latency caused by occasional slow replicas at the cost of some extra
+ * load, which is capped by a budget: each request deposits {@code hedgeRatio} tokens and each hedge withdraws one.
+ * By default, hedges are limited to 10% of the requests.</p>
+ *
+ * <p>Only GET, HEAD and OPTIONS requests are hedged, unless the request is explicitly marked as idempotent by saving
+ * {@code true} under the {@link #IDEMPOTENT_KEY} key. Long polling requests are never hedged, and neither are the
+ * requests whose payload is not held in memory, such as an InputStream, since it can be read only once.</p>
+ *
+ * <p>A hedging policy is usually set in a {@link Session}, but it can be bound to any request, service or session by
+ * saving it in the store under the {@link #KEY} key.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class HedgingPolicy {
+
+    public static final String KEY = "requestor.core.hedgingPolicy";
+    public static final String IDEMPOTENT_KEY = "requestor.core.idempotent";
+
+    private static final int LATENCY_WINDOW = 128;
+    private static final int MIN_LATENCY_SAMPLES = 16;
+
+    private final int fixedDelayMillis;
+    private final LatencyWindow latencies;
+
+    private RetryBudget budget = new RetryBudget(0.1, 10);
+    private long hedgedCount;
+
+    /**
+     * Hedges requests not answered within the given delay.
+     *
+     * @param delayMillis the time to wait for the first copy before sending the second one
+     */
+    public HedgingPolicy(int delayMillis) {
+        this(delayMillis, 0);
+    }
+
+    private HedgingPolicy(int delayMillis, double percentile) {
+        if (delayMillis < 1) throw new IllegalArgumentException("Delay must be greater than zero");
+        this.fixedDelayMillis = delayMillis;
+        this.latencies = percentile > 0 ? new LatencyWindow(LATENCY_WINDOW, percentile) : null;
+    }
+
+    /**
+     * Hedges requests slower than the given percentile of the latencies observed by this policy.
+     *
+     * @param percentile            the latency percentile from which requests are hedged, e.g. 0.95
+     * @param initialDelayMillis    the delay used until enough latencies are observed
+     *
+     * @return a new hedging policy
+     */
+    public static HedgingPolicy percentile(double percentile, int initialDelayMillis) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("Percentile must be greater than 0 and less than 1");
+        }
+        return new HedgingPolicy(initialDelayMillis, percentile);
+    }
+
+    /**
+     * Replaces the default budget of hedges.
+     *
+     * @param hedgeRatio    the ratio of hedges allowed per request, e.g. 0.05 for hedging at most 5% of the requests
+     * @param maxTokens     the max number of hedges that can be accumulated
+     *
+     * @return this policy
+     */
+    public synchronized HedgingPolicy budget(double hedgeRatio, int maxTokens) {
+        budget = new RetryBudget(hedgeRatio, maxTokens);
+        return this;
+    }
+
+    /**
+     * @return the current time to wait before sending the second copy of a request
+     */
+    public int getDelayMillis() {
+        if (latencies == null || latencies.getCount() < MIN_LATENCY_SAMPLES) return fixedDelayMillis;
+        return (int) Math.max(1, latencies.getPercentile(0));
+    }
+
+    /**
+     * @return the number of hedges sent since this policy was created
+     */
+    public synchronized long getHedgedCount() {
+        return hedgedCount;
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    boolean isHedgeable(PreparedRequest request) {
+        if (request.isPolling() && request.getPollingStrategy() == PollingStrategy.LONG) return false;
+        if (!isReplayable(request.getSerializedPayload())) return false;
+
+        final HttpMethod method = request.getMethod();
+        if (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method)) {
+            return true;
+        }
+
+        final Boolean idempotent = request.getValue(IDEMPOTENT_KEY);
+        return Boolean.TRUE.equals(idempotent);
+    }
+
+    private static boolean isReplayable(SerializedPayload payload) {
+        return payload == null || payload.isEmpty() || payload.isStringAvailable() || payload.isBytesAvailable();
+    }
+
+    synchronized void onRequest() {
+        budget.deposit();
+    }
+
+    synchronized boolean tryHedge() {
+        if (!budget.tryWithdraw()) return false;
+        hedgedCount++;
+        return true;
+    }
+
+    void recordLatency(long latencyMillis) {
+        if (latencies != null) latencies.record(latencyMillis);
+    }
+}
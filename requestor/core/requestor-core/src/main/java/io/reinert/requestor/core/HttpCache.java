@@ -0,0 +1,548 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.reinert.requestor.core.header.Header;
+import io.reinert.requestor.core.payload.SerializedPayload;
+
+/**
+ * <p>An in-memory HTTP cache honoring the Cache-Control, Expires, ETag and Last-Modified headers.</p>
+ *
+ * <p>The cache is both a {@link RequestInterceptor} and a {@link ResponseInterceptor}. GET requests with a fresh
+ * entry are answered from the cache without reaching the network. When the entry is stale and has validators, the
+ * request is sent conditionally with If-None-Match or If-Modified-Since; a 304 response is then replaced by the cached
+ * response before being processed, so the callers always receive the full payload. Responses marked with no-store are
+ * never cached, and responses marked with no-cache are always revalidated. Responses whose body is not accumulated,
+ * either because no payload is expected (Void) or because it's streamed (see
+ * {@link RequestDispatcher#STREAMED_BODY_KEY}), are not cached.</p>
+ *
+ * <p>The entries are keyed by the uri and the Authorization header, so callers with different identities never share
+ * responses, and the request headers listed in the Vary header must also match. The cache is bounded by the total
+ * size of the cached payloads: the least recently used entries are evicted first.</p>
+ *
+ * <p>Optionally, a second tier {@link Storage} can be set to persist the responses, e.g. on disk. Every cached
+ * response is saved in the storage, including the ones too large for the memory tier, and the storage is looked up
+ * when the memory tier misses. Responses loaded from the storage are not promoted to the memory tier, so their
+ * payloads are not kept in the heap.</p>
+ *
+ * <p>Register it in a {@link Session} (or any {@link InterceptorManager}) with {@link #register(InterceptorManager)}.
+ * </p>
+ *
+ * @author Danilo Reinert
+ */
+public class HttpCache implements RequestInterceptor, ResponseInterceptor {
+
+    static final String LOOKUP_KEY = "requestor.core.httpCache.lookup";
+
+    private static final String[] NO_VARY = new String[0];
+
+    /**
+     * A second tier where the cached responses are persisted.
+     * Its methods are called outside the cache lock, thus implementations must be thread-safe.
+     */
+    public interface Storage {
+        /**
+         * @param key the cache key of the response
+         * @return the stored response or null if there is none
+         */
+        CachedResponse load(String key);
+
+        void save(String key, CachedResponse response);
+
+        void remove(String key);
+
+        void clear();
+    }
+
+    /**
+     * A response as stored in the cache.
+     */
+    public static class CachedResponse {
+        private final HttpStatus status;
+        private final Headers headers;
+        private final SerializedPayload serializedPayload;
+        private final Map<String, String> varyValues;
+        private final long storedAtMillis;
+
+        /**
+         * @param status the status of the response
+         * @param headers the headers of the response
+         * @param serializedPayload the body of the response
+         * @param varyValues the values of the request headers listed in the Vary header, keyed by lower-cased name
+         * @param storedAtMillis when the response was received or last revalidated
+         */
+        public CachedResponse(HttpStatus status, Headers headers, SerializedPayload serializedPayload,
+                              Map<String, String> varyValues, long storedAtMillis) {
+            this.status = status;
+            this.headers = headers;
+            this.serializedPayload = serializedPayload;
+            this.varyValues = varyValues;
+            this.storedAtMillis = storedAtMillis;
+        }
+
+        public HttpStatus getStatus() {
+            return status;
+        }
+
+        public Headers getHeaders() {
+            return headers;
+        }
+
+        public SerializedPayload getSerializedPayload() {
+            return serializedPayload;
+        }
+
+        public Map<String, String> getVaryValues() {
+            return varyValues;
+        }
+
+        public long getStoredAtMillis() {
+            return storedAtMillis;
+        }
+    }
+
+    private static class Entry {
+        private final CachedResponse response;
+        private final HttpStatus status;
+        private final Headers headers;
+        private final SerializedPayload payload;
+        private final long weight;
+        private final long initialAgeMillis;
+        private final long lifetimeMillis;
+        private final boolean noCache;
+
+        Entry(CachedResponse response, long weight) {
+            this.response = response;
+            this.status = response.getStatus();
+            this.headers = response.getHeaders();
+            this.payload = response.getSerializedPayload();
+            this.weight = weight;
+
+            final String cacheControl = headers.getValue("Cache-Control");
+            final long age = parseSeconds(headers.getValue("Age"));
+            this.initialAgeMillis = age > 0 ? age * 1000 : 0;
+            this.noCache = hasDirective(cacheControl, "no-cache");
+            this.lifetimeMillis = computeLifetime(cacheControl, headers, response.getStoredAtMillis());
+        }
+
+        boolean isFresh(long nowMillis) {
+            return !noCache && getAge(nowMillis) < lifetimeMillis;
+        }
+
+        long getAge(long nowMillis) {
+            return initialAgeMillis + Math.max(0, nowMillis - response.getStoredAtMillis());
+        }
+
+        boolean hasValidators() {
+            return headers.containsKey("ETag") || headers.containsKey("Last-Modified");
+        }
+    }
+
+    /**
+     * The state of a request regarding the cache, saved in the request store so the response can be handled.
+     */
+    private class Lookup {
+        private final String key;
+        private final Map<String, String> requestHeaders;
+        private final Entry revalidating;
+        private final boolean hit;
+        private boolean revalidated;
+
+        Lookup(String key, Map<String, String> requestHeaders, Entry revalidating, boolean hit) {
+            this.key = key;
+            this.requestHeaders = requestHeaders;
+            this.revalidating = revalidating;
+            this.hit = hit;
+        }
+
+        HttpCache getCache() {
+            return HttpCache.this;
+        }
+    }
+
+    private final long maxBytes;
+    private final Storage storage;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private long revalidatedCount;
+    private long evictedCount;
+
+    public HttpCache(long maxBytes) {
+        this(maxBytes, null);
+    }
+
+    /**
+     * @param maxBytes the max size in bytes of the payloads held in memory
+     * @param storage the second tier where the responses are persisted
+     */
+    public HttpCache(long maxBytes, Storage storage) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Max bytes must be greater than zero");
+        }
+        this.maxBytes = maxBytes;
+        this.storage = storage;
+    }
+
+    /**
+     * Registers this cache as both request and response interceptor.
+     *
+     * @param manager the session or any other interceptor manager
+     *
+     * @return a registration that deregisters both interceptors
+     */
+    public Registration register(InterceptorManager manager) {
+        final Registration requestRegistration = manager.register((RequestInterceptor) this);
+        final Registration responseRegistration = manager.register((ResponseInterceptor) this);
+        return new Registration() {
+            public void cancel() {
+                requestRegistration.cancel();
+                responseRegistration.cancel();
+            }
+        };
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    /**
+     * @return the total size in bytes of the payloads held in memory
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of requests answered from the cache without reaching the network
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of cacheable requests sent to the network without a cached entry to revalidate
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of stale entries revalidated by a 304 response
+     */
+    public synchronized long getRevalidatedCount() {
+        return revalidatedCount;
+    }
+
+    /**
+     * @return the number of entries evicted to respect the size limit
+     */
+    public synchronized long getEvictedCount() {
+        return evictedCount;
+    }
+
+    public void clear() {
+        synchronized (this) {
+            entries.clear();
+            size = 0;
+        }
+        if (storage != null) storage.clear();
+    }
+
+    @Override
+    public void intercept(SerializedRequestInProcess request) {
+        final String key = getKey(request);
+        if (key == null) {
+            request.remove(LOOKUP_KEY);
+            request.proceed();
+            return;
+        }
+
+        final long now = Clock.now();
+        final Map<String, String> requestHeaders = snapshot(request.getHeaders());
+        // A request with no-cache accepts a cached response only after revalidating it
+        final boolean forceRevalidation = hasDirective(request.getHeader("Cache-Control"), "no-cache");
+
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null && storage != null) {
+            final CachedResponse stored = storage.load(key);
+            if (stored != null) entry = new Entry(stored, stored.getSerializedPayload().getLength());
+        }
+        if (entry != null && !matchesVary(entry, requestHeaders)) entry = null;
+
+        final boolean fresh;
+        synchronized (this) {
+            fresh = entry != null && !forceRevalidation && entry.isFresh(now);
+            if (fresh) {
+                hitCount++;
+            } else if (entry == null || !entry.hasValidators()) {
+                entry = null;
+                missCount++;
+            }
+        }
+
+        if (fresh) {
+            request.save(LOOKUP_KEY, new Lookup(key, requestHeaders, null, true));
+
+            final Headers headers = new Headers(entry.headers);
+            headers.set("Age", String.valueOf(entry.getAge(now) / 1000));
+            request.abort(new MockResponse(entry.status, headers, entry.payload));
+            return;
+        }
+
+        if (entry != null) {
+            final String etag = entry.headers.getValue("ETag");
+            if (etag != null) {
+                request.setHeader("If-None-Match", etag);
+            } else {
+                request.setHeader("If-Modified-Since", entry.headers.getValue("Last-Modified"));
+            }
+        }
+
+        request.save(LOOKUP_KEY, new Lookup(key, requestHeaders, entry, false));
+        request.proceed();
+    }
+
+    @Override
+    public void intercept(SerializedResponseInProcess response) {
+        final Lookup lookup = response.getValue(LOOKUP_KEY);
+
+        // Revalidated responses are already stored
+        if (lookup != null && !lookup.hit && !lookup.revalidated) store(response, lookup);
+
+        response.proceed();
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    /**
+     * Replaces a 304 revalidating a cached response with the cached response, updated by the headers of the 304.
+     * It's called by the dispatcher before the response is processed, so the response received from the server is
+     * never altered.
+     *
+     * @return the cached response or the given response if it doesn't revalidate a cached one
+     */
+    static RawResponse revalidated(RawResponse response) {
+        final Lookup lookup = response.getValue(LOOKUP_KEY);
+        if (lookup == null || lookup.hit || lookup.revalidating == null || response.getStatusCode() != 304) {
+            return response;
+        }
+        return lookup.getCache().revalidate(response, lookup);
+    }
+
+    private RawResponse revalidate(RawResponse response, Lookup lookup) {
+        final Entry stale = lookup.revalidating;
+        lookup.revalidated = true;
+
+        // The headers of the 304 response update the stored ones
+        final Headers headers = new Headers(response.getHeaders());
+        for (Header header : stale.headers) {
+            if (!headers.containsKey(header.getName())) headers.add(header);
+        }
+
+        final Entry updated = new Entry(new CachedResponse(stale.status, new Headers(headers), stale.payload,
+                stale.response.getVaryValues(), Clock.now()), stale.weight);
+
+        synchronized (this) {
+            revalidatedCount++;
+            // Entries loaded from the storage remain out of the memory tier
+            if (entries.containsKey(lookup.key)) put(lookup.key, updated);
+        }
+        if (storage != null) storage.save(lookup.key, updated.response);
+
+        final RawResponse cached = new RawResponse(response.getDeferred(), stale.status, headers,
+                response.getPayloadType());
+        cached.setSerializedPayload(stale.payload);
+        return cached;
+    }
+
+    private void store(SerializedResponseInProcess response, Lookup lookup) {
+        final int statusCode = response.getStatusCode();
+        if (statusCode != 200 && statusCode != 203) return;
+
+        // Bodies not requested are not accumulated, thus they cannot be cached
+        final SerializedPayload payload = response.getSerializedPayload();
+        if (payload == null || (response.getPayloadType() != null &&
+                response.getPayloadType().getType() == Void.class)) return;
+
+        final Headers headers = new Headers(response.getHeaders());
+        final String[] vary = getVary(headers.getValue("Vary"));
+        if (vary == null || hasDirective(headers.getValue("Cache-Control"), "no-store")) {
+            remove(lookup.key);
+            return;
+        }
+
+        final long length = payload.getLength();
+        final long weight = length > 0 ? length : payload.asBytes().length;
+
+        final Map<String, String> varyValues = new HashMap<String, String>();
+        for (String name : vary) {
+            varyValues.put(name, lookup.requestHeaders.get(name));
+        }
+
+        final Entry entry = new Entry(new CachedResponse(response.getStatus(), headers, payload, varyValues,
+                Clock.now()), weight);
+        if (entry.lifetimeMillis <= 0 && !entry.hasValidators()) return;
+
+        synchronized (this) {
+            if (weight <= maxBytes) {
+                put(lookup.key, entry);
+            } else {
+                removeFromMemory(lookup.key);
+            }
+        }
+        if (storage != null) storage.save(lookup.key, entry.response);
+    }
+
+    private void remove(String key) {
+        synchronized (this) {
+            removeFromMemory(key);
+        }
+        if (storage != null) storage.remove(key);
+    }
+
+    private void removeFromMemory(String key) {
+        final Entry previous = entries.remove(key);
+        if (previous != null) size -= previous.weight;
+    }
+
+    private void put(String key, Entry entry) {
+        final Entry previous = entries.put(key, entry);
+        if (previous != null) size -= previous.weight;
+        size += entry.weight;
+
+        final Iterator<Entry> it = entries.values().iterator();
+        while (size > maxBytes && it.hasNext()) {
+            final Entry eldest = it.next();
+            if (eldest == entry) continue;
+            it.remove();
+            size -= eldest.weight;
+            evictedCount++;
+        }
+    }
+
+    private static String getKey(SerializedRequestInProcess request) {
+        if (!HttpMethod.GET.equals(request.getMethod())) return null;
+
+        if (hasDirective(request.getHeader("Cache-Control"), "no-store")) return null;
+
+        // Conditional requests made by the caller are not handled by the cache
+        if (request.hasHeader("If-None-Match") || request.hasHeader("If-Modified-Since")) return null;
+
+        // Bodies streamed to a publisher are not accumulated, so they can be neither stored nor replayed
+        if (request.exists(RequestDispatcher.STREAMED_BODY_KEY)) return null;
+
+        return request.getUri() + " " + request.getHeader("Authorization");
+    }
+
+    private static Map<String, String> snapshot(Headers headers) {
+        final Map<String, String> values = new HashMap<String, String>();
+        for (Header header : headers) {
+            values.put(header.getName().toLowerCase(), header.getValue());
+        }
+        return values;
+    }
+
+    private static boolean matchesVary(Entry entry, Map<String, String> requestHeaders) {
+        for (Map.Entry<String, String> vary : entry.response.getVaryValues().entrySet()) {
+            final String value = requestHeaders.get(vary.getKey());
+            if (value == null ? vary.getValue() != null : !value.equals(vary.getValue())) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return the lower-cased header names listed in the Vary header or null if the response varies on everything
+     */
+    private static String[] getVary(String vary) {
+        if (vary == null || vary.trim().isEmpty()) return NO_VARY;
+        final String[] names = vary.split(",");
+        for (int i = 0; i < names.length; i++) {
+            names[i] = names[i].trim().toLowerCase();
+            if (names[i].equals("*")) return null;
+        }
+        return names;
+    }
+
+    private static long computeLifetime(String cacheControl, Headers headers, long nowMillis) {
+        final long maxAge = getDirectiveSeconds(cacheControl, "max-age");
+        if (maxAge >= 0) return maxAge * 1000;
+
+        final long date = HttpDate.parse(headers.getValue("Date"));
+        final long responseTime = date >= 0 ? date : nowMillis;
+
+        final String expires = headers.getValue("Expires");
+        if (expires != null) {
+            // Invalid dates, such as "0", mean already expired
+            final long expiresMillis = HttpDate.parse(expires);
+            return expiresMillis < 0 ? 0 : Math.max(0, expiresMillis - responseTime);
+        }
+
+        // Heuristic freshness of 10% of the time since the last modification, as suggested by RFC 7234
+        final long lastModified = HttpDate.parse(headers.getValue("Last-Modified"));
+        return lastModified >= 0 ? Math.max(0, responseTime - lastModified) / 10 : 0;
+    }
+
+    private static boolean hasDirective(String cacheControl, String name) {
+        if (cacheControl == null) return false;
+        for (String directive : cacheControl.split(",")) {
+            final String trimmed = directive.trim();
+            final int i = trimmed.indexOf('=');
+            if ((i < 0 ? trimmed : trimmed.substring(0, i).trim()).equalsIgnoreCase(name)) return true;
+        }
+        return false;
+    }
+
+    private static long getDirectiveSeconds(String cacheControl, String name) {
+        if (cacheControl == null) return -1;
+        for (String directive : cacheControl.split(",")) {
+            final int i = directive.indexOf('=');
+            if (i > 0 && directive.substring(0, i).trim().equalsIgnoreCase(name)) {
+                return parseSeconds(directive.substring(i + 1).replace("\"", ""));
+            }
+        }
+        return -1;
+    }
+
+    private static long parseSeconds(String value) {
+        if (value == null) return -1;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
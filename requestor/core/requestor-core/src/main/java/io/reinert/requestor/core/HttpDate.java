@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+/**
+ * Parser of HTTP dates.
+ * It's implemented manually since date formatting APIs are not available in every platform.
+ *
+ * @author Danilo Reinert
+ */
+class HttpDate {
+
+    private static final String[] MONTHS = { "jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct",
+            "nov", "dec" };
+
+    private HttpDate() { }
+
+    /**
+     * Parses an IMF-fixdate such as "Sun, 06 Nov 1994 08:49:37 GMT".
+     *
+     * @param value the date header value
+     * @return the date in milliseconds since the epoch or -1 if the value is absent or malformed
+     */
+    static long parse(String value) {
+        if (value == null) return -1;
+
+        final String[] parts = value.trim().split(" ");
+        if (parts.length != 6 || !parts[5].equalsIgnoreCase("GMT")) return -1;
+
+        final String[] time = parts[4].split(":");
+        if (time.length != 3) return -1;
+
+        int month = -1;
+        for (int i = 0; i < MONTHS.length; i++) {
+            if (MONTHS[i].equalsIgnoreCase(parts[2])) month = i + 1;
+        }
+        if (month < 0) return -1;
+
+        try {
+            final int day = Integer.parseInt(parts[1]);
+            final int year = Integer.parseInt(parts[3]);
+            final long seconds = daysFromEpoch(year, month, day) * 86400L + Integer.parseInt(time[0]) * 3600L
+                    + Integer.parseInt(time[1]) * 60L + Integer.parseInt(time[2]);
+            return seconds * 1000;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // Days from 1970-01-01 to the given civil date in the proleptic Gregorian calendar
+    private static long daysFromEpoch(int year, int month, int day) {
+        final int y = month <= 2 ? year - 1 : year;
+        final int era = (y >= 0 ? y : y - 399) / 400;
+        final int yearOfEra = y - era * 400;
+        final int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+}
@@ -16,12 +16,7 @@
 package io.reinert.requestor.core;
 
 import java.util.Collections;
-import java.util.concurrent.Callable;
-import java.util.concurrent.CancellationException;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import io.reinert.requestor.core.header.LinkHeader;
 import io.reinert.requestor.core.payload.SerializedPayload;
@@ -186,98 +181,25 @@ public class IncomingResponseImpl implements IncomingResponse {
     }
 
     public Future<SerializedPayload> getSerializedPayload() {
-        return getFuture(response.getDeferred().getResponseBodyLock(), new Callable<SerializedPayload>() {
-            public SerializedPayload call() {
-                return response.getSerializedPayload();
-            }
-        }, new Callable<Boolean>() {
-            public Boolean call() {
+        return new DeferredFuture<SerializedPayload>(response.getDeferred()) {
+            protected boolean isReady() {
                 return response.isLoaded();
             }
-        });
-    }
 
-    public <T> Future<T> getPayload() {
-        return getFuture(response.getDeferred().getResponseLock(), new Callable<T>() {
-            public T call() {
-                return response.getPayload();
-            }
-        }, new Callable<Boolean>() {
-            public Boolean call() {
-                return response.isDeserialized();
+            protected SerializedPayload getResult() {
+                return response.getSerializedPayload();
             }
-        });
+        };
     }
 
-    private <T> Future<T> getFuture(final AsyncRunner.Lock lock, final Callable<T> result,
-                                    final Callable<Boolean> doneCondition) {
-        final Deferred<?> deferred = response.getDeferred();
-        return new Future<T>() {
-            private boolean cancelled;
-
-            public boolean cancel(boolean mayInterruptIfRunning) {
-                if (isDoneCondition()) return false;
-                if (!mayInterruptIfRunning) return false;
-
-                cancelled = true;
-                return true;
-            }
-
-            public boolean isCancelled() {
-                return cancelled;
-            }
-
-            public boolean isDone() {
-                return cancelled || isDoneCondition();
-            }
-
-            public T get() throws InterruptedException, ExecutionException {
-                try {
-                    return get(0, TimeUnit.MILLISECONDS);
-                } catch (TimeoutException e) {
-                    throw new ExecutionException(e);
-                }
-            }
-
-            public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
-                    TimeoutException {
-                final long startTime = System.currentTimeMillis();
-
-                while (!(cancelled && deferred.isRejected() && isDoneCondition())) {
-                    long elapsed = System.currentTimeMillis() - startTime;
-                    lock.await(unit.toMillis(timeout - elapsed));
-
-                    elapsed = System.currentTimeMillis() - startTime;
-                    if (timeout > 0 && elapsed >= timeout) {
-                        throw new TimeoutException("The timeout of " + timeout + "ms has expired.");
-                    }
-                }
-
-                checkInvalidStates();
-
-                try {
-                    return result.call();
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            }
-
-            private void checkInvalidStates() throws ExecutionException {
-                if (cancelled) {
-                    throw new CancellationException("Future was cancelled.");
-                }
-
-                if (deferred.isRejected()) {
-                    throw new ExecutionException(deferred.getRejectResult());
-                }
+    public <T> Future<T> getPayload() {
+        return new DeferredFuture<T>(response.getDeferred()) {
+            protected boolean isReady() {
+                return response.isDeserialized();
             }
 
-            private boolean isDoneCondition() {
-                try {
-                    return doneCondition.call();
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
+            protected T getResult() {
+                return response.getPayload();
             }
         };
     }
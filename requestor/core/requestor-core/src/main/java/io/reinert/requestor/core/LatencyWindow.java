@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.Arrays;
+
+/**
+ * A rolling window of the last latencies for computing percentiles.
+ *
+ * @author Danilo Reinert
+ */
+class LatencyWindow {
+
+    // Sorting on every sample is wasteful; percentiles are refreshed after this many new samples
+    private static final int REFRESH_INTERVAL = 8;
+
+    private final int[] latencies;
+    private final double[] percentiles;
+    private final long[] values;
+
+    private int index;
+    private int count;
+    private int pendingSamples;
+
+    /**
+     * @param size          the number of latencies kept
+     * @param percentiles   the percentiles to be tracked, from 0 to 1 exclusive
+     */
+    LatencyWindow(int size, double... percentiles) {
+        this.latencies = new int[size];
+        this.percentiles = percentiles;
+        this.values = new long[percentiles.length];
+    }
+
+    synchronized void record(long latencyMillis) {
+        latencies[index] = (int) Math.min(Integer.MAX_VALUE, Math.max(0, latencyMillis));
+        index = (index + 1) % latencies.length;
+        if (count < latencies.length) count++;
+        if (++pendingSamples >= REFRESH_INTERVAL) refresh();
+    }
+
+    synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * @param i the index of the percentile in the constructor
+     * @return the latency of the percentile as of the last refresh
+     */
+    synchronized long getPercentile(int i) {
+        return values[i];
+    }
+
+    private void refresh() {
+        pendingSamples = 0;
+        final int[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        for (int i = 0; i < percentiles.length; i++) {
+            values[i] = sorted[Math.max(0, (int) Math.ceil(percentiles[i] * count) - 1)];
+        }
+    }
+}
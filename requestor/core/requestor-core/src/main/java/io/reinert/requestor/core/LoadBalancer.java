@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import io.reinert.requestor.core.uri.Uri;
+
+/**
+ * <p>Balances requests with relative uris across replicas of a service, without a load balancer in between.</p>
+ *
+ * <p>Each request picks two random endpoints and goes to the least loaded one (the power of two choices), which
+ * avoids both herding on a single endpoint and the cost of scanning all of them. The load is measured by:</p>
+ * <ul>
+ *     <li><b>LEAST_OUTSTANDING</b>: the number of requests in flight to the endpoint;</li>
+ *     <li><b>PEAK_EWMA</b>: the latency average of the endpoint, jumping to peaks and decaying slowly, times the
+ *     requests in flight plus one. It quickly steers away from endpoints that become slow.</li>
+ * </ul>
+ *
+ * <p>An endpoint failing consecutively is ejected for a while. Failures are TIMEOUT and CANCEL errors and 5xx
+ * responses. If every endpoint is ejected, the requests are balanced across all of them anyway.</p>
+ *
+ * <p>Requests with absolute uris are not balanced. A load balancer is usually set in a {@link BaseService} created
+ * with a resource path, but it can be bound to any request by saving it in the store under the {@link #KEY} key.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class LoadBalancer {
+
+    public static final String KEY = "requestor.core.loadBalancer";
+
+    /**
+     * How the load of the endpoints is measured.
+     */
+    public enum Strategy {
+        LEAST_OUTSTANDING, PEAK_EWMA
+    }
+
+    /**
+     * A replica of the service.
+     */
+    public static class Endpoint {
+        private final String baseUri;
+        private int outstanding;
+        private double ewmaMillis;
+        private long lastUpdateMillis;
+        private int consecutiveFailures;
+        private long ejectedUntilMillis;
+
+        private Endpoint(String baseUri) {
+            this.baseUri = baseUri.endsWith("/") ? baseUri.substring(0, baseUri.length() - 1) : baseUri;
+        }
+
+        public String getBaseUri() {
+            return baseUri;
+        }
+
+        @Override
+        public String toString() {
+            return baseUri;
+        }
+    }
+
+    /**
+     * A request routed to an endpoint.
+     */
+    static class Ticket {
+        private Endpoint endpoint;
+        private boolean released;
+        long startMillis;
+    }
+
+    // The decay time of the latency average
+    private static final double EWMA_DECAY_MILLIS = 10000;
+
+    private final Strategy strategy;
+    private final List<Endpoint> endpoints;
+    private final Random random;
+
+    private int maxConsecutiveFailures = 5;
+    private int ejectionMillis = 30000;
+
+    public LoadBalancer(Strategy strategy, String... baseUris) {
+        this(strategy, new Random(), baseUris);
+    }
+
+    LoadBalancer(Strategy strategy, Random random, String... baseUris) {
+        if (strategy == null) throw new NullPointerException("Strategy cannot be null");
+        if (baseUris.length == 0) throw new IllegalArgumentException("At least one base uri must be informed");
+        this.strategy = strategy;
+        this.random = random;
+        final List<Endpoint> list = new ArrayList<Endpoint>(baseUris.length);
+        for (String baseUri : baseUris) list.add(new Endpoint(baseUri));
+        this.endpoints = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Sets when an endpoint is ejected and for how long. Defaults to 5 consecutive failures and 30 seconds.
+     *
+     * @param consecutiveFailures   the number of consecutive failures that ejects an endpoint
+     * @param ejectionMillis        the time an ejected endpoint stays out of the balancing
+     *
+     * @return this load balancer
+     */
+    public synchronized LoadBalancer ejectAfter(int consecutiveFailures, int ejectionMillis) {
+        if (consecutiveFailures < 1) {
+            throw new IllegalArgumentException("Consecutive failures must be greater than zero");
+        }
+        if (ejectionMillis < 0) {
+            throw new IllegalArgumentException("Ejection time cannot be negative");
+        }
+        this.maxConsecutiveFailures = consecutiveFailures;
+        this.ejectionMillis = ejectionMillis;
+        return this;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * @return the number of requests in flight to the endpoint
+     */
+    public synchronized int getOutstanding(Endpoint endpoint) {
+        return endpoint.outstanding;
+    }
+
+    /**
+     * @return true if the endpoint is currently ejected
+     */
+    public synchronized boolean isEjected(Endpoint endpoint) {
+        return Clock.now() < endpoint.ejectedUntilMillis;
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    /**
+     * Routes a request with relative uri to the chosen endpoint.
+     *
+     * @return false if the request has an absolute uri and was not balanced
+     */
+    boolean route(Ticket ticket, MutableRequest request) {
+        final Uri uri = request.getUri();
+        if (uri.getHost() != null) return false;
+
+        final Endpoint endpoint = acquire(ticket, Clock.now());
+        final String relative = uri.toString();
+        request.setUri(Uri.create(endpoint.baseUri + (relative.startsWith("/") ? relative : "/" + relative)));
+        return true;
+    }
+
+    synchronized Endpoint acquire(Ticket ticket, long nowMillis) {
+        final Endpoint endpoint = choose(nowMillis);
+        endpoint.outstanding++;
+        ticket.endpoint = endpoint;
+        ticket.startMillis = nowMillis;
+        return endpoint;
+    }
+
+    /**
+     * Records the outcome of an attempt of the ticket's request.
+     */
+    synchronized void record(Ticket ticket, Response response, RequestException error, long nowMillis) {
+        final Endpoint endpoint = ticket.endpoint;
+        if (endpoint == null || ticket.released) return;
+
+        final RequestEvent event = response != null ? response.getStatus() : error != null ? error.getEvent() : null;
+        if (event == null || RequestEvent.ABORT.is(event)) return;
+
+        updateEwma(endpoint, nowMillis - ticket.startMillis, nowMillis);
+        // A retry of the request is measured from now on
+        ticket.startMillis = nowMillis;
+
+        if (isFailure(event)) {
+            if (++endpoint.consecutiveFailures >= maxConsecutiveFailures) {
+                endpoint.ejectedUntilMillis = nowMillis + ejectionMillis;
+                endpoint.consecutiveFailures = 0;
+            }
+        } else {
+            endpoint.consecutiveFailures = 0;
+        }
+    }
+
+    synchronized void release(Ticket ticket) {
+        if (ticket.endpoint == null || ticket.released) return;
+        ticket.released = true;
+        ticket.endpoint.outstanding--;
+    }
+
+    private Endpoint choose(long nowMillis) {
+        final List<Endpoint> candidates = new ArrayList<Endpoint>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            if (nowMillis >= endpoint.ejectedUntilMillis) candidates.add(endpoint);
+        }
+        if (candidates.isEmpty()) candidates.addAll(endpoints);
+
+        if (candidates.size() == 1) return candidates.get(0);
+
+        final int i = random.nextInt(candidates.size());
+        int j = random.nextInt(candidates.size() - 1);
+        if (j >= i) j++;
+
+        final Endpoint a = candidates.get(i);
+        final Endpoint b = candidates.get(j);
+        return getLoad(b, nowMillis) < getLoad(a, nowMillis) ? b : a;
+    }
+
+    private double getLoad(Endpoint endpoint, long nowMillis) {
+        if (strategy == Strategy.LEAST_OUTSTANDING) return endpoint.outstanding;
+
+        // Decay the average with the time elapsed since the last update, so an idle endpoint is retried eventually
+        final double elapsed = Math.max(0, nowMillis - endpoint.lastUpdateMillis);
+        final double ewma = endpoint.ewmaMillis * Math.exp(-elapsed / EWMA_DECAY_MILLIS);
+        return ewma * (endpoint.outstanding + 1);
+    }
+
+    private void updateEwma(Endpoint endpoint, long latencyMillis, long nowMillis) {
+        if (latencyMillis > endpoint.ewmaMillis) {
+            // Peaks are taken immediately
+            endpoint.ewmaMillis = latencyMillis;
+        } else {
+            final double elapsed = Math.max(0, nowMillis - endpoint.lastUpdateMillis);
+            final double w = Math.exp(-elapsed / EWMA_DECAY_MILLIS);
+            endpoint.ewmaMillis = endpoint.ewmaMillis * w + latencyMillis * (1 - w);
+        }
+        endpoint.lastUpdateMillis = nowMillis;
+    }
+
+    private static boolean isFailure(RequestEvent event) {
+        for (RequestEvent e = event; e != null; e = e.getParent()) {
+            if (RequestEvent.TIMEOUT.is(e) || RequestEvent.CANCEL.is(e) || StatusFamily.SERVER_ERROR.is(e)) return true;
+        }
+        return false;
+    }
+}
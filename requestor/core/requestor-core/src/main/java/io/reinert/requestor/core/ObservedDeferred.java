@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+/**
+ * A {@link Deferred} decorator that notifies an observer once the underlying deferred is settled.
+ * <p></p>
+ * Resolutions or rejections that end up being retried do not settle the deferred.
+ * Nevertheless, the observer is notified of every response received and every error, including the retried ones.
+ *
+ * @param <T> The expected type in the invoked request
+ *
+ * @author Danilo Reinert
+ */
+class ObservedDeferred<T> implements Deferred<T> {
+
+    interface Observer {
+        void onResponse(Response response);
+
+        void onError(RequestException error);
+
+        void onSettled(Response response, RequestException error);
+    }
+
+    private final Deferred<T> deferred;
+    private final Observer observer;
+    private boolean settled;
+
+    ObservedDeferred(Deferred<T> deferred, Observer observer) {
+        this.deferred = deferred;
+        this.observer = observer;
+    }
+
+    @Override
+    public boolean isPending() {
+        return deferred.isPending();
+    }
+
+    @Override
+    public boolean isRejected() {
+        return deferred.isRejected();
+    }
+
+    @Override
+    public boolean isResolved() {
+        return deferred.isResolved();
+    }
+
+    @Override
+    public void resolve(Response response) {
+        try {
+            observer.onResponse(response);
+        } catch (Throwable e) {
+            e.printStackTrace();
+        }
+
+        // The deferred of an unchanged poll is left pending to be resolved by the next poll that brings changes
+        if (response instanceof RawResponse && ((RawResponse) response).isUnchanged()) {
+            settle(response, null);
+            return;
+        }
+
+        deferred.resolve(response);
+        if (!deferred.isPending()) settle(response, null);
+    }
+
+    @Override
+    public void reject(RequestException error) {
+        try {
+            observer.onError(error);
+        } catch (Throwable e) {
+            e.printStackTrace();
+        }
+
+        deferred.reject(error);
+        if (!deferred.isPending()) settle(null, error);
+    }
+
+    @Override
+    public void notifyDownload(ReadProgress progress) {
+        deferred.notifyDownload(progress);
+    }
+
+    @Override
+    public void notifyUpload(WriteProgress progress) {
+        deferred.notifyUpload(progress);
+    }
+
+    @Override
+    public void notifyResponse(RawResponse response) {
+        deferred.notifyResponse(response);
+    }
+
+    @Override
+    public void setHttpConnection(HttpConnection connection) {
+        deferred.setHttpConnection(connection);
+    }
+
+    @Override
+    public void setRequestRetrier(RequestRetrier retrier) {
+        deferred.setRequestRetrier(retrier);
+    }
+
+    @Override
+    public Request<T> getRequest() {
+        return deferred.getRequest();
+    }
+
+    @Override
+    public RequestException getRejectResult() {
+        return deferred.getRejectResult();
+    }
+
+    @Override
+    public Response getResolveResult() {
+        return deferred.getResolveResult();
+    }
+
+    @Override
+    public AsyncRunner.Lock getStateLock() {
+        return deferred.getStateLock();
+    }
+
+    @Override
+    public void signalStateChange() {
+        deferred.signalStateChange();
+    }
+
+    @Override
+    @Deprecated
+    public AsyncRunner.Lock getResponseHeaderLock() {
+        return deferred.getStateLock();
+    }
+
+    @Override
+    @Deprecated
+    public AsyncRunner.Lock getResponseBodyLock() {
+        return deferred.getStateLock();
+    }
+
+    @Override
+    @Deprecated
+    public AsyncRunner.Lock getResponseLock() {
+        return deferred.getStateLock();
+    }
+
+    private void settle(Response response, RequestException error) {
+        synchronized (this) {
+            if (settled) return;
+            settled = true;
+        }
+
+        try {
+            observer.onSettled(response, error);
+        } catch (Throwable e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import io.reinert.requestor.core.uri.Uri;
+
+/**
+ * <p>Limits how many requests can be in flight at the same time to each origin (scheme, host and port).</p>
+ *
+ * <p>Requests exceeding the limit of their origin wait in a queue ordered by {@link RequestOptions#getPriority()}.
+ * Waiting requests with higher priority are dispatched first, and requests with the same priority are dispatched
+ * in the order they were sent.</p>
+ *
+ * <p>The limit can be either static or adaptive. When a {@link ConcurrencyLimit.Provider} is given, each origin gets
+ * its own {@link ConcurrencyLimit} which is continuously adjusted by the round-trip times and errors observed in the
+ * requests to that origin. This way, the queueing happens at the client instead of overloading the server.</p>
+ *
+ * <p>An origin limiter is usually set in a {@link Session}, but it can be bound to any request, service or session by
+ * saving it in the store under the {@link #KEY} key.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class OriginLimiter {
+
+    public static final String KEY = "requestor.core.originLimiter";
+
+    /**
+     * A slot request waiting for or holding a permit in an origin.
+     */
+    static class Ticket {
+        private final int priority;
+        private long sequence;
+        private String origin;
+        private Runnable task;
+        private boolean active;
+        private boolean released;
+
+        Ticket(int priority) {
+            this.priority = priority;
+        }
+    }
+
+    private static final Comparator<Ticket> TICKET_ORDER = new Comparator<Ticket>() {
+        public int compare(Ticket t1, Ticket t2) {
+            if (t1.priority != t2.priority) return t1.priority > t2.priority ? -1 : 1;
+            return t1.sequence < t2.sequence ? -1 : (t1.sequence == t2.sequence ? 0 : 1);
+        }
+    };
+
+    private static class Origin {
+        private final PriorityQueue<Ticket> queue = new PriorityQueue<Ticket>(11, TICKET_ORDER);
+        private final ConcurrencyLimit limit;
+        private int activeCount;
+
+        Origin(ConcurrencyLimit limit) {
+            this.limit = limit;
+        }
+    }
+
+    // The max number of idle origins whose adaptive limits are kept
+    private static final int MAX_IDLE_ORIGINS = 256;
+
+    private final int maxRequestsPerOrigin;
+    private final ConcurrencyLimit.Provider limitProvider;
+    private final Map<String, Origin> origins = new HashMap<String, Origin>();
+    private final Map<String, ConcurrencyLimit> idleLimits = new LinkedHashMap<String, ConcurrencyLimit>(16, 0.75f,
+            true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ConcurrencyLimit> eldest) {
+            return size() > MAX_IDLE_ORIGINS;
+        }
+    };
+    private long sequence;
+
+    public OriginLimiter(int maxRequestsPerOrigin) {
+        if (maxRequestsPerOrigin < 1) {
+            throw new IllegalArgumentException("Max requests per origin must be greater than zero");
+        }
+        this.maxRequestsPerOrigin = maxRequestsPerOrigin;
+        this.limitProvider = null;
+    }
+
+    /**
+     * Creates an origin limiter whose limits are adjusted automatically.
+     *
+     * @param limitProvider the provider of the adaptive limit of each origin, e.g. {@link AimdLimit} or
+     *                      {@link GradientLimit}
+     */
+    public OriginLimiter(ConcurrencyLimit.Provider limitProvider) {
+        if (limitProvider == null) {
+            throw new IllegalArgumentException("Limit provider cannot be null");
+        }
+        this.maxRequestsPerOrigin = 0;
+        this.limitProvider = limitProvider;
+    }
+
+    /**
+     * @return the static limit of requests per origin or zero if the limits are adaptive
+     */
+    public int getMaxRequestsPerOrigin() {
+        return maxRequestsPerOrigin;
+    }
+
+    /**
+     * @param origin the origin in the form scheme://host[:port]
+     * @return the current number of requests allowed to be in flight to the origin
+     */
+    public synchronized int getLimit(String origin) {
+        final Origin o = origins.get(origin);
+        if (o != null) return getLimit(o);
+        if (limitProvider == null) return maxRequestsPerOrigin;
+        final ConcurrencyLimit idleLimit = idleLimits.get(origin);
+        return (idleLimit != null ? idleLimit : limitProvider.getInstance()).getLimit();
+    }
+
+    /**
+     * @param origin the origin in the form scheme://host[:port]
+     * @return the number of requests to the origin currently holding a permit
+     */
+    public synchronized int getActiveCount(String origin) {
+        final Origin o = origins.get(origin);
+        return o == null ? 0 : o.activeCount;
+    }
+
+    /**
+     * @param origin the origin in the form scheme://host[:port]
+     * @return the number of requests to the origin currently waiting for a permit
+     */
+    public synchronized int getQueueLength(String origin) {
+        final Origin o = origins.get(origin);
+        return o == null ? 0 : o.queue.size();
+    }
+
+    /**
+     * Extracts the origin of the uri in the form scheme://host[:port].
+     *
+     * @param uri the request uri
+     * @return the origin of the uri or an empty string if the uri is relative
+     */
+    public static String getOrigin(Uri uri) {
+        if (uri.getHost() == null) return "";
+
+        final StringBuilder sb = new StringBuilder();
+        if (uri.getScheme() != null) sb.append(uri.getScheme()).append("://");
+        sb.append(uri.getHost());
+        if (uri.getPort() > 0) sb.append(':').append(uri.getPort());
+        return sb.toString();
+    }
+
+    /**
+     * Extracts the route of the uri in the form scheme://host[:port]/path, without query and fragment.
+     *
+     * @param uri the request uri
+     * @return the route of the uri
+     */
+    public static String getRoute(Uri uri) {
+        final String path = uri.getPath();
+        return path == null ? getOrigin(uri) : getOrigin(uri) + path;
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    /**
+     * Tries to admit the ticket. If the origin has a free permit, the task is executed right away in the calling
+     * thread. Otherwise, it's enqueued to be executed as soon as a permit of the origin is released.
+     */
+    void enter(Ticket ticket, String origin, Runnable task) {
+        synchronized (this) {
+            if (ticket.released) return;
+
+            ticket.origin = origin;
+            ticket.task = task;
+            ticket.sequence = sequence++;
+
+            Origin o = origins.get(origin);
+            if (o == null) {
+                o = new Origin(limitProvider == null ? null : getIdleLimit(origin));
+                origins.put(origin, o);
+            }
+
+            if (o.activeCount >= getLimit(o)) {
+                o.queue.add(ticket);
+                return;
+            }
+
+            activate(o, ticket);
+        }
+
+        task.run();
+    }
+
+    /**
+     * Feeds the adaptive limit of the ticket's origin with the result of an attempt of the request.
+     * If the limit is increased, the next tickets in the origin queue are executed in the calling thread.
+     *
+     * @param rttMillis the time from sending the attempt to receiving its response or error
+     */
+    void sample(Ticket ticket, long rttMillis, Response response, RequestException error) {
+        final List<Ticket> next;
+
+        synchronized (this) {
+            if (!ticket.active || ticket.released) return;
+
+            final Origin o = origins.get(ticket.origin);
+            if (o == null || o.limit == null) return;
+
+            o.limit.onSample(rttMillis, o.activeCount, isDropped(response, error));
+            next = activateQueued(o);
+        }
+
+        for (Ticket t : next) {
+            t.task.run();
+        }
+    }
+
+    /**
+     * Releases the permit held by the ticket or removes it from the queue if it was still waiting.
+     * If a permit is released, then the next tickets in the origin queue are executed in the calling thread while
+     * there are free permits.
+     */
+    void release(Ticket ticket) {
+        final List<Ticket> next;
+
+        synchronized (this) {
+            if (ticket.released) return;
+            ticket.released = true;
+
+            final Origin o = origins.get(ticket.origin);
+            if (o == null) return;
+
+            if (!ticket.active) {
+                o.queue.remove(ticket);
+                removeIfIdle(ticket.origin, o);
+                return;
+            }
+
+            ticket.active = false;
+            o.activeCount--;
+
+            next = activateQueued(o);
+            removeIfIdle(ticket.origin, o);
+        }
+
+        for (Ticket t : next) {
+            t.task.run();
+        }
+    }
+
+    private int getLimit(Origin o) {
+        return o.limit == null ? maxRequestsPerOrigin : Math.max(1, o.limit.getLimit());
+    }
+
+    private ConcurrencyLimit getIdleLimit(String origin) {
+        final ConcurrencyLimit limit = idleLimits.remove(origin);
+        return limit != null ? limit : limitProvider.getInstance();
+    }
+
+    private List<Ticket> activateQueued(Origin o) {
+        final List<Ticket> next = new ArrayList<Ticket>();
+        while (!o.queue.isEmpty() && o.activeCount < getLimit(o)) {
+            final Ticket t = o.queue.poll();
+            activate(o, t);
+            next.add(t);
+        }
+        return next;
+    }
+
+    private void activate(Origin o, Ticket ticket) {
+        o.activeCount++;
+        ticket.active = true;
+    }
+
+    private void removeIfIdle(String origin, Origin o) {
+        if (o.activeCount > 0 || !o.queue.isEmpty()) return;
+        origins.remove(origin);
+        // Adaptive limits are kept between requests, but only for the most recently used origins
+        if (o.limit != null) idleLimits.put(origin, o.limit);
+    }
+
+    private static boolean isDropped(Response response, RequestException error) {
+        if (error != null) {
+            return error instanceof RequestTimeoutException || error.getCause() instanceof IOException;
+        }
+        return response != null && (response.getStatusCode() == 429 || response.getStatusCode() == 503);
+    }
+}
@@ -22,6 +22,8 @@ package io.reinert.requestor.core;
  */
 class PollingOptions implements HasPollingOptions {
 
+    static final String AFTER_COMPLETION_KEY = "requestor.core.pollAfterCompletion";
+
     private int pollingInterval;
     private int pollingLimit;
     private PollingStrategy pollingStrategy;
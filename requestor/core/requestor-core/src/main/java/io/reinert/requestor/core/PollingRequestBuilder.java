@@ -145,6 +145,21 @@ public interface PollingRequestBuilder extends RequestBuilder, HasPollingOptions
      */
     PollingRequestBuilder delay(int delayMillis);
 
+    /**
+     * Set the dispatching priority of the request.
+     * <p></p>
+     *
+     * When the dispatching of requests is being limited, waiting requests with higher priority are dispatched first.
+     * Requests with the same priority are dispatched in the order they were sent.
+     * The default priority is zero and negative values are allowed.
+     * <p></p>
+     *
+     * @param priority The priority of the request
+     *
+     * @return This building request
+     */
+    PollingRequestBuilder priority(int priority);
+
     /**
      * Set a retry policy for this request.
      * <p></p>
@@ -195,4 +210,32 @@ public interface PollingRequestBuilder extends RequestBuilder, HasPollingOptions
      */
     PollingRequestBuilder save(String key, Object value);
 
+    /**
+     * Schedule each short poll only after the previous one completes, instead of right after it is sent.
+     * <p></p>
+     *
+     * The polling interval becomes the time between a response and the next poll,
+     * so a slow server never gets overlapping polls.
+     * <p></p>
+     *
+     * @return This building request
+     */
+    PollingRequestBuilder pollAfterCompletion();
+
+    /**
+     * Adapt the short polling interval to the responses, within the given bounds.
+     * <p></p>
+     *
+     * The interval starts at the polling interval, backs off when polls fail, are slow or find no changes, and
+     * speeds up when the data changes. Changes are only told apart from unchanged data by 304 responses, so enable
+     * conditional polling too, otherwise every 200 speeds it up. See {@link AdaptivePolling}.
+     * <p></p>
+     *
+     * @param minIntervalMillis The minimum time in milliseconds between polls
+     * @param maxIntervalMillis The maximum time in milliseconds between polls
+     *
+     * @return This building request
+     */
+    PollingRequestBuilder adaptiveInterval(int minIntervalMillis, int maxIntervalMillis);
+
 }
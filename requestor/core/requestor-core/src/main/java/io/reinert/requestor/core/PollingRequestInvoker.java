@@ -53,6 +53,9 @@ public interface PollingRequestInvoker extends PollingRequestBuilder, HttpPollin
     @Override
     PollingRequestInvoker delay(int delayMillis);
 
+    @Override
+    PollingRequestInvoker priority(int priority);
+
     @Override
     PollingRequestInvoker retry(int[] delaysMillis, RequestEvent... events);
 
@@ -80,4 +83,10 @@ public interface PollingRequestInvoker extends PollingRequestBuilder, HttpPollin
     @Override
     PollingRequestInvoker poll(PollingStrategy strategy, int intervalMillis, int limit);
 
+    @Override
+    PollingRequestInvoker pollAfterCompletion();
+
+    @Override
+    PollingRequestInvoker adaptiveInterval(int minIntervalMillis, int maxIntervalMillis);
+
 }
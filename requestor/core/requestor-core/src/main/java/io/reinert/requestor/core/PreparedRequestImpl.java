@@ -78,7 +78,7 @@ class PreparedRequestImpl<R> implements PreparedRequest {
     @Override
     public void send() {
         try {
-            dispatcher.send(this, deferred, responsePayloadType);
+            dispatcher.sendPrepared(this, deferred, responsePayloadType);
         } catch (RuntimeException e) {
             deferred.reject(new RequestDispatchException(request,
                     "Some non-caught exception occurred while dispatching the request", e));
@@ -135,6 +135,11 @@ class PreparedRequestImpl<R> implements PreparedRequest {
         return request.getDelay();
     }
 
+    @Override
+    public int getPriority() {
+        return request.getPriority();
+    }
+
     @Override
     public String getCharset() {
         return request.getCharset();
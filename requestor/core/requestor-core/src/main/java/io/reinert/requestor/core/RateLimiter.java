@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+/**
+ * <p>Limits the rate in which requests are dispatched following the token-bucket algorithm.</p>
+ *
+ * <p>The bucket holds up to {@code burst} tokens and is refilled at {@code permitsPerSecond}. Each request takes one
+ * token before being dispatched. When the bucket is empty, the request is not blocked: its dispatching is delayed
+ * through the {@link AsyncRunner} until a token is available.</p>
+ *
+ * <p>The rate limiter also honors the hints given by the server:</p>
+ * <ul>
+ *     <li>429 responses with a Retry-After header (in seconds) pause the dispatching until the given time;</li>
+ *     <li>RateLimit-Remaining and RateLimit-Reset headers (or the combined RateLimit header) shrink the bucket to the
+ *     remaining quota and pause the dispatching until reset once the quota is exhausted.</li>
+ * </ul>
+ *
+ * <p>Rate limiters can be set in a {@link Session} for all requests or for the requests starting with an uri prefix,
+ * and in a {@link BaseService} for the requests of that service. They can also be bound to a single request by saving
+ * it in the request store under the {@link #KEY} key. All the applicable rate limiters are respected.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class RateLimiter {
+
+    public static final String KEY = "requestor.core.rateLimiter";
+
+    // The rate limiters of a session by uri prefix, saved as an immutable map
+    static final String PREFIXES_KEY = "requestor.core.rateLimiter.prefixes";
+
+    private final double permitsPerSecond;
+    private final int burst;
+
+    private double tokens;
+    private long lastRefillMillis;
+
+    public RateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, Clock.now());
+    }
+
+    RateLimiter(double permitsPerSecond, int burst, long nowMillis) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Permits per second must be greater than zero");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst must be greater than zero");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefillMillis = nowMillis;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * Takes a token from the bucket and returns how long the request must wait before being dispatched.
+     *
+     * @return the time to wait in milliseconds
+     */
+    public long reserve() {
+        return reserve(Clock.now());
+    }
+
+    /**
+     * Adjusts the bucket according to the rate limit hints of the response.
+     *
+     * @param response a response received from the server
+     */
+    public void onResponse(Response response) {
+        onResponse(response.getStatusCode(), response.getHeaders(), Clock.now());
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    synchronized long reserve(long nowMillis) {
+        refill(nowMillis);
+
+        tokens -= 1;
+
+        long wait = Math.max(0, lastRefillMillis - nowMillis);
+        if (tokens < 0) wait += (long) Math.ceil(-tokens * 1000 / permitsPerSecond);
+        return wait;
+    }
+
+    synchronized void onResponse(int statusCode, Headers headers, long nowMillis) {
+        if (statusCode == 429) {
+            final long retryAfter = parseSeconds(headers.getValue("Retry-After"));
+            // When the server doesn't tell how long to wait, at least empty the bucket
+            pause(nowMillis, retryAfter > 0 ? retryAfter * 1000 : 0);
+            return;
+        }
+
+        long remaining = parseSeconds(headers.getValue("RateLimit-Remaining"));
+        long reset = parseSeconds(headers.getValue("RateLimit-Reset"));
+
+        final String rateLimit = headers.getValue("RateLimit");
+        if (rateLimit != null) {
+            remaining = parseParam(rateLimit, "remaining", remaining);
+            reset = parseParam(rateLimit, "reset", reset);
+        }
+
+        if (remaining == 0) {
+            pause(nowMillis, Math.max(0, reset) * 1000);
+        } else if (remaining > 0) {
+            refill(nowMillis);
+            if (tokens > remaining) tokens = remaining;
+        }
+    }
+
+    private void refill(long nowMillis) {
+        if (nowMillis <= lastRefillMillis) return;
+        tokens = Math.min(burst, tokens + (nowMillis - lastRefillMillis) * permitsPerSecond / 1000);
+        lastRefillMillis = nowMillis;
+    }
+
+    private void pause(long nowMillis, long pauseMillis) {
+        refill(nowMillis);
+        // Keep a single token so the first waiting request is dispatched as soon as the pause ends
+        if (tokens > 1) tokens = 1;
+        if (pauseMillis > 0) {
+            lastRefillMillis = Math.max(lastRefillMillis, nowMillis + pauseMillis);
+        } else if (tokens > 0) {
+            tokens = 0;
+        }
+    }
+
+    private static long parseSeconds(String value) {
+        if (value == null) return -1;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static long parseParam(String header, String name, long defaultValue) {
+        for (String param : header.split(",")) {
+            final int i = param.indexOf('=');
+            if (i > 0 && param.substring(0, i).trim().equalsIgnoreCase(name)) {
+                final long value = parseSeconds(param.substring(i + 1));
+                return value >= 0 ? value : defaultValue;
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -37,8 +37,9 @@ public class RawResponse implements MutableResponse, DeserializableResponse, Pro
     private final HttpStatus status;
     private Payload payload;
     private SerializedPayload serializedPayload;
-    private boolean deserialized = false;
-    private boolean loaded = false;
+    private volatile boolean deserialized = false;
+    private volatile boolean loaded = false;
+    private volatile boolean unchanged = false;
     private final PayloadType payloadType;
     private final Deferred<?> deferred;
     private final Request<?> request;
@@ -241,7 +242,7 @@ public class RawResponse implements MutableResponse, DeserializableResponse, Pro
 
         this.serializedPayload = serializedPayload == null ? SerializedPayload.EMPTY_PAYLOAD : serializedPayload;
         loaded = true;
-        deferred.getResponseBodyLock().signalAll();
+        deferred.signalStateChange();
     }
 
     @Override
@@ -295,6 +296,17 @@ public class RawResponse implements MutableResponse, DeserializableResponse, Pro
         return this;
     }
 
+    /**
+     * Marks the response of a poll whose body didn't change, so it's not delivered.
+     */
+    void markUnchanged() {
+        unchanged = true;
+    }
+
+    boolean isUnchanged() {
+        return unchanged;
+    }
+
     public Deferred<?> getDeferred() {
         return deferred;
     }
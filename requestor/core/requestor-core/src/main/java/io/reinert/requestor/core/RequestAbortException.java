@@ -28,6 +28,10 @@ public class RequestAbortException extends RequestException {
         super();
     }
 
+    protected RequestAbortException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
     public RequestAbortException(RequestOptions requestOptions, String message) {
         super(requestOptions, message);
     }
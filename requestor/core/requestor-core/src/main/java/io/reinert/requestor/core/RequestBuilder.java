@@ -145,6 +145,21 @@ public interface RequestBuilder extends RequestOptions, Saver {
      */
     RequestBuilder delay(int delayMillis);
 
+    /**
+     * Set the dispatching priority of the request.
+     * <p></p>
+     *
+     * When the dispatching of requests is being limited, waiting requests with higher priority are dispatched first.
+     * Requests with the same priority are dispatched in the order they were sent.
+     * The default priority is zero and negative values are allowed.
+     * <p></p>
+     *
+     * @param priority The priority of the request
+     *
+     * @return This building request
+     */
+    RequestBuilder priority(int priority);
+
     /**
      * Set a retry policy for this request.
      * <p></p>
@@ -42,6 +42,7 @@ class RequestBuilderImpl implements PollingRequestBuilder, MutableSerializedRequ
     private HttpMethod httpMethod;
     private int timeout;
     private int delay;
+    private int priority;
     private String charset;
     private RetryPolicy.Provider retryPolicyProvider;
     private PollingOptions pollingOptions;
@@ -51,11 +52,11 @@ class RequestBuilderImpl implements PollingRequestBuilder, MutableSerializedRequ
     private Set<Process> skippedProcesses;
 
     public RequestBuilderImpl(Session session, Uri uri, LeafStore store) {
-        this(session, uri, store, null, null, null, 0, 0, null, null, null, null, null, false, null);
+        this(session, uri, store, null, null, null, 0, 0, 0, null, null, null, null, null, false, null);
     }
 
     public RequestBuilderImpl(Session session, Uri uri, LeafStore store, Headers headers, Auth.Provider authProvider,
-                              HttpMethod httpMethod, int timeout, int delay, String charset,
+                              HttpMethod httpMethod, int timeout, int delay, int priority, String charset,
                               RetryPolicy.Provider retryPolicyProvider, PollingOptions pollingOptions, Payload payload,
                               SerializedPayload serializedPayload, boolean serialized, Set<Process> skippedProcesses) {
         this.session = session;
@@ -68,6 +69,7 @@ class RequestBuilderImpl implements PollingRequestBuilder, MutableSerializedRequ
         this.httpMethod = httpMethod;
         this.timeout = timeout;
         this.delay = delay;
+        this.priority = priority;
         this.charset = charset == null ? Uri.CHARSET : charset;
         this.retryPolicyProvider = retryPolicyProvider;
         this.pollingOptions = pollingOptions != null ? pollingOptions : new PollingOptions();
@@ -136,6 +138,11 @@ class RequestBuilderImpl implements PollingRequestBuilder, MutableSerializedRequ
         return delay;
     }
 
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
     @Override
     public String getCharset() {
         return charset;
@@ -245,6 +252,12 @@ class RequestBuilderImpl implements PollingRequestBuilder, MutableSerializedRequ
         return this;
     }
 
+    @Override
+    public RequestBuilderImpl priority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
     @Override
     public RequestBuilderImpl retry(final int[] delaysMillis, final RequestEvent... events) {
         if (delaysMillis != null && delaysMillis.length > 0 && events.length > 0) {
@@ -309,6 +322,18 @@ class RequestBuilderImpl implements PollingRequestBuilder, MutableSerializedRequ
         return this;
     }
 
+    @Override
+    public RequestBuilderImpl pollAfterCompletion() {
+        save(PollingOptions.AFTER_COMPLETION_KEY, Boolean.TRUE);
+        return this;
+    }
+
+    @Override
+    public RequestBuilderImpl adaptiveInterval(int minIntervalMillis, int maxIntervalMillis) {
+        save(AdaptivePolling.KEY, new AdaptivePolling(minIntervalMillis, maxIntervalMillis));
+        return this;
+    }
+
     @Override
     public RequestBuilderImpl timeout(int timeoutMillis) {
         if (timeoutMillis > 0) timeout = timeoutMillis;
@@ -574,6 +599,7 @@ class RequestBuilderImpl implements PollingRequestBuilder, MutableSerializedRequ
                 httpMethod,
                 timeout,
                 delay,
+                priority,
                 charset,
                 retryPolicyProvider,
                 PollingOptions.copy(pollingOptions),
@@ -595,6 +621,7 @@ class RequestBuilderImpl implements PollingRequestBuilder, MutableSerializedRequ
                 httpMethod,
                 timeout,
                 delay,
+                priority,
                 charset,
                 retryPolicyProvider,
                 pollingOptions, // keep pollingOptions reference
@@ -29,6 +29,13 @@ public abstract class RequestDispatcher implements AsyncRunner {
 
     public static int SLEEP_TIME_BEFORE_ABORTING = 50;
 
+    /**
+     * The key under which a request stores the consumer its response body is streamed to, if the implementation
+     * supports streaming. Streamed bodies are not accumulated in the response, so features that rely on the body,
+     * like caching or change detection, skip these requests.
+     */
+    public static final String STREAMED_BODY_KEY = "requestor.core.streamedBody";
+
     public interface Factory {
         RequestDispatcher create(AsyncRunner asyncRunner,
                                  RequestProcessor requestProcessor,
@@ -73,6 +80,68 @@ public abstract class RequestDispatcher implements AsyncRunner {
      */
     protected abstract <R> void send(PreparedRequest request, Deferred<R> deferred, PayloadType responsePayloadType);
 
+    /**
+     * Sends the request through {@link #send(PreparedRequest, Deferred, PayloadType)}, applying the adaptive timeout,
+     * single-flight coalescing and hedging bound to the request, if any. It's called for every attempt of the request.
+     */
+    <R> void sendPrepared(PreparedRequest request, Deferred<R> deferred, PayloadType responsePayloadType) {
+        final AdmissionChain admission = request.getValue(AdmissionChain.KEY);
+        if (admission != null) {
+            final RequestException error = admission.onSend();
+            if (error != null) {
+                deferred.reject(error);
+                return;
+            }
+        }
+
+        final AdaptiveTimeout adaptiveTimeout = request.getValue(AdaptiveTimeout.KEY);
+        if (adaptiveTimeout != null) deferred = getAdaptiveTimeoutDeferred(adaptiveTimeout, request, deferred);
+
+        final SingleFlight singleFlight = request.getValue(SingleFlight.KEY);
+        if (singleFlight != null) {
+            deferred = singleFlight.join(this, request, deferred, responsePayloadType);
+            // The request follows an identical one in flight and will receive its response
+            if (deferred == null) return;
+        }
+
+        sendHedged(request, deferred, responsePayloadType);
+    }
+
+    /**
+     * Sends the request through {@link #send(PreparedRequest, Deferred, PayloadType)}, applying the hedging bound to
+     * the request, if any. It's also called for a follower promoted to leader by a {@link SingleFlight}.
+     */
+    <R> void sendHedged(PreparedRequest request, Deferred<R> deferred, PayloadType responsePayloadType) {
+        final HedgingPolicy hedgingPolicy = request.getValue(HedgingPolicy.KEY);
+        if (hedgingPolicy == null || !hedgingPolicy.isHedgeable(request)) {
+            send(request, deferred, responsePayloadType);
+            return;
+        }
+
+        new HedgedDeferred.Group<R>(this, request, deferred, responsePayloadType, hedgingPolicy).start();
+    }
+
+    private <R> Deferred<R> getAdaptiveTimeoutDeferred(final AdaptiveTimeout adaptiveTimeout,
+                                                       final PreparedRequest request, Deferred<R> deferred) {
+        final String route = OriginLimiter.getRoute(request.getUri());
+        final int timeout = adaptiveTimeout.getTimeout(route, request.getTimeout());
+        request.setTimeout(timeout);
+
+        final long startMillis = Clock.now();
+        return new ObservedDeferred<R>(deferred, new ObservedDeferred.Observer() {
+            public void onResponse(Response response) {
+                adaptiveTimeout.record(route, Clock.now() - startMillis);
+            }
+
+            public void onError(RequestException error) {
+                // Timed out attempts are censored samples: the actual latency is at least the timeout
+                if (error instanceof RequestTimeoutException) adaptiveTimeout.record(route, timeout);
+            }
+
+            public void onSettled(Response response, RequestException error) { }
+        });
+    }
+
     /**
      * Evaluates the response and resolves the deferred.
      * This method must be called by implementations after the response is received.
@@ -80,7 +149,25 @@ public abstract class RequestDispatcher implements AsyncRunner {
      * @param response  The response received from the request
      */
     protected final void evalResponse(RawResponse response) {
-        responseProcessor.process(response);
+        // Fire-and-forget responses are settled right away, without filters, deserialization or interceptors
+        if (response.getDeferred() instanceof FireAndForgetDeferred) {
+            response.deserializePayload(null);
+            response.process();
+            return;
+        }
+
+        // A 304 revalidating a cached response is replaced by the cached response
+        final RawResponse evaluated = HttpCache.revalidated(response);
+
+        // Unchanged bodies of conditional polls are neither processed nor delivered
+        final ConditionalPolling conditionalPolling = evaluated.getValue(ConditionalPolling.STATE_KEY);
+        if (conditionalPolling != null && conditionalPolling.isUnchanged(evaluated)) {
+            evaluated.markUnchanged();
+            evaluated.process();
+            return;
+        }
+
+        responseProcessor.process(evaluated);
     }
 
     public void run(Runnable runnable, long delayMillis) {
@@ -134,40 +221,111 @@ public abstract class RequestDispatcher implements AsyncRunner {
      * @param <T>                   The expected type of the response payload
      */
     public <T> void dispatch(MutableSerializedRequest request, DualCallback callback) {
+        dispatch(request, new SinglePayloadType<Response>(Response.class), callback);
+    }
+
+    /**
+     * Sends the request with the respective callback bypassing polling.
+     * No request object is created and no response event is fired but the callback ones.
+     *
+     * @param request               The built request
+     * @param responsePayloadType   The type of the expected response payload
+     * @param callback              The callback to be executed when done
+     */
+    public void dispatch(MutableSerializedRequest request, PayloadType responsePayloadType, DualCallback callback) {
         final CallbackDeferred deferred = new CallbackDeferred(callback, request);
-        final PayloadType responsePayloadType = new SinglePayloadType<Response>(Response.class);
 
         // TODO: add a skipAuth option and handle it in RequestInAuthProcess#process and erase the skipAuth flag here.
         scheduleDispatch(request, responsePayloadType, deferred, true);
     }
 
+    /**
+     * Sends the request without processing its response.
+     * No request object is created and only failures are reported, to the given error sink.
+     *
+     * @param request               The built request
+     * @param errorSink             The sink of errors and unsuccessful responses; may be null
+     */
+    void dispatchAndForget(MutableSerializedRequest request, ErrorSink errorSink) {
+        scheduleDispatch(request, PayloadType.VOID, new FireAndForgetDeferred(request, errorSink), true);
+    }
+
     private <T> void scheduleDispatch(final MutableSerializedRequest request,
                                       final PayloadType responsePayloadType,
                                       final DeferredPool<T> deferredPool,
                                       final boolean skipPolling) {
-        final Deferred<T> deferred = deferredPool.getDeferred();
+        final Bulkhead bulkhead = request.getValue(Bulkhead.KEY);
+        final AsyncRunner runner = bulkhead != null && bulkhead.getAsyncRunner() != null ?
+                bulkhead.getAsyncRunner() : this;
+        final AdmissionChain admission = AdmissionChain.of(request, runner);
+
+        final boolean shortPolling = !skipPolling && isShortPolling(request);
+        final ConditionalPolling conditionalPolling = shortPolling ? ConditionalPolling.of(request) : null;
+        final AdaptivePolling adaptivePolling = shortPolling ?
+                request.<AdaptivePolling>getValue(AdaptivePolling.KEY) : null;
+        final AdaptivePolling.Ticket adaptiveTicket = adaptivePolling != null ? new AdaptivePolling.Ticket() : null;
+        // The polling interval may be set after the adaptive interval, so it's resolved only now
+        if (adaptivePolling != null) adaptivePolling.start(request.getPollingInterval());
+        final boolean afterCompletion = shortPolling &&
+                request.exists(PollingOptions.AFTER_COMPLETION_KEY, Boolean.TRUE);
+
+        // The first poll is sent unconditionally, so the caller always receives the current representation
+        final boolean conditional = conditionalPolling != null && request.getPollingCount() > 0;
 
         // TODO: create pollingOptions outside request?
         request.incrementPollingCount();
 
+        final MutableSerializedRequest nextRequest = shortPolling ? request.replicate() : null;
+
+        final Deferred<T> deferred = admission.isEmpty() && conditionalPolling == null && adaptivePolling == null &&
+                !afterCompletion ?
+                deferredPool.getDeferred() :
+                new ObservedDeferred<T>(deferredPool.getDeferred(), new ObservedDeferred.Observer() {
+                    public void onResponse(Response response) {
+                        admission.onResponse(response);
+                    }
+
+                    public void onError(RequestException error) {
+                        admission.onError(error);
+                    }
+
+                    public void onSettled(Response response, RequestException error) {
+                        if (conditionalPolling != null && response != null) conditionalPolling.record(response);
+                        if (adaptivePolling != null) {
+                            adaptivePolling.record(adaptiveTicket, response, error, Clock.now());
+                        }
+                        admission.onSettled(response, error);
+
+                        // Only now the next poll is scheduled, so polls never overlap
+                        if (afterCompletion && nextRequest != null) {
+                            schedulePollingRequest(nextRequest, responsePayloadType, deferredPool);
+                        }
+                    }
+                });
+
         setHttpConnection(request, deferred);
 
-        final MutableSerializedRequest nextRequest =
-                !skipPolling && isShortPolling(request) ? request.replicate() : null;
+        // The validators are added after replicating, so the next poll takes the latest ones
+        if (conditional) conditionalPolling.apply(request);
+
+        admission.prepare();
+        if (!admission.isEmpty()) request.save(AdmissionChain.KEY, admission);
 
         final RequestInAuthProcess<T> requestInAuthProcess = new RequestInAuthProcess<T>(request, responsePayloadType,
-                this, deferred);
+                this, deferred, runner);
 
         logger.log(request);
 
-        run(new Runnable() {
+        final Runnable dispatchTask = new Runnable() {
             @Override
             public void run() {
+                if (adaptiveTicket != null) adaptiveTicket.startMillis = Clock.now();
+
                 try {
                     requestProcessor.process(requestInAuthProcess);
 
                     // Poll the request
-                    if (nextRequest != null) {
+                    if (nextRequest != null && !afterCompletion) {
                         schedulePollingRequest(nextRequest, responsePayloadType, deferredPool);
                     }
                 } catch (Exception e) {
@@ -178,7 +336,32 @@ public abstract class RequestDispatcher implements AsyncRunner {
                     }
                 }
             }
-        }, request.getDelay());
+        };
+
+        if (admission.isEmpty()) {
+            run(dispatchTask, request.getDelay());
+            return;
+        }
+
+        admission.start(request.getDelay(), new AdmissionChain.Callback() {
+            public void admit() {
+                runner.run(dispatchTask, 0);
+            }
+
+            public void reject(final RequestException error) {
+                // Reject asynchronously so the caller has time to register the callbacks
+                runner.run(new Runnable() {
+                    public void run() {
+                        if (deferred.isPending()) deferred.reject(error);
+                    }
+                }, SLEEP_TIME_BEFORE_ABORTING);
+
+                // Polling goes on so the request is resumed when the gate lets it through
+                if (nextRequest != null && !afterCompletion) {
+                    schedulePollingRequest(nextRequest, responsePayloadType, deferredPool);
+                }
+            }
+        });
     }
 
     private <T> void setHttpConnection(final MutableSerializedRequest request, final Deferred<T> deferred) {
@@ -224,7 +407,13 @@ public abstract class RequestDispatcher implements AsyncRunner {
                     scheduleDispatch(nextRequest, responsePayloadType, deferredPool, false);
                 }
             }
-        }, Math.max(10, nextRequest.getPollingInterval()));
+        }, Math.max(10, getPollingInterval(nextRequest)));
+    }
+
+    private int getPollingInterval(MutableSerializedRequest request) {
+        final AdaptivePolling adaptivePolling = isShortPolling(request) ?
+                request.<AdaptivePolling>getValue(AdaptivePolling.KEY) : null;
+        return adaptivePolling != null ? adaptivePolling.getIntervalMillis() : request.getPollingInterval();
     }
 
     private boolean isLongPolling(MutableSerializedRequest request) {
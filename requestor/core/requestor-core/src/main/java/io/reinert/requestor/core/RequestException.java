@@ -31,6 +31,13 @@ public abstract class RequestException extends Exception {
         super();
     }
 
+    /**
+     * Used by the exceptions that are not tied to a request, like a failure before the request was built.
+     */
+    protected RequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
     protected RequestException(RequestOptions requestOptions, String message) {
         super(message);
         this.uri = requestOptions.getUri().toString();
@@ -37,13 +37,20 @@ class RequestInAuthProcess<R> implements ProcessableRequest {
     private final PayloadType responsePayloadType;
     private final RequestDispatcher dispatcher;
     private final Deferred<R> deferred;
+    private final AsyncRunner asyncRunner;
 
     public RequestInAuthProcess(MutableSerializedRequest request, PayloadType responsePayloadType,
                                 RequestDispatcher dispatcher, Deferred<R> deferred) {
+        this(request, responsePayloadType, dispatcher, deferred, dispatcher);
+    }
+
+    public RequestInAuthProcess(MutableSerializedRequest request, PayloadType responsePayloadType,
+                                RequestDispatcher dispatcher, Deferred<R> deferred, AsyncRunner asyncRunner) {
         this.request = request;
         this.responsePayloadType = responsePayloadType;
         this.dispatcher = dispatcher;
         this.deferred = deferred;
+        this.asyncRunner = asyncRunner;
     }
 
     //===================================================================
@@ -61,8 +68,12 @@ class RequestInAuthProcess<R> implements ProcessableRequest {
         final PreparedRequestImpl<R> preparedRequest = new PreparedRequestImpl<R>(dispatcher, this, deferred,
                 responsePayloadType);
 
+        final RetryBudget retryBudget = request.getValue(RetryBudget.KEY);
+        if (retryBudget != null) retryBudget.deposit();
+
         if (request.isRetryEnabled()) {
-            deferred.setRequestRetrier(new RequestRetrier(preparedRequest, dispatcher, request.getRetryPolicy()));
+            deferred.setRequestRetrier(new RequestRetrier(preparedRequest, asyncRunner, request.getRetryPolicy(),
+                    retryBudget));
         }
 
         if (auth == null) {
@@ -267,6 +278,11 @@ class RequestInAuthProcess<R> implements ProcessableRequest {
         return request.getDelay();
     }
 
+    @Override
+    public int getPriority() {
+        return request.getPriority();
+    }
+
     @Override
     public RetryPolicy getRetryPolicy() {
         return request.getRetryPolicy();
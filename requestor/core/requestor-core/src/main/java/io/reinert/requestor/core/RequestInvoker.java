@@ -53,6 +53,9 @@ public interface RequestInvoker extends RequestBuilder, HttpInvoker {
     @Override
     RequestInvoker delay(int delayMillis);
 
+    @Override
+    RequestInvoker priority(int priority);
+
     @Override
     RequestInvoker retry(int[] delaysMillis, RequestEvent... events);
 
@@ -80,4 +83,14 @@ public interface RequestInvoker extends RequestBuilder, HttpInvoker {
     @Override
     PollingRequestInvoker poll(PollingStrategy strategy, int intervalMillis, int limit);
 
+    /**
+     * Sends the request in fire-and-forget mode.
+     * <p></p>
+     * No request object is returned to the caller, and the response body is discarded without being deserialized.
+     * Failures are reported only to the {@link ErrorSink} set in the session. Polling is ignored.
+     *
+     * @param method the HTTP method of the request
+     */
+    void send(HttpMethod method);
+
 }
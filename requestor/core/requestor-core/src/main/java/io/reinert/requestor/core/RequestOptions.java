@@ -43,6 +43,8 @@ public interface RequestOptions {
 
     int getDelay();
 
+    int getPriority();
+
     RetryPolicy getRetryPolicy();
 
     boolean isRetryEnabled();
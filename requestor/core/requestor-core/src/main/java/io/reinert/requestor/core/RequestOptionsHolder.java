@@ -28,6 +28,7 @@ class RequestOptionsHolder implements HasRequestOptions {
     private volatile Auth.Provider authProvider;
     private volatile int timeout;
     private volatile int delay;
+    private volatile int priority;
     private volatile String charset;
     private volatile RetryPolicy.Provider retryPolicyProvider;
     private final Headers headers = new Headers(true);
@@ -38,6 +39,7 @@ class RequestOptionsHolder implements HasRequestOptions {
         copy.setAuth(options.authProvider);
         copy.setTimeout(options.timeout);
         copy.setDelay(options.delay);
+        copy.setPriority(options.priority);
         copy.setCharset(options.charset);
         copy.setRetry(options.retryPolicyProvider);
         for (Header h : options.headers) copy.setHeader(h);
@@ -57,6 +59,7 @@ class RequestOptionsHolder implements HasRequestOptions {
         authProvider = null;
         timeout = 0;
         delay = 0;
+        priority = 0;
         charset = null;
         retryPolicyProvider = null;
         headers.clear();
@@ -127,6 +130,16 @@ class RequestOptionsHolder implements HasRequestOptions {
         return delay;
     }
 
+    @Override
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
     @Override
     public void setCharset(String charset) {
         this.charset = charset;
@@ -235,6 +248,10 @@ class RequestOptionsHolder implements HasRequestOptions {
             request.delay(delay);
         }
 
+        if (priority != 0) {
+            request.priority(priority);
+        }
+
         if (charset != null) {
             request.charset(charset);
         }
@@ -16,21 +16,34 @@
 package io.reinert.requestor.core;
 
 /**
- * Responsible for retrying a request.
+ * <p>Responsible for retrying a request.</p>
+ *
+ * <p>When a 429 or 503 response carries a Retry-After header, the retry is not scheduled earlier than the time the
+ * server asked for. If it's later than the maximum allowed by the policy (see {@link RetryPolicy.RetryAfterLimit}),
+ * the request is not retried. If a {@link RetryBudget} is bound to the request, each retry must withdraw from it,
+ * otherwise the request is not retried.</p>
  *
  * @author Danilo Reinert
  */
 public class RequestRetrier {
 
+    /**
+     * The longest Retry-After delay honored for policies that don't implement {@link RetryPolicy.RetryAfterLimit}.
+     */
+    public static final int DEFAULT_MAX_RETRY_AFTER_MILLIS = 5 * 60 * 1000;
+
     private final PreparedRequest preparedRequest;
     private final AsyncRunner asyncRunner;
     private final RetryPolicy retryPolicy;
+    private final RetryBudget retryBudget;
     private int retryCount;
 
-    RequestRetrier(PreparedRequest preparedRequest, AsyncRunner asyncRunner, RetryPolicy retryPolicy) {
+    RequestRetrier(PreparedRequest preparedRequest, AsyncRunner asyncRunner, RetryPolicy retryPolicy,
+                   RetryBudget retryBudget) {
         this.preparedRequest = preparedRequest;
         this.asyncRunner = asyncRunner;
         this.retryPolicy = retryPolicy;
+        this.retryBudget = retryBudget;
     }
 
     public int getRetryCount() {
@@ -38,17 +51,28 @@ public class RequestRetrier {
     }
 
     public boolean maybeRetry(Response response) {
-        return maybeRetry(new RequestAttempt(preparedRequest, retryCount, response));
+        final int statusCode = response.getStatusCode();
+        final long retryAfter = statusCode == 429 || statusCode == 503 ?
+                parseRetryAfter(response.getHeader("Retry-After"), Clock.now()) : -1;
+        return maybeRetry(new RequestAttempt(preparedRequest, retryCount, response), retryAfter);
     }
 
     public boolean maybeRetry(RequestException exception) {
-        return maybeRetry(new RequestAttempt(preparedRequest, retryCount, exception));
+        return maybeRetry(new RequestAttempt(preparedRequest, retryCount, exception), -1);
     }
 
-    private boolean maybeRetry(RequestAttempt attempt) {
+    private boolean maybeRetry(RequestAttempt attempt, long retryAfterMillis) {
         int nextRetryDelay = retryPolicy.retryIn(attempt);
 
         if (nextRetryDelay > 0) {
+            if (retryAfterMillis > nextRetryDelay) {
+                // Give up rather than holding the request for longer than the policy allows
+                if (retryAfterMillis > getMaxRetryAfterMillis()) return false;
+                nextRetryDelay = (int) retryAfterMillis;
+            }
+
+            if (retryBudget != null && !retryBudget.tryWithdraw()) return false;
+
             retryCount++;
             asyncRunner.run(new Runnable() {
                 public void run() {
@@ -60,4 +84,37 @@ public class RequestRetrier {
 
         return false;
     }
+
+    private int getMaxRetryAfterMillis() {
+        return retryPolicy instanceof RetryPolicy.RetryAfterLimit ?
+                ((RetryPolicy.RetryAfterLimit) retryPolicy).getMaxRetryAfterMillis() : DEFAULT_MAX_RETRY_AFTER_MILLIS;
+    }
+
+    /**
+     * Parses the Retry-After header value, given either in delay-seconds or as an IMF-fixdate.
+     * Delays too long to be represented saturate at {@link Long#MAX_VALUE}.
+     *
+     * @return the time to wait in milliseconds or -1 if the value is absent or malformed
+     */
+    static long parseRetryAfter(String value, long nowMillis) {
+        if (value == null) return -1;
+        value = value.trim();
+        if (value.isEmpty()) return -1;
+
+        if (Character.isDigit(value.charAt(0))) {
+            for (int i = 1; i < value.length(); i++) {
+                if (!Character.isDigit(value.charAt(i))) return -1;
+            }
+            try {
+                final long seconds = Long.parseLong(value);
+                return seconds > Long.MAX_VALUE / 1000 ? Long.MAX_VALUE : seconds * 1000;
+            } catch (NumberFormatException e) {
+                // Only digits, so the value is too large for a long
+                return Long.MAX_VALUE;
+            }
+        }
+
+        final long dateMillis = HttpDate.parse(value);
+        return dateMillis < 0 ? -1 : Math.max(0, dateMillis - nowMillis);
+    }
 }
@@ -55,6 +55,12 @@ public class RestService<R, I> extends BaseService implements RestInvoker<R, I>
         public RestService<R, I> on(Session session) {
             return new RestService<R, I>(session, rootPath, spec.resourceType, spec.idType, spec.collectionType);
         }
+
+        public RestService<R, I> on(Session session, LoadBalancer loadBalancer) {
+            final RestService<R, I> service = on(session);
+            service.setLoadBalancer(loadBalancer);
+            return service;
+        }
     }
 
     public static <R, I, C extends Collection> RestServiceSpec<R, I, C> of(Class<R> resourceType, Class<I> idType,
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+/**
+ * <p>Caps the retries at a ratio of the regular traffic following the token-bucket algorithm.</p>
+ *
+ * <p>Every request deposits {@code retryRatio} tokens in the bucket, up to {@code maxTokens}, and every retry
+ * withdraws one token. When the bucket is empty, retries are denied and the requests fail as if their retry policies
+ * had given up. So, when an upstream fails, the retries add at most {@code retryRatio} to the load instead of
+ * multiplying it by the number of retry attempts.</p>
+ *
+ * <p>The bucket starts full, allowing a small burst of retries for a fresh client.</p>
+ *
+ * <p>A retry budget is usually set in a {@link Session} to be shared by all its requests, but it can be bound to any
+ * request, service or session by saving it in the store under the {@link #KEY} key.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class RetryBudget {
+
+    public static final String KEY = "requestor.core.retryBudget";
+
+    // Tolerates the rounding of fractional deposits, e.g. ten deposits of 0.1 must add up to one retry
+    private static final double EPSILON = 1e-9;
+
+    private final double retryRatio;
+    private final int maxTokens;
+
+    private double tokens;
+    private long deniedCount;
+
+    /**
+     * @param retryRatio the ratio of retries allowed per request, e.g. 0.1 for retries to be at most 10% of the traffic
+     * @param maxTokens  the max number of retries that can be accumulated
+     */
+    public RetryBudget(double retryRatio, int maxTokens) {
+        if (retryRatio <= 0) {
+            throw new IllegalArgumentException("Retry ratio must be greater than zero");
+        }
+        if (maxTokens < 1) {
+            throw new IllegalArgumentException("Max tokens must be greater than zero");
+        }
+        this.retryRatio = retryRatio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    public double getRetryRatio() {
+        return retryRatio;
+    }
+
+    public int getMaxTokens() {
+        return maxTokens;
+    }
+
+    /**
+     * @return the number of retries currently available
+     */
+    public synchronized double getBalance() {
+        return tokens;
+    }
+
+    /**
+     * @return the number of retries denied since this budget was created
+     */
+    public synchronized long getDeniedCount() {
+        return deniedCount;
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + retryRatio);
+    }
+
+    synchronized boolean tryWithdraw() {
+        if (tokens + EPSILON < 1) {
+            deniedCount++;
+            return false;
+        }
+        tokens = Math.max(0, tokens - 1);
+        return true;
+    }
+}
@@ -24,6 +24,20 @@ public interface RetryPolicy {
 
     interface Provider extends io.reinert.requestor.core.Provider<RetryPolicy> { }
 
+    /**
+     * <p>Implemented by policies that limit how long a server can defer a retry with the Retry-After header.</p>
+     *
+     * <p>If the server asks for a longer wait, the request is not retried and fails. Policies that don't implement it
+     * are limited to {@link RequestRetrier#DEFAULT_MAX_RETRY_AFTER_MILLIS}.</p>
+     */
+    interface RetryAfterLimit {
+
+        /**
+         * @return  The longest Retry-After delay in milliseconds the request waits for before retrying.
+         */
+        int getMaxRetryAfterMillis();
+    }
+
     /**
      * <p>Checks the request result and returns the time to wait until the next retry in milliseconds.</p>
      *
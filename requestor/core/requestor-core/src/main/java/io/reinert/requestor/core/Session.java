@@ -16,6 +16,8 @@
 package io.reinert.requestor.core;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -345,6 +347,170 @@ public class Session implements SerializerManager, FilterManager, InterceptorMan
         return requestDispatcherFactory;
     }
 
+    /**
+     * Limits the number of concurrent requests per origin with the given {@link OriginLimiter}.
+     * Passing null removes the limit.
+     *
+     * @param originLimiter the origin limiter to be applied to all requests of this session
+     */
+    public void setOriginLimiter(OriginLimiter originLimiter) {
+        if (originLimiter == null) {
+            store.remove(OriginLimiter.KEY);
+        } else {
+            store.save(OriginLimiter.KEY, originLimiter);
+        }
+    }
+
+    public OriginLimiter getOriginLimiter() {
+        return store.getValue(OriginLimiter.KEY);
+    }
+
+    /**
+     * Stops sending requests to failing origins with the given {@link CircuitBreaker}.
+     * Passing null removes the circuit breaker.
+     *
+     * @param circuitBreaker the circuit breaker to be applied to all requests of this session
+     */
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        if (circuitBreaker == null) {
+            store.remove(CircuitBreaker.KEY);
+        } else {
+            store.save(CircuitBreaker.KEY, circuitBreaker);
+        }
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return store.getValue(CircuitBreaker.KEY);
+    }
+
+    /**
+     * Hedges the idempotent requests of this session with the given {@link HedgingPolicy}.
+     * Passing null disables hedging.
+     *
+     * @param hedgingPolicy the hedging policy to be applied to all requests of this session
+     */
+    public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        if (hedgingPolicy == null) {
+            store.remove(HedgingPolicy.KEY);
+        } else {
+            store.save(HedgingPolicy.KEY, hedgingPolicy);
+        }
+    }
+
+    public HedgingPolicy getHedgingPolicy() {
+        return store.getValue(HedgingPolicy.KEY);
+    }
+
+    /**
+     * Computes the timeouts of the requests of this session from the latencies of their routes with the given
+     * {@link AdaptiveTimeout}. Passing null restores the static timeouts.
+     *
+     * @param adaptiveTimeout the adaptive timeout to be applied to all requests of this session
+     */
+    public void setAdaptiveTimeout(AdaptiveTimeout adaptiveTimeout) {
+        if (adaptiveTimeout == null) {
+            store.remove(AdaptiveTimeout.KEY);
+        } else {
+            store.save(AdaptiveTimeout.KEY, adaptiveTimeout);
+        }
+    }
+
+    public AdaptiveTimeout getAdaptiveTimeout() {
+        return store.getValue(AdaptiveTimeout.KEY);
+    }
+
+    /**
+     * Creates a {@link Batch} that dispatches its calls with the given concurrency window.
+     *
+     * @param maxConcurrentCalls the max number of calls in flight at the same time
+     * @return a new batch
+     */
+    public Batch batch(int maxConcurrentCalls) {
+        return new Batch(asyncRunner, maxConcurrentCalls);
+    }
+
+    /**
+     * Sets the sink of failures of the requests sent in fire-and-forget mode through
+     * {@link RequestInvoker#send(HttpMethod)}. Passing null removes the sink.
+     *
+     * @param errorSink the error sink of this session
+     */
+    public void setErrorSink(ErrorSink errorSink) {
+        if (errorSink == null) {
+            store.remove(ErrorSink.KEY);
+        } else {
+            store.save(ErrorSink.KEY, errorSink);
+        }
+    }
+
+    public ErrorSink getErrorSink() {
+        return store.getValue(ErrorSink.KEY);
+    }
+
+    /**
+     * Caps the retries of all requests of this session with the given {@link RetryBudget}.
+     * Passing null removes the budget.
+     *
+     * @param retryBudget the retry budget shared by the requests of this session
+     */
+    public void setRetryBudget(RetryBudget retryBudget) {
+        if (retryBudget == null) {
+            store.remove(RetryBudget.KEY);
+        } else {
+            store.save(RetryBudget.KEY, retryBudget);
+        }
+    }
+
+    public RetryBudget getRetryBudget() {
+        return store.getValue(RetryBudget.KEY);
+    }
+
+    /**
+     * Limits the dispatching rate of all requests of this session with the given {@link RateLimiter}.
+     * Passing null removes the limit.
+     *
+     * @param rateLimiter the rate limiter to be applied to all requests of this session
+     */
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        setRateLimiter("", rateLimiter);
+    }
+
+    public RateLimiter getRateLimiter() {
+        return getRateLimiter("");
+    }
+
+    /**
+     * Limits the dispatching rate of the requests whose uri starts with the given prefix.
+     * Passing a null rate limiter removes the limit.
+     *
+     * @param uriPrefix     the prefix of the uris to be limited, e.g. "https://api.example.com/search"
+     * @param rateLimiter   the rate limiter to be applied to the matching requests
+     */
+    public synchronized void setRateLimiter(String uriPrefix, RateLimiter rateLimiter) {
+        if (uriPrefix == null) throw new IllegalArgumentException("Uri prefix cannot be null");
+        final Map<String, RateLimiter> prefixes = new LinkedHashMap<String, RateLimiter>();
+        final Map<String, RateLimiter> current = store.getValue(RateLimiter.PREFIXES_KEY);
+        if (current != null) prefixes.putAll(current);
+
+        if (rateLimiter == null) {
+            prefixes.remove(uriPrefix);
+        } else {
+            prefixes.put(uriPrefix, rateLimiter);
+        }
+
+        // The map is replaced instead of changed, so the requests being dispatched read it without locking
+        if (prefixes.isEmpty()) {
+            store.remove(RateLimiter.PREFIXES_KEY);
+        } else {
+            store.save(RateLimiter.PREFIXES_KEY, Collections.unmodifiableMap(prefixes));
+        }
+    }
+
+    public RateLimiter getRateLimiter(String uriPrefix) {
+        final Map<String, RateLimiter> prefixes = store.getValue(RateLimiter.PREFIXES_KEY);
+        return prefixes != null ? prefixes.get(uriPrefix) : null;
+    }
+
     public void setRequestSerializer(RequestSerializer requestSerializer) {
         requestProcessor.setRequestSerializer(requestSerializer);
     }
@@ -431,11 +597,21 @@ public class Session implements SerializerManager, FilterManager, InterceptorMan
         options.setDelay(delayMillis);
     }
 
+    @Override
+    public void setPriority(int priority) {
+        options.setPriority(priority);
+    }
+
     @Override
     public int getDelay() {
         return options.getDelay();
     }
 
+    @Override
+    public int getPriority() {
+        return options.getPriority();
+    }
+
     @Override
     public void setCharset(String charset) {
         options.setCharset(charset);
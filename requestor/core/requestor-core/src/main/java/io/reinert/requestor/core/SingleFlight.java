@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.reinert.requestor.core.payload.SerializedPayload;
+import io.reinert.requestor.core.payload.type.PayloadType;
+
+/**
+ * <p>Coalesces identical requests in flight, so only one of them is sent and its response is fanned out to all the
+ * callers.</p>
+ *
+ * <p>The first request with a given key is sent as the leader. Requests with the same key issued while the leader is
+ * in flight become its followers: they are not sent and receive a copy of the leader's response, which is processed
+ * (filtered, intercepted and deserialized) for each of them as if it had been received by their own connection. If
+ * the leader fails, a copy of its error bound to each follower's own request is given to them, whose retry policies
+ * apply as usual. If the leader is cancelled by its caller, though, the followers are not: the first of them is sent
+ * as the new leader and the others follow it.</p>
+ *
+ * <p>By default, only GET requests are coalesced and the key is made of the uri, the Accept header and the
+ * Authorization header, so callers with different identities never share responses. A custom {@link KeyFunction} can
+ * be set.</p>
+ *
+ * <p>Single-flight is opt-in: set it in a {@link BaseService} or bind it to a request by saving it in the store under
+ * the {@link #KEY} key.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class SingleFlight {
+
+    public static final String KEY = "requestor.core.singleFlight";
+
+    /**
+     * Computes the coalescing key of a request.
+     */
+    public interface KeyFunction {
+        /**
+         * @param request the request about to be sent
+         * @return the key of the request or null if it must not be coalesced
+         */
+        String getKey(PreparedRequest request);
+    }
+
+    public static final KeyFunction DEFAULT_KEY_FUNCTION = new KeyFunction() {
+        public String getKey(PreparedRequest request) {
+            if (!HttpMethod.GET.equals(request.getMethod())) return null;
+            return request.getUri() + " " + request.getHeader("Accept") + " " + request.getHeader("Authorization");
+        }
+    };
+
+    private static class Follower<R> {
+        private final PreparedRequest request;
+        private final Deferred<R> deferred;
+        private final PayloadType responsePayloadType;
+
+        Follower(PreparedRequest request, Deferred<R> deferred, PayloadType responsePayloadType) {
+            this.request = request;
+            this.deferred = deferred;
+            this.responsePayloadType = responsePayloadType;
+        }
+    }
+
+    private class Flight {
+        private final String key;
+        private final List<Follower<?>> followers = new ArrayList<Follower<?>>();
+        private HttpStatus status;
+        private Headers headers;
+
+        Flight(String key) {
+            this.key = key;
+        }
+
+        void snapshot(Response response) {
+            // The response is copied as received, before being processed for the leader
+            status = response.getStatus();
+            headers = new Headers(response.getHeaders());
+        }
+
+        List<Follower<?>> land() {
+            synchronized (SingleFlight.this) {
+                if (flights.get(key) == this) flights.remove(key);
+                return new ArrayList<Follower<?>>(followers);
+            }
+        }
+    }
+
+    private final KeyFunction keyFunction;
+    private final Map<String, Flight> flights = new HashMap<String, Flight>();
+    private long coalescedCount;
+
+    public SingleFlight() {
+        this(DEFAULT_KEY_FUNCTION);
+    }
+
+    public SingleFlight(KeyFunction keyFunction) {
+        if (keyFunction == null) throw new NullPointerException("Key function cannot be null");
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * @return the number of leader requests currently in flight
+     */
+    public synchronized int getInFlightCount() {
+        return flights.size();
+    }
+
+    /**
+     * @return the number of requests that were not sent because they followed a leader
+     */
+    public synchronized long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    /**
+     * Joins the request to a flight.
+     *
+     * @return the deferred to send the request with if it's a leader or null if it became a follower
+     */
+    <R> Deferred<R> join(RequestDispatcher dispatcher, PreparedRequest request, Deferred<R> deferred,
+                         PayloadType responsePayloadType) {
+        final String key = keyFunction.getKey(request);
+        if (key == null) return deferred;
+
+        final Flight flight;
+        synchronized (this) {
+            final Flight leader = flights.get(key);
+            if (leader != null) {
+                follow(leader, new Follower<R>(request, deferred, responsePayloadType));
+                coalescedCount++;
+                return null;
+            }
+            flight = new Flight(key);
+            flights.put(key, flight);
+        }
+
+        return lead(dispatcher, flight, deferred);
+    }
+
+    private <R> Deferred<R> lead(final RequestDispatcher dispatcher, final Flight flight, Deferred<R> deferred) {
+        return new ObservedDeferred<R>(deferred, new ObservedDeferred.Observer() {
+            public void onResponse(Response response) {
+                final SerializedPayload payload = response.getSerializedPayload();
+                if (flight.status == null) flight.snapshot(response);
+
+                for (final Follower<?> follower : flight.land()) {
+                    dispatcher.run(new Runnable() {
+                        public void run() {
+                            if (!follower.deferred.isPending()) return;
+                            final RawResponse copy = new RawResponse(follower.deferred, flight.status,
+                                    new Headers(flight.headers), follower.responsePayloadType, payload);
+                            follower.deferred.notifyResponse(copy);
+                            dispatcher.evalResponse(copy);
+                        }
+                    }, 0);
+                }
+            }
+
+            public void onError(final RequestException error) {
+                final List<Follower<?>> followers = flight.land();
+                if (followers.isEmpty()) return;
+
+                // The cancellation belongs to the leader's caller only, so the followers go on without it
+                if (error instanceof RequestCancelException) {
+                    dispatcher.run(new Runnable() {
+                        public void run() {
+                            resume(dispatcher, flight.key, followers);
+                        }
+                    }, 0);
+                    return;
+                }
+
+                for (final Follower<?> follower : followers) {
+                    dispatcher.run(new Runnable() {
+                        public void run() {
+                            if (follower.deferred.isPending()) {
+                                follower.deferred.reject(copyError(error, follower.request));
+                            }
+                        }
+                    }, 0);
+                }
+            }
+
+            public void onSettled(Response response, RequestException error) { }
+        }) {
+            @Override
+            public void notifyResponse(RawResponse response) {
+                flight.snapshot(response);
+                super.notifyResponse(response);
+            }
+        };
+    }
+
+    /**
+     * Promotes the first pending follower of a cancelled leader to a new leader and makes the others follow it.
+     * If another leader took off meanwhile, all of them follow that one instead.
+     */
+    private void resume(RequestDispatcher dispatcher, String key, List<Follower<?>> followers) {
+        Follower<?> promoted = null;
+        Flight flight;
+        synchronized (this) {
+            flight = flights.get(key);
+            for (Follower<?> follower : followers) {
+                if (!follower.deferred.isPending()) continue;
+                if (flight == null) {
+                    promoted = follower;
+                    flight = new Flight(key);
+                    flights.put(key, flight);
+                } else {
+                    follow(flight, follower);
+                }
+            }
+        }
+
+        if (promoted != null) sendPromoted(dispatcher, flight, promoted);
+    }
+
+    private <R> void sendPromoted(RequestDispatcher dispatcher, Flight flight, Follower<R> follower) {
+        final Deferred<R> deferred = lead(dispatcher, flight, follower.deferred);
+        try {
+            dispatcher.sendHedged(follower.request, deferred, follower.responsePayloadType);
+        } catch (RuntimeException e) {
+            deferred.reject(new RequestDispatchException(follower.request,
+                    "Some non-caught exception occurred while dispatching the request", e));
+        }
+    }
+
+    private void follow(final Flight flight, final Follower<?> follower) {
+        flight.followers.add(follower);
+
+        follower.deferred.setHttpConnection(new HttpConnection() {
+            public void cancel() {
+                synchronized (SingleFlight.this) {
+                    if (!flight.followers.remove(follower)) return;
+                }
+                if (follower.deferred.isPending()) {
+                    follower.deferred.reject(new RequestCancelException(follower.request,
+                            "Request was manually cancelled through the HttpConnection."));
+                }
+            }
+
+            public boolean isPending() {
+                return follower.deferred.isPending();
+            }
+        });
+    }
+
+    /**
+     * Copies the leader's error for a follower, so it refers to the follower's own request.
+     */
+    private static RequestException copyError(RequestException error, PreparedRequest request) {
+        final RequestException copy;
+        if (error instanceof RequestTimeoutException) {
+            copy = new RequestTimeoutException(request, ((RequestTimeoutException) error).getTimeoutMillis());
+            copy.initCause(error);
+        } else if (error instanceof RequestDispatchException) {
+            copy = new RequestDispatchException(request, error.getMessage(), error);
+        } else if (error instanceof RequestAbortException) {
+            copy = new RequestAbortException(request, error.getMessage(), error);
+        } else {
+            // Errors of unknown types can't be rebuilt, so they are given as they are
+            copy = error;
+        }
+        return copy;
+    }
+}
@@ -43,7 +43,7 @@ public interface Store extends Saver {
             this.key = key;
             this.value = value;
             this.ttl = ttl;
-            createdAt = refreshedAt = System.currentTimeMillis();
+            createdAt = refreshedAt = Clock.now();
             timesRefreshed = 0;
         }
 
@@ -72,7 +72,7 @@ public interface Store extends Saver {
         }
 
         public boolean isExpired() {
-            return ttl > 0L && System.currentTimeMillis() > refreshedAt + ttl;
+            return ttl > 0L && Clock.now() > refreshedAt + ttl;
         }
 
         void refresh() {
@@ -81,7 +81,7 @@ public interface Store extends Saver {
 
         synchronized void refresh(long ttl) {
             this.ttl = ttl;
-            this.refreshedAt = System.currentTimeMillis();
+            this.refreshedAt = Clock.now();
             this.timesRefreshed++;
         }
 
@@ -89,7 +89,12 @@ class DeferredObject<D, F, P, U> extends AbstractDeferred<D, F, P, U> {
         return this;
     }
 
+    /**
+     * Creates a new pending deferred sharing the callback lists of this one, so callbacks are carried forward without
+     * being copied and the ones registered later reach every replica.
+     */
     public DeferredObject<D, F, P, U> replicate() {
-        return new DeferredObject<D, F, P, U>(doneCallbacks, failCallbacks, progressCallbacks, upProgressCallbacks);
+        return new DeferredObject<D, F, P, U>(doneCallbacks, failCallbacks, getProgressCallbacks(),
+                getUpProgressCallbacks());
     }
 }
@@ -56,6 +56,10 @@ import io.reinert.requestor.core.uri.Uri;
 
 /**
  * Default DeferredPool implementation.
+ * <p></p>
+ *
+ * Each poll cycle gets a new deferred carrying forward the callbacks of the previous one.
+ * Only the latest deferreds are kept, up to the history size, so long-lived polling requests use bounded memory.
  *
  * @param <T> Expected type in successful responses.
  *
@@ -63,19 +67,33 @@ import io.reinert.requestor.core.uri.Uri;
  */
 public class DeferredPollingRequest<T> implements DeferredPool<T>, PollingRequest<T> {
 
+    public static final int DEFAULT_HISTORY_SIZE = 1;
+
     private final SerializedRequest serializedRequest;
     private final List<DeferredRequest<T>> deferreds;
     private final AsyncRunner asyncRunner;
+    private final int historySize;
 
     public DeferredPollingRequest(SerializedRequest serializedRequest, AsyncRunner asyncRunner) {
-        this(serializedRequest, asyncRunner, new ArrayList<DeferredRequest<T>>());
+        this(serializedRequest, asyncRunner, DEFAULT_HISTORY_SIZE);
+    }
+
+    public DeferredPollingRequest(SerializedRequest serializedRequest, AsyncRunner asyncRunner, int historySize) {
+        this(serializedRequest, asyncRunner, new ArrayList<DeferredRequest<T>>(), historySize);
     }
 
     protected DeferredPollingRequest(SerializedRequest serializedRequest, AsyncRunner asyncRunner,
                                      List<DeferredRequest<T>> deferreds) {
+        this(serializedRequest, asyncRunner, deferreds, DEFAULT_HISTORY_SIZE);
+    }
+
+    protected DeferredPollingRequest(SerializedRequest serializedRequest, AsyncRunner asyncRunner,
+                                     List<DeferredRequest<T>> deferreds, int historySize) {
+        if (historySize < 1) throw new IllegalArgumentException("History size must be greater than zero");
         this.serializedRequest = serializedRequest;
         this.asyncRunner = asyncRunner;
         this.deferreds = deferreds;
+        this.historySize = historySize;
     }
 
     //===================================================================
@@ -122,6 +140,11 @@ public class DeferredPollingRequest<T> implements DeferredPool<T>, PollingReques
         return serializedRequest.getDelay();
     }
 
+    @Override
+    public int getPriority() {
+        return serializedRequest.getPriority();
+    }
+
     @Override
     public String getCharset() {
         return serializedRequest.getCharset();
@@ -294,13 +317,17 @@ public class DeferredPollingRequest<T> implements DeferredPool<T>, PollingReques
 
     @Override
     public Response await() throws RequestException {
-        DeferredRequest<T> deferred = getLastDeferred();
-
-        while (deferred.isPending()) {
-            try {
-                deferred.getResponseLock().await(0);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+        final DeferredRequest<T> deferred = getLastDeferred();
+        final AsyncRunner.Lock lock = deferred.getStateLock();
+
+        // Check the state and park while holding the lock monitor so no signal is lost in between
+        synchronized (lock) {
+            while (deferred.isPending()) {
+                try {
+                    lock.await(0);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
             }
         }
 
@@ -515,10 +542,14 @@ public class DeferredPollingRequest<T> implements DeferredPool<T>, PollingReques
         return getLastDeferred();
     }
 
-    public Deferred<T> newDeferred() {
+    public synchronized Deferred<T> newDeferred() {
         final DeferredRequest<T> deferred = deferreds.isEmpty() ?
                 new DeferredRequest<T>(this, asyncRunner) : getLastDeferred().replicate();
         deferreds.add(deferred);
+
+        // In-flight polls hold their own deferreds, so the older ones can be safely dropped
+        while (deferreds.size() > historySize) deferreds.remove(0);
+
         return deferred;
     }
 
@@ -535,8 +566,21 @@ public class DeferredPollingRequest<T> implements DeferredPool<T>, PollingReques
         return serializedRequest;
     }
 
-    protected DeferredRequest<T> getLastDeferred() {
+    protected synchronized DeferredRequest<T> getLastDeferred() {
         if (deferreds.isEmpty()) deferreds.add(new DeferredRequest<T>(this, asyncRunner));
         return deferreds.get(deferreds.size() - 1);
     }
+
+    /**
+     * Returns the deferreds of the latest poll cycles, from the oldest to the newest.
+     *
+     * @return a snapshot of at most {@link #getHistorySize()} deferreds
+     */
+    protected synchronized List<DeferredRequest<T>> getHistory() {
+        return new ArrayList<DeferredRequest<T>>(deferreds);
+    }
+
+    protected int getHistorySize() {
+        return historySize;
+    }
 }
@@ -26,7 +26,21 @@ import io.reinert.requestor.core.SerializedRequest;
  */
 public class DeferredPoolFactoryImpl implements DeferredPool.Factory {
 
+    private final int historySize;
+
+    public DeferredPoolFactoryImpl() {
+        this(DeferredPollingRequest.DEFAULT_HISTORY_SIZE);
+    }
+
+    /**
+     * @param historySize the number of poll cycles whose deferreds are kept by each polling request
+     */
+    public DeferredPoolFactoryImpl(int historySize) {
+        if (historySize < 1) throw new IllegalArgumentException("History size must be greater than zero");
+        this.historySize = historySize;
+    }
+
     public <T> DeferredPool<T> create(SerializedRequest serializedRequest, AsyncRunner asyncRunner) {
-        return new DeferredPollingRequest<T>(serializedRequest, asyncRunner);
+        return new DeferredPollingRequest<T>(serializedRequest, asyncRunner, historySize);
     }
 }
@@ -15,14 +15,12 @@
  */
 package io.reinert.requestor.core.deferred;
 
-import java.util.concurrent.CancellationException;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import io.reinert.requestor.core.AsyncRunner;
+import io.reinert.requestor.core.ConditionalPolling;
 import io.reinert.requestor.core.Deferred;
+import io.reinert.requestor.core.DeferredFuture;
 import io.reinert.requestor.core.HttpConnection;
 import io.reinert.requestor.core.IncomingResponse;
 import io.reinert.requestor.core.IncompatibleTypeException;
@@ -64,24 +62,19 @@ public class DeferredRequest<T> implements Deferred<T> {
     private final DeferredPollingRequest<T> request;
     private final AsyncRunner asyncRunner;
     private final DeferredObject<Response, RequestException, ReadProgress, WriteProgress> deferred;
-    private final AsyncRunner.Lock responseHeaderLock;
-    private final AsyncRunner.Lock responseBodyLock;
-    private final AsyncRunner.Lock responseLock;
+    private AsyncRunner.Lock stateLock;
     private HttpConnection connection;
     private RequestRetrier retrier;
     private boolean noAbortCallbackRegistered = true;
     private boolean noCancelCallbackRegistered = true;
     private boolean noErrorCallbackRegistered = true;
     private boolean noTimeoutCallbackRegistered = true;
-    private RawResponse rawResponse;
+    private volatile RawResponse rawResponse;
 
     protected DeferredRequest(DeferredPollingRequest<T> request, AsyncRunner asyncRunner) {
         this.request = request;
         this.asyncRunner = asyncRunner;
         this.deferred = new DeferredObject<Response, RequestException, ReadProgress, WriteProgress>();
-        responseHeaderLock = asyncRunner.getLock();
-        responseBodyLock = asyncRunner.getLock();
-        responseLock = asyncRunner.getLock();
     }
 
     private DeferredRequest(DeferredPollingRequest<T> request,
@@ -94,9 +87,6 @@ public class DeferredRequest<T> implements Deferred<T> {
         this.request = request;
         this.asyncRunner = asyncRunner;
         this.deferred = deferredObject;
-        responseHeaderLock = asyncRunner.getLock();
-        responseBodyLock = asyncRunner.getLock();
-        responseLock = asyncRunner.getLock();
         this.noAbortCallbackRegistered = noAbortCallbackRegistered;
         this.noCancelCallbackRegistered = noCancelCallbackRegistered;
         this.noErrorCallbackRegistered = noErrorCallbackRegistered;
@@ -264,7 +254,7 @@ public class DeferredRequest<T> implements Deferred<T> {
     public DeferredRequest<T> onFail(final VoidCallback callback) {
         deferred.done(new DoneCallback<Response>() {
             public void onDone(Response response) {
-                if (!isSuccessful(response)) {
+                if (isFailure(response)) {
                     try {
                         callback.execute();
                     } catch (Throwable e) {
@@ -279,7 +269,7 @@ public class DeferredRequest<T> implements Deferred<T> {
     public DeferredRequest<T> onFail(final ResponseCallback callback) {
         deferred.done(new DoneCallback<Response>() {
             public void onDone(Response response) {
-                if (!isSuccessful(response)) {
+                if (isFailure(response)) {
                     try {
                         callback.execute(response);
                     } catch (Throwable e) {
@@ -294,7 +284,7 @@ public class DeferredRequest<T> implements Deferred<T> {
     public DeferredRequest<T> onFail(final ResponseRequestCallback<T> callback) {
         deferred.done(new DoneCallback<Response>() {
             public void onDone(Response response) {
-                if (!isSuccessful(response)) {
+                if (isFailure(response)) {
                     try {
                         callback.execute(response, request);
                     } catch (Throwable e) {
@@ -600,7 +590,7 @@ public class DeferredRequest<T> implements Deferred<T> {
 
         if (request.isPolling()) request.newDeferred();
 
-        responseLock.signalAll();
+        signalStateChange();
     }
 
     @Override
@@ -609,9 +599,7 @@ public class DeferredRequest<T> implements Deferred<T> {
 
         deferred.reject(e);
 
-        if (noErrorCallbackRegistered &&
-                !responseHeaderLock.isAwaiting() &&
-                !responseLock.isAwaiting()) {
+        if (noErrorCallbackRegistered && !isAwaited()) {
             if (e instanceof RequestTimeoutException) {
                 if (noTimeoutCallbackRegistered) e.printStackTrace();
             } else if (e instanceof RequestCancelException) {
@@ -625,9 +613,7 @@ public class DeferredRequest<T> implements Deferred<T> {
 
         if (request.isPolling()) request.newDeferred();
 
-        responseHeaderLock.signalAll();
-        responseBodyLock.signalAll();
-        responseLock.signalAll();
+        signalStateChange();
     }
 
     @Override
@@ -643,7 +629,7 @@ public class DeferredRequest<T> implements Deferred<T> {
     @Override
     public void notifyResponse(RawResponse response) {
         this.rawResponse = response;
-        responseHeaderLock.signalAll();
+        signalStateChange();
     }
 
     @Override
@@ -672,79 +658,52 @@ public class DeferredRequest<T> implements Deferred<T> {
     }
 
     @Override
+    public synchronized AsyncRunner.Lock getStateLock() {
+        if (stateLock == null) stateLock = asyncRunner.getLock();
+        return stateLock;
+    }
+
+    @Override
+    public void signalStateChange() {
+        final AsyncRunner.Lock lock;
+        synchronized (this) {
+            lock = stateLock;
+        }
+        if (lock != null) lock.signalAll();
+    }
+
+    @Override
+    @Deprecated
     public AsyncRunner.Lock getResponseHeaderLock() {
-        return responseHeaderLock;
+        return getStateLock();
     }
 
     @Override
+    @Deprecated
     public AsyncRunner.Lock getResponseBodyLock() {
-        return responseBodyLock;
+        return getStateLock();
     }
 
     @Override
+    @Deprecated
     public AsyncRunner.Lock getResponseLock() {
-        return responseLock;
+        return getStateLock();
     }
 
     public Future<IncomingResponse> getFuture() {
-        return new Future<IncomingResponse>() {
-            private volatile boolean cancelled;
-
-            public boolean cancel(boolean mayInterruptIfRunning) {
-                if (cancelled) return false;
-
-                if (!deferred.isPending()) return false;
-
-                if (!mayInterruptIfRunning) return false;
-
-                cancelled = true;
-                getHttpConnection().cancel();
-                return true;
-            }
-
-            public boolean isCancelled() {
-                return cancelled;
-            }
-
-            public boolean isDone() {
-                return cancelled || !deferred.isPending();
-            }
-
-            public IncomingResponse get() throws InterruptedException, ExecutionException {
-                try {
-                    return get(0, TimeUnit.MILLISECONDS);
-                } catch (TimeoutException e) {
-                    throw new ExecutionException(e);
-                }
+        return new DeferredFuture<IncomingResponse>(this) {
+            protected boolean isReady() {
+                return rawResponse != null;
             }
 
-            public IncomingResponse get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
-                    TimeoutException {
-                final long startTime = System.currentTimeMillis();
-
-                while (!(cancelled && deferred.isRejected() && rawResponse != null)) {
-                    long elapsed = System.currentTimeMillis() - startTime;
-                    responseHeaderLock.await(unit.toMillis(timeout - elapsed));
-
-                    elapsed = System.currentTimeMillis() - startTime;
-                    if (timeout > 0 && elapsed >= timeout) {
-                        throw new TimeoutException("The timeout of " + timeout + "ms has expired.");
-                    }
-                }
-
-                checkInvalidStates();
-
+            protected IncomingResponse getResult() {
                 return rawResponse.getIncomingResponse();
             }
 
-            private void checkInvalidStates() throws ExecutionException {
-                if (cancelled) {
-                    throw new CancellationException("Future was cancelled.");
-                }
-
-                if (deferred.isRejected()) {
-                    throw new ExecutionException(deferred.rejectResult);
-                }
+            protected boolean doCancel() {
+                if (!deferred.isPending()) return false;
+                getHttpConnection().cancel();
+                return true;
             }
         };
     }
@@ -753,10 +712,20 @@ public class DeferredRequest<T> implements Deferred<T> {
     // Internal methods
     //===================================================================
 
+    private synchronized boolean isAwaited() {
+        return stateLock != null && stateLock.isAwaiting();
+    }
+
     protected boolean isSuccessful(Response response) {
         return response.getStatusCode() / 100 == 2;
     }
 
+    protected boolean isFailure(Response response) {
+        // A 304 to a conditional poll means no changes, rather than a failure
+        return !isSuccessful(response) &&
+                !(response.getStatusCode() == 304 && request.exists(ConditionalPolling.KEY, Boolean.TRUE));
+    }
+
     protected DeferredRequest<T> replicate() {
         return new DeferredRequest<T>(request, asyncRunner, deferred.replicate(), noAbortCallbackRegistered,
                 noCancelCallbackRegistered, noErrorCallbackRegistered, noTimeoutCallbackRegistered);
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests of {@link AdaptivePolling}.
+ */
+public class AdaptivePollingJreTest {
+
+    @Test
+    public void start_PollingIntervalOutOfBounds_ShouldClampIt() {
+        // Given
+        AdaptivePolling adaptivePolling = new AdaptivePolling(1000, 8000);
+
+        // When
+        adaptivePolling.start(100);
+
+        // Then
+        assertEquals(1000, adaptivePolling.getIntervalMillis());
+    }
+
+    @Test
+    public void start_CalledByLaterPolls_ShouldKeepTheAdaptedInterval() {
+        // Given
+        AdaptivePolling adaptivePolling = adaptivePolling(1000, 8000, 2000);
+        adaptivePolling.record(ticket(0), response(304), null, 100);
+
+        // When
+        adaptivePolling.start(2000);
+
+        // Then
+        assertEquals(4000, adaptivePolling.getIntervalMillis());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_MaxLessThanMin_ShouldThrowIllegalArgumentException() {
+        new AdaptivePolling(1000, 500);
+    }
+
+    @Test
+    public void record_NotModified_ShouldBackOffUpToTheMax() {
+        // Given
+        AdaptivePolling adaptivePolling = adaptivePolling(1000, 5000, 1000);
+
+        // When
+        adaptivePolling.record(ticket(0), response(304), null, 100);
+        adaptivePolling.record(ticket(0), response(304), null, 100);
+        int backedOff = adaptivePolling.getIntervalMillis();
+        adaptivePolling.record(ticket(0), response(304), null, 100);
+
+        // Then
+        assertEquals(4000, backedOff);
+        assertEquals(5000, adaptivePolling.getIntervalMillis());
+    }
+
+    @Test
+    public void record_SlowResponse_ShouldBackOff() {
+        // Given
+        AdaptivePolling adaptivePolling = adaptivePolling(1000, 8000, 1000);
+
+        // When
+        adaptivePolling.record(ticket(1000), response(200), null, 2500);
+
+        // Then
+        assertEquals(2000, adaptivePolling.getIntervalMillis());
+    }
+
+    @Test
+    public void record_Error_ShouldBackOff() {
+        // Given
+        AdaptivePolling adaptivePolling = adaptivePolling(1000, 8000, 1000);
+
+        // When
+        adaptivePolling.record(ticket(1000), null, new RequestTimeoutException() { }, 1100);
+
+        // Then
+        assertEquals(2000, adaptivePolling.getIntervalMillis());
+    }
+
+    @Test
+    public void record_ChangedData_ShouldSpeedUpDownToTheMin() {
+        // Given
+        AdaptivePolling adaptivePolling = adaptivePolling(1000, 8000, 3000);
+
+        // When
+        adaptivePolling.record(ticket(1000), response(200), null, 1100);
+        int spedUp = adaptivePolling.getIntervalMillis();
+        adaptivePolling.record(ticket(1000), response(200), null, 1100);
+
+        // Then
+        assertEquals(1500, spedUp);
+        assertEquals(1000, adaptivePolling.getIntervalMillis());
+    }
+
+    private static AdaptivePolling adaptivePolling(int minIntervalMillis, int maxIntervalMillis,
+                                                   int pollingIntervalMillis) {
+        AdaptivePolling adaptivePolling = new AdaptivePolling(minIntervalMillis, maxIntervalMillis);
+        adaptivePolling.start(pollingIntervalMillis);
+        return adaptivePolling;
+    }
+
+    private static AdaptivePolling.Ticket ticket(long startMillis) {
+        AdaptivePolling.Ticket ticket = new AdaptivePolling.Ticket();
+        ticket.startMillis = startMillis;
+        return ticket;
+    }
+
+    private static Response response(int statusCode) {
+        Response response = mock(Response.class);
+        when(response.getStatusCode()).thenReturn(statusCode);
+        return response;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests of {@link AdaptiveTimeout}.
+ */
+public class AdaptiveTimeoutJreTest {
+
+    private static final String FAST = "https://api.example.com/fast";
+    private static final String SLOW = "https://api.example.com/slow";
+
+    @Test
+    public void getTimeout_NotEnoughSamples_ShouldUseDefaultOrCeiling() {
+        // Given
+        AdaptiveTimeout adaptiveTimeout = new AdaptiveTimeout(0.99, 1.5, 50, 10000);
+        for (int i = 0; i < 10; i++) adaptiveTimeout.record(FAST, 20);
+
+        // When
+        int withDefault = adaptiveTimeout.getTimeout(FAST, 3000);
+        int withoutDefault = adaptiveTimeout.getTimeout(FAST, 0);
+
+        // Then
+        assertEquals(3000, withDefault);
+        assertEquals(10000, withoutDefault);
+    }
+
+    @Test
+    public void getTimeout_EnoughSamples_ShouldMultiplyThePercentilePerRoute() {
+        // Given
+        AdaptiveTimeout adaptiveTimeout = new AdaptiveTimeout(0.99, 1.5, 50, 10000);
+
+        // When
+        for (int i = 1; i <= 104; i++) {
+            adaptiveTimeout.record(FAST, i);
+            adaptiveTimeout.record(SLOW, i * 20);
+        }
+
+        // Then
+        assertEquals(155, adaptiveTimeout.getTimeout(FAST, 3000));
+        assertEquals(3090, adaptiveTimeout.getTimeout(SLOW, 3000));
+    }
+
+    @Test
+    public void getTimeout_EnoughSamples_ShouldRespectFloorAndCeiling() {
+        // Given
+        AdaptiveTimeout adaptiveTimeout = new AdaptiveTimeout(0.99, 2, 50, 1000);
+
+        // When
+        for (int i = 0; i < 128; i++) {
+            adaptiveTimeout.record(FAST, 5);
+            adaptiveTimeout.record(SLOW, 5000);
+        }
+
+        // Then
+        assertEquals(50, adaptiveTimeout.getTimeout(FAST, 3000));
+        assertEquals(1000, adaptiveTimeout.getTimeout(SLOW, 3000));
+    }
+}
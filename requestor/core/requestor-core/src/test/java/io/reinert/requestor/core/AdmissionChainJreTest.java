@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import io.reinert.requestor.core.uri.Uri;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests of {@link AdmissionChain}.
+ */
+public class AdmissionChainJreTest {
+
+    private static final Uri URI = Uri.create("https://api.example.com/users");
+
+    private final AsyncRunner runner = mock(AsyncRunner.class);
+    private final MutableSerializedRequest request = mock(MutableSerializedRequest.class);
+
+    @Before
+    public void setUp() {
+        when(request.getUri()).thenReturn(URI);
+    }
+
+    @Test
+    public void start_BulkheadFull_ShouldRejectWithoutTakingRateLimitToken() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(1, 0);
+        bulkhead.enter(new Bulkhead.Ticket(), noop());
+        RateLimiter rateLimiter = new RateLimiter(1, 1);
+        when(request.<Bulkhead>getValue(Bulkhead.KEY)).thenReturn(bulkhead);
+        when(request.<RateLimiter>getValue(RateLimiter.KEY)).thenReturn(rateLimiter);
+        Outcome outcome = new Outcome();
+
+        // When
+        AdmissionChain.of(request, runner).start(0, outcome);
+
+        // Then
+        assertFalse(outcome.admitted);
+        assertTrue(outcome.error instanceof BulkheadFullException);
+        assertEquals(0L, rateLimiter.reserve());
+    }
+
+    @Test
+    public void start_RateLimiterEmpty_ShouldDelayAdmissionThroughRunner() {
+        // Given
+        RateLimiter rateLimiter = new RateLimiter(1, 1);
+        rateLimiter.reserve();
+        when(request.<RateLimiter>getValue(RateLimiter.KEY)).thenReturn(rateLimiter);
+        Outcome outcome = new Outcome();
+
+        // When
+        AdmissionChain.of(request, runner).start(0, outcome);
+
+        // Then
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Long> delay = ArgumentCaptor.forClass(Long.class);
+        verify(runner).run(task.capture(), delay.capture());
+        assertTrue(delay.getValue() > 900);
+        assertFalse(outcome.admitted);
+
+        task.getValue().run();
+        assertTrue(outcome.admitted);
+        assertNull(outcome.error);
+    }
+
+    @Test
+    public void onSettled_ShouldReleasePermitsAndAdmitNextQueuedRequest() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+        OriginLimiter originLimiter = new OriginLimiter(1);
+        when(request.<Bulkhead>getValue(Bulkhead.KEY)).thenReturn(bulkhead);
+        when(request.<OriginLimiter>getValue(OriginLimiter.KEY)).thenReturn(originLimiter);
+
+        AdmissionChain first = AdmissionChain.of(request, runner);
+        Outcome firstOutcome = new Outcome();
+        first.start(0, firstOutcome);
+        Outcome secondOutcome = new Outcome();
+        AdmissionChain.of(request, runner).start(0, secondOutcome);
+
+        // When
+        first.onSettled(null, null);
+
+        // Then
+        assertTrue(firstOutcome.admitted);
+        assertTrue(secondOutcome.admitted);
+        assertEquals(1, bulkhead.getActiveCount());
+        assertEquals(0, bulkhead.getQueueLength());
+        assertEquals(1, originLimiter.getActiveCount("https://api.example.com"));
+    }
+
+    @Test
+    public void start_SessionRateLimiters_ShouldApplyOnlyMatchingPrefixes() {
+        // Given
+        Session session = new Session(runner, mock(RequestDispatcher.Factory.class));
+        RateLimiter matching = new RateLimiter(1, 1);
+        RateLimiter other = new RateLimiter(1, 1);
+        session.setRateLimiter("https://api.example.com/", matching);
+        session.setRateLimiter("https://cdn.example.com/", other);
+        when(request.<Map<String, RateLimiter>>getValue(RateLimiter.PREFIXES_KEY))
+                .thenReturn(session.<Map<String, RateLimiter>>getValue(RateLimiter.PREFIXES_KEY));
+        Outcome outcome = new Outcome();
+
+        // When
+        AdmissionChain.of(request, runner).start(0, outcome);
+
+        // Then
+        assertTrue(outcome.admitted);
+        assertTrue(matching.reserve() > 0);
+        assertEquals(0L, other.reserve());
+        assertSame(matching, session.getRateLimiter("https://api.example.com/"));
+    }
+
+    @Test
+    public void onSend_Retried_ShouldSampleEachAttemptFromItsOwnSend() {
+        // Given
+        final List<Long> samples = new ArrayList<Long>();
+        OriginLimiter originLimiter = new OriginLimiter(new ConcurrencyLimit.Provider() {
+            public ConcurrencyLimit getInstance() {
+                return new ConcurrencyLimit() {
+                    public int getLimit() {
+                        return 1;
+                    }
+
+                    public void onSample(long rttMillis, int inFlight, boolean dropped) {
+                        samples.add(rttMillis);
+                    }
+                };
+            }
+        });
+        when(request.<OriginLimiter>getValue(OriginLimiter.KEY)).thenReturn(originLimiter);
+        AdmissionChain chain = AdmissionChain.of(request, runner);
+        chain.start(0, new Outcome());
+        final long[] now = {1000};
+        Clock.setCurrent(new Clock() {
+            public long currentTimeMillis() {
+                return now[0];
+            }
+        });
+
+        try {
+            // When
+            chain.onSend();
+            now[0] += 100;
+            chain.onError(mock(RequestTimeoutException.class));
+            now[0] += 5000;
+            chain.onSend();
+            now[0] += 30;
+            chain.onResponse(mock(Response.class));
+            now[0] += 2000;
+            chain.onSettled(null, null);
+        } finally {
+            Clock.setCurrent(null);
+        }
+
+        // Then
+        assertEquals(Arrays.asList(100L, 30L), samples);
+        assertEquals(0, originLimiter.getActiveCount("https://api.example.com"));
+    }
+
+    @Test
+    public void onSend_RetryAfterCircuitOpened_ShouldRejectTheAttempt() {
+        // Given
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, 1, 1000);
+        when(request.<CircuitBreaker>getValue(CircuitBreaker.KEY)).thenReturn(circuitBreaker);
+        AdmissionChain chain = AdmissionChain.of(request, runner);
+        Outcome outcome = new Outcome();
+        chain.start(0, outcome);
+        assertNull(chain.onSend());
+
+        // When
+        chain.onError(new RequestTimeoutException() { });
+        RequestException retryError = chain.onSend();
+
+        // Then
+        assertTrue(outcome.admitted);
+        assertTrue(retryError instanceof CircuitOpenException);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState(URI));
+    }
+
+    @Test
+    public void onSend_RetryWhileCircuitClosed_ShouldRecordEachAttempt() {
+        // Given
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, 2, 1000);
+        when(request.<CircuitBreaker>getValue(CircuitBreaker.KEY)).thenReturn(circuitBreaker);
+        AdmissionChain chain = AdmissionChain.of(request, runner);
+        chain.start(0, new Outcome());
+        chain.onSend();
+        chain.onError(new RequestTimeoutException() { });
+
+        // When
+        RequestException retryError = chain.onSend();
+        chain.onError(new RequestTimeoutException() { });
+
+        // Then
+        assertNull(retryError);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState(URI));
+    }
+
+    @Test
+    public void start_WithDelay_ShouldEnterStepsAfterDelay() {
+        // Given
+        RateLimiter rateLimiter = new RateLimiter(1, 1);
+        when(request.<RateLimiter>getValue(RateLimiter.KEY)).thenReturn(rateLimiter);
+        Outcome outcome = new Outcome();
+
+        // When
+        AdmissionChain.of(request, runner).start(500, outcome);
+
+        // Then
+        verify(runner).run(any(Runnable.class), anyLong());
+        assertFalse(outcome.admitted);
+        assertEquals(0L, rateLimiter.reserve());
+    }
+
+    private static Runnable noop() {
+        return new Runnable() {
+            public void run() { }
+        };
+    }
+
+    private static class Outcome implements AdmissionChain.Callback {
+        boolean admitted;
+        RequestException error;
+
+        public void admit() {
+            admitted = true;
+        }
+
+        public void reject(RequestException e) {
+            error = e;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests of {@link BackoffRetryPolicy}.
+ */
+public class BackoffRetryPolicyJreTest {
+
+    @Test
+    public void retryIn_NoJitter_ShouldDoubleDelaysUntilCap() {
+        // Given
+        BackoffRetryPolicy policy = new BackoffRetryPolicy(BackoffRetryPolicy.Jitter.NONE, 100, 500, 5,
+                RequestRetrier.DEFAULT_MAX_RETRY_AFTER_MILLIS, new Random(1), RequestEvent.TIMEOUT);
+
+        // When
+        int first = policy.retryIn(timeoutAttempt(0));
+        int second = policy.retryIn(timeoutAttempt(1));
+        int third = policy.retryIn(timeoutAttempt(2));
+        int fourth = policy.retryIn(timeoutAttempt(3));
+
+        // Then
+        assertEquals(100, first);
+        assertEquals(200, second);
+        assertEquals(400, third);
+        assertEquals(500, fourth);
+    }
+
+    @Test
+    public void retryIn_MaxRetriesReached_ShouldNotRetry() {
+        // Given
+        BackoffRetryPolicy policy = new BackoffRetryPolicy(BackoffRetryPolicy.Jitter.FULL, 100, 500, 2,
+                RequestRetrier.DEFAULT_MAX_RETRY_AFTER_MILLIS, new Random(1), RequestEvent.TIMEOUT);
+
+        // When
+        int delay = policy.retryIn(timeoutAttempt(2));
+
+        // Then
+        assertEquals(-1, delay);
+    }
+
+    @Test
+    public void retryIn_EventNotMatched_ShouldNotRetry() {
+        // Given
+        BackoffRetryPolicy policy = new BackoffRetryPolicy(BackoffRetryPolicy.Jitter.FULL, 100, 500, 2,
+                RequestRetrier.DEFAULT_MAX_RETRY_AFTER_MILLIS, new Random(1), RequestEvent.CANCEL);
+
+        // When
+        int delay = policy.retryIn(timeoutAttempt(0));
+
+        // Then
+        assertEquals(-1, delay);
+    }
+
+    @Test
+    public void retryIn_FullJitter_ShouldStayWithinExponentialBound() {
+        // Given
+        BackoffRetryPolicy policy = new BackoffRetryPolicy(BackoffRetryPolicy.Jitter.FULL, 100, 1000, 100,
+                RequestRetrier.DEFAULT_MAX_RETRY_AFTER_MILLIS, new Random(7), RequestEvent.TIMEOUT);
+
+        for (int retry = 0; retry < 20; retry++) {
+            // When
+            int delay = policy.retryIn(timeoutAttempt(retry));
+
+            // Then
+            assertTrue(delay >= 1);
+            assertTrue(delay <= Math.min(1000, 100 * Math.pow(2, retry)));
+        }
+    }
+
+    @Test
+    public void retryIn_DecorrelatedJitter_ShouldStayBetweenBaseAndThriceThePreviousDelay() {
+        // Given
+        BackoffRetryPolicy policy = new BackoffRetryPolicy(BackoffRetryPolicy.Jitter.DECORRELATED, 100, 5000, 100,
+                RequestRetrier.DEFAULT_MAX_RETRY_AFTER_MILLIS, new Random(7), RequestEvent.TIMEOUT);
+        int previous = 100;
+
+        for (int retry = 0; retry < 20; retry++) {
+            // When
+            int delay = policy.retryIn(timeoutAttempt(retry));
+
+            // Then
+            assertTrue(delay >= 100);
+            assertTrue(delay <= Math.min(5000, previous * 3));
+            previous = delay;
+        }
+    }
+
+    private static RequestAttempt timeoutAttempt(int retryCount) {
+        return new RequestAttempt(null, retryCount, new RequestTimeoutException() { });
+    }
+}
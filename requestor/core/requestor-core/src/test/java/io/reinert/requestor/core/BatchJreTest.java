@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.reinert.requestor.core.callback.ExceptionCallback;
+import io.reinert.requestor.core.callback.ResponseCallback;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests of {@link Batch}.
+ */
+public class BatchJreTest {
+
+    private final List<FakeCall> started = new ArrayList<FakeCall>();
+    private final List<Runnable> scheduled = new ArrayList<Runnable>();
+    private Batch.Result result;
+
+    @Test
+    public void dispatch_MoreCallsThanWindow_ShouldStartUpToMaxConcurrentCalls() {
+        // Given
+        Batch batch = newBatch(2, 3);
+
+        // When
+        batch.dispatch(callback());
+
+        // Then
+        assertEquals(2, started.size());
+    }
+
+    @Test
+    public void dispatch_CallSettled_ShouldStartNextCall() {
+        // Given
+        Batch batch = newBatch(2, 3);
+        batch.dispatch(callback());
+
+        // When
+        started.get(0).respond(200);
+
+        // Then
+        assertEquals(3, started.size());
+        assertNull(result);
+    }
+
+    @Test
+    public void dispatch_AllCallsSettled_ShouldCompleteWithItemsInOrder() {
+        // Given
+        Batch batch = newBatch(2, 3);
+        batch.dispatch(callback());
+
+        // When
+        started.get(1).respond(500);
+        started.get(0).respond(200);
+        started.get(2).error();
+
+        // Then
+        assertTrue(result.isComplete());
+        assertFalse(result.isSuccessful());
+        assertEquals(1, result.getSuccessCount());
+        assertEquals(Batch.Outcome.SUCCESS, result.getItems().get(0).getOutcome());
+        assertEquals(Batch.Outcome.FAIL, result.getItems().get(1).getOutcome());
+        assertEquals(Batch.Outcome.ERROR, result.getItems().get(2).getOutcome());
+    }
+
+    @Test
+    public void dispatch_FailFastAndCallFailed_ShouldFinishSkippingRemainingCalls() {
+        // Given
+        Batch batch = newBatch(2, 4).failFast();
+        batch.dispatch(callback());
+
+        // When
+        started.get(0).respond(503);
+
+        // Then
+        assertEquals(2, started.size());
+        assertFalse(result.isComplete());
+        assertEquals(Batch.Outcome.FAIL, result.getItems().get(0).getOutcome());
+        assertEquals(Batch.Outcome.CANCELLED, result.getItems().get(1).getOutcome());
+        assertEquals(Batch.Outcome.SKIPPED, result.getItems().get(2).getOutcome());
+        assertEquals(Batch.Outcome.SKIPPED, result.getItems().get(3).getOutcome());
+    }
+
+    @Test
+    public void dispatch_DeadlineExpired_ShouldFinishWithPartialResults() {
+        // Given
+        Batch batch = newBatch(1, 2).deadline(1000);
+        batch.dispatch(callback());
+        started.get(0).respond(200);
+
+        // When
+        scheduled.get(0).run();
+
+        // Then
+        assertFalse(result.isComplete());
+        assertEquals(Batch.Outcome.SUCCESS, result.getItems().get(0).getOutcome());
+        assertEquals(Batch.Outcome.CANCELLED, result.getItems().get(1).getOutcome());
+    }
+
+    @Test
+    public void dispatch_CallSettledAfterFinished_ShouldBeIgnored() {
+        // Given
+        Batch batch = newBatch(1, 1).deadline(1000);
+        batch.dispatch(callback());
+        scheduled.get(0).run();
+
+        // When
+        started.get(0).respond(200);
+
+        // Then
+        assertEquals(0, result.getSuccessCount());
+        assertEquals(Batch.Outcome.CANCELLED, result.getItems().get(0).getOutcome());
+    }
+
+    @Test
+    public void dispatch_NoCalls_ShouldCompleteImmediately() {
+        // Given
+        Batch batch = newBatch(1, 0);
+
+        // When
+        batch.dispatch(callback());
+
+        // Then
+        assertTrue(result.isComplete());
+        assertTrue(result.isSuccessful());
+    }
+
+    @Test
+    public void dispatch_CallThrows_ShouldErrorWithTheFailureAsCause() {
+        // Given
+        final IllegalArgumentException failure = new IllegalArgumentException("Bad uri");
+        Batch batch = newBatch(1, 1);
+        batch.add(new Batch.Call<Object>() {
+            public Request<Object> call() {
+                throw failure;
+            }
+        });
+
+        // When
+        batch.dispatch(callback());
+        started.get(0).respond(200);
+
+        // Then
+        final Batch.Item<Object> item = result.getItem(1);
+        assertEquals(Batch.Outcome.ERROR, item.getOutcome());
+        assertTrue(item.getError() instanceof BatchCallException);
+        assertEquals(1, ((BatchCallException) item.getError()).getIndex());
+        assertSame(failure, item.getError().getCause());
+    }
+
+    private Batch newBatch(int maxConcurrentCalls, int size) {
+        final Batch batch = new Batch(new AsyncRunner() {
+            public void run(Runnable runnable, long delayMillis) {
+                scheduled.add(runnable);
+            }
+
+            public void sleep(long millis) {
+            }
+
+            public void shutdown() {
+            }
+
+            public boolean isShutdown() {
+                return false;
+            }
+
+            public Lock getLock() {
+                return null;
+            }
+        }, maxConcurrentCalls);
+
+        for (int i = 0; i < size; i++) {
+            batch.add(new Batch.Call<Object>() {
+                public Request<Object> call() {
+                    final FakeCall call = new FakeCall();
+                    started.add(call);
+                    return call.request;
+                }
+            });
+        }
+
+        return batch;
+    }
+
+    private Batch.Callback callback() {
+        return new Batch.Callback() {
+            public void execute(Batch.Result result) {
+                BatchJreTest.this.result = result;
+            }
+        };
+    }
+
+    /**
+     * Mocks a request whose registered callbacks are captured so the test can settle it.
+     */
+    private static class FakeCall {
+        @SuppressWarnings("unchecked")
+        private final Request<Object> request = mock(Request.class, RETURNS_SELF);
+
+        void respond(int statusCode) {
+            final Response response = mock(Response.class);
+            when(response.getStatus()).thenReturn(Status.of(statusCode));
+            final ArgumentCaptor<ResponseCallback> callback = ArgumentCaptor.forClass(ResponseCallback.class);
+            verify(request).onLoad(callback.capture());
+            try {
+                callback.getValue().execute(response);
+            } catch (Throwable e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        void error() {
+            final ArgumentCaptor<ExceptionCallback> callback = ArgumentCaptor.forClass(ExceptionCallback.class);
+            verify(request).onError(callback.capture());
+            try {
+                callback.getValue().execute(new RequestCancelException() { });
+            } catch (Throwable e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
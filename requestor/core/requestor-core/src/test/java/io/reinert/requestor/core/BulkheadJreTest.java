@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests of {@link Bulkhead}.
+ */
+public class BulkheadJreTest {
+
+    private final List<String> executed = new ArrayList<String>();
+
+    @Test
+    public void enter_FreePermit_ShouldRunTaskImmediately() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+
+        // When
+        boolean admitted = bulkhead.enter(new Bulkhead.Ticket(), task("a"));
+
+        // Then
+        assertTrue(admitted);
+        assertEquals(1, executed.size());
+        assertEquals(1, bulkhead.getActiveCount());
+        assertEquals(0, bulkhead.getQueueLength());
+    }
+
+    @Test
+    public void enter_NoFreePermit_ShouldEnqueueTask() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+        bulkhead.enter(new Bulkhead.Ticket(), task("a"));
+
+        // When
+        boolean admitted = bulkhead.enter(new Bulkhead.Ticket(), task("b"));
+
+        // Then
+        assertTrue(admitted);
+        assertEquals(1, executed.size());
+        assertEquals(1, bulkhead.getActiveCount());
+        assertEquals(1, bulkhead.getQueueLength());
+    }
+
+    @Test
+    public void enter_FullQueue_ShouldRejectTask() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+        bulkhead.enter(new Bulkhead.Ticket(), task("a"));
+        bulkhead.enter(new Bulkhead.Ticket(), task("b"));
+
+        // When
+        boolean admitted = bulkhead.enter(new Bulkhead.Ticket(), task("c"));
+
+        // Then
+        assertFalse(admitted);
+        assertEquals(1, executed.size());
+        assertEquals(1, bulkhead.getQueueLength());
+        assertEquals(1L, bulkhead.getRejectedCount());
+    }
+
+    @Test
+    public void release_ActiveTicket_ShouldRunNextQueuedTask() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+        Bulkhead.Ticket first = new Bulkhead.Ticket();
+        bulkhead.enter(first, task("a"));
+        bulkhead.enter(new Bulkhead.Ticket(), task("b"));
+
+        // When
+        bulkhead.release(first);
+
+        // Then
+        assertEquals(2, executed.size());
+        assertEquals("b", executed.get(1));
+        assertEquals(1, bulkhead.getActiveCount());
+        assertEquals(0, bulkhead.getQueueLength());
+    }
+
+    @Test
+    public void release_QueuedTicket_ShouldRemoveItWithoutFreeingPermit() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+        Bulkhead.Ticket first = new Bulkhead.Ticket();
+        Bulkhead.Ticket second = new Bulkhead.Ticket();
+        bulkhead.enter(first, task("a"));
+        bulkhead.enter(second, task("b"));
+
+        // When
+        bulkhead.release(second);
+        bulkhead.release(first);
+
+        // Then
+        assertEquals(1, executed.size());
+        assertEquals(0, bulkhead.getActiveCount());
+        assertEquals(0, bulkhead.getQueueLength());
+    }
+
+    @Test
+    public void release_SameTicketTwice_ShouldReleaseOnce() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(2, 0);
+        Bulkhead.Ticket first = new Bulkhead.Ticket();
+        bulkhead.enter(first, task("a"));
+        bulkhead.enter(new Bulkhead.Ticket(), task("b"));
+
+        // When
+        bulkhead.release(first);
+        bulkhead.release(first);
+
+        // Then
+        assertEquals(1, bulkhead.getActiveCount());
+    }
+
+    private Runnable task(final String name) {
+        return new Runnable() {
+            public void run() {
+                executed.add(name);
+            }
+        };
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests of {@link CircuitBreaker}.
+ */
+public class CircuitBreakerJreTest {
+
+    private static final String ORIGIN = "https://api.example.com";
+    private static final long NOW = 1000000L;
+
+    @Test
+    public void release_FailureRateReached_ShouldOpenAndRejectPromptly() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(0.5, 4, 1000);
+        call(breaker, NOW, response(200));
+        call(breaker, NOW, response(200));
+        call(breaker, NOW, timeout());
+
+        // When
+        call(breaker, NOW, response(503));
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState(ORIGIN, NOW));
+        assertFalse(breaker.tryAcquire(new CircuitBreaker.Ticket(), ORIGIN, NOW + 999));
+        assertTrue(breaker.tryAcquire(new CircuitBreaker.Ticket(), "https://cdn.example.com", NOW));
+    }
+
+    @Test
+    public void release_ClientErrorsAndAborts_ShouldNotCountAsFailures() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(0.5, 2, 1000);
+
+        // When
+        call(breaker, NOW, response(404));
+        call(breaker, NOW, abort());
+        call(breaker, NOW, abort());
+        call(breaker, NOW, response(400));
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(ORIGIN, NOW));
+    }
+
+    @Test
+    public void tryAcquire_OpenDurationElapsed_ShouldLetOnlyTheProbesThrough() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(1, 1, 1000).halfOpenProbes(1);
+        call(breaker, NOW, timeout());
+
+        // When
+        CircuitBreaker.Ticket probe = new CircuitBreaker.Ticket();
+        boolean probeAdmitted = breaker.tryAcquire(probe, ORIGIN, NOW + 1000);
+        boolean otherAdmitted = breaker.tryAcquire(new CircuitBreaker.Ticket(), ORIGIN, NOW + 1000);
+
+        // Then
+        assertTrue(probeAdmitted);
+        assertFalse(otherAdmitted);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState(ORIGIN, NOW + 1000));
+    }
+
+    @Test
+    public void release_ProbeSucceeds_ShouldClose() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(1, 1, 1000);
+        call(breaker, NOW, timeout());
+
+        // When
+        call(breaker, NOW + 1000, response(200));
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(ORIGIN, NOW + 1000));
+    }
+
+    @Test
+    public void release_ProbeFails_ShouldOpenAgain() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(1, 1, 1000);
+        call(breaker, NOW, timeout());
+
+        // When
+        call(breaker, NOW + 1000, response(500));
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState(ORIGIN, NOW + 1999));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState(ORIGIN, NOW + 2000));
+    }
+
+    @Test
+    public void release_SlowCallRateReached_ShouldOpen() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(1, 2, 1000).slowCalls(500, 1);
+        CircuitBreaker.Ticket first = new CircuitBreaker.Ticket();
+        breaker.tryAcquire(first, ORIGIN, NOW);
+        CircuitBreaker.Ticket second = new CircuitBreaker.Ticket();
+        breaker.tryAcquire(second, ORIGIN, NOW);
+
+        // When
+        breaker.release(first, response(200), null, NOW + 600);
+        breaker.release(second, response(200), null, NOW + 700);
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState(ORIGIN, NOW + 700));
+    }
+
+    @Test
+    public void release_OldFailuresLeaveTheWindow_ShouldStayClosed() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(0.75, 4, 1000);
+        call(breaker, NOW, timeout());
+        call(breaker, NOW, timeout());
+        call(breaker, NOW, response(200));
+        call(breaker, NOW, response(200));
+
+        // When
+        call(breaker, NOW, timeout());
+        call(breaker, NOW, response(200));
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(ORIGIN, NOW));
+    }
+
+    @Test
+    public void tryAcquire_ManyRoutes_ShouldKeepOnlyTheMostRecentCircuits() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(1, 1, 1000);
+        call(breaker, NOW, timeout());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState(ORIGIN, NOW));
+
+        // When
+        for (int i = 0; i < 256; i++) {
+            breaker.tryAcquire(new CircuitBreaker.Ticket(), ORIGIN + "/" + i, NOW);
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(ORIGIN, NOW));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(ORIGIN + "/255", NOW));
+    }
+
+    private static void call(CircuitBreaker breaker, long nowMillis, Object outcome) {
+        final CircuitBreaker.Ticket ticket = new CircuitBreaker.Ticket();
+        assertTrue(breaker.tryAcquire(ticket, ORIGIN, nowMillis));
+        if (outcome instanceof Response) {
+            breaker.release(ticket, (Response) outcome, null, nowMillis);
+        } else {
+            breaker.release(ticket, null, (RequestException) outcome, nowMillis);
+        }
+    }
+
+    private static RequestException timeout() {
+        return new RequestTimeoutException() { };
+    }
+
+    private static RequestException abort() {
+        return new RequestAbortException() { };
+    }
+
+    private static Response response(int statusCode) {
+        final Response response = mock(Response.class);
+        when(response.getStatus()).thenReturn(Status.of(statusCode));
+        return response;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests of {@link AimdLimit} and {@link GradientLimit}.
+ */
+public class ConcurrencyLimitJreTest {
+
+    @Test
+    public void aimdLimit_SuccessfulSamplesWithLimitInUse_ShouldIncreaseAdditively() {
+        // Given
+        AimdLimit limit = new AimdLimit(10, 1, 100);
+
+        // When
+        limit.onSample(10, 10, false);
+        limit.onSample(10, 10, false);
+
+        // Then
+        assertEquals(12, limit.getLimit());
+    }
+
+    @Test
+    public void aimdLimit_SuccessfulSamplesWithLimitNotInUse_ShouldKeepLimit() {
+        // Given
+        AimdLimit limit = new AimdLimit(10, 1, 100);
+
+        // When
+        limit.onSample(10, 1, false);
+
+        // Then
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    public void aimdLimit_DroppedSample_ShouldDecreaseMultiplicatively() {
+        // Given
+        AimdLimit limit = new AimdLimit(10, 1, 100, 0.5, 1000);
+
+        // When
+        limit.onSample(10, 10, true);
+
+        // Then
+        assertEquals(5, limit.getLimit());
+    }
+
+    @Test
+    public void aimdLimit_SlowSample_ShouldDecreaseButNotBelowMinLimit() {
+        // Given
+        AimdLimit limit = new AimdLimit(2, 2, 100, 0.5, 1000);
+
+        // When
+        limit.onSample(2000, 2, false);
+
+        // Then
+        assertEquals(2, limit.getLimit());
+    }
+
+    @Test
+    public void gradientLimit_SteadyLatency_ShouldIncreaseLimit() {
+        // Given
+        GradientLimit limit = new GradientLimit(10, 1, 100);
+
+        // When
+        for (int i = 0; i < 10; i++) limit.onSample(50, limit.getLimit(), false);
+
+        // Then
+        assertTrue(limit.getLimit() > 10);
+    }
+
+    @Test
+    public void gradientLimit_IncreasingLatency_ShouldDecreaseLimit() {
+        // Given
+        GradientLimit limit = new GradientLimit(50, 1, 100);
+        for (int i = 0; i < 10; i++) limit.onSample(50, 50, false);
+        int steadyLimit = limit.getLimit();
+
+        // When
+        for (int i = 0; i < 10; i++) limit.onSample(500, 50, false);
+
+        // Then
+        assertTrue(limit.getLimit() < steadyLimit);
+    }
+
+    @Test
+    public void gradientLimit_DroppedSamples_ShouldDecreaseLimit() {
+        // Given
+        GradientLimit limit = new GradientLimit(20, 1, 100);
+
+        // When
+        for (int i = 0; i < 5; i++) limit.onSample(50, 20, true);
+
+        // Then
+        assertTrue(limit.getLimit() < 20);
+    }
+}
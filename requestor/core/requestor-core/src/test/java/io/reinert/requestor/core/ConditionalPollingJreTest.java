@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.reinert.requestor.core.payload.TextSerializedPayload;
+import io.reinert.requestor.core.payload.type.PayloadType;
+import io.reinert.requestor.core.payload.type.SinglePayloadType;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests of {@link ConditionalPolling}.
+ */
+public class ConditionalPollingJreTest {
+
+    @Test
+    public void apply_AfterSuccessfulResponse_ShouldSendBothValidators() {
+        // Given
+        ConditionalPolling conditionalPolling = new ConditionalPolling();
+        conditionalPolling.record(response(200, "\"v1\"", "Sun, 06 Nov 1994 08:49:37 GMT"));
+        FakeRequest request = new FakeRequest(true);
+
+        // When
+        conditionalPolling.apply(request.proxy);
+
+        // Then
+        assertEquals("\"v1\"", request.headers.get("If-None-Match"));
+        assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", request.headers.get("If-Modified-Since"));
+    }
+
+    @Test
+    public void record_NotModifiedWithNewETag_ShouldUpdateOnlyTheETag() {
+        // Given
+        ConditionalPolling conditionalPolling = new ConditionalPolling();
+        conditionalPolling.record(response(200, "\"v1\"", "Sun, 06 Nov 1994 08:49:37 GMT"));
+
+        // When
+        conditionalPolling.record(response(304, "\"v2\"", null));
+
+        // Then
+        assertEquals("\"v2\"", conditionalPolling.getETag());
+        assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", conditionalPolling.getLastModified());
+    }
+
+    @Test
+    public void record_ErrorResponse_ShouldKeepTheValidators() {
+        // Given
+        ConditionalPolling conditionalPolling = new ConditionalPolling();
+        conditionalPolling.record(response(200, "\"v1\"", null));
+
+        // When
+        conditionalPolling.record(response(503, null, null));
+
+        // Then
+        assertEquals("\"v1\"", conditionalPolling.getETag());
+    }
+
+    @Test
+    public void record_SuccessfulResponseWithoutValidators_ShouldClearThem() {
+        // Given
+        ConditionalPolling conditionalPolling = new ConditionalPolling();
+        conditionalPolling.record(response(200, "\"v1\"", null));
+        FakeRequest request = new FakeRequest(true);
+
+        // When
+        conditionalPolling.record(response(200, null, null));
+        conditionalPolling.apply(request.proxy);
+
+        // Then
+        assertNull(conditionalPolling.getETag());
+        assertNull(request.headers.get("If-None-Match"));
+    }
+
+    @Test
+    public void isUnchanged_IdenticalBody_ShouldReportItAndKeepTheStatus() {
+        // Given
+        ConditionalPolling conditionalPolling = new ConditionalPolling();
+        RawResponse first = rawResponse(new SinglePayloadType<String>(String.class), 200, "same");
+        RawResponse second = rawResponse(new SinglePayloadType<String>(String.class), 200, "same");
+
+        // When
+        boolean firstUnchanged = conditionalPolling.isUnchanged(first);
+        boolean secondUnchanged = conditionalPolling.isUnchanged(second);
+
+        // Then
+        assertFalse(firstUnchanged);
+        assertTrue(secondUnchanged);
+        assertEquals(200, second.getStatusCode());
+        assertEquals(1L, conditionalPolling.getUnchangedCount());
+    }
+
+    @Test
+    public void isUnchanged_DifferentBody_ShouldReportAChange() {
+        // Given
+        ConditionalPolling conditionalPolling = new ConditionalPolling();
+        conditionalPolling.isUnchanged(rawResponse(new SinglePayloadType<String>(String.class), 200, "v1"));
+        RawResponse changed = rawResponse(new SinglePayloadType<String>(String.class), 200, "v2");
+
+        // When
+        boolean unchanged = conditionalPolling.isUnchanged(changed);
+
+        // Then
+        assertFalse(unchanged);
+        assertEquals(0L, conditionalPolling.getUnchangedCount());
+    }
+
+    @Test
+    public void isUnchanged_VoidPayloadType_ShouldNotCompareTheBodies() {
+        // Given
+        ConditionalPolling conditionalPolling = new ConditionalPolling();
+        conditionalPolling.isUnchanged(rawResponse(new SinglePayloadType<Void>(Void.class), 200, ""));
+        RawResponse second = rawResponse(new SinglePayloadType<Void>(Void.class), 200, "");
+
+        // When
+        boolean unchanged = conditionalPolling.isUnchanged(second);
+
+        // Then
+        assertFalse(unchanged);
+    }
+
+    @Test
+    public void isUnchanged_BodyStreamedToAPublisher_ShouldNotCompareTheBodies() {
+        // Given
+        ConditionalPolling conditionalPolling = new ConditionalPolling();
+        Request<?> request = mock(Request.class);
+        when(request.exists(RequestDispatcher.STREAMED_BODY_KEY)).thenReturn(true);
+        RawResponse first = rawResponse(request, new SinglePayloadType<String>(String.class), 200, "");
+        RawResponse second = rawResponse(request, new SinglePayloadType<String>(String.class), 200, "");
+
+        // When
+        conditionalPolling.isUnchanged(first);
+        boolean unchanged = conditionalPolling.isUnchanged(second);
+
+        // Then
+        assertFalse(unchanged);
+        assertEquals(0L, conditionalPolling.getUnchangedCount());
+    }
+
+    @Test
+    public void isUnchanged_NotModifiedByTheServer_ShouldCountIt() {
+        // Given
+        ConditionalPolling conditionalPolling = new ConditionalPolling();
+
+        // When
+        boolean unchanged = conditionalPolling.isUnchanged(
+                rawResponse(new SinglePayloadType<String>(String.class), 304, ""));
+
+        // Then
+        assertFalse(unchanged);
+        assertEquals(1L, conditionalPolling.getNotModifiedCount());
+        assertEquals(0L, conditionalPolling.getUnchangedCount());
+    }
+
+    @Test
+    public void of_ShouldShareTheStateOnlyWhenEnabled() {
+        // Given
+        FakeRequest enabled = new FakeRequest(true);
+        FakeRequest disabled = new FakeRequest(false);
+
+        // When
+        ConditionalPolling first = ConditionalPolling.of(enabled.proxy);
+        ConditionalPolling second = ConditionalPolling.of(enabled.proxy);
+
+        // Then
+        assertNotNull(first);
+        assertSame(first, second);
+        assertNull(ConditionalPolling.of(disabled.proxy));
+    }
+
+    private static Response response(int statusCode, String etag, String lastModified) {
+        final Response response = mock(Response.class);
+        when(response.getStatusCode()).thenReturn(statusCode);
+        when(response.getHeader("ETag")).thenReturn(etag);
+        when(response.getHeader("Last-Modified")).thenReturn(lastModified);
+        return response;
+    }
+
+    private static RawResponse rawResponse(PayloadType payloadType, int statusCode, String body) {
+        return rawResponse(mock(Request.class), payloadType, statusCode, body);
+    }
+
+    private static RawResponse rawResponse(Request<?> request, PayloadType payloadType, int statusCode,
+                                           String body) {
+        final Deferred<?> deferred = mock(Deferred.class);
+        doReturn(request).when(deferred).getRequest();
+        final RawResponse response = new RawResponse(deferred, Status.of(statusCode), new Headers(), payloadType);
+        response.setSerializedPayload(new TextSerializedPayload(body));
+        return response;
+    }
+
+    private static class FakeRequest {
+        private final Map<String, String> headers = new HashMap<String, String>();
+        private final Map<String, Object> store = new HashMap<String, Object>();
+        private final MutableSerializedRequest proxy = mock(MutableSerializedRequest.class);
+
+        FakeRequest(boolean enabled) {
+            if (enabled) store.put(ConditionalPolling.KEY, Boolean.TRUE);
+
+            doAnswer(new Answer<Void>() {
+                public Void answer(InvocationOnMock invocation) {
+                    headers.put(invocation.<String>getArgument(0), invocation.<String>getArgument(1));
+                    return null;
+                }
+            }).when(proxy).setHeader(anyString(), anyString());
+
+            doAnswer(new Answer<Void>() {
+                public Void answer(InvocationOnMock invocation) {
+                    store.put(invocation.<String>getArgument(0), invocation.getArgument(1));
+                    return null;
+                }
+            }).when(proxy).save(anyString(), any());
+            when(proxy.getValue(anyString())).thenAnswer(new Answer<Object>() {
+                public Object answer(InvocationOnMock invocation) {
+                    return store.get(invocation.<String>getArgument(0));
+                }
+            });
+            when(proxy.exists(anyString())).thenAnswer(new Answer<Boolean>() {
+                public Boolean answer(InvocationOnMock invocation) {
+                    return store.containsKey(invocation.<String>getArgument(0));
+                }
+            });
+            when(proxy.exists(anyString(), any())).thenAnswer(new Answer<Boolean>() {
+                public Boolean answer(InvocationOnMock invocation) {
+                    return invocation.getArgument(1).equals(store.get(invocation.<String>getArgument(0)));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests of {@link DeferredFuture}.
+ */
+public class DeferredFutureJreTest {
+
+    @Test
+    public void get_AlreadyReady_ShouldReturnWithoutAllocatingLock() throws Exception {
+        // Given
+        FakeDeferred deferred = new FakeDeferred();
+        TestFuture future = new TestFuture(deferred);
+        future.ready = true;
+
+        // When
+        String result = future.get();
+
+        // Then
+        assertEquals("result", result);
+        assertEquals(0, deferred.lockAllocations);
+    }
+
+    @Test(timeout = 2000)
+    public void get_ReadyAfterSignal_ShouldWakeUpAndReturn() throws Exception {
+        // Given
+        final FakeDeferred deferred = new FakeDeferred();
+        final TestFuture future = new TestFuture(deferred);
+
+        // When
+        new Thread(new Runnable() {
+            public void run() {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                future.ready = true;
+                deferred.signalStateChange();
+            }
+        }).start();
+        String result = future.get();
+
+        // Then
+        assertEquals("result", result);
+        assertEquals(1, deferred.lockAllocations);
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void get_NeverReady_ShouldTimeout() throws Exception {
+        // Given
+        TestFuture future = new TestFuture(new FakeDeferred());
+
+        // When
+        future.get(50, TimeUnit.MILLISECONDS);
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void get_Rejected_ShouldThrowExecutionException() throws Exception {
+        // Given
+        FakeDeferred deferred = new FakeDeferred();
+        deferred.rejected = true;
+
+        // When
+        new TestFuture(deferred).get();
+    }
+
+    @Test
+    public void cancel_NotDone_ShouldCancel() {
+        // Given
+        TestFuture future = new TestFuture(new FakeDeferred());
+
+        // When
+        boolean cancelled = future.cancel(true);
+
+        // Then
+        assertTrue(cancelled);
+        assertTrue(future.isCancelled());
+        assertTrue(future.isDone());
+        assertFalse(future.cancel(true));
+    }
+
+    private static class TestFuture extends DeferredFuture<String> {
+        volatile boolean ready;
+
+        TestFuture(Deferred<?> deferred) {
+            super(deferred);
+        }
+
+        protected boolean isReady() {
+            return ready;
+        }
+
+        protected String getResult() {
+            return "result";
+        }
+    }
+
+    private static class MonitorLock implements AsyncRunner.Lock {
+        private volatile boolean awaiting;
+
+        public synchronized void await(long timeout) throws InterruptedException {
+            awaiting = true;
+            wait(timeout);
+        }
+
+        public boolean isAwaiting() {
+            return awaiting;
+        }
+
+        public synchronized void signalAll() {
+            notifyAll();
+        }
+    }
+
+    private static class FakeDeferred implements Deferred<Object> {
+        volatile boolean rejected;
+        int lockAllocations;
+        private AsyncRunner.Lock lock;
+
+        public boolean isPending() {
+            return !rejected;
+        }
+
+        public boolean isRejected() {
+            return rejected;
+        }
+
+        public boolean isResolved() {
+            return false;
+        }
+
+        public void resolve(Response response) { }
+
+        public void reject(RequestException error) { }
+
+        public void notifyDownload(ReadProgress progress) { }
+
+        public void notifyUpload(WriteProgress progress) { }
+
+        public void notifyResponse(RawResponse response) { }
+
+        public void setHttpConnection(HttpConnection connection) { }
+
+        public void setRequestRetrier(RequestRetrier retrier) { }
+
+        public Request<Object> getRequest() {
+            return null;
+        }
+
+        public RequestException getRejectResult() {
+            return null;
+        }
+
+        public Response getResolveResult() {
+            return null;
+        }
+
+        public synchronized AsyncRunner.Lock getStateLock() {
+            if (lock == null) {
+                lock = new MonitorLock();
+                lockAllocations++;
+            }
+            return lock;
+        }
+
+        public void signalStateChange() {
+            final AsyncRunner.Lock l;
+            synchronized (this) {
+                l = lock;
+            }
+            if (l != null) l.signalAll();
+        }
+
+        public AsyncRunner.Lock getResponseHeaderLock() {
+            return getStateLock();
+        }
+
+        public AsyncRunner.Lock getResponseBodyLock() {
+            return getStateLock();
+        }
+
+        public AsyncRunner.Lock getResponseLock() {
+            return getStateLock();
+        }
+    }
+}
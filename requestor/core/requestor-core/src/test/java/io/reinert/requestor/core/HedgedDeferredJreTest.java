@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.reinert.requestor.core.payload.type.PayloadType;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests of {@link HedgedDeferred}.
+ */
+public class HedgedDeferredJreTest {
+
+    private static final long NOW = 1000000L;
+
+    private final long[] now = {NOW};
+    private final AsyncRunner runner = mock(AsyncRunner.class);
+    private final List<Deferred<Object>> copies = new ArrayList<Deferred<Object>>();
+    private final RequestDispatcher dispatcher = new RequestDispatcher(runner, null, null, null, null) {
+        @SuppressWarnings("unchecked")
+        protected <R> void send(PreparedRequest request, Deferred<R> deferred, PayloadType responsePayloadType) {
+            copies.add((Deferred<Object>) deferred);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    private final Deferred<Object> deferred = mock(Deferred.class);
+    private final HedgingPolicy policy = spy(new HedgingPolicy(100).budget(1, 10));
+
+    @Before
+    public void setUp() {
+        Clock.setCurrent(new Clock() {
+            public long currentTimeMillis() {
+                return now[0];
+            }
+        });
+        when(deferred.isPending()).thenReturn(true);
+    }
+
+    @After
+    public void tearDown() {
+        Clock.setCurrent(null);
+    }
+
+    @Test
+    public void resolve_HedgeWins_ShouldSettleOnceAndCancelTheFirstCopy() {
+        // Given
+        startAndHedge();
+        HttpConnection firstConnection = mock(HttpConnection.class);
+        copies.get(0).setHttpConnection(firstConnection);
+        Response response = mock(Response.class);
+
+        // When
+        now[0] = NOW + 150;
+        copies.get(1).resolve(response);
+        copies.get(0).resolve(mock(Response.class));
+
+        // Then
+        verify(deferred).resolve(response);
+        verify(deferred).resolve(any(Response.class));
+        verify(firstConnection).cancel();
+        verify(policy).recordLatency(150);
+    }
+
+    @Test
+    public void reject_Loser_ShouldBeIgnoredAndItsLateConnectionCancelled() {
+        // Given
+        startAndHedge();
+        Response response = mock(Response.class);
+        copies.get(0).resolve(response);
+
+        // When
+        HttpConnection hedgeConnection = mock(HttpConnection.class);
+        copies.get(1).setHttpConnection(hedgeConnection);
+        copies.get(1).reject(new RequestTimeoutException() { });
+
+        // Then
+        verify(deferred).resolve(response);
+        verify(deferred, never()).reject(any(RequestException.class));
+        verify(hedgeConnection).cancel();
+        assertFalse(copies.get(1).isPending());
+    }
+
+    @Test
+    public void reject_BothCopiesFail_ShouldRejectOnlyWithTheLastError() {
+        // Given
+        startAndHedge();
+        RequestException firstError = new RequestTimeoutException() { };
+        RequestException lastError = new RequestTimeoutException() { };
+
+        // When
+        copies.get(0).reject(firstError);
+        verify(deferred, never()).reject(any(RequestException.class));
+        copies.get(1).reject(lastError);
+
+        // Then
+        verify(deferred).reject(lastError);
+        verify(deferred).reject(any(RequestException.class));
+    }
+
+    @Test
+    public void run_FirstCopyAlreadyWon_ShouldNotHedge() {
+        // Given
+        new HedgedDeferred.Group<Object>(dispatcher, mock(PreparedRequest.class), deferred, null, policy).start();
+        copies.get(0).resolve(mock(Response.class));
+
+        // When
+        hedgeTask().run();
+
+        // Then
+        assertEquals(1, copies.size());
+        assertEquals(0L, policy.getHedgedCount());
+    }
+
+    private void startAndHedge() {
+        new HedgedDeferred.Group<Object>(dispatcher, mock(PreparedRequest.class), deferred, null, policy).start();
+        now[0] = NOW + 100;
+        hedgeTask().run();
+        assertEquals(2, copies.size());
+        assertTrue(copies.get(1).isPending());
+    }
+
+    private Runnable hedgeTask() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(runner).run(task.capture(), anyLong());
+        return task.getValue();
+    }
+}
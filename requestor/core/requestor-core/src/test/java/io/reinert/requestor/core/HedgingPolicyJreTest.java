@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import io.reinert.requestor.core.payload.SerializedPayload;
+import io.reinert.requestor.core.payload.TextSerializedPayload;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests of {@link HedgingPolicy}.
+ */
+public class HedgingPolicyJreTest {
+
+    @Test
+    public void getDelayMillis_Percentile_ShouldUseInitialDelayUntilEnoughSamples() {
+        // Given
+        HedgingPolicy policy = HedgingPolicy.percentile(0.9, 200);
+
+        // When
+        for (int i = 1; i <= 8; i++) policy.recordLatency(i * 10);
+
+        // Then
+        assertEquals(200, policy.getDelayMillis());
+    }
+
+    @Test
+    public void getDelayMillis_Percentile_ShouldFollowObservedLatencies() {
+        // Given
+        HedgingPolicy policy = HedgingPolicy.percentile(0.9, 200);
+
+        // When
+        for (int i = 1; i <= 100; i++) policy.recordLatency(i);
+        for (int i = 101; i <= 104; i++) policy.recordLatency(i);
+
+        // Then
+        assertEquals(94, policy.getDelayMillis());
+    }
+
+    @Test
+    public void getDelayMillis_Fixed_ShouldIgnoreLatencies() {
+        // Given
+        HedgingPolicy policy = new HedgingPolicy(50);
+
+        // When
+        for (int i = 0; i < 100; i++) policy.recordLatency(1000);
+
+        // Then
+        assertEquals(50, policy.getDelayMillis());
+    }
+
+    @Test
+    public void tryHedge_BudgetExhausted_ShouldDenyUntilEnoughRequests() {
+        // Given
+        HedgingPolicy policy = new HedgingPolicy(50).budget(0.5, 1);
+        policy.tryHedge();
+
+        // When
+        boolean denied = policy.tryHedge();
+        policy.onRequest();
+        policy.onRequest();
+        boolean allowed = policy.tryHedge();
+
+        // Then
+        assertFalse(denied);
+        assertTrue(allowed);
+        assertEquals(2L, policy.getHedgedCount());
+    }
+
+    @Test
+    public void isHedgeable_StreamedPayload_ShouldNotHedge() {
+        // Given
+        HedgingPolicy policy = new HedgingPolicy(50);
+        SerializedPayload stream = mock(SerializedPayload.class);
+        PreparedRequest streamed = mock(PreparedRequest.class);
+        when(streamed.getMethod()).thenReturn(HttpMethod.PUT);
+        when(streamed.getValue(HedgingPolicy.IDEMPOTENT_KEY)).thenReturn(true);
+        when(streamed.getSerializedPayload()).thenReturn(stream);
+        PreparedRequest buffered = mock(PreparedRequest.class);
+        when(buffered.getMethod()).thenReturn(HttpMethod.PUT);
+        when(buffered.getValue(HedgingPolicy.IDEMPOTENT_KEY)).thenReturn(true);
+        when(buffered.getSerializedPayload()).thenReturn(new TextSerializedPayload("{}"));
+
+        // Then
+        assertFalse(policy.isHedgeable(streamed));
+        assertTrue(policy.isHedgeable(buffered));
+    }
+}
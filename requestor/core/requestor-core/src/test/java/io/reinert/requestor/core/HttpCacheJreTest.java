@@ -0,0 +1,380 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.reinert.requestor.core.header.Header;
+import io.reinert.requestor.core.payload.TextSerializedPayload;
+import io.reinert.requestor.core.payload.type.PayloadType;
+import io.reinert.requestor.core.payload.type.SinglePayloadType;
+import io.reinert.requestor.core.uri.Uri;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests of {@link HttpCache}.
+ */
+public class HttpCacheJreTest {
+
+    private static final long NOW = 1000000L;
+
+    private final long[] now = {NOW};
+
+    @Before
+    public void setUp() {
+        Clock.setCurrent(new Clock() {
+            public long currentTimeMillis() {
+                return now[0];
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        Clock.setCurrent(null);
+    }
+
+    @Test
+    public void intercept_FreshEntry_ShouldAnswerFromTheCache() {
+        // Given
+        HttpCache cache = new HttpCache(1024);
+        fetch(cache, "http://example.com/a", 200, "hello", "Cache-Control", "max-age=60");
+        now[0] = NOW + 59000;
+
+        // When
+        FakeRequest request = new FakeRequest("http://example.com/a");
+        cache.intercept(request.proxy);
+
+        // Then
+        assertFalse(request.proceeded);
+        assertNotNull(request.mockResponse);
+        assertEquals(200, request.mockResponse.getStatus().getStatusCode());
+        assertEquals("hello", request.mockResponse.getSerializedPayload().asString());
+        assertEquals("59", request.mockResponse.getHeaders().getValue("Age"));
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+    }
+
+    @Test
+    public void revalidated_StaleEntryWithETag_ShouldReplaceTheNotModifiedWithTheCachedResponse() {
+        // Given
+        HttpCache cache = new HttpCache(1024);
+        fetch(cache, "http://example.com/a", 200, "hello", "Cache-Control", "max-age=60", "ETag", "\"v1\"");
+        now[0] = NOW + 61000;
+
+        // When
+        FakeRequest request = new FakeRequest("http://example.com/a");
+        cache.intercept(request.proxy);
+        RawResponse notModified = request.respond(304, null, "Cache-Control", "max-age=120");
+        RawResponse response = HttpCache.revalidated(notModified);
+        cache.intercept(response);
+
+        // Then
+        assertTrue(request.proceeded);
+        assertEquals("\"v1\"", request.headers.get("If-None-Match"));
+        assertEquals(304, notModified.getStatusCode());
+        assertEquals(200, response.getStatusCode());
+        assertEquals("hello", response.getSerializedPayload().asString());
+        assertEquals("\"v1\"", response.getHeader("ETag"));
+        assertEquals(1L, cache.getRevalidatedCount());
+
+        // The 304 headers refreshed the entry
+        now[0] = NOW + 61000 + 119000;
+        FakeRequest fresh = new FakeRequest("http://example.com/a");
+        cache.intercept(fresh.proxy);
+        assertNotNull(fresh.mockResponse);
+    }
+
+    @Test
+    public void intercept_StaleEntryWithLastModifiedOnly_ShouldSendIfModifiedSince() {
+        // Given
+        HttpCache cache = new HttpCache(1024);
+        String lastModified = "Sun, 06 Nov 1994 08:49:37 GMT";
+        fetch(cache, "http://example.com/a", 200, "hello", "Cache-Control", "no-cache", "Last-Modified", lastModified);
+
+        // When
+        FakeRequest request = new FakeRequest("http://example.com/a");
+        cache.intercept(request.proxy);
+
+        // Then
+        assertTrue(request.proceeded);
+        assertEquals(lastModified, request.headers.get("If-Modified-Since"));
+        assertNull(request.headers.get("If-None-Match"));
+    }
+
+    @Test
+    public void intercept_NoStoreResponse_ShouldNotCache() {
+        // Given
+        HttpCache cache = new HttpCache(1024);
+        fetch(cache, "http://example.com/a", 200, "hello", "Cache-Control", "no-store, max-age=60");
+
+        // When
+        FakeRequest request = new FakeRequest("http://example.com/a");
+        cache.intercept(request.proxy);
+
+        // Then
+        assertTrue(request.proceeded);
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(2L, cache.getMissCount());
+    }
+
+    @Test
+    public void intercept_VoidPayloadType_ShouldNotCache() {
+        // Given
+        HttpCache cache = new HttpCache(1024);
+        FakeRequest request = new FakeRequest("http://example.com/a");
+        cache.intercept(request.proxy);
+
+        // When
+        cache.intercept(request.respond(new SinglePayloadType<Void>(Void.class), 200, "",
+                "Cache-Control", "max-age=60"));
+
+        // Then
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void intercept_StreamedBody_ShouldBypassTheCache() {
+        // Given
+        HttpCache cache = new HttpCache(1024);
+        FakeRequest streamed = new FakeRequest("http://example.com/a");
+        streamed.store.put(RequestDispatcher.STREAMED_BODY_KEY, new Object());
+        cache.intercept(streamed.proxy);
+        cache.intercept(streamed.respond(200, "", "Cache-Control", "max-age=60"));
+        fetch(cache, "http://example.com/b", 200, "hello", "Cache-Control", "max-age=60");
+
+        // When
+        FakeRequest request = new FakeRequest("http://example.com/b");
+        request.store.put(RequestDispatcher.STREAMED_BODY_KEY, new Object());
+        cache.intercept(request.proxy);
+
+        // Then
+        assertTrue(streamed.proceeded);
+        assertTrue(request.proceeded);
+        assertNull(request.mockResponse);
+        assertEquals(1, cache.getEntryCount());
+    }
+
+    @Test
+    public void intercept_StorageHoldsTheEntry_ShouldAnswerFromTheStorage() {
+        // Given
+        MapStorage storage = new MapStorage();
+        fetch(new HttpCache(1024, storage), "http://example.com/a", 200, "hello", "Cache-Control", "max-age=60");
+        HttpCache cache = new HttpCache(1024, storage);
+
+        // When
+        FakeRequest request = new FakeRequest("http://example.com/a");
+        cache.intercept(request.proxy);
+
+        // Then
+        assertNotNull(request.mockResponse);
+        assertEquals("hello", request.mockResponse.getSerializedPayload().asString());
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(1L, cache.getHitCount());
+    }
+
+    @Test
+    public void intercept_ResponseLargerThanMemory_ShouldOnlySaveInTheStorage() {
+        // Given
+        MapStorage storage = new MapStorage();
+        HttpCache cache = new HttpCache(4, storage);
+
+        // When
+        fetch(cache, "http://example.com/a", 200, "hello", "Cache-Control", "max-age=60");
+
+        // Then
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(1, storage.responses.size());
+    }
+
+    @Test
+    public void intercept_VaryingHeaderMismatch_ShouldMiss() {
+        // Given
+        HttpCache cache = new HttpCache(1024);
+        FakeRequest first = new FakeRequest("http://example.com/a");
+        first.headers.put("Accept", "application/json");
+        cache.intercept(first.proxy);
+        cache.intercept(first.respond(200, "{}", "Cache-Control", "max-age=60", "Vary", "Accept"));
+
+        // When
+        FakeRequest request = new FakeRequest("http://example.com/a");
+        request.headers.put("Accept", "text/plain");
+        cache.intercept(request.proxy);
+
+        // Then
+        assertTrue(request.proceeded);
+        assertEquals(0L, cache.getHitCount());
+    }
+
+    @Test
+    public void intercept_SizeExceeded_ShouldEvictTheLeastRecentlyUsed() {
+        // Given
+        HttpCache cache = new HttpCache(10);
+        fetch(cache, "http://example.com/a", 200, "aaaaa", "Cache-Control", "max-age=60");
+        fetch(cache, "http://example.com/b", 200, "bbbbb", "Cache-Control", "max-age=60");
+        cache.intercept(new FakeRequest("http://example.com/a").proxy);
+
+        // When
+        fetch(cache, "http://example.com/c", 200, "ccccc", "Cache-Control", "max-age=60");
+
+        // Then
+        assertEquals(2, cache.getEntryCount());
+        assertEquals(10L, cache.getSize());
+        assertEquals(1L, cache.getEvictedCount());
+        FakeRequest evicted = new FakeRequest("http://example.com/b");
+        cache.intercept(evicted.proxy);
+        assertTrue(evicted.proceeded);
+        FakeRequest kept = new FakeRequest("http://example.com/a");
+        cache.intercept(kept.proxy);
+        assertNotNull(kept.mockResponse);
+    }
+
+    private static void fetch(HttpCache cache, String uri, int status, String body, String... headers) {
+        FakeRequest request = new FakeRequest(uri);
+        cache.intercept(request.proxy);
+        cache.intercept(request.respond(status, body, headers));
+    }
+
+    private static class MapStorage implements HttpCache.Storage {
+        private final Map<String, HttpCache.CachedResponse> responses =
+                new HashMap<String, HttpCache.CachedResponse>();
+
+        public HttpCache.CachedResponse load(String key) {
+            return responses.get(key);
+        }
+
+        public void save(String key, HttpCache.CachedResponse response) {
+            responses.put(key, response);
+        }
+
+        public void remove(String key) {
+            responses.remove(key);
+        }
+
+        public void clear() {
+            responses.clear();
+        }
+    }
+
+    private static class FakeRequest {
+        private final Map<String, String> headers = new HashMap<String, String>();
+        private final Map<String, Object> store = new HashMap<String, Object>();
+        private final SerializedRequestInProcess proxy = mock(SerializedRequestInProcess.class);
+        private final Request<?> request = mock(Request.class);
+        private MockResponse mockResponse;
+        private boolean proceeded;
+
+        FakeRequest(String uri) {
+            when(proxy.getMethod()).thenReturn(HttpMethod.GET);
+            when(proxy.getUri()).thenReturn(Uri.create(uri));
+            when(proxy.getHeader(anyString())).thenAnswer(new Answer<String>() {
+                public String answer(InvocationOnMock invocation) {
+                    return headers.get(invocation.<String>getArgument(0));
+                }
+            });
+            when(proxy.hasHeader(anyString())).thenAnswer(new Answer<Boolean>() {
+                public Boolean answer(InvocationOnMock invocation) {
+                    return headers.containsKey(invocation.<String>getArgument(0));
+                }
+            });
+            when(proxy.getHeaders()).thenAnswer(new Answer<Headers>() {
+                public Headers answer(InvocationOnMock invocation) {
+                    final List<Header> list = new ArrayList<Header>();
+                    for (Map.Entry<String, String> header : headers.entrySet()) {
+                        list.add(Header.fromRawHeader(header.getKey(), header.getValue()));
+                    }
+                    return new Headers(list);
+                }
+            });
+            doAnswer(new Answer<Void>() {
+                public Void answer(InvocationOnMock invocation) {
+                    headers.put(invocation.<String>getArgument(0), invocation.<String>getArgument(1));
+                    return null;
+                }
+            }).when(proxy).setHeader(anyString(), anyString());
+
+            doAnswer(new Answer<Void>() {
+                public Void answer(InvocationOnMock invocation) {
+                    store.put(invocation.<String>getArgument(0), invocation.getArgument(1));
+                    return null;
+                }
+            }).when(proxy).save(anyString(), any());
+            final Answer<Object> getValue = new Answer<Object>() {
+                public Object answer(InvocationOnMock invocation) {
+                    return store.get(invocation.<String>getArgument(0));
+                }
+            };
+            when(proxy.getValue(anyString())).thenAnswer(getValue);
+            when(request.getValue(anyString())).thenAnswer(getValue);
+            when(proxy.exists(anyString())).thenAnswer(new Answer<Boolean>() {
+                public Boolean answer(InvocationOnMock invocation) {
+                    return store.containsKey(invocation.<String>getArgument(0));
+                }
+            });
+
+            doAnswer(new Answer<Void>() {
+                public Void answer(InvocationOnMock invocation) {
+                    mockResponse = invocation.getArgument(0);
+                    return null;
+                }
+            }).when(proxy).abort(any(MockResponse.class));
+            doAnswer(new Answer<Void>() {
+                public Void answer(InvocationOnMock invocation) {
+                    proceeded = true;
+                    return null;
+                }
+            }).when(proxy).proceed();
+        }
+
+        RawResponse respond(int status, String body, String... headerPairs) {
+            return respond(new SinglePayloadType<String>(String.class), status, body, headerPairs);
+        }
+
+        RawResponse respond(PayloadType payloadType, int status, String body, String... headerPairs) {
+            final List<Header> list = new ArrayList<Header>();
+            for (int i = 0; i < headerPairs.length; i += 2) {
+                list.add(Header.fromRawHeader(headerPairs[i], headerPairs[i + 1]));
+            }
+
+            final Deferred<?> deferred = mock(Deferred.class);
+            doReturn(request).when(deferred).getRequest();
+
+            final RawResponse response = new RawResponse(deferred, Status.of(status), new Headers(list), payloadType);
+            if (body != null) response.setSerializedPayload(new TextSerializedPayload(body));
+            return response;
+        }
+    }
+}
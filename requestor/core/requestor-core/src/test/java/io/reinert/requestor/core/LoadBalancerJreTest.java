@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests of {@link LoadBalancer}.
+ */
+public class LoadBalancerJreTest {
+
+    private static final long NOW = 1000000L;
+
+    @Test
+    public void acquire_LeastOutstanding_ShouldPickTheLessBusyOfTwoEndpoints() {
+        // Given
+        LoadBalancer balancer = new LoadBalancer(LoadBalancer.Strategy.LEAST_OUTSTANDING, new Random(1),
+                "http://a", "http://b");
+        LoadBalancer.Endpoint busy = balancer.acquire(new LoadBalancer.Ticket(), NOW);
+
+        // When
+        LoadBalancer.Endpoint next = balancer.acquire(new LoadBalancer.Ticket(), NOW);
+
+        // Then
+        assertNotSame(busy, next);
+        assertEquals(1, balancer.getOutstanding(busy));
+        assertEquals(1, balancer.getOutstanding(next));
+    }
+
+    @Test
+    public void acquire_PeakEwma_ShouldAvoidTheSlowEndpoint() {
+        // Given
+        LoadBalancer balancer = new LoadBalancer(LoadBalancer.Strategy.PEAK_EWMA, new Random(1),
+                "http://a", "http://b");
+        LoadBalancer.Ticket first = new LoadBalancer.Ticket();
+        LoadBalancer.Endpoint slow = balancer.acquire(first, NOW);
+        balancer.record(first, response(200), null, NOW + 500);
+        balancer.release(first);
+        LoadBalancer.Ticket second = new LoadBalancer.Ticket();
+        LoadBalancer.Endpoint fast = balancer.acquire(second, NOW + 500);
+        balancer.record(second, response(200), null, NOW + 520);
+        balancer.release(second);
+
+        for (int i = 0; i < 10; i++) {
+            // When
+            LoadBalancer.Ticket ticket = new LoadBalancer.Ticket();
+            LoadBalancer.Endpoint chosen = balancer.acquire(ticket, NOW + 520);
+            balancer.release(ticket);
+
+            // Then
+            assertNotSame(slow, chosen);
+            assertSame(fast, chosen);
+        }
+    }
+
+    @Test
+    public void acquire_EjectedEndpoint_ShouldPickTheOthersWhileEjected() {
+        // Given
+        LoadBalancer balancer = new LoadBalancer(LoadBalancer.Strategy.LEAST_OUTSTANDING, new Random(1),
+                "http://a", "http://b").ejectAfter(1, 1000);
+        LoadBalancer.Ticket failed = new LoadBalancer.Ticket();
+        LoadBalancer.Endpoint ejected = balancer.acquire(failed, NOW);
+        balancer.record(failed, null, new RequestTimeoutException() { }, NOW);
+        balancer.release(failed);
+
+        for (int i = 0; i < 10; i++) {
+            // When
+            LoadBalancer.Ticket ticket = new LoadBalancer.Ticket();
+            LoadBalancer.Endpoint chosen = balancer.acquire(ticket, NOW + 999);
+            balancer.release(ticket);
+
+            // Then
+            assertNotSame(ejected, chosen);
+        }
+    }
+
+    @Test
+    public void record_SuccessBetweenFailures_ShouldResetConsecutiveFailures() {
+        // Given
+        final long[] now = {NOW};
+        Clock.setCurrent(new Clock() {
+            public long currentTimeMillis() {
+                return now[0];
+            }
+        });
+        try {
+            LoadBalancer balancer = new LoadBalancer(LoadBalancer.Strategy.LEAST_OUTSTANDING, new Random(1),
+                    "http://a").ejectAfter(2, 1000);
+            LoadBalancer.Endpoint endpoint = balancer.getEndpoints().get(0);
+            LoadBalancer.Ticket ticket = new LoadBalancer.Ticket();
+            balancer.acquire(ticket, NOW);
+
+            // When
+            balancer.record(ticket, null, new RequestTimeoutException() { }, NOW);
+            balancer.record(ticket, response(200), null, NOW);
+            balancer.record(ticket, response(500), null, NOW);
+            boolean ejectedAfterReset = balancer.isEjected(endpoint);
+            balancer.record(ticket, response(502), null, NOW);
+            boolean ejected = balancer.isEjected(endpoint);
+            now[0] = NOW + 1000;
+            boolean ejectedLater = balancer.isEjected(endpoint);
+
+            // Then
+            assertFalse(ejectedAfterReset);
+            assertTrue(ejected);
+            assertFalse(ejectedLater);
+        } finally {
+            Clock.setCurrent(null);
+        }
+    }
+
+    private static Response response(int statusCode) {
+        final Response response = mock(Response.class);
+        when(response.getStatus()).thenReturn(Status.of(statusCode));
+        return response;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests of {@link OriginLimiter}.
+ */
+public class OriginLimiterJreTest {
+
+    private static final String ORIGIN = "https://api.example.com";
+
+    private final List<String> executed = new ArrayList<String>();
+
+    @Test
+    public void enter_DifferentOrigins_ShouldLimitEachOriginIndependently() {
+        // Given
+        OriginLimiter limiter = new OriginLimiter(1);
+
+        // When
+        limiter.enter(new OriginLimiter.Ticket(0), ORIGIN, task("a"));
+        limiter.enter(new OriginLimiter.Ticket(0), ORIGIN, task("b"));
+        limiter.enter(new OriginLimiter.Ticket(0), "https://cdn.example.com", task("c"));
+
+        // Then
+        assertEquals(2, executed.size());
+        assertEquals("c", executed.get(1));
+        assertEquals(1, limiter.getQueueLength(ORIGIN));
+    }
+
+    @Test
+    public void release_QueuedTickets_ShouldRunHigherPriorityFirstAndFifoWithinSamePriority() {
+        // Given
+        OriginLimiter limiter = new OriginLimiter(1);
+        OriginLimiter.Ticket first = new OriginLimiter.Ticket(0);
+        limiter.enter(first, ORIGIN, task("first"));
+        OriginLimiter.Ticket batch = new OriginLimiter.Ticket(-1);
+        limiter.enter(batch, ORIGIN, task("batch"));
+        OriginLimiter.Ticket normal1 = new OriginLimiter.Ticket(0);
+        limiter.enter(normal1, ORIGIN, task("normal1"));
+        OriginLimiter.Ticket normal2 = new OriginLimiter.Ticket(0);
+        limiter.enter(normal2, ORIGIN, task("normal2"));
+        OriginLimiter.Ticket interactive = new OriginLimiter.Ticket(10);
+        limiter.enter(interactive, ORIGIN, task("interactive"));
+
+        // When
+        limiter.release(first);
+        limiter.release(interactive);
+        limiter.release(normal1);
+        limiter.release(normal2);
+
+        // Then
+        assertEquals("first", executed.get(0));
+        assertEquals("interactive", executed.get(1));
+        assertEquals("normal1", executed.get(2));
+        assertEquals("normal2", executed.get(3));
+        assertEquals("batch", executed.get(4));
+    }
+
+    @Test
+    public void release_AllTickets_ShouldFreeTheOrigin() {
+        // Given
+        OriginLimiter limiter = new OriginLimiter(1);
+        OriginLimiter.Ticket first = new OriginLimiter.Ticket(0);
+        OriginLimiter.Ticket second = new OriginLimiter.Ticket(0);
+        limiter.enter(first, ORIGIN, task("a"));
+        limiter.enter(second, ORIGIN, task("b"));
+
+        // When
+        limiter.release(second);
+        limiter.release(first);
+
+        // Then
+        assertEquals(1, executed.size());
+        assertEquals(0, limiter.getActiveCount(ORIGIN));
+        assertEquals(0, limiter.getQueueLength(ORIGIN));
+    }
+
+    @Test
+    public void sample_AdaptiveLimitIncreased_ShouldRunAsManyQueuedTicketsAsAllowed() {
+        // Given
+        final FakeLimit limit = new FakeLimit(1);
+        OriginLimiter limiter = new OriginLimiter(new ConcurrencyLimit.Provider() {
+            public ConcurrencyLimit getInstance() {
+                return limit;
+            }
+        });
+        OriginLimiter.Ticket first = new OriginLimiter.Ticket(0);
+        limiter.enter(first, ORIGIN, task("a"));
+        limiter.enter(new OriginLimiter.Ticket(0), ORIGIN, task("b"));
+        limiter.enter(new OriginLimiter.Ticket(0), ORIGIN, task("c"));
+        limit.value = 3;
+
+        // When
+        limiter.sample(first, 10, null, null);
+
+        // Then
+        assertEquals(3, executed.size());
+        assertEquals(3, limiter.getActiveCount(ORIGIN));
+        assertEquals(1, limit.samples);
+        assertEquals(3, limiter.getLimit(ORIGIN));
+    }
+
+    @Test
+    public void release_AdaptiveLimit_ShouldKeepOriginStateWhenIdle() {
+        // Given
+        final FakeLimit limit = new FakeLimit(2);
+        OriginLimiter limiter = new OriginLimiter(new ConcurrencyLimit.Provider() {
+            public ConcurrencyLimit getInstance() {
+                return limit;
+            }
+        });
+        OriginLimiter.Ticket ticket = new OriginLimiter.Ticket(0);
+        limiter.enter(ticket, ORIGIN, task("a"));
+        limit.value = 5;
+
+        // When
+        limiter.release(ticket);
+
+        // Then
+        assertEquals(0, limiter.getActiveCount(ORIGIN));
+        assertEquals(5, limiter.getLimit(ORIGIN));
+    }
+
+    @Test
+    public void release_ManyIdleAdaptiveOrigins_ShouldKeepOnlyTheMostRecentLimits() {
+        // Given
+        final List<FakeLimit> limits = new ArrayList<FakeLimit>();
+        OriginLimiter limiter = new OriginLimiter(new ConcurrencyLimit.Provider() {
+            public ConcurrencyLimit getInstance() {
+                FakeLimit limit = new FakeLimit(2);
+                limits.add(limit);
+                return limit;
+            }
+        });
+
+        // When
+        for (int i = 0; i < 300; i++) {
+            OriginLimiter.Ticket ticket = new OriginLimiter.Ticket(0);
+            limiter.enter(ticket, "https://host" + i + ".example.com", task("t" + i));
+            limits.get(limits.size() - 1).value = 3;
+            limiter.release(ticket);
+        }
+
+        // Then
+        assertEquals(2, limiter.getLimit("https://host0.example.com"));
+        assertEquals(3, limiter.getLimit("https://host299.example.com"));
+    }
+
+    private static class FakeLimit implements ConcurrencyLimit {
+        int value;
+        int samples;
+
+        FakeLimit(int value) {
+            this.value = value;
+        }
+
+        public int getLimit() {
+            return value;
+        }
+
+        public void onSample(long rttMillis, int inFlight, boolean dropped) {
+            samples++;
+        }
+    }
+
+    private Runnable task(final String name) {
+        return new Runnable() {
+            public void run() {
+                executed.add(name);
+            }
+        };
+    }
+}
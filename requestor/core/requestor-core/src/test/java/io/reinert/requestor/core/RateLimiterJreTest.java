@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import io.reinert.requestor.core.header.SimpleHeader;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests of {@link RateLimiter}.
+ */
+public class RateLimiterJreTest {
+
+    private static final long NOW = 1000000L;
+
+    @Test
+    public void reserve_TokensAvailable_ShouldNotDelay() {
+        // Given
+        RateLimiter rateLimiter = new RateLimiter(10, 2, NOW);
+
+        // When
+        long first = rateLimiter.reserve(NOW);
+        long second = rateLimiter.reserve(NOW);
+
+        // Then
+        assertEquals(0L, first);
+        assertEquals(0L, second);
+    }
+
+    @Test
+    public void reserve_BucketEmpty_ShouldDelayByRate() {
+        // Given
+        RateLimiter rateLimiter = new RateLimiter(10, 1, NOW);
+        rateLimiter.reserve(NOW);
+
+        // When
+        long second = rateLimiter.reserve(NOW);
+        long third = rateLimiter.reserve(NOW);
+
+        // Then
+        assertEquals(100L, second);
+        assertEquals(200L, third);
+    }
+
+    @Test
+    public void reserve_AfterIdle_ShouldRefillUpToBurst() {
+        // Given
+        RateLimiter rateLimiter = new RateLimiter(10, 2, NOW);
+        rateLimiter.reserve(NOW);
+        rateLimiter.reserve(NOW);
+
+        // When
+        long later = NOW + 10000;
+        long first = rateLimiter.reserve(later);
+        long second = rateLimiter.reserve(later);
+        long third = rateLimiter.reserve(later);
+
+        // Then
+        assertEquals(0L, first);
+        assertEquals(0L, second);
+        assertEquals(100L, third);
+    }
+
+    @Test
+    public void onResponse_TooManyRequestsWithRetryAfter_ShouldPauseDispatching() {
+        // Given
+        RateLimiter rateLimiter = new RateLimiter(10, 5, NOW);
+
+        // When
+        rateLimiter.onResponse(429, new Headers(new SimpleHeader("Retry-After", "3")), NOW);
+
+        // Then
+        assertEquals(3000L, rateLimiter.reserve(NOW));
+        assertEquals(3100L, rateLimiter.reserve(NOW));
+    }
+
+    @Test
+    public void onResponse_RemainingQuotaExhausted_ShouldPauseUntilReset() {
+        // Given
+        RateLimiter rateLimiter = new RateLimiter(10, 5, NOW);
+
+        // When
+        rateLimiter.onResponse(200, new Headers(new SimpleHeader("RateLimit-Remaining", "0"),
+                new SimpleHeader("RateLimit-Reset", "2")), NOW);
+
+        // Then
+        assertEquals(2000L, rateLimiter.reserve(NOW));
+    }
+
+    @Test
+    public void onResponse_CombinedRateLimitHeader_ShouldShrinkBucketToRemainingQuota() {
+        // Given
+        RateLimiter rateLimiter = new RateLimiter(10, 5, NOW);
+
+        // When
+        rateLimiter.onResponse(200, new Headers(new SimpleHeader("RateLimit", "limit=100, remaining=1, reset=60")),
+                NOW);
+
+        // Then
+        assertEquals(0L, rateLimiter.reserve(NOW));
+        assertEquals(100L, rateLimiter.reserve(NOW));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests of {@link RequestRetrier}.
+ */
+public class RequestRetrierJreTest {
+
+    // Sun, 06 Nov 1994 08:49:37 GMT
+    private static final long DATE_MILLIS = 784111777000L;
+
+    @Test
+    public void parseRetryAfter_DelaySeconds_ShouldReturnMillis() {
+        // When
+        long delay = RequestRetrier.parseRetryAfter(" 120 ", DATE_MILLIS);
+
+        // Then
+        assertEquals(120000L, delay);
+    }
+
+    @Test
+    public void parseRetryAfter_HttpDate_ShouldReturnMillisUntilDate() {
+        // When
+        long delay = RequestRetrier.parseRetryAfter("Sun, 06 Nov 1994 08:49:37 GMT", DATE_MILLIS - 5000);
+
+        // Then
+        assertEquals(5000L, delay);
+    }
+
+    @Test
+    public void parseRetryAfter_PastHttpDate_ShouldReturnZero() {
+        // When
+        long delay = RequestRetrier.parseRetryAfter("Sun, 06 Nov 1994 08:49:37 GMT", DATE_MILLIS + 5000);
+
+        // Then
+        assertEquals(0L, delay);
+    }
+
+    @Test
+    public void parseRetryAfter_Malformed_ShouldReturnMinusOne() {
+        // Then
+        assertEquals(-1L, RequestRetrier.parseRetryAfter(null, DATE_MILLIS));
+        assertEquals(-1L, RequestRetrier.parseRetryAfter("soon", DATE_MILLIS));
+        assertEquals(-1L, RequestRetrier.parseRetryAfter("12s", DATE_MILLIS));
+    }
+
+    @Test
+    public void parseRetryAfter_OverflowingDelaySeconds_ShouldSaturate() {
+        // Then
+        assertEquals(Long.MAX_VALUE, RequestRetrier.parseRetryAfter("9223372036854775807", DATE_MILLIS));
+        assertEquals(Long.MAX_VALUE, RequestRetrier.parseRetryAfter("99999999999999999999999", DATE_MILLIS));
+    }
+
+    @Test
+    public void maybeRetry_RetryAfterWithinLimit_ShouldScheduleAtRetryAfter() {
+        // Given
+        AsyncRunner asyncRunner = mock(AsyncRunner.class);
+        RequestRetrier retrier = newRetrier(asyncRunner, 60000);
+
+        // When
+        boolean retried = retrier.maybeRetry(response(503, "60"));
+
+        // Then
+        assertTrue(retried);
+        verify(asyncRunner).run(any(Runnable.class), eq(60000L));
+    }
+
+    @Test
+    public void maybeRetry_RetryAfterBeyondLimit_ShouldGiveUp() {
+        // Given
+        AsyncRunner asyncRunner = mock(AsyncRunner.class);
+        RequestRetrier retrier = newRetrier(asyncRunner, 60000);
+
+        // When
+        boolean retried = retrier.maybeRetry(response(503, "61"));
+
+        // Then
+        assertFalse(retried);
+        assertEquals(0, retrier.getRetryCount());
+        verify(asyncRunner, never()).run(any(Runnable.class), anyLong());
+    }
+
+    @Test
+    public void maybeRetry_OverflowingRetryAfterWithoutLimit_ShouldGiveUp() {
+        // Given
+        AsyncRunner asyncRunner = mock(AsyncRunner.class);
+        RequestRetrier retrier = new RequestRetrier(mock(PreparedRequest.class), asyncRunner, new RetryPolicy() {
+            public int retryIn(RequestAttempt attempt) {
+                return 100;
+            }
+        }, null);
+
+        // When
+        boolean retried = retrier.maybeRetry(response(429, "18446744073709551616"));
+
+        // Then
+        assertFalse(retried);
+        verify(asyncRunner, never()).run(any(Runnable.class), anyLong());
+    }
+
+    private static RequestRetrier newRetrier(AsyncRunner asyncRunner, final int maxRetryAfterMillis) {
+        return new RequestRetrier(mock(PreparedRequest.class), asyncRunner, new LimitedRetryPolicy() {
+            public int retryIn(RequestAttempt attempt) {
+                return 100;
+            }
+
+            public int getMaxRetryAfterMillis() {
+                return maxRetryAfterMillis;
+            }
+        }, null);
+    }
+
+    private static Response response(int statusCode, String retryAfter) {
+        Response response = mock(Response.class);
+        when(response.getStatusCode()).thenReturn(statusCode);
+        when(response.getHeader("Retry-After")).thenReturn(retryAfter);
+        return response;
+    }
+
+    private interface LimitedRetryPolicy extends RetryPolicy, RetryPolicy.RetryAfterLimit { }
+}
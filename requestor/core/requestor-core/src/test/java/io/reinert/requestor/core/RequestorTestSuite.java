@@ -25,8 +25,27 @@ import junit.framework.TestSuite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+        AdaptivePollingJreTest.class,
+        AdaptiveTimeoutJreTest.class,
+        AdmissionChainJreTest.class,
+        BackoffRetryPolicyJreTest.class,
+        BatchJreTest.class,
+        BulkheadJreTest.class,
+        CircuitBreakerJreTest.class,
+        ConcurrencyLimitJreTest.class,
+        ConditionalPollingJreTest.class,
+        DeferredFutureJreTest.class,
         FilterManagerImplJreTest.class,
+        HedgedDeferredJreTest.class,
+        HedgingPolicyJreTest.class,
+        HttpCacheJreTest.class,
+        LoadBalancerJreTest.class,
+        OriginLimiterJreTest.class,
+        RateLimiterJreTest.class,
+        RequestRetrierJreTest.class,
+        RetryBudgetJreTest.class,
         SerializerManagerImplJreTest.class,
+        SingleFlightJreTest.class,
         })
 public class RequestorTestSuite extends TestSuite {
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests of {@link RetryBudget}.
+ */
+public class RetryBudgetJreTest {
+
+    @Test
+    public void tryWithdraw_FreshBudget_ShouldAllowUpToMaxTokens() {
+        // Given
+        RetryBudget budget = new RetryBudget(0.1, 2);
+
+        // When
+        boolean first = budget.tryWithdraw();
+        boolean second = budget.tryWithdraw();
+        boolean third = budget.tryWithdraw();
+
+        // Then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(1L, budget.getDeniedCount());
+    }
+
+    @Test
+    public void tryWithdraw_AfterRequests_ShouldAllowRetriesAtTheRatio() {
+        // Given
+        RetryBudget budget = new RetryBudget(0.1, 2);
+        budget.tryWithdraw();
+        budget.tryWithdraw();
+
+        // When
+        for (int i = 0; i < 9; i++) budget.deposit();
+        boolean afterNine = budget.tryWithdraw();
+        budget.deposit();
+        boolean afterTen = budget.tryWithdraw();
+
+        // Then
+        assertFalse(afterNine);
+        assertTrue(afterTen);
+    }
+
+    @Test
+    public void deposit_ManyRequests_ShouldNotExceedMaxTokens() {
+        // Given
+        RetryBudget budget = new RetryBudget(0.5, 3);
+
+        // When
+        for (int i = 0; i < 100; i++) budget.deposit();
+
+        // Then
+        assertEquals(3.0, budget.getBalance(), 0.0);
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.reinert.requestor.core.payload.type.PayloadType;
+import io.reinert.requestor.core.uri.Uri;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests of {@link SingleFlight}.
+ */
+public class SingleFlightJreTest {
+
+    private final List<PreparedRequest> sent = new ArrayList<PreparedRequest>();
+    private final List<Deferred<?>> sentDeferreds = new ArrayList<Deferred<?>>();
+    private final RequestDispatcher dispatcher = new RequestDispatcher(new SyncAsyncRunner(), null, null, null, null) {
+        protected <R> void send(PreparedRequest request, Deferred<R> deferred, PayloadType responsePayloadType) {
+            sent.add(request);
+            sentDeferreds.add(deferred);
+        }
+    };
+
+    @Test
+    public void join_SameKeyInFlight_ShouldMakeFollowers() {
+        // Given
+        SingleFlight singleFlight = new SingleFlight(constantKey("a"));
+
+        // When
+        Deferred<Object> leader = singleFlight.join(dispatcher, request("GET"), deferred(), null);
+        Deferred<Object> follower = singleFlight.join(dispatcher, request("GET"), deferred(), null);
+
+        // Then
+        assertNotNull(leader);
+        assertNull(follower);
+        assertEquals(1, singleFlight.getInFlightCount());
+        assertEquals(1L, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    public void join_LeaderFails_ShouldGiveACopyOfTheErrorToEachFollowerAndLand() {
+        // Given
+        SingleFlight singleFlight = new SingleFlight(constantKey("a"));
+        Deferred<Object> follower = deferred();
+        PreparedRequest followerRequest = request("GET", "http://example.com/hot?follower");
+        Deferred<Object> leader = singleFlight.join(dispatcher, request("GET"), deferred(), null);
+        singleFlight.join(dispatcher, followerRequest, follower, null);
+        RequestException error = new RequestTimeoutException(request("GET"), 500);
+
+        // When
+        leader.reject(error);
+
+        // Then
+        RequestException rejection = rejectionOf(follower);
+        assertTrue(rejection instanceof RequestTimeoutException);
+        assertEquals(500, ((RequestTimeoutException) rejection).getTimeoutMillis());
+        assertEquals("http://example.com/hot?follower", rejection.getUri());
+        assertSame(error, rejection.getCause());
+        assertEquals(0, singleFlight.getInFlightCount());
+        assertNotNull(singleFlight.join(dispatcher, request("GET"), deferred(), null));
+    }
+
+    @Test
+    public void join_LeaderCancelled_ShouldPromoteTheFirstFollower() {
+        // Given
+        SingleFlight singleFlight = new SingleFlight(constantKey("a"));
+        PreparedRequest firstRequest = request("GET", "http://example.com/hot?first");
+        Deferred<Object> first = deferred();
+        Deferred<Object> second = deferred();
+        Deferred<Object> leader = singleFlight.join(dispatcher, request("GET"), deferred(), null);
+        singleFlight.join(dispatcher, firstRequest, first, null);
+        singleFlight.join(dispatcher, request("GET"), second, null);
+
+        // When
+        leader.reject(new RequestCancelException(request("GET")));
+
+        // Then
+        verify(first, never()).reject(any(RequestException.class));
+        verify(second, never()).reject(any(RequestException.class));
+        assertEquals(1, sent.size());
+        assertSame(firstRequest, sent.get(0));
+        assertEquals(1, singleFlight.getInFlightCount());
+
+        // When
+        @SuppressWarnings("unchecked")
+        Deferred<Object> promoted = (Deferred<Object>) sentDeferreds.get(0);
+        RequestException error = new RequestDispatchException(firstRequest, "failed");
+        promoted.reject(error);
+
+        // Then
+        verify(first).reject(error);
+        assertTrue(rejectionOf(second) instanceof RequestDispatchException);
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    public void join_FollowerCancelled_ShouldDetachOnlyTheFollower() {
+        // Given
+        SingleFlight singleFlight = new SingleFlight(constantKey("a"));
+        Deferred<Object> follower = deferred();
+        Deferred<Object> leader = singleFlight.join(dispatcher, request("GET"), deferred(), null);
+        singleFlight.join(dispatcher, request("GET"), follower, null);
+        ArgumentCaptor<HttpConnection> connection = ArgumentCaptor.forClass(HttpConnection.class);
+        verify(follower).setHttpConnection(connection.capture());
+
+        // When
+        connection.getValue().cancel();
+        leader.reject(new RequestTimeoutException(request("GET"), 500));
+
+        // Then
+        assertEquals(RequestEvent.CANCEL, rejectionOf(follower).getEvent());
+    }
+
+    @Test
+    public void defaultKeyFunction_NonGetRequest_ShouldNotCoalesce() {
+        // Then
+        assertNull(SingleFlight.DEFAULT_KEY_FUNCTION.getKey(request("POST")));
+        assertNotNull(SingleFlight.DEFAULT_KEY_FUNCTION.getKey(request("GET")));
+    }
+
+    private static SingleFlight.KeyFunction constantKey(final String key) {
+        return new SingleFlight.KeyFunction() {
+            public String getKey(PreparedRequest request) {
+                return key;
+            }
+        };
+    }
+
+    private static PreparedRequest request(String method) {
+        return request(method, "http://example.com/hot");
+    }
+
+    private static PreparedRequest request(String method, String uri) {
+        final PreparedRequest request = mock(PreparedRequest.class);
+        when(request.getMethod()).thenReturn(HttpMethod.valueOf(method));
+        when(request.getUri()).thenReturn(Uri.create(uri));
+        return request;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Deferred<Object> deferred() {
+        final Deferred<Object> deferred = mock(Deferred.class);
+        when(deferred.isPending()).thenReturn(true);
+        return deferred;
+    }
+
+    private static RequestException rejectionOf(Deferred<Object> deferred) {
+        final ArgumentCaptor<RequestException> error = ArgumentCaptor.forClass(RequestException.class);
+        verify(deferred).reject(error.capture());
+        return error.getValue();
+    }
+
+    private static class SyncAsyncRunner implements AsyncRunner {
+        public void run(Runnable runnable, long delayMillis) {
+            runnable.run();
+        }
+
+        public void sleep(long millis) { }
+
+        public void shutdown() { }
+
+        public boolean isShutdown() {
+            return false;
+        }
+
+        public Lock getLock() {
+            return null;
+        }
+    }
+}
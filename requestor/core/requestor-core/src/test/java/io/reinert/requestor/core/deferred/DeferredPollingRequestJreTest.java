@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.core.deferred;
+
+import java.util.List;
+
+import io.reinert.requestor.core.AsyncRunner;
+import io.reinert.requestor.core.Response;
+import io.reinert.requestor.core.SerializedRequest;
+import io.reinert.requestor.core.callback.ResponseCallback;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests of {@link DeferredPollingRequest}.
+ */
+public class DeferredPollingRequestJreTest {
+
+    @Test
+    public void newDeferred_ManyPollCycles_ShouldKeepOnlyTheLatestDeferred() {
+        // Given
+        DeferredPollingRequest<Object> request = new DeferredPollingRequest<Object>(pollingRequest(), null);
+
+        // When
+        for (int i = 0; i < 1000; i++) request.getLastDeferred().resolve(response());
+
+        // Then
+        assertEquals(1, request.getHistory().size());
+        assertSame(request.getLastDeferred(), request.getHistory().get(0));
+    }
+
+    @Test
+    public void newDeferred_ConfiguredHistorySize_ShouldKeepTheLatestDeferreds() {
+        // Given
+        DeferredPollingRequest<Object> request = new DeferredPollingRequest<Object>(pollingRequest(), null, 3);
+
+        // When
+        for (int i = 0; i < 1000; i++) request.getLastDeferred().resolve(response());
+
+        // Then
+        List<DeferredRequest<Object>> history = request.getHistory();
+        assertEquals(3, history.size());
+        assertTrue(history.get(0).isResolved());
+        assertTrue(history.get(1).isResolved());
+        assertSame(request.getLastDeferred(), history.get(2));
+    }
+
+    @Test
+    public void newDeferred_CallbackRegisteredBeforePolling_ShouldBeCarriedForward() {
+        // Given
+        DeferredPollingRequest<Object> request = new DeferredPollingRequest<Object>(pollingRequest(), null);
+        final int[] calls = {0};
+        request.onLoad(new ResponseCallback() {
+            public void execute(Response response) {
+                calls[0]++;
+            }
+        });
+
+        // When
+        for (int i = 0; i < 10; i++) request.getLastDeferred().resolve(response());
+
+        // Then
+        assertEquals(10, calls[0]);
+    }
+
+    @Test(timeout = 10000)
+    public void await_ResolvedConcurrently_ShouldReturnTheResponse() throws Exception {
+        final AsyncRunner runner = mock(AsyncRunner.class);
+        when(runner.getLock()).thenAnswer(new Answer<AsyncRunner.Lock>() {
+            public AsyncRunner.Lock answer(InvocationOnMock invocation) {
+                return new MonitorLock();
+            }
+        });
+
+        // Resolving right when await is called exercises the creation of the lock between the check and the wait
+        for (int i = 0; i < 500; i++) {
+            // Given
+            final DeferredPollingRequest<Object> request = new DeferredPollingRequest<Object>(request(false),
+                    runner);
+            final Response response = response();
+            Thread resolver = new Thread(new Runnable() {
+                public void run() {
+                    request.getLastDeferred().resolve(response);
+                }
+            });
+
+            // When
+            resolver.start();
+            Response awaited = request.await();
+
+            // Then
+            assertSame(response, awaited);
+            resolver.join();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_ZeroHistorySize_ShouldThrowIllegalArgumentException() {
+        new DeferredPollingRequest<Object>(pollingRequest(), null, 0);
+    }
+
+    private static SerializedRequest pollingRequest() {
+        return request(true);
+    }
+
+    private static SerializedRequest request(boolean polling) {
+        SerializedRequest request = mock(SerializedRequest.class);
+        when(request.isPolling()).thenReturn(polling);
+        return request;
+    }
+
+    private static class MonitorLock implements AsyncRunner.Lock {
+        public synchronized void await(long timeout) throws InterruptedException {
+            wait(timeout);
+        }
+
+        public boolean isAwaiting() {
+            return false;
+        }
+
+        public synchronized void signalAll() {
+            notifyAll();
+        }
+    }
+
+    private static Response response() {
+        Response response = mock(Response.class);
+        when(response.getStatusCode()).thenReturn(200);
+        return response;
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java;
+
+/**
+ * <p>A backpressured publisher of the response body as chunks of bytes.</p>
+ *
+ * <p>Its {@link Subscriber} and {@link Subscription} interfaces mirror {@code java.util.concurrent.Flow} (and
+ * Reactive Streams) method by method, so adapting to them where available is straightforward:</p>
+ *
+ * <pre>
+ * publisher.subscribe(new ChunkPublisher.Subscriber() {
+ *     public void onSubscribe(ChunkPublisher.Subscription s) { flowSubscriber.onSubscribe(...wrap s...); }
+ *     public void onNext(byte[] chunk) { flowSubscriber.onNext(chunk); }
+ *     ...
+ * });
+ * </pre>
+ *
+ * <p>The dispatcher reads from the connection only while there is outstanding demand. When the demand is zero, the
+ * reading thread parks until the subscriber requests more chunks, so a slow consumer slows down the download instead
+ * of making the client buffer the body. If the subscriber cancels, the request is cancelled as well.</p>
+ *
+ * <p>Only one subscriber is allowed. The chunks are delivered sequentially by the reading thread.</p>
+ *
+ * <p>A publisher streams the body of a single response. It's bound to the first attempt that reads it, so a
+ * publisher shared by a Session or a Service, or reused by polls and retries, makes the later attempts fail instead
+ * of silently dropping their bodies.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class ChunkPublisher {
+
+    /**
+     * Receives the chunks of the response body.
+     */
+    public interface Subscriber {
+        void onSubscribe(Subscription subscription);
+
+        void onNext(byte[] chunk);
+
+        void onError(Throwable throwable);
+
+        void onComplete();
+    }
+
+    /**
+     * Link between the publisher and its subscriber for signalling demand.
+     */
+    public interface Subscription {
+        void request(long n);
+
+        void cancel();
+    }
+
+    private Runnable demandListener;
+    private boolean bound;
+    private boolean subscribed;
+    private Subscriber subscriber;
+    private long demand;
+    private boolean cancelled;
+    private boolean completed;
+    private Throwable error;
+
+    private final Subscription subscription = new Subscription() {
+        public void request(long n) {
+            if (n <= 0) {
+                deliverError(new IllegalArgumentException("The number of requested chunks must be positive."));
+                cancel();
+                return;
+            }
+
+            synchronized (ChunkPublisher.this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                ChunkPublisher.this.notifyAll();
+            }
+            notifyDemandListener();
+        }
+
+        public void cancel() {
+            synchronized (ChunkPublisher.this) {
+                cancelled = true;
+                ChunkPublisher.this.notifyAll();
+            }
+            notifyDemandListener();
+        }
+    };
+
+    /**
+     * Subscribes to the chunks of the response body.
+     *
+     * @param subscriber the sole subscriber of this publisher
+     */
+    public void subscribe(Subscriber subscriber) {
+        if (subscriber == null) throw new NullPointerException("Subscriber cannot be null");
+
+        final boolean alreadySubscribed;
+        synchronized (this) {
+            alreadySubscribed = subscribed;
+            subscribed = true;
+        }
+
+        if (alreadySubscribed) {
+            subscriber.onSubscribe(new Subscription() {
+                public void request(long n) { }
+
+                public void cancel() { }
+            });
+            subscriber.onError(new IllegalStateException("ChunkPublisher allows only one subscriber."));
+            return;
+        }
+
+        subscriber.onSubscribe(subscription);
+
+        final Throwable terminalError;
+        final boolean terminalComplete;
+        synchronized (this) {
+            // Terminal signals are delivered by the dispatcher methods only after the subscriber is set
+            this.subscriber = subscriber;
+            terminalError = cancelled ? null : error;
+            terminalComplete = completed;
+            notifyAll();
+        }
+        notifyDemandListener();
+
+        // The stream may have finished before the subscription
+        if (terminalError != null) {
+            subscriber.onError(terminalError);
+        } else if (terminalComplete) {
+            subscriber.onComplete();
+        }
+    }
+
+    //===================================================================
+    // Dispatcher methods
+    //===================================================================
+
+    /**
+     * Binds this publisher to the response of a request attempt.
+     *
+     * @return false if the publisher was already bound to another attempt
+     */
+    public synchronized boolean bind() {
+        if (bound) return false;
+        bound = true;
+        return true;
+    }
+
+    /**
+     * Sets a listener to be notified when the subscriber requests more chunks or cancels the subscription.
+     * It allows non-blocking dispatchers to suspend reading instead of parking a thread in {@link #awaitDemand(long)}.
+     *
+     * @param demandListener the listener; it's called by the thread signalling the demand
+     */
+    public void setDemandListener(Runnable demandListener) {
+        synchronized (this) {
+            this.demandListener = demandListener;
+        }
+        notifyDemandListener();
+    }
+
+    /**
+     * @return true if there is a subscriber with outstanding demand for chunks
+     */
+    public synchronized boolean hasDemand() {
+        return !cancelled && !isTerminated() && subscriber != null && demand > 0;
+    }
+
+    /**
+     * Parks the calling thread until the subscriber requests more chunks or the timeout elapses.
+     * The caller should check {@link #hasDemand()} afterwards and wait again in bounded slices, so it can notice
+     * its own deadline or cancellation meanwhile.
+     *
+     * @param timeoutMillis the maximum time to wait, in milliseconds
+     *
+     * @return false if the stream was cancelled or terminated and no more chunks should be published
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public synchronized boolean awaitDemand(long timeoutMillis) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining = timeoutMillis;
+        while (remaining > 0 && !cancelled && !isTerminated() && (subscriber == null || demand == 0)) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+        return !cancelled && !isTerminated();
+    }
+
+    /**
+     * Publishes the next chunk. Must be called only when {@link #hasDemand()} is true.
+     *
+     * @param chunk the next chunk of the body
+     */
+    public void publish(byte[] chunk) {
+        final Subscriber s;
+        synchronized (this) {
+            if (cancelled || isTerminated()) return;
+            if (demand != Long.MAX_VALUE) demand--;
+            s = subscriber;
+        }
+        s.onNext(chunk);
+    }
+
+    /**
+     * Signals the body was fully published.
+     */
+    public void complete() {
+        final Subscriber s;
+        synchronized (this) {
+            if (cancelled || isTerminated()) return;
+            completed = true;
+            s = subscriber;
+            notifyAll();
+        }
+        if (s != null) s.onComplete();
+    }
+
+    /**
+     * Signals the body could not be fully published. It also wakes up a thread waiting for demand.
+     *
+     * @param throwable the cause of the failure
+     */
+    public void abort(Throwable throwable) {
+        deliverError(throwable);
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    private void deliverError(Throwable throwable) {
+        final Subscriber s;
+        synchronized (this) {
+            if (isTerminated()) return;
+            error = throwable;
+            s = cancelled ? null : subscriber;
+            notifyAll();
+        }
+        if (s != null) s.onError(throwable);
+    }
+
+    private void notifyDemandListener() {
+        final Runnable listener;
+        synchronized (this) {
+            listener = demandListener;
+        }
+        if (listener != null) listener.run();
+    }
+
+    private boolean isTerminated() {
+        return completed || error != null;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * <p>Incremental parser of text/event-stream bodies, as specified by the HTML Living Standard.</p>
+ *
+ * <p>Chunks can be fed as they are read from the connection, split anywhere, including in the middle of a line, of
+ * a CRLF or of a multi-byte UTF-8 character. Each event is dispatched to the handler as soon as its blank line is
+ * parsed. Comments are ignored and an incomplete event at the end of the stream is discarded.</p>
+ *
+ * <p>The last event id and the reconnection time sent by the server are kept across {@link #reset() resets}, so the
+ * same parser can be reused for every connection of a stream.</p>
+ *
+ * <p>This class is not thread-safe. Chunks must be fed sequentially.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class EventStreamParser {
+
+    /**
+     * Receives the parsed events.
+     */
+    public interface Handler {
+        void onEvent(ServerSentEvent event);
+    }
+
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private final Handler handler;
+
+    private byte[] line = new byte[128];
+    private int lineLength;
+    private boolean skipLf;
+    private boolean bomChecked;
+
+    private final StringBuilder data = new StringBuilder();
+    private boolean hasData;
+    private String type;
+
+    private String lastEventId = "";
+    private long retryMillis = -1;
+
+    public EventStreamParser(Handler handler) {
+        if (handler == null) throw new NullPointerException("Handler cannot be null");
+        this.handler = handler;
+    }
+
+    /**
+     * Parses the next chunk of the stream.
+     *
+     * @param chunk the bytes read from the stream
+     */
+    public void feed(byte[] chunk) {
+        feed(chunk, 0, chunk.length);
+    }
+
+    /**
+     * Parses the next chunk of the stream.
+     *
+     * @param chunk     the buffer holding the bytes read from the stream
+     * @param offset    the position of the first byte in the buffer
+     * @param length    the number of bytes read
+     */
+    public void feed(byte[] chunk, int offset, int length) {
+        final int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            final byte b = chunk[i];
+            if (skipLf) {
+                skipLf = false;
+                if (b == LF) continue;
+            }
+            if (b == CR || b == LF) {
+                skipLf = b == CR;
+                processLine();
+            } else {
+                append(b);
+            }
+        }
+    }
+
+    /**
+     * Discards the partially parsed line and event, so the parser is ready for a new connection.
+     * The last event id and the reconnection time are kept.
+     */
+    public void reset() {
+        lineLength = 0;
+        skipLf = false;
+        bomChecked = false;
+        clearEvent();
+    }
+
+    /**
+     * @return the id of the last event, to be sent as Last-Event-ID when reconnecting, or an empty string if none
+     */
+    public String getLastEventId() {
+        return lastEventId;
+    }
+
+    public void setLastEventId(String lastEventId) {
+        this.lastEventId = lastEventId != null ? lastEventId : "";
+    }
+
+    /**
+     * @return the reconnection time in milliseconds set by the server, or -1 if none was set
+     */
+    public long getRetryMillis() {
+        return retryMillis;
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    private void append(byte b) {
+        if (lineLength == line.length) line = Arrays.copyOf(line, lineLength * 2);
+        line[lineLength++] = b;
+    }
+
+    private void processLine() {
+        int start = 0;
+        if (!bomChecked) {
+            bomChecked = true;
+            // A leading UTF-8 byte order mark is ignored
+            if (lineLength >= 3 && (line[0] & 0xFF) == 0xEF && (line[1] & 0xFF) == 0xBB && (line[2] & 0xFF) == 0xBF) {
+                start = 3;
+            }
+        }
+
+        final int length = lineLength - start;
+        lineLength = 0;
+
+        if (length == 0) {
+            dispatchEvent();
+            return;
+        }
+
+        // Lines are decoded only when complete, so multi-byte characters are never split
+        final String text = new String(line, start, length, StandardCharsets.UTF_8);
+        if (text.charAt(0) == ':') return;
+
+        final int colon = text.indexOf(':');
+        final String field = colon < 0 ? text : text.substring(0, colon);
+        String value = colon < 0 ? "" : text.substring(colon + 1);
+        if (value.startsWith(" ")) value = value.substring(1);
+
+        processField(field, value);
+    }
+
+    private void processField(String field, String value) {
+        if ("data".equals(field)) {
+            data.append(value).append('\n');
+            hasData = true;
+        } else if ("event".equals(field)) {
+            type = value;
+        } else if ("id".equals(field)) {
+            if (value.indexOf('\0') < 0) lastEventId = value;
+        } else if ("retry".equals(field)) {
+            if (isDigits(value)) {
+                try {
+                    retryMillis = Long.parseLong(value);
+                } catch (NumberFormatException e) {
+                    // Too large to be a meaningful delay
+                }
+            }
+        }
+    }
+
+    private void dispatchEvent() {
+        if (!hasData) {
+            clearEvent();
+            return;
+        }
+
+        // The last LF appended to data is removed
+        final ServerSentEvent event = new ServerSentEvent(lastEventId, type,
+                data.substring(0, data.length() - 1));
+        clearEvent();
+
+        handler.onEvent(event);
+    }
+
+    private void clearEvent() {
+        data.setLength(0);
+        hasData = false;
+        type = null;
+    }
+
+    private static boolean isDigits(String value) {
+        if (value.isEmpty()) return false;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+}
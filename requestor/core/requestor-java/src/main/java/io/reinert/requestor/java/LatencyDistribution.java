@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java;
+
+import java.util.Random;
+
+/**
+ * A distribution of latencies to be sampled by a {@link SimulatedRequestDispatcherFactory}.
+ *
+ * @author Danilo Reinert
+ */
+public interface LatencyDistribution {
+
+    /**
+     * @param random the source of randomness of the simulation
+     * @return a latency in milliseconds
+     */
+    long sample(Random random);
+
+    static LatencyDistribution fixed(long millis) {
+        return random -> millis;
+    }
+
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+    }
+
+    static LatencyDistribution exponential(double meanMillis) {
+        return random -> Math.round(-meanMillis * Math.log(1 - random.nextDouble()));
+    }
+
+    /**
+     * A long-tailed distribution, usually a good fit for real server latencies.
+     *
+     * @param medianMillis the median latency
+     * @param sigma the standard deviation of the underlying normal distribution, e.g. 0.5 for a moderate tail
+     * @return the distribution
+     */
+    static LatencyDistribution logNormal(double medianMillis, double sigma) {
+        return random -> Math.round(medianMillis * Math.exp(sigma * random.nextGaussian()));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.reinert.requestor.core.HttpConnection;
+import io.reinert.requestor.core.Request;
+import io.reinert.requestor.core.RequestException;
+import io.reinert.requestor.core.Response;
+import io.reinert.requestor.core.callback.ExceptionCallback;
+import io.reinert.requestor.core.callback.ResponseCallback;
+
+/**
+ * Bridges requestor {@link Request}s to {@link CompletableFuture}s.
+ *
+ * <p>The bridge is callback based, so no thread is blocked waiting for the response.</p>
+ *
+ * @author Danilo Reinert
+ */
+public final class RequestFutures {
+
+    private RequestFutures() { }
+
+    /**
+     * Returns a CompletableFuture that is completed with the response when the request is loaded, or completed
+     * exceptionally with the {@link RequestException} when the request fails.
+     * <p></p>
+     * Cancelling the returned future cancels the request.
+     * In case of polling requests, the future is completed by the first response.
+     *
+     * @param request   the dispatched request
+     * @param <T>       the expected type in the response payload
+     *
+     * @return a CompletableFuture of the response
+     */
+    public static <T> CompletableFuture<Response> toCompletableFuture(final Request<T> request) {
+        final CompletableFuture<Response> future = new CompletableFuture<Response>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                final boolean cancelled = super.cancel(mayInterruptIfRunning);
+                final HttpConnection connection = request.getHttpConnection();
+                if (cancelled && connection != null && connection.isPending()) connection.cancel();
+                return cancelled;
+            }
+        };
+
+        request.onLoad(new ResponseCallback() {
+            public void execute(Response response) {
+                future.complete(response);
+            }
+        }).onError(new ExceptionCallback() {
+            public void execute(RequestException e) {
+                future.completeExceptionally(e);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Returns a CompletableFuture that is completed with the deserialized payload when the request succeeds.
+     * <p></p>
+     * If the request fails or the response status is not 2xx, then the future is completed exceptionally.
+     * In the latter case, the exception is an {@link UnsuccessfulResponseException} holding the response.
+     *
+     * @param request   the dispatched request
+     * @param <T>       the expected type in the response payload
+     *
+     * @return a CompletableFuture of the response payload
+     */
+    public static <T> CompletableFuture<T> toPayloadFuture(final Request<T> request) {
+        return toCompletableFuture(request).thenApply(response -> {
+            if (response.getStatusCode() / 100 != 2) throw new UnsuccessfulResponseException(response);
+            return response.getPayload();
+        });
+    }
+}
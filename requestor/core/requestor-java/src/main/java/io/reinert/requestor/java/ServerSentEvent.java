@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java;
+
+/**
+ * An event received from a text/event-stream.
+ *
+ * @author Danilo Reinert
+ */
+public class ServerSentEvent {
+
+    public static final String DEFAULT_TYPE = "message";
+
+    private final String id;
+    private final String type;
+    private final String data;
+
+    public ServerSentEvent(String id, String type, String data) {
+        this.id = id;
+        this.type = type != null && !type.isEmpty() ? type : DEFAULT_TYPE;
+        this.data = data;
+    }
+
+    /**
+     * @return the last event id of the stream when this event was dispatched, or an empty string if none was set
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return the event type, which is "message" unless the server set it
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * @return the event data, with the lines of multi-line data joined by LF
+     */
+    public String getData() {
+        return data;
+    }
+
+    @Override
+    public String toString() {
+        return "ServerSentEvent{id='" + id + "', type='" + type + "', data='" + data + "'}";
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reinert.requestor.core.AsyncRunner;
+import io.reinert.requestor.core.Deferred;
+import io.reinert.requestor.core.DeferredPool;
+import io.reinert.requestor.core.Headers;
+import io.reinert.requestor.core.HttpConnection;
+import io.reinert.requestor.core.PreparedRequest;
+import io.reinert.requestor.core.RawResponse;
+import io.reinert.requestor.core.RequestCancelException;
+import io.reinert.requestor.core.RequestDispatcher;
+import io.reinert.requestor.core.RequestLogger;
+import io.reinert.requestor.core.RequestProcessor;
+import io.reinert.requestor.core.RequestTimeoutException;
+import io.reinert.requestor.core.ResponseProcessor;
+import io.reinert.requestor.core.Status;
+import io.reinert.requestor.core.header.Header;
+import io.reinert.requestor.core.payload.SerializedPayload;
+import io.reinert.requestor.core.payload.TextSerializedPayload;
+import io.reinert.requestor.core.payload.type.PayloadType;
+
+/**
+ * <p>Factory of dispatchers that simulate a server instead of sending requests through the network.</p>
+ *
+ * <p>For each request, a {@link Responder} tells after how long and with which status the simulated server answers,
+ * or whether the connection fails. The outcome is delivered by the session's AsyncRunner after the sampled latency,
+ * or rejected with a timeout if the latency exceeds the request's timeout. Along with a
+ * {@link VirtualTimeAsyncRunner}, it allows evaluating retry policies, polling intervals and concurrency limits
+ * against millions of requests in seconds.</p>
+ *
+ * <p>Randomness is seeded, so simulations are reproducible.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class SimulatedRequestDispatcherFactory implements RequestDispatcher.Factory {
+
+    /**
+     * Decides the outcome of each simulated request.
+     */
+    public interface Responder {
+        Outcome respond(PreparedRequest request, Random random);
+    }
+
+    /**
+     * The outcome of a simulated request.
+     */
+    public static class Outcome {
+        private final long latencyMillis;
+        private final int statusCode;
+        private final String body;
+        private final List<Header> headers = new ArrayList<>();
+
+        private Outcome(long latencyMillis, int statusCode, String body) {
+            this.latencyMillis = latencyMillis;
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+
+        public static Outcome response(long latencyMillis, int statusCode) {
+            return response(latencyMillis, statusCode, null);
+        }
+
+        public static Outcome response(long latencyMillis, int statusCode, String body) {
+            return new Outcome(latencyMillis, statusCode, body);
+        }
+
+        /**
+         * The connection fails after the latency, as if the server were unreachable.
+         */
+        public static Outcome failure(long latencyMillis) {
+            return new Outcome(latencyMillis, -1, null);
+        }
+
+        /**
+         * Adds a header to the simulated response.
+         */
+        public Outcome header(String name, String value) {
+            headers.add(Header.fromRawHeader(name, value));
+            return this;
+        }
+
+        public long getLatencyMillis() {
+            return latencyMillis;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public boolean isFailure() {
+            return statusCode < 0;
+        }
+
+        Headers getHeaders() {
+            final List<Header> result = new ArrayList<>();
+            result.add(Header.fromRawHeader("Content-Type", "text/plain"));
+            result.addAll(headers);
+            return new Headers(result);
+        }
+    }
+
+    private static final long DEFAULT_SEED = 42L;
+
+    private final Responder responder;
+    private final Random random;
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+
+    /**
+     * Simulates a server answering 200 with the given latencies, or 503 at the given error rate.
+     *
+     * @param latency the latency distribution of the server
+     * @param errorRate the ratio of requests answered with 503, from 0 to 1
+     */
+    public SimulatedRequestDispatcherFactory(LatencyDistribution latency, double errorRate) {
+        this((request, random) -> Outcome.response(latency.sample(random),
+                random.nextDouble() < errorRate ? 503 : 200));
+    }
+
+    public SimulatedRequestDispatcherFactory(Responder responder) {
+        this(responder, DEFAULT_SEED);
+    }
+
+    public SimulatedRequestDispatcherFactory(Responder responder, long seed) {
+        this.responder = responder;
+        this.random = new Random(seed);
+    }
+
+    public RequestDispatcher create(AsyncRunner asyncRunner,
+                                    RequestProcessor requestProcessor,
+                                    ResponseProcessor responseProcessor,
+                                    DeferredPool.Factory deferredPoolFactory,
+                                    RequestLogger logger) {
+        return new SimulatedRequestDispatcher(asyncRunner, requestProcessor, responseProcessor,
+                deferredPoolFactory, logger);
+    }
+
+    /**
+     * @return the number of requests that reached the simulated server, including retries and polls
+     */
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    /**
+     * @return the number of simulated connection failures
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * @return the number of requests that timed out before the simulated server answered
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    private class SimulatedRequestDispatcher extends RequestDispatcher {
+
+        SimulatedRequestDispatcher(AsyncRunner asyncRunner, RequestProcessor requestProcessor,
+                                   ResponseProcessor responseProcessor, DeferredPool.Factory deferredPoolFactory,
+                                   RequestLogger logger) {
+            super(asyncRunner, requestProcessor, responseProcessor, deferredPoolFactory, logger);
+        }
+
+        protected <R> void send(PreparedRequest request, Deferred<R> deferred, PayloadType payloadType) {
+            if (!deferred.isPending()) return;
+
+            deferred.setHttpConnection(new HttpConnection() {
+                public void cancel() {
+                    if (deferred.isPending()) {
+                        deferred.reject(new RequestCancelException(request,
+                                "Request was manually cancelled through the HttpConnection."));
+                    }
+                }
+
+                public boolean isPending() {
+                    return deferred.isPending();
+                }
+            });
+
+            sentCount.incrementAndGet();
+
+            final Outcome outcome;
+            synchronized (random) {
+                outcome = responder.respond(request, random);
+            }
+
+            final int timeout = request.getTimeout();
+            if (timeout > 0 && outcome.getLatencyMillis() > timeout) {
+                run(() -> {
+                    if (!deferred.isPending()) return;
+                    timeoutCount.incrementAndGet();
+                    deferred.reject(new RequestTimeoutException(request, timeout));
+                }, timeout);
+                return;
+            }
+
+            run(() -> {
+                if (!deferred.isPending()) return;
+
+                if (outcome.isFailure()) {
+                    failureCount.incrementAndGet();
+                    deferred.reject(new RequestCancelException(request, "Simulated connection failure.",
+                            new IOException("Simulated connection failure.")));
+                    return;
+                }
+
+                final RawResponse response = new RawResponse(deferred, Status.of(outcome.getStatusCode()),
+                        outcome.getHeaders(), payloadType);
+                deferred.notifyResponse(response);
+                response.setSerializedPayload(outcome.getBody() == null ? SerializedPayload.EMPTY_PAYLOAD :
+                        new TextSerializedPayload(outcome.getBody()));
+                evalResponse(response);
+            }, outcome.getLatencyMillis());
+        }
+    }
+}
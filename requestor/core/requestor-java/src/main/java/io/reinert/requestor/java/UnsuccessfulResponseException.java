@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java;
+
+import io.reinert.requestor.core.Response;
+
+/**
+ * Thrown by futures of payloads when the response status is not successful.
+ *
+ * @author Danilo Reinert
+ */
+public class UnsuccessfulResponseException extends RuntimeException {
+
+    private static final long serialVersionUID = -3125618320593342021L;
+
+    private final transient Response response;
+
+    public UnsuccessfulResponseException(Response response) {
+        super("The request responded with the unsuccessful status " + response.getStatusCode() + ".");
+        this.response = response;
+    }
+
+    public Response getResponse() {
+        return response;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java;
+
+import java.util.PriorityQueue;
+
+import io.reinert.requestor.core.AsyncRunner;
+import io.reinert.requestor.core.Clock;
+
+/**
+ * <p>Deterministic AsyncRunner that advances a virtual clock instead of waiting.</p>
+ *
+ * <p>Tasks are queued by their due time and only run when the clock is advanced, all of them in the calling thread.
+ * When installed as the current {@link Clock}, time-based policies such as store TTLs and rate limits follow the
+ * virtual time as well, so hours of traffic can be simulated in seconds.</p>
+ *
+ * <pre>
+ * VirtualTimeAsyncRunner runner = new VirtualTimeAsyncRunner();
+ * runner.install();
+ * Session session = Requestor.newSession(new DeferredPoolFactoryImpl(), runner,
+ *         new SimulatedRequestDispatcherFactory(LatencyDistribution.exponential(80), 0.01));
+ * ... // send requests
+ * runner.runUntilIdle();
+ * runner.uninstall();
+ * </pre>
+ *
+ * <p>Since there is a single thread, blocking waits such as {@code request.await()} run the due tasks until the
+ * awaited request is settled, instead of parking the thread.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class VirtualTimeAsyncRunner extends Clock implements AsyncRunner {
+
+    private static class Task implements Comparable<Task> {
+        private final long dueMillis;
+        private final long sequence;
+        private final Runnable runnable;
+
+        Task(long dueMillis, long sequence, Runnable runnable) {
+            this.dueMillis = dueMillis;
+            this.sequence = sequence;
+            this.runnable = runnable;
+        }
+
+        @Override
+        public int compareTo(Task o) {
+            if (dueMillis != o.dueMillis) return dueMillis < o.dueMillis ? -1 : 1;
+            return Long.compare(sequence, o.sequence);
+        }
+    }
+
+    private class VirtualLock implements Lock {
+        private boolean signalled;
+        private int waiters;
+
+        @Override
+        public void await(long timeout) {
+            final long deadline = timeout > 0 ? currentTimeMillis() + timeout : Long.MAX_VALUE;
+            signalled = false;
+            waiters++;
+            try {
+                while (!signalled) {
+                    final Task task = pollDue(deadline);
+                    if (task == null) {
+                        if (deadline == Long.MAX_VALUE) {
+                            throw new IllegalStateException("There are no tasks left to run in virtual time, " +
+                                    "so the awaited lock would never be signalled.");
+                        }
+                        advanceTo(deadline);
+                        return;
+                    }
+                    task.runnable.run();
+                }
+            } finally {
+                waiters--;
+            }
+        }
+
+        @Override
+        public boolean isAwaiting() {
+            return waiters > 0;
+        }
+
+        @Override
+        public void signalAll() {
+            signalled = true;
+        }
+    }
+
+    private final PriorityQueue<Task> queue = new PriorityQueue<>();
+
+    private long nowMillis;
+    private long sequence;
+    private long executedCount;
+    private boolean shutdown;
+
+    public VirtualTimeAsyncRunner() {
+        this(0L);
+    }
+
+    public VirtualTimeAsyncRunner(long startMillis) {
+        this.nowMillis = startMillis;
+    }
+
+    /**
+     * Installs this runner as the current {@link Clock}.
+     */
+    public void install() {
+        Clock.setCurrent(this);
+    }
+
+    /**
+     * Restores the system clock if this runner is the current one.
+     */
+    public void uninstall() {
+        if (Clock.getCurrent() == this) Clock.setCurrent(null);
+    }
+
+    @Override
+    public synchronized long currentTimeMillis() {
+        return nowMillis;
+    }
+
+    @Override
+    public synchronized void run(Runnable runnable, long delayMillis) {
+        if (shutdown) return;
+        queue.add(new Task(nowMillis + Math.max(0L, delayMillis), sequence++, runnable));
+    }
+
+    /**
+     * Does nothing, since sleeping in virtual time would hold back every other task.
+     */
+    @Override
+    public void sleep(long millis) {
+        // no-op
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        queue.clear();
+    }
+
+    @Override
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Returns a lock whose waits run the due tasks in the calling thread until it's signalled, since blocking would
+     * hold back the very tasks being awaited. If nothing is left to run and no timeout was given, the wait fails
+     * with an {@link IllegalStateException} instead of hanging.
+     */
+    @Override
+    public Lock getLock() {
+        return new VirtualLock();
+    }
+
+    /**
+     * Advances the clock by the given time, running every task due until then.
+     *
+     * @param millis the time to advance
+     */
+    public void advanceBy(long millis) {
+        advanceTo(currentTimeMillis() + millis);
+    }
+
+    /**
+     * Advances the clock to the given time, running every task due until then in order.
+     *
+     * @param targetMillis the time to advance to
+     */
+    public void advanceTo(long targetMillis) {
+        Task task;
+        while ((task = pollDue(targetMillis)) != null) {
+            task.runnable.run();
+        }
+        synchronized (this) {
+            if (targetMillis > nowMillis) nowMillis = targetMillis;
+        }
+    }
+
+    /**
+     * Runs the tasks in order, advancing the clock to each one's due time, until none is left.
+     *
+     * @return the number of tasks executed
+     */
+    public long runUntilIdle() {
+        return runUntilIdle(Long.MAX_VALUE);
+    }
+
+    /**
+     * Runs the tasks in order, advancing the clock to each one's due time, until none is left or the limit is hit.
+     * A limit is useful to stop endless polling.
+     *
+     * @param maxTasks the max number of tasks to execute
+     * @return the number of tasks executed
+     */
+    public long runUntilIdle(long maxTasks) {
+        long count = 0;
+        Task task;
+        while (count < maxTasks && (task = pollDue(Long.MAX_VALUE)) != null) {
+            task.runnable.run();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of tasks waiting to be executed
+     */
+    public synchronized int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of tasks executed since this runner was created
+     */
+    public synchronized long getExecutedCount() {
+        return executedCount;
+    }
+
+    private synchronized Task pollDue(long targetMillis) {
+        final Task next = queue.peek();
+        if (next == null || next.dueMillis > targetMillis) return null;
+        queue.poll();
+        if (next.dueMillis > nowMillis) nowMillis = next.dueMillis;
+        executedCount++;
+        return next;
+    }
+}
@@ -17,7 +17,9 @@ package io.reinert.requestor.kotlin
 
 import java.lang.Runnable
 import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
 
+import kotlinx.coroutines.CompletableDeferred
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.delay
@@ -25,7 +27,7 @@ import kotlinx.coroutines.Job
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.runBlocking
 import kotlinx.coroutines.withContext
-import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.withTimeoutOrNull
 
 import io.reinert.requestor.core.AsyncRunner
 
@@ -38,30 +40,76 @@ class CoroutineAsyncRunner(private val scope: CoroutineScope,
                            private val dispatcher: CoroutineDispatcher? = null) : AsyncRunner {
 
     /**
-     * Lock implementation based on kotlin channels.
+     * Lock implementation that can be awaited by both threads and coroutines.
+     *
+     * Threads block in [await] holding the monitor of the lock, as required by [AsyncRunner.Lock].
+     * Coroutines should use [awaitUntil] instead, which suspends without pinning a thread.
      *
      * @author Danilo Reinert
      */
-    class Lock(private val scope: CoroutineScope) : AsyncRunner.Lock {
+    class Lock() : AsyncRunner.Lock {
+
+        @Deprecated("The lock is no longer bound to a scope", ReplaceWith("Lock()"))
+        constructor(@Suppress("UNUSED_PARAMETER") scope: CoroutineScope) : this()
 
-        private var channel: Channel<Unit>? = null
-        private var waiting = false
+        @Volatile
+        private var signal = CompletableDeferred<Unit>()
+        private val waiters = AtomicInteger()
 
+        @Suppress("PLATFORM_CLASS_MAPPED_TO_KOTLIN")
         override fun await(timeout: Long) {
-            if (channel == null) channel = Channel(0)
-            waiting = true
-            runBlocking(scope.coroutineContext) {
-                channel!!.receive()
-                waiting = false
+            waiters.incrementAndGet()
+            try {
+                // The monitor is reentrant, so callers already holding it are served as well
+                synchronized(this) {
+                    (this as Object).wait(timeout)
+                }
+            } finally {
+                waiters.decrementAndGet()
+            }
+        }
+
+        /**
+         * Suspends until the condition is met or the timeout elapses.
+         *
+         * @param timeout the max time to wait in milliseconds, or 0 to wait indefinitely
+         * @param condition checked on every signal
+         * @return false if the timeout elapsed before the condition was met
+         */
+        suspend fun awaitUntil(timeout: Long, condition: () -> Boolean): Boolean {
+            val deadline = System.currentTimeMillis() + timeout
+            waiters.incrementAndGet()
+            try {
+                while (true) {
+                    // The signal is taken before checking the condition so that no signal is lost in between
+                    val next = signal
+                    if (condition()) return true
+                    if (timeout <= 0) {
+                        next.await()
+                    } else {
+                        val remaining = deadline - System.currentTimeMillis()
+                        if (remaining <= 0) return false
+                        withTimeoutOrNull(remaining) { next.await() }
+                    }
+                }
+            } finally {
+                waiters.decrementAndGet()
             }
         }
 
         override fun isAwaiting(): Boolean {
-            return waiting;
+            return waiters.get() > 0
         }
 
+        @Suppress("PLATFORM_CLASS_MAPPED_TO_KOTLIN")
         override fun signalAll() {
-            channel?.trySend(Unit)
+            val current: CompletableDeferred<Unit>
+            synchronized(this) {
+                current = signal
+                signal = CompletableDeferred()
+                (this as Object).notifyAll()
+            }
+            current.complete(Unit)
         }
 
     }
@@ -102,8 +150,18 @@ class CoroutineAsyncRunner(private val scope: CoroutineScope,
         }
     }
 
+    /**
+     * Blocks the current thread.
+     *
+     * The RequestDispatcher sleeps only in the abort path, from within a Runnable, so it cannot suspend instead.
+     */
     override fun sleep(millis: Long) {
-        // no-op
+        if (millis <= 0) return
+        try {
+            Thread.sleep(millis)
+        } catch (e: InterruptedException) {
+            Thread.currentThread().interrupt()
+        }
     }
 
     override fun shutdown() {
@@ -115,6 +173,6 @@ class CoroutineAsyncRunner(private val scope: CoroutineScope,
     }
 
     override fun getLock(): AsyncRunner.Lock {
-        return Lock(scope)
+        return Lock()
     }
 }
\ No newline at end of file
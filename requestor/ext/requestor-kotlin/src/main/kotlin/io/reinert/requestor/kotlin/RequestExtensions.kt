@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.kotlin
+
+import java.util.concurrent.atomic.AtomicBoolean
+
+import kotlin.coroutines.resume
+import kotlin.coroutines.resumeWithException
+
+import kotlinx.coroutines.CancellableContinuation
+import kotlinx.coroutines.channels.awaitClose
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.callbackFlow
+import kotlinx.coroutines.suspendCancellableCoroutine
+
+import io.reinert.requestor.core.PollingRequest
+import io.reinert.requestor.core.ReadProgress
+import io.reinert.requestor.core.Request
+import io.reinert.requestor.core.Response
+import io.reinert.requestor.core.WriteProgress
+import io.reinert.requestor.core.callback.ExceptionCallback
+import io.reinert.requestor.core.callback.PayloadCallback
+import io.reinert.requestor.core.callback.ReadCallback
+import io.reinert.requestor.core.callback.ResponseCallback
+import io.reinert.requestor.core.callback.WriteCallback
+
+/**
+ * Suspends until the response is loaded, regardless of its status, without blocking the calling thread.
+ *
+ * Cancelling the coroutine cancels the request. If the request is polling, the first response is returned.
+ *
+ * @throws io.reinert.requestor.core.RequestException if the request is aborted, cancelled or timed out
+ */
+suspend fun Request<*>.awaitResponse(): Response = suspendCancellableCoroutine { cont ->
+    val resumed = AtomicBoolean()
+    onLoad(ResponseCallback { response ->
+        if (resumed.compareAndSet(false, true)) cont.resume(response)
+    })
+    onError(ExceptionCallback { exception ->
+        if (resumed.compareAndSet(false, true)) cont.resumeWithException(exception)
+    })
+    cancelOnCancellation(cont)
+}
+
+/**
+ * Suspends until the response is successfully loaded and returns its deserialized payload.
+ *
+ * Cancelling the coroutine cancels the request. If the request is polling, the first payload is returned.
+ *
+ * @throws UnsuccessfulResponseException if the response status is not successful
+ * @throws io.reinert.requestor.core.RequestException if the request is aborted, cancelled or timed out
+ */
+suspend fun <T> Request<T>.awaitPayload(): T = suspendCancellableCoroutine { cont ->
+    val resumed = AtomicBoolean()
+    onSuccess(PayloadCallback<T> { payload ->
+        if (resumed.compareAndSet(false, true)) cont.resume(payload)
+    })
+    onFail(ResponseCallback { response ->
+        if (resumed.compareAndSet(false, true)) cont.resumeWithException(UnsuccessfulResponseException(response))
+    })
+    onError(ExceptionCallback { exception ->
+        if (resumed.compareAndSet(false, true)) cont.resumeWithException(exception)
+    })
+    cancelOnCancellation(cont)
+}
+
+/**
+ * Emits every response of a polling request as it's loaded.
+ *
+ * The flow completes after the response of the last poll and fails if any poll fails with an exception.
+ * Cancelling the collector stops the polling and cancels the ongoing request.
+ *
+ * Callbacks are registered when the flow is collected, so collect it right after sending the request.
+ */
+fun <T> PollingRequest<T>.asFlow(): Flow<Response> = callbackFlow {
+    onLoad(ResponseCallback { response ->
+        trySend(response)
+        if (!isPolling) close()
+    })
+    onError(ExceptionCallback { exception ->
+        close(exception)
+    })
+    awaitClose { cancelRequest() }
+}
+
+/**
+ * Emits the download progress events of the request.
+ *
+ * The flow completes when the response is loaded and fails if the request fails with an exception.
+ * Callbacks are registered when the flow is collected, so collect it right after sending the request.
+ */
+fun Request<*>.readProgressFlow(): Flow<ReadProgress> = callbackFlow {
+    onRead(ReadCallback { progress -> trySend(progress) })
+    onLoad(ResponseCallback { close() })
+    onError(ExceptionCallback { exception -> close(exception) })
+    awaitClose { }
+}
+
+/**
+ * Emits the upload progress events of the request.
+ *
+ * The flow completes when the response is loaded and fails if the request fails with an exception.
+ * Callbacks are registered when the flow is collected, so collect it right after sending the request.
+ */
+fun Request<*>.writeProgressFlow(): Flow<WriteProgress> = callbackFlow {
+    onWrite(WriteCallback { progress -> trySend(progress) })
+    onLoad(ResponseCallback { close() })
+    onError(ExceptionCallback { exception -> close(exception) })
+    awaitClose { }
+}
+
+private fun Request<*>.cancelOnCancellation(cont: CancellableContinuation<*>) {
+    cont.invokeOnCancellation { cancelRequest() }
+}
+
+private fun Request<*>.cancelRequest() {
+    if (this is PollingRequest<*> && isPolling) stopPolling()
+    httpConnection?.let { if (it.isPending) it.cancel() }
+}
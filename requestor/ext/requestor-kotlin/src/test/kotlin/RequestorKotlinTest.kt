@@ -37,4 +37,57 @@ class RequestorKotlinTest {
         assertTrue { payload != "" }
     }
 
+    @Test
+    fun `await a payload without blocking`() {
+        var payload = ""
+        runBlocking {
+            val runner = CoroutineAsyncRunner(this, Dispatchers.IO)
+            val session = Requestor.newSession(runner)
+
+            payload = session.req("https://httpbin.org/get")
+                    .get(String::class.java)
+                    .awaitPayload()
+        }
+
+        assertTrue { payload != "" }
+    }
+
+    @Test
+    fun `suspend on lock until signalled`() {
+        val lock = CoroutineAsyncRunner.Lock()
+        var ready = false
+        runBlocking {
+            launch(Dispatchers.Default) {
+                delay(50)
+                ready = true
+                lock.signalAll()
+            }
+
+            assertTrue { lock.awaitUntil(5_000) { ready } }
+        }
+    }
+
+    @Test
+    fun `block on lock without holding its monitor`() {
+        val lock = CoroutineAsyncRunner.Lock()
+        var error: Throwable? = null
+        val waiter = Thread {
+            try {
+                lock.await(5_000)
+            } catch (e: Throwable) {
+                error = e
+            }
+        }
+        waiter.start()
+
+        // Keep signalling, since the waiter may not be parked yet
+        while (waiter.isAlive) {
+            lock.signalAll()
+            waiter.join(10)
+        }
+
+        assertNull(error)
+        assertFalse { lock.isAwaiting() }
+    }
+
 }
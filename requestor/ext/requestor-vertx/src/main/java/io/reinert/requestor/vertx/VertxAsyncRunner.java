@@ -17,23 +17,44 @@ package io.reinert.requestor.vertx;
 
 import io.reinert.requestor.core.AsyncRunner;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 
 /**
  * AsyncRunner that integrates Requestor with Vertx.
+ * <p></p>
+ * By default, tasks are run in the worker pool, as required by blocking dispatchers like javanet's.
+ * In event loop mode, tasks are run on the event loop instead, which is meant to be used along with
+ * {@link VertxRequestDispatcherFactory}.
  *
  * @author Danilo Reinert
  */
 public class VertxAsyncRunner implements AsyncRunner {
 
     public VertxAsyncRunner(Vertx vertx) {
+        this(vertx, false);
+    }
+
+    public VertxAsyncRunner(Vertx vertx, boolean eventLoop) {
         this.vertx = vertx;
+        this.eventLoop = eventLoop;
     }
     private final Vertx vertx;
+    private final boolean eventLoop;
+
+    public boolean isEventLoop() {
+        return eventLoop;
+    }
 
     @Override
     public void run(Runnable runnable, long delayMillis) {
-        if (delayMillis < 1) {
+        if (eventLoop) {
+            if (delayMillis < 1) {
+                vertx.runOnContext(ignored -> runnable.run());
+            } else {
+                vertx.setTimer(delayMillis, ignored -> runnable.run());
+            }
+        } else if (delayMillis < 1) {
             executeBlocking(runnable);
         } else {
             vertx.setTimer(delayMillis, ignored -> executeBlocking(runnable));
@@ -42,6 +63,9 @@ public class VertxAsyncRunner implements AsyncRunner {
 
     @Override
     public void sleep(long millis) {
+        // The event loop must never be blocked
+        if (Context.isOnEventLoopThread()) return;
+
         try {
             Thread.sleep(millis);
         } catch (InterruptedException e) {
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.vertx;
+
+import io.reinert.requestor.core.Deferred;
+import io.reinert.requestor.core.HttpConnection;
+import io.reinert.requestor.core.RequestCancelException;
+import io.reinert.requestor.core.RequestException;
+import io.reinert.requestor.core.RequestOptions;
+import io.reinert.requestor.java.ChunkPublisher;
+import io.vertx.core.http.HttpClientRequest;
+
+/**
+ * HttpConnection implementation for Vert.x {@link HttpClientRequest}.
+ *
+ * @author Danilo Reinert
+ */
+public class VertxHttpConnection implements HttpConnection {
+
+    private final HttpClientRequest clientRequest;
+    private final Deferred<?> deferred;
+    private final RequestOptions request;
+    private final ChunkPublisher readPublisher;
+
+    public VertxHttpConnection(HttpClientRequest clientRequest, Deferred<?> deferred, RequestOptions request,
+                               ChunkPublisher readPublisher) {
+        if (clientRequest == null) throw new IllegalArgumentException("HttpClientRequest cannot be null.");
+        this.clientRequest = clientRequest;
+        this.deferred = deferred;
+        this.request = request;
+        this.readPublisher = readPublisher;
+    }
+
+    public void cancel() {
+        cancel(new RequestCancelException(request, "Request was manually cancelled through the HttpConnection."));
+    }
+
+    public boolean isPending() {
+        return deferred.isPending();
+    }
+
+    public HttpClientRequest getHttpClientRequest() {
+        return clientRequest;
+    }
+
+    protected synchronized void cancel(RequestException exception) {
+        if (isPending()) {
+            if (readPublisher != null) readPublisher.abort(exception);
+            deferred.reject(exception);
+            // Resetting may call the exception handler of the request, which then finds the deferred settled
+            clientRequest.reset();
+        }
+    }
+}
@@ -0,0 +1,411 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.vertx;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import io.reinert.requestor.core.AsyncRunner;
+import io.reinert.requestor.core.Deferred;
+import io.reinert.requestor.core.DeferredPool;
+import io.reinert.requestor.core.Headers;
+import io.reinert.requestor.core.HttpStatus;
+import io.reinert.requestor.core.PreparedRequest;
+import io.reinert.requestor.core.RawResponse;
+import io.reinert.requestor.core.ReadProgress;
+import io.reinert.requestor.core.RequestAbortException;
+import io.reinert.requestor.core.RequestCancelException;
+import io.reinert.requestor.core.RequestDispatchException;
+import io.reinert.requestor.core.RequestDispatcher;
+import io.reinert.requestor.core.RequestException;
+import io.reinert.requestor.core.RequestLogger;
+import io.reinert.requestor.core.RequestProcessor;
+import io.reinert.requestor.core.RequestTimeoutException;
+import io.reinert.requestor.core.ResponseProcessor;
+import io.reinert.requestor.core.Status;
+import io.reinert.requestor.core.WriteProgress;
+import io.reinert.requestor.core.header.Header;
+import io.reinert.requestor.core.payload.SerializedPayload;
+import io.reinert.requestor.core.payload.TextSerializedPayload;
+import io.reinert.requestor.core.payload.type.PayloadType;
+import io.reinert.requestor.java.ChunkPublisher;
+import io.reinert.requestor.java.ChunkedProgressEvent;
+import io.reinert.requestor.java.FixedProgressEvent;
+import io.reinert.requestor.java.net.Requestor;
+import io.reinert.requestor.java.payload.BinarySerializedPayload;
+import io.reinert.requestor.java.payload.CompositeSerializedPayload;
+import io.reinert.requestor.java.payload.InputStreamSerializedPayload;
+import io.vertx.core.Context;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * <p>RequestDispatcher implementation using the Vert.x {@link HttpClient}.</p>
+ *
+ * <p>Requests are written, responses are read and deferreds are resolved on the event loop of the dispatcher's
+ * context, so no worker thread is held while waiting on the network. Uploads are written only while the connection's
+ * write queue is not full, and downloads streamed to a {@link ChunkPublisher} pause the connection while there is no
+ * demand.</p>
+ *
+ * <p>The same keys of {@link Requestor} supported by javanet are honored, except for gzip encoding of request
+ * payloads; compressed responses are decoded if the HttpClient was created with compression enabled.</p>
+ *
+ * @author Danilo Reinert
+ */
+class VertxRequestDispatcher extends RequestDispatcher {
+
+    private final Vertx vertx;
+    private final Context context;
+    private final HttpClient client;
+    private final int outputBufferSize;
+
+    public VertxRequestDispatcher(AsyncRunner asyncRunner,
+                                  RequestProcessor requestProcessor,
+                                  ResponseProcessor responseProcessor,
+                                  DeferredPool.Factory deferredPoolFactory,
+                                  RequestLogger logger,
+                                  Vertx vertx, Context context, HttpClient client, int outputBufferSize) {
+        super(asyncRunner, requestProcessor, responseProcessor, deferredPoolFactory, logger);
+        this.vertx = vertx;
+        this.context = context;
+        this.client = client;
+        this.outputBufferSize = outputBufferSize;
+    }
+
+    protected <R> void send(final PreparedRequest request, final Deferred<R> deferred, final PayloadType payloadType) {
+        // Return if deferred were rejected or resolved before this method was called
+        if (!deferred.isPending()) return;
+
+        if (Vertx.currentContext() == context) {
+            doSend(request, deferred, payloadType);
+        } else {
+            context.runOnContext(ignored -> doSend(request, deferred, payloadType));
+        }
+    }
+
+    private <R> void doSend(PreparedRequest request, Deferred<R> deferred, PayloadType payloadType) {
+        if (!deferred.isPending()) return;
+
+        final ChunkPublisher readPublisher = request.getValue(Requestor.READ_PUBLISHER);
+        if (readPublisher != null && !readPublisher.bind()) {
+            deferred.reject(new RequestDispatchException(request, "The read publisher was already bound to another" +
+                    " response. A ChunkPublisher streams a single response, so it cannot be shared by sessions or" +
+                    " services, nor reused by polls or retries."));
+            return;
+        }
+
+        final HttpClientRequest clientRequest;
+        try {
+            clientRequest = createClientRequest(request);
+        } catch (RuntimeException e) {
+            deferred.reject(new RequestAbortException(request, "Failed to create the request.", e));
+            return;
+        }
+
+        final VertxHttpConnection netConn = new VertxHttpConnection(clientRequest, deferred, request, readPublisher);
+        PreparedRequest.ConnectionPreparer preparer = request.getConnectionPreparer();
+        if (preparer != null) {
+            preparer.prepareConnection(netConn);
+        }
+        deferred.setHttpConnection(netConn);
+
+        if (!deferred.isPending()) return;
+
+        clientRequest.exceptionHandler(e -> netConn.cancel(toRequestException(request, e, "Failed to send request.")));
+        clientRequest.handler(res -> readResponse(request, deferred, payloadType, res, netConn, readPublisher));
+
+        try {
+            new PayloadWriter(request, deferred, clientRequest, netConn).start();
+        } catch (RuntimeException e) {
+            netConn.cancel(new RequestCancelException(request,
+                    "An unexpected error has occurred while writing the request payload.", e));
+        }
+    }
+
+    private HttpClientRequest createClientRequest(PreparedRequest request) {
+        final String methodName = request.getMethod().getValue();
+
+        HttpMethod method;
+        try {
+            method = HttpMethod.valueOf(methodName);
+        } catch (IllegalArgumentException e) {
+            method = HttpMethod.OTHER;
+        }
+
+        final HttpClientRequest clientRequest = client.requestAbs(method, request.getUri().toString());
+        if (method == HttpMethod.OTHER) clientRequest.setRawMethod(methodName);
+
+        clientRequest.setFollowRedirects(!request.exists(Requestor.FOLLOW_REDIRECTS_DISABLED, Boolean.TRUE));
+
+        if (request.exists(Requestor.GZIP_ENCODING_ENABLED, Boolean.TRUE)) {
+            clientRequest.putHeader("Accept-Encoding", "gzip");
+        }
+
+        for (Header header : request.getHeaders()) {
+            clientRequest.putHeader(header.getName(), header.getValue());
+        }
+
+        if (!request.hasHeader("Content-Type") && request.exists(Requestor.DEFAULT_CONTENT_TYPE)) {
+            clientRequest.putHeader("Content-Type", request.<String>getValue(Requestor.DEFAULT_CONTENT_TYPE));
+        }
+
+        if (request.getTimeout() > 0) {
+            clientRequest.setTimeout(request.getTimeout());
+        }
+
+        return clientRequest;
+    }
+
+    private <R> void readResponse(PreparedRequest request, Deferred<R> deferred, PayloadType payloadType,
+                                  HttpClientResponse res, VertxHttpConnection netConn,
+                                  ChunkPublisher readPublisher) {
+        if (!deferred.isPending()) return;
+
+        final HttpStatus responseStatus = Status.of(res.statusCode());
+        final RawResponse response = new RawResponse(deferred, responseStatus, readResponseHeaders(res.headers()),
+                payloadType);
+
+        // Notify response headers received
+        deferred.notifyResponse(response);
+
+        // NOTE: the body is not accumulated when it's being streamed to a publisher
+        final boolean payloadRequested = payloadType.getType() != Void.class && readPublisher == null;
+        final boolean chunkingEnabled = request.exists(Requestor.READ_CHUNKING_ENABLED, Boolean.TRUE);
+        final String contentType = res.getHeader("Content-Type");
+        final String lengthHeader = res.getHeader("Content-Length");
+        final long contentLength = lengthHeader != null && res.getHeader("Content-Encoding") == null ?
+                parseLength(lengthHeader) : -1;
+        final Buffer body = payloadRequested ? Buffer.buffer() : null;
+        final long[] totalRead = {0};
+
+        if (readPublisher != null) {
+            readPublisher.setDemandListener(() -> context.runOnContext(ignored -> {
+                if (readPublisher.isCancelled()) {
+                    netConn.cancel(new RequestCancelException(request,
+                            "The response stream was cancelled by the subscriber."));
+                } else if (readPublisher.hasDemand()) {
+                    res.resume();
+                }
+            }));
+            if (!readPublisher.hasDemand()) res.pause();
+        }
+
+        res.exceptionHandler(e -> netConn.cancel(toRequestException(request, e,
+                "Failed to read response payload.")));
+
+        res.handler(buffer -> {
+            if (!deferred.isPending()) return;
+
+            final byte[] bytes = readPublisher != null || chunkingEnabled ? buffer.getBytes() : null;
+
+            if (readPublisher != null) {
+                readPublisher.publish(bytes);
+                if (!readPublisher.hasDemand()) res.pause();
+            }
+
+            if (payloadRequested) body.appendBuffer(buffer);
+
+            totalRead[0] += buffer.length();
+
+            deferred.notifyDownload(new ReadProgress(request, response, contentLength > 0 ?
+                    new FixedProgressEvent(totalRead[0], contentLength) :
+                    new ChunkedProgressEvent(totalRead[0]),
+                    serializeContent(contentType, chunkingEnabled ? bytes : null, request.getCharset())));
+        });
+
+        res.endHandler(ignored -> {
+            if (!deferred.isPending()) return;
+
+            if (readPublisher != null) readPublisher.complete();
+
+            try {
+                response.setSerializedPayload(serializeContent(contentType,
+                        payloadRequested ? body.getBytes() : null, request.getCharset()));
+                evalResponse(response);
+            } catch (RuntimeException e) {
+                netConn.cancel(new RequestCancelException(request,
+                        "An unexpected error has occurred while reading the response payload.", e));
+            }
+        });
+    }
+
+    private RequestException toRequestException(PreparedRequest request, Throwable error, String message) {
+        if (error instanceof TimeoutException) {
+            return new RequestTimeoutException(request, request.getTimeout());
+        }
+        return new RequestCancelException(request, message, error);
+    }
+
+    private Headers readResponseHeaders(MultiMap headersMap) {
+        List<Header> headers = new ArrayList<>();
+        for (String name : headersMap.names()) {
+            headers.add(Header.fromRawHeader(name, String.join(", ", headersMap.getAll(name))));
+        }
+        return new Headers(headers);
+    }
+
+    private SerializedPayload serializeContent(String mediaType, byte[] content, String charset) {
+        if (content == null || content.length == 0) return SerializedPayload.EMPTY_PAYLOAD;
+        return "application/octet-stream".equalsIgnoreCase(mediaType)
+                ? new BinarySerializedPayload(content) : new TextSerializedPayload(content, charset);
+    }
+
+    private static long parseLength(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Writes the request payload in chunks while the write queue of the connection is not full.
+     * Input stream parts are read in worker threads so the event loop is never blocked.
+     */
+    private class PayloadWriter {
+
+        private final PreparedRequest request;
+        private final Deferred<?> deferred;
+        private final HttpClientRequest clientRequest;
+        private final VertxHttpConnection netConn;
+        private final Iterator<SerializedPayload> parts;
+        private final boolean chunkingEnabled;
+        private final long totalSize;
+
+        private byte[] bytes;
+        private int offset;
+        private InputStream in;
+        private long totalWritten;
+
+        PayloadWriter(PreparedRequest request, Deferred<?> deferred, HttpClientRequest clientRequest,
+                      VertxHttpConnection netConn) {
+            this.request = request;
+            this.deferred = deferred;
+            this.clientRequest = clientRequest;
+            this.netConn = netConn;
+            this.chunkingEnabled = request.exists(Requestor.WRITE_CHUNKING_ENABLED, Boolean.TRUE);
+
+            final SerializedPayload serializedPayload = request.getSerializedPayload();
+            List<SerializedPayload> partList = new ArrayList<>();
+            if (serializedPayload instanceof CompositeSerializedPayload) {
+                for (SerializedPayload part : (CompositeSerializedPayload) serializedPayload) partList.add(part);
+            } else if (!serializedPayload.isEmpty()) {
+                partList.add(serializedPayload);
+            }
+            this.parts = partList.isEmpty() ? Collections.<SerializedPayload>emptyIterator() : partList.iterator();
+            this.totalSize = serializedPayload.isEmpty() ? 0 : serializedPayload.getLength();
+        }
+
+        void start() {
+            if (!parts.hasNext()) {
+                clientRequest.end();
+                return;
+            }
+
+            if (totalSize > 0) {
+                clientRequest.putHeader("Content-Length", String.valueOf(totalSize));
+            } else if (!request.exists(Requestor.CHUNKED_STREAMING_MODE_DISABLED, Boolean.TRUE)) {
+                clientRequest.setChunked(true);
+            }
+
+            clientRequest.drainHandler(ignored -> pump());
+            // The write queue is only bounded once the request is bound to a connection stream, so the head is sent
+            // first and the payload is pumped after it
+            clientRequest.sendHead(ignored -> pump());
+        }
+
+        private void pump() {
+            while (deferred.isPending() && !clientRequest.writeQueueFull()) {
+                if (in != null) {
+                    readStreamChunk();
+                    return;
+                }
+
+                if (bytes != null && offset < bytes.length) {
+                    final int len = Math.min(outputBufferSize, bytes.length - offset);
+                    write(Arrays.copyOfRange(bytes, offset, offset + len));
+                    offset += len;
+                    continue;
+                }
+
+                if (!parts.hasNext()) {
+                    clientRequest.end();
+                    return;
+                }
+
+                final SerializedPayload part = parts.next();
+                bytes = null;
+                if (part instanceof InputStreamSerializedPayload) {
+                    in = ((InputStreamSerializedPayload) part).getInputStream();
+                } else {
+                    bytes = part.asBytes();
+                    offset = 0;
+                }
+            }
+            // Otherwise the drain handler resumes pumping
+        }
+
+        private void readStreamChunk() {
+            final InputStream stream = in;
+            vertx.<byte[]>executeBlocking(promise -> {
+                try {
+                    final byte[] buffer = new byte[outputBufferSize];
+                    final int stepRead = stream.read(buffer);
+                    if (stepRead == -1) stream.close();
+                    promise.complete(stepRead == -1 ? null : Arrays.copyOf(buffer, stepRead));
+                } catch (IOException e) {
+                    promise.fail(e);
+                }
+            }, true, result -> {
+                if (result.failed()) {
+                    netConn.cancel(new RequestCancelException(request, "Failed to write request payload.",
+                            result.cause()));
+                    return;
+                }
+
+                if (result.result() == null) {
+                    in = null;
+                } else {
+                    write(result.result());
+                }
+                pump();
+            });
+        }
+
+        private void write(byte[] chunk) {
+            clientRequest.write(Buffer.buffer(chunk));
+
+            totalWritten += chunk.length;
+
+            deferred.notifyUpload(new WriteProgress(request, totalSize > 0 ?
+                    new FixedProgressEvent(totalWritten, totalSize) :
+                    new ChunkedProgressEvent(totalWritten),
+                    serializeContent(request.getContentType(), chunkingEnabled ? chunk : null,
+                            request.getCharset())));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.vertx;
+
+import io.reinert.requestor.core.AsyncRunner;
+import io.reinert.requestor.core.DeferredPool;
+import io.reinert.requestor.core.RequestDispatcher;
+import io.reinert.requestor.core.RequestLogger;
+import io.reinert.requestor.core.RequestProcessor;
+import io.reinert.requestor.core.ResponseProcessor;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+
+/**
+ * Factory of {@link VertxRequestDispatcher}s sharing the same HttpClient and event loop context.
+ *
+ * @author Danilo Reinert
+ */
+public class VertxRequestDispatcherFactory implements RequestDispatcher.Factory {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+    private final Vertx vertx;
+    private final Context context;
+    private final HttpClient client;
+    private final int outputBufferSize;
+
+    public VertxRequestDispatcherFactory(Vertx vertx) {
+        this(vertx, vertx.createHttpClient(new HttpClientOptions().setTryUseCompression(true)));
+    }
+
+    public VertxRequestDispatcherFactory(Vertx vertx, HttpClient client) {
+        this(vertx, vertx.getOrCreateContext(), client, DEFAULT_BUFFER_SIZE);
+    }
+
+    public VertxRequestDispatcherFactory(Vertx vertx, Context context, HttpClient client, int outputBufferSize) {
+        this.vertx = vertx;
+        this.context = context;
+        this.client = client;
+        this.outputBufferSize = outputBufferSize;
+    }
+
+    public RequestDispatcher create(AsyncRunner asyncRunner,
+                                    RequestProcessor requestProcessor,
+                                    ResponseProcessor responseProcessor,
+                                    DeferredPool.Factory deferredPoolFactory,
+                                    RequestLogger logger) {
+        return new VertxRequestDispatcher(asyncRunner, requestProcessor, responseProcessor, deferredPoolFactory,
+                logger, vertx, context, client, outputBufferSize);
+    }
+
+    public HttpClient getHttpClient() {
+        return client;
+    }
+
+    public Context getContext() {
+        return context;
+    }
+
+    public int getOutputBufferSize() {
+        return outputBufferSize;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.vertx;
+
+import io.reinert.requestor.core.Session;
+import io.reinert.requestor.core.deferred.DeferredPoolFactoryImpl;
+import io.reinert.requestor.java.net.Requestor;
+import io.vertx.core.Vertx;
+
+/**
+ * Entry point for Sessions running entirely on the Vert.x event loop.
+ *
+ * @author Danilo Reinert
+ */
+public class VertxRequestor {
+
+    private VertxRequestor() {
+    }
+
+    /**
+     * Creates a Session that dispatches requests with the Vert.x HttpClient and runs its tasks on the event loop.
+     * Callbacks are executed on the event loop as well, so they must not block.
+     *
+     * @param vertx the Vert.x instance
+     * @return a new Session
+     */
+    public static Session newSession(Vertx vertx) {
+        return newSession(vertx, new VertxRequestDispatcherFactory(vertx));
+    }
+
+    public static Session newSession(Vertx vertx, VertxRequestDispatcherFactory requestDispatcherFactory) {
+        return Requestor.newSession(new DeferredPoolFactoryImpl(), new VertxAsyncRunner(vertx, true),
+                requestDispatcherFactory);
+    }
+}
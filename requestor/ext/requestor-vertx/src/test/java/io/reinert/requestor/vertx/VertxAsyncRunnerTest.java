@@ -15,12 +15,14 @@
  */
 package io.reinert.requestor.vertx;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import io.reinert.requestor.core.RequestException;
 import io.reinert.requestor.core.Session;
 import io.reinert.requestor.java.net.Requestor;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -63,10 +65,11 @@ public class VertxAsyncRunnerTest {
     }
 
     @Test
-    public void testSessionRequest() throws RequestException {
+    public void testSessionRequest() throws Exception {
         AtomicInteger counter = new AtomicInteger();
 
         Vertx vertx = Vertx.vertx();
+        HttpServer server = listen(vertx);
 
         // Integrates requestor to vertx engine
         VertxAsyncRunner asyncRunner = new VertxAsyncRunner(vertx);
@@ -74,7 +77,7 @@ public class VertxAsyncRunnerTest {
         // Start a new session with vertx async runner
         Session session = Requestor.newSession(asyncRunner);
 
-        session.get("https://httpbin.org/ip", String.class)
+        session.get("http://127.0.0.1:" + server.actualPort() + "/ip", String.class)
                 .onSuccess(counter::incrementAndGet)
                 .await(); // hold main thread until request is done
 
@@ -82,4 +85,18 @@ public class VertxAsyncRunnerTest {
 
         Assert.assertEquals(1, counter.get());
     }
+
+    private static HttpServer listen(Vertx vertx) throws Exception {
+        final CompletableFuture<HttpServer> server = new CompletableFuture<>();
+        vertx.createHttpServer()
+                .requestHandler(req -> req.response().putHeader("Content-Type", "text/plain").end("127.0.0.1"))
+                .listen(0, "127.0.0.1", result -> {
+                    if (result.succeeded()) {
+                        server.complete(result.result());
+                    } else {
+                        server.completeExceptionally(result.cause());
+                    }
+                });
+        return server.get(10, TimeUnit.SECONDS);
+    }
 }
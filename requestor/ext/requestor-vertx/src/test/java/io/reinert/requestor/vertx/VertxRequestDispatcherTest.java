@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.vertx;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reinert.requestor.core.Request;
+import io.reinert.requestor.core.RequestInvoker;
+import io.reinert.requestor.core.Response;
+import io.reinert.requestor.core.Session;
+import io.reinert.requestor.java.ChunkPublisher;
+import io.reinert.requestor.java.net.Requestor;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for VertxRequestDispatcher
+ */
+public class VertxRequestDispatcherTest {
+
+    // Larger than the socket buffers of the loopback, so only the backpressure can hold the transfer
+    private static final int TRANSFER_SIZE = 32 * 1024 * 1024;
+    private static final int SERVER_CHUNK_SIZE = 64 * 1024;
+
+    @Test(timeout = 30_000)
+    public void testRequestOnEventLoop() throws Exception {
+        AtomicReference<String> payload = new AtomicReference<>();
+        AtomicBoolean onEventLoop = new AtomicBoolean();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Vertx vertx = Vertx.vertx();
+        HttpServer server = listen(vertx, req -> req.response().putHeader("Content-Type", "text/plain").end("pong"));
+
+        try {
+            // Dispatch with the vertx HttpClient
+            Session session = VertxRequestor.newSession(vertx);
+
+            session.get("http://127.0.0.1:" + server.actualPort() + "/ping", String.class)
+                    .onSuccess(res -> {
+                        payload.set(res);
+                        onEventLoop.set(Context.isOnEventLoopThread());
+                    })
+                    .onLoad(latch::countDown)
+                    .onError(latch::countDown);
+
+            // Callbacks must not block the event loop, so the test thread waits instead
+            latch.await(20, TimeUnit.SECONDS);
+        } finally {
+            vertx.close();
+        }
+
+        Assert.assertEquals("pong", payload.get());
+        Assert.assertTrue(onEventLoop.get());
+    }
+
+    @Test(timeout = 30_000)
+    public void testUploadWaitsForTheWriteQueueToDrain() throws Exception {
+        final Vertx vertx = Vertx.vertx();
+        final AtomicLong received = new AtomicLong();
+        final AtomicReference<HttpServerRequest> pausedUpload = new AtomicReference<>();
+        final HttpServer server = listen(vertx, req -> {
+            // Hold the upload until the test resumes it
+            req.pause();
+            req.handler(buffer -> received.addAndGet(buffer.length()));
+            req.endHandler(ignored -> req.response().end());
+            pausedUpload.set(req);
+        });
+
+        try {
+            final Session session = VertxRequestor.newSession(vertx);
+            final AtomicLong written = new AtomicLong();
+
+            final Request<Void> request = session.req("http://127.0.0.1:" + server.actualPort() + "/upload")
+                    .contentType("application/octet-stream")
+                    .payload(new byte[TRANSFER_SIZE])
+                    .post()
+                    .onWrite(p -> written.set(p.getLoaded()));
+
+            while (pausedUpload.get() == null) Thread.sleep(10);
+            Thread.sleep(500);
+
+            // The writer stops once the write queue is full
+            final long writtenWhilePaused = written.get();
+            Assert.assertTrue(writtenWhilePaused < TRANSFER_SIZE);
+            Thread.sleep(200);
+            Assert.assertEquals(writtenWhilePaused, written.get());
+
+            pausedUpload.get().resume();
+            final Response response = request.await();
+
+            Assert.assertEquals(200, response.getStatusCode());
+            Assert.assertEquals(TRANSFER_SIZE, written.get());
+            Assert.assertEquals(TRANSFER_SIZE, received.get());
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Test(timeout = 30_000)
+    public void testDownloadPausesWhileThereIsNoDemand() throws Exception {
+        final Vertx vertx = Vertx.vertx();
+        final AtomicLong sent = new AtomicLong();
+        final HttpServer server = listen(vertx, req -> {
+            final HttpServerResponse res = req.response();
+            res.putHeader("Content-Type", "application/octet-stream");
+            res.putHeader("Content-Length", String.valueOf(TRANSFER_SIZE));
+            res.drainHandler(ignored -> pump(res, sent));
+            pump(res, sent);
+        });
+
+        try {
+            final Session session = VertxRequestor.newSession(vertx);
+            final AtomicInteger chunks = new AtomicInteger();
+            final AtomicLong bytesRead = new AtomicLong();
+            final AtomicReference<ChunkPublisher.Subscription> subscription = new AtomicReference<>();
+
+            final RequestInvoker invoker = session.req("http://127.0.0.1:" + server.actualPort() + "/download");
+            Requestor.readPublisher(invoker).subscribe(new ChunkPublisher.Subscriber() {
+                public void onSubscribe(ChunkPublisher.Subscription s) {
+                    subscription.set(s);
+                    s.request(1);
+                }
+
+                public void onNext(byte[] chunk) {
+                    chunks.incrementAndGet();
+                    bytesRead.addAndGet(chunk.length);
+                }
+
+                public void onError(Throwable throwable) { }
+
+                public void onComplete() { }
+            });
+
+            final Request<Void> request = invoker.get();
+            Thread.sleep(1000);
+
+            // The connection is paused after the single requested chunk, so the server is held back as well
+            Assert.assertEquals(1, chunks.get());
+            Assert.assertTrue(sent.get() < TRANSFER_SIZE);
+
+            subscription.get().request(Long.MAX_VALUE);
+            final Response response = request.await();
+
+            Assert.assertEquals(200, response.getStatusCode());
+            Assert.assertEquals(TRANSFER_SIZE, bytesRead.get());
+        } finally {
+            vertx.close();
+        }
+    }
+
+    private static void pump(HttpServerResponse res, AtomicLong sent) {
+        while (!res.writeQueueFull() && sent.get() < TRANSFER_SIZE) {
+            final int len = (int) Math.min(SERVER_CHUNK_SIZE, TRANSFER_SIZE - sent.get());
+            res.write(Buffer.buffer(new byte[len]));
+            sent.addAndGet(len);
+        }
+        if (sent.get() == TRANSFER_SIZE && !res.ended()) res.end();
+    }
+
+    private static HttpServer listen(Vertx vertx, Handler<HttpServerRequest> handler) throws Exception {
+        final CompletableFuture<HttpServer> server = new CompletableFuture<>();
+        vertx.createHttpServer().requestHandler(handler).listen(0, "127.0.0.1", result -> {
+            if (result.succeeded()) {
+                server.complete(result.result());
+            } else {
+                server.completeExceptionally(result.cause());
+            }
+        });
+        return server.get(10, TimeUnit.SECONDS);
+    }
+}
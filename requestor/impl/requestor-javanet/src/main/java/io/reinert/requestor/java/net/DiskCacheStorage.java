@@ -0,0 +1,662 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java.net;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import io.reinert.requestor.core.Headers;
+import io.reinert.requestor.core.HttpCache;
+import io.reinert.requestor.core.Status;
+import io.reinert.requestor.core.header.Header;
+import io.reinert.requestor.core.payload.SerializedPayload;
+import io.reinert.requestor.core.payload.TextSerializedPayload;
+import io.reinert.requestor.java.payload.BinarySerializedPayload;
+
+/**
+ * <p>A second tier for the {@link HttpCache} that persists the cached responses on disk, so they survive restarts.</p>
+ *
+ * <pre>
+ * new HttpCache(16 * 1024 * 1024, new DiskCacheStorage(Paths.get("cache"), 1024L * 1024 * 1024)).register(session);
+ * </pre>
+ *
+ * <p>Responses are appended to segment files and a compact journal maps each cache key to the location of its latest
+ * record. When the storage is opened, the journal is replayed and rewritten with the live entries only. Once the
+ * segments exceed the size limit, the oldest segment is deleted as a whole along with its entries.</p>
+ *
+ * <p>Bodies larger than the inline limit are not read when a response is loaded: they are read from the segment file
+ * only when the payload is requested, so cache hits of large bodies don't occupy the heap until deserialization. Such
+ * a payload pins its segment, so an eviction deletes the file but keeps it open for reading until the payload is no
+ * longer reachable. A record whose segment was not fully written is a miss.</p>
+ *
+ * <p>The lock of the storage guards the index, the journal and the segment bookkeeping only. Records are read and
+ * written without holding it.</p>
+ *
+ * @author Danilo Reinert
+ */
+public class DiskCacheStorage implements HttpCache.Storage, Closeable {
+
+    public static final int DEFAULT_INLINE_LIMIT = 64 * 1024;
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final String JOURNAL = "journal";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final int MIN_JOURNAL_RECORDS = 1024;
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+
+    private static class Location {
+        private final int segment;
+        private final long offset;
+        private final int metaLength;
+        private final long bodyLength;
+
+        Location(int segment, long offset, int metaLength, long bodyLength) {
+            this.segment = segment;
+            this.offset = offset;
+            this.metaLength = metaLength;
+            this.bodyLength = bodyLength;
+        }
+
+        long getBodyOffset() {
+            return offset + metaLength;
+        }
+
+        long getEnd() {
+            return offset + metaLength + bodyLength;
+        }
+    }
+
+    /**
+     * A segment file. Its channel is closed once it's evicted and no longer pinned by a read, a write or a payload.
+     */
+    private static class Segment {
+        private final FileChannel channel;
+        private long length;
+        private int pins;
+        private boolean evicted;
+
+        Segment(FileChannel channel, long length) {
+            this.channel = channel;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Releases the segment pinned by a payload once the payload is no longer reachable.
+     */
+    private static class PayloadPin extends PhantomReference<DiskPayload> {
+        private final Segment segment;
+
+        PayloadPin(DiskPayload payload, ReferenceQueue<DiskPayload> queue) {
+            super(payload, queue);
+            this.segment = payload.segment;
+        }
+    }
+
+    /**
+     * A body read from the segment file only when requested.
+     */
+    private class DiskPayload implements SerializedPayload {
+        private final Segment segment;
+        private final Location location;
+        private final boolean binary;
+        private final String charset;
+
+        DiskPayload(Segment segment, Location location, boolean binary, String charset) {
+            this.segment = segment;
+            this.location = location;
+            this.binary = binary;
+            this.charset = charset;
+        }
+
+        DiskCacheStorage getStorage() {
+            return DiskCacheStorage.this;
+        }
+
+        public byte[] asBytes() {
+            if (location.bodyLength > Integer.MAX_VALUE) {
+                throw new UnsupportedOperationException("The cached body is too large to be read into a byte array.");
+            }
+
+            final ByteBuffer body = ByteBuffer.allocate((int) location.bodyLength);
+            try {
+                readFully(segment.channel, body, location.getBodyOffset());
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read the cached body.", e);
+            }
+            return body.array();
+        }
+
+        public String asString() {
+            final byte[] bytes = asBytes();
+            if (binary) return Base64.getEncoder().encodeToString(bytes);
+            try {
+                return new String(bytes, charset);
+            } catch (UnsupportedEncodingException e) {
+                throw new UnsupportedOperationException("Cannot convert the bytes to string because the given " +
+                        "charset (" + charset + ") is not supported.", e);
+            }
+        }
+
+        public boolean isEmpty() {
+            return location.bodyLength == 0;
+        }
+
+        public boolean isStringAvailable() {
+            return false;
+        }
+
+        public boolean isBytesAvailable() {
+            return false;
+        }
+
+        public long getLength() {
+            return location.bodyLength;
+        }
+    }
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long segmentBytes;
+    private final int inlineLimit;
+    private final Map<String, Location> index = new HashMap<>();
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+    private final Set<PayloadPin> payloadPins = new HashSet<>();
+    private final ReferenceQueue<DiskPayload> unreachablePayloads = new ReferenceQueue<>();
+
+    private DataOutputStream journal;
+    private int journalRecords;
+    private int activeSegment;
+    private long size;
+
+    public DiskCacheStorage(Path directory, long maxBytes) throws IOException {
+        this(directory, maxBytes, Math.max(1, maxBytes / 8), DEFAULT_INLINE_LIMIT);
+    }
+
+    public DiskCacheStorage(Path directory, long maxBytes, long segmentBytes) throws IOException {
+        this(directory, maxBytes, segmentBytes, DEFAULT_INLINE_LIMIT);
+    }
+
+    /**
+     * @param directory the directory of the cache files; it's created if it doesn't exist
+     * @param maxBytes the max size in bytes of the segment files
+     * @param segmentBytes the size in bytes from which a new segment file is started
+     * @param inlineLimit the max size in bytes of the bodies read eagerly when a response is loaded
+     *
+     * @throws IOException if the directory cannot be created or the existing files cannot be read
+     */
+    public DiskCacheStorage(Path directory, long maxBytes, long segmentBytes, int inlineLimit) throws IOException {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Max bytes must be greater than zero");
+        }
+        if (segmentBytes < 1 || segmentBytes > maxBytes) {
+            throw new IllegalArgumentException("Segment bytes must be greater than zero and not exceed max bytes");
+        }
+        if (inlineLimit < 0) {
+            throw new IllegalArgumentException("Inline limit cannot be negative");
+        }
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.segmentBytes = segmentBytes;
+        this.inlineLimit = inlineLimit;
+        open();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @return the total size in bytes of the segment files
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    public synchronized int getEntryCount() {
+        return index.size();
+    }
+
+    @Override
+    public HttpCache.CachedResponse load(String key) {
+        final Location location;
+        final Segment segment;
+        synchronized (this) {
+            releaseUnreachablePayloads();
+            location = index.get(key);
+            if (location == null) return null;
+            segment = segments.get(location.segment);
+            if (segment == null) {
+                remove(key);
+                return null;
+            }
+            segment.pins++;
+        }
+
+        DiskPayload diskPayload = null;
+        try {
+            final ByteBuffer meta = ByteBuffer.allocate(location.metaLength);
+            readFully(segment.channel, meta, location.offset);
+            final DataInputStream in = new DataInputStream(new ByteArrayInputStream(meta.array()));
+
+            final int statusCode = in.readInt();
+            final long storedAtMillis = in.readLong();
+            final boolean binary = in.readBoolean();
+            final String charset = in.readUTF();
+
+            final List<Header> headers = new ArrayList<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                headers.add(Header.fromRawHeader(in.readUTF(), in.readUTF()));
+            }
+
+            final Map<String, String> varyValues = new HashMap<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                final String name = in.readUTF();
+                varyValues.put(name, in.readBoolean() ? in.readUTF() : null);
+            }
+
+            final SerializedPayload payload;
+            if (location.bodyLength == 0) {
+                payload = SerializedPayload.EMPTY_PAYLOAD;
+            } else if (location.bodyLength > inlineLimit) {
+                payload = diskPayload = new DiskPayload(segment, location, binary, charset);
+            } else {
+                final ByteBuffer body = ByteBuffer.allocate((int) location.bodyLength);
+                readFully(segment.channel, body, location.getBodyOffset());
+                payload = binary ? new BinarySerializedPayload(body.array()) :
+                        new TextSerializedPayload(body.array(), charset);
+            }
+
+            return new HttpCache.CachedResponse(Status.of(statusCode), new Headers(headers), payload, varyValues,
+                    storedAtMillis);
+        } catch (IOException | RuntimeException e) {
+            // A corrupted record is treated as a miss
+            diskPayload = null;
+            discard(key, location);
+            return null;
+        } finally {
+            // The pin is handed over to the payload, if any
+            handOverPin(segment, diskPayload);
+        }
+    }
+
+    @Override
+    public void save(String key, HttpCache.CachedResponse response) {
+        final byte[] meta;
+        final byte[] body;
+        final DiskPayload source;
+        try {
+            meta = encodeMeta(response);
+            final SerializedPayload payload = response.getSerializedPayload();
+
+            // A revalidated response loaded from this storage has its body copied between the files
+            source = payload instanceof DiskPayload && ((DiskPayload) payload).getStorage() == this ?
+                    (DiskPayload) payload : null;
+            body = source == null ? payload.asBytes() : null;
+        } catch (IOException | RuntimeException e) {
+            // Failing to persist a response must not fail the request
+            remove(key);
+            return;
+        }
+
+        final long bodyLength = source == null ? body.length : source.location.bodyLength;
+        if (meta.length + bodyLength > segmentBytes) {
+            remove(key);
+            return;
+        }
+
+        final Segment segment;
+        final Location location;
+        synchronized (this) {
+            releaseUnreachablePayloads();
+            try {
+                segment = reserve(meta.length + bodyLength);
+            } catch (IOException e) {
+                remove(key);
+                return;
+            }
+            location = new Location(activeSegment, segment.length - meta.length - bodyLength, meta.length,
+                    bodyLength);
+            segment.pins++;
+        }
+
+        try {
+            writeFully(segment.channel, ByteBuffer.wrap(meta), location.offset);
+            if (source == null) {
+                writeFully(segment.channel, ByteBuffer.wrap(body), location.getBodyOffset());
+            } else {
+                copyFully(source.segment.channel, source.location.getBodyOffset(), bodyLength, segment.channel,
+                        location.getBodyOffset());
+            }
+
+            synchronized (this) {
+                // The segment may have been evicted while the record was written
+                if (segment.evicted) {
+                    remove(key);
+                } else {
+                    index.put(key, location);
+                    appendPut(key, location);
+                }
+                evict();
+            }
+        } catch (IOException | RuntimeException e) {
+            remove(key);
+        } finally {
+            unpin(segment);
+        }
+    }
+
+    @Override
+    public synchronized void remove(String key) {
+        if (index.remove(key) == null) return;
+        try {
+            journal.writeByte(REMOVE);
+            journal.writeUTF(key);
+            journal.flush();
+            journalRecords++;
+        } catch (IOException e) {
+            // The entry is ignored on the next opening if its segment is gone, otherwise it becomes visible again
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        index.clear();
+        try {
+            for (Integer id : new ArrayList<>(segments.keySet())) {
+                deleteSegment(id);
+            }
+            activeSegment = 1;
+            openSegment(activeSegment);
+            rewriteJournal();
+        } catch (IOException e) {
+            // The journal is rewritten when the storage is opened again
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        journal.close();
+        for (Segment segment : segments.values()) {
+            segment.channel.close();
+        }
+        segments.clear();
+        for (PayloadPin pin : payloadPins) {
+            pin.segment.channel.close();
+        }
+        payloadPins.clear();
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                final String name = file.getFileName().toString();
+                try {
+                    final int id = Integer.parseInt(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length()));
+                    final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+                            StandardOpenOption.WRITE);
+                    segments.put(id, new Segment(channel, channel.size()));
+                    size += channel.size();
+                } catch (NumberFormatException e) {
+                    // Not a segment file
+                }
+            }
+        }
+
+        replayJournal();
+
+        activeSegment = segments.isEmpty() ? 1 : segments.lastKey();
+        if (!segments.containsKey(activeSegment)) openSegment(activeSegment);
+
+        rewriteJournal();
+        evict();
+    }
+
+    private void replayJournal() throws IOException {
+        final Path file = directory.resolve(JOURNAL);
+        if (!Files.exists(file)) return;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                final byte op = in.readByte();
+                final String key = in.readUTF();
+                if (op == PUT) {
+                    final Location location = new Location(in.readInt(), in.readLong(), in.readInt(), in.readLong());
+                    final Segment segment = segments.get(location.segment);
+                    // Records of deleted segments or not fully written are discarded
+                    if (segment != null && location.getEnd() <= segment.length) {
+                        index.put(key, location);
+                    } else {
+                        index.remove(key);
+                    }
+                } else if (op == REMOVE) {
+                    index.remove(key);
+                } else {
+                    break;
+                }
+            }
+        } catch (EOFException e) {
+            // A record may have been partially written before the last shutdown
+        }
+    }
+
+    private void rewriteJournal() throws IOException {
+        if (journal != null) journal.close();
+
+        final Path file = directory.resolve(JOURNAL);
+        final Path temp = directory.resolve(JOURNAL + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            for (Map.Entry<String, Location> entry : index.entrySet()) {
+                writePut(out, entry.getKey(), entry.getValue());
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        journal = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.APPEND)));
+        journalRecords = index.size();
+    }
+
+    private void appendPut(String key, Location location) throws IOException {
+        writePut(journal, key, location);
+        journal.flush();
+
+        // Keep the journal compact by rewriting it when most of its records are stale
+        if (++journalRecords > Math.max(MIN_JOURNAL_RECORDS, index.size() * 4)) rewriteJournal();
+    }
+
+    private static void writePut(DataOutputStream out, String key, Location location) throws IOException {
+        out.writeByte(PUT);
+        out.writeUTF(key);
+        out.writeInt(location.segment);
+        out.writeLong(location.offset);
+        out.writeInt(location.metaLength);
+        out.writeLong(location.bodyLength);
+    }
+
+    /**
+     * Reserves the space of a record at the end of the active segment, starting a new one if it doesn't fit.
+     */
+    private Segment reserve(long recordLength) throws IOException {
+        Segment segment = segments.get(activeSegment);
+        if (segment.length > 0 && segment.length + recordLength > segmentBytes) {
+            activeSegment++;
+            segment = openSegment(activeSegment);
+        }
+        segment.length += recordLength;
+        size += recordLength;
+        return segment;
+    }
+
+    private void evict() throws IOException {
+        while (size > maxBytes && segments.size() > 1) {
+            final int oldest = segments.firstKey();
+            if (oldest == activeSegment) return;
+            deleteSegment(oldest);
+            index.values().removeIf(location -> location.segment == oldest);
+        }
+    }
+
+    private Segment openSegment(int id) throws IOException {
+        final FileChannel channel = FileChannel.open(getSegmentPath(id), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final Segment segment = new Segment(channel, 0);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private void deleteSegment(int id) throws IOException {
+        final Segment segment = segments.remove(id);
+        size -= segment.length;
+        segment.evicted = true;
+        if (segment.pins == 0) segment.channel.close();
+        // The file can be deleted while it's open, so pinned readers keep reading it
+        Files.deleteIfExists(getSegmentPath(id));
+    }
+
+    private Path getSegmentPath(int id) {
+        return directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+    }
+
+    private synchronized void handOverPin(Segment segment, DiskPayload payload) {
+        if (payload == null) {
+            unpin(segment);
+        } else {
+            payloadPins.add(new PayloadPin(payload, unreachablePayloads));
+        }
+    }
+
+    private synchronized void unpin(Segment segment) {
+        if (--segment.pins > 0 || !segment.evicted) return;
+        try {
+            segment.channel.close();
+        } catch (IOException e) {
+            // The file is already deleted
+        }
+    }
+
+    private void releaseUnreachablePayloads() {
+        Reference<? extends DiskPayload> pin;
+        while ((pin = unreachablePayloads.poll()) != null) {
+            if (payloadPins.remove(pin)) unpin(((PayloadPin) pin).segment);
+        }
+    }
+
+    private synchronized void discard(String key, Location location) {
+        // The key may have been stored again meanwhile
+        if (index.get(key) == location) remove(key);
+    }
+
+    private static byte[] encodeMeta(HttpCache.CachedResponse response) throws IOException {
+        final SerializedPayload payload = response.getSerializedPayload();
+        final boolean binary = payload instanceof BinarySerializedPayload ||
+                (payload instanceof DiskPayload && ((DiskPayload) payload).binary);
+        final String charset = payload instanceof TextSerializedPayload ?
+                ((TextSerializedPayload) payload).getCharset() : payload instanceof DiskPayload ?
+                ((DiskPayload) payload).charset : TextSerializedPayload.DEFAULT_CHARSET;
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(response.getStatus().getStatusCode());
+        out.writeLong(response.getStoredAtMillis());
+        out.writeBoolean(binary);
+        out.writeUTF(charset);
+
+        out.writeInt(response.getHeaders().size());
+        for (Header header : response.getHeaders()) {
+            out.writeUTF(header.getName());
+            out.writeUTF(header.getValue());
+        }
+
+        out.writeInt(response.getVaryValues().size());
+        for (Map.Entry<String, String> vary : response.getVaryValues().entrySet()) {
+            out.writeUTF(vary.getKey());
+            out.writeBoolean(vary.getValue() != null);
+            if (vary.getValue() != null) out.writeUTF(vary.getValue());
+        }
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of the segment file.");
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    private static void copyFully(FileChannel source, long sourcePosition, long length, FileChannel target,
+                                  long position) throws IOException {
+        // Positional reads and writes don't move the channels, so concurrent copies don't interfere
+        final ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(length, COPY_BUFFER_BYTES));
+        long copied = 0;
+        while (copied < length) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), length - copied));
+            readFully(source, buffer, sourcePosition + copied);
+            buffer.flip();
+            writeFully(target, buffer, position + copied);
+            copied += buffer.limit();
+        }
+    }
+}
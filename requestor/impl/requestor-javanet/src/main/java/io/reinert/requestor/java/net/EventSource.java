@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java.net;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import io.reinert.requestor.core.RequestException;
+import io.reinert.requestor.core.RequestInvoker;
+import io.reinert.requestor.core.Response;
+import io.reinert.requestor.core.ResponseHeader;
+import io.reinert.requestor.core.Session;
+import io.reinert.requestor.java.EventStreamParser;
+import io.reinert.requestor.java.ServerSentEvent;
+import io.reinert.requestor.java.UnsuccessfulResponseException;
+
+/**
+ * <p>A client of Server-Sent Events.</p>
+ *
+ * <p>It keeps one connection open and parses the text/event-stream body incrementally as it's read, through the
+ * {@link Requestor#READ_PUBLISHER read publisher}, so each event is delivered as soon as it arrives and the body is
+ * never accumulated. The handlers are called sequentially by the thread reading the connection.</p>
+ *
+ * <p>When the connection is closed by the server or drops, the source reconnects after the retry time (3 seconds,
+ * unless the server sent a retry hint) and sends the id of the last event in the Last-Event-ID header, so the server
+ * can resume the stream. Consecutive attempts that fail before opening the stream are backed off exponentially.</p>
+ *
+ * <p>The source is closed for good when the server responds 204 No Content, when the response is not a 200
+ * text/event-stream, or when {@link #close()} is called.</p>
+ *
+ * <pre>
+ * EventSource source = new EventSource(session, "/stream")
+ *         .onEvent("update", event -&gt; render(event.getData()))
+ *         .onError(error -&gt; log(error));
+ * source.open();
+ * </pre>
+ *
+ * @author Danilo Reinert
+ */
+public class EventSource implements Closeable {
+
+    public static final long DEFAULT_RETRY_MILLIS = 3000;
+    public static final long MAX_BACKOFF_MILLIS = 60000;
+
+    public enum State {
+        CONNECTING, OPEN, CLOSED
+    }
+
+    /**
+     * Receives the events of the stream.
+     */
+    public interface EventHandler {
+        void onEvent(ServerSentEvent event);
+    }
+
+    /**
+     * Receives the failures of the stream. The source is reconnecting unless its state is {@link State#CLOSED}.
+     */
+    public interface ErrorHandler {
+        void onError(Throwable error);
+    }
+
+    private final Session session;
+    private final String uri;
+    private final Consumer<RequestInvoker> configurer;
+    private final EventStreamParser parser;
+
+    private final List<Runnable> openHandlers = new CopyOnWriteArrayList<>();
+    private final List<TypedHandler> eventHandlers = new CopyOnWriteArrayList<>();
+    private final List<ErrorHandler> errorHandlers = new CopyOnWriteArrayList<>();
+
+    private volatile State state = State.CLOSED;
+    private boolean started;
+    private boolean closed;
+    private int failedAttempts;
+    private Stream stream;
+
+    public EventSource(Session session, String uri) {
+        this(session, uri, null);
+    }
+
+    /**
+     * @param session       the session dispatching the requests
+     * @param uri           the uri of the stream
+     * @param configurer    customizes each request before it's sent, e.g., setting auth or headers; may be null
+     */
+    public EventSource(Session session, String uri, Consumer<RequestInvoker> configurer) {
+        if (session == null) throw new NullPointerException("Session cannot be null");
+        if (uri == null) throw new NullPointerException("Uri cannot be null");
+        this.session = session;
+        this.uri = uri;
+        this.configurer = configurer;
+        this.parser = new EventStreamParser(new EventStreamParser.Handler() {
+            public void onEvent(ServerSentEvent event) {
+                dispatch(event);
+            }
+        });
+    }
+
+    public EventSource onOpen(Runnable handler) {
+        openHandlers.add(handler);
+        return this;
+    }
+
+    /**
+     * Registers a handler for all the events.
+     *
+     * @param handler the event handler
+     * @return this source
+     */
+    public EventSource onEvent(EventHandler handler) {
+        eventHandlers.add(new TypedHandler(null, handler));
+        return this;
+    }
+
+    /**
+     * Registers a handler for the events of the given type.
+     *
+     * @param type      the event type; events without type are "message"
+     * @param handler   the event handler
+     * @return this source
+     */
+    public EventSource onEvent(String type, EventHandler handler) {
+        eventHandlers.add(new TypedHandler(type, handler));
+        return this;
+    }
+
+    public EventSource onError(ErrorHandler handler) {
+        errorHandlers.add(handler);
+        return this;
+    }
+
+    /**
+     * Connects to the stream. It does nothing if the source was already opened.
+     */
+    public synchronized void open() {
+        if (started) return;
+        started = true;
+        connect();
+    }
+
+    /**
+     * Closes the connection and stops reconnecting.
+     */
+    public void close() {
+        final Stream current;
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            state = State.CLOSED;
+            current = stream;
+            stream = null;
+        }
+        if (current != null) current.cancel();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    /**
+     * @return the id of the last event received, or an empty string if none
+     */
+    public synchronized String getLastEventId() {
+        return parser.getLastEventId();
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    private synchronized void connect() {
+        if (closed) return;
+
+        state = State.CONNECTING;
+        parser.reset();
+
+        final RequestInvoker invoker = session.req(uri)
+                .accept("text/event-stream")
+                .header("Cache-Control", "no-cache");
+        if (!parser.getLastEventId().isEmpty()) invoker.header("Last-Event-ID", parser.getLastEventId());
+        if (configurer != null) configurer.accept(invoker);
+
+        final Stream next = new Stream();
+        next.send(invoker, false)
+                .onLoad((Response response) -> onEnd(next, response))
+                .onError((RequestException error) -> onFailure(next, error));
+        stream = next;
+
+        // The body is read only after the request is known, so the response head can be checked before parsing
+        next.start();
+    }
+
+    private synchronized void onChunk(Stream source, byte[] chunk) {
+        if (source != stream || source.ignored) return;
+
+        if (!source.opened) {
+            final ResponseHeader head = source.getResponseHeader();
+            if (head == null || head.getStatusCode() != 200) {
+                // Error bodies are not parsed; the source fails once the response is loaded
+                source.ignored = true;
+                return;
+            }
+            if (!isEventStream(head)) {
+                source.failure = new IllegalStateException("Expected a text/event-stream response but got " +
+                        head.getContentType() + ".");
+                source.cancel();
+                return;
+            }
+            source.opened = true;
+            failedAttempts = 0;
+            state = State.OPEN;
+            for (Runnable handler : openHandlers) handler.run();
+        }
+
+        parser.feed(chunk);
+    }
+
+    private void onEnd(Stream source, Response response) {
+        final Throwable failure;
+        synchronized (this) {
+            if (source != stream) return;
+            // The server asks not to reconnect
+            if (response.getStatusCode() == 204) {
+                close();
+                return;
+            }
+            if (response.getStatusCode() != 200) {
+                failure = new UnsuccessfulResponseException(response);
+            } else if (!isEventStream(response)) {
+                failure = new IllegalStateException("Expected a text/event-stream response but got " +
+                        response.getContentType() + ".");
+            } else {
+                reconnect(source);
+                return;
+            }
+        }
+        fail(failure);
+    }
+
+    private void onFailure(Stream source, RequestException error) {
+        synchronized (this) {
+            if (source != stream) return;
+            if (source.failure == null) {
+                reconnect(source);
+            }
+        }
+        if (source.failure != null) {
+            fail(source.failure);
+        } else {
+            for (ErrorHandler handler : errorHandlers) handler.onError(error);
+        }
+    }
+
+    private void fail(Throwable failure) {
+        close();
+        for (ErrorHandler handler : errorHandlers) handler.onError(failure);
+    }
+
+    private void reconnect(Stream source) {
+        state = State.CONNECTING;
+        if (!source.opened) failedAttempts++;
+
+        final long retryMillis = parser.getRetryMillis() >= 0 ? parser.getRetryMillis() : DEFAULT_RETRY_MILLIS;
+        long delay = retryMillis;
+        if (failedAttempts > 1) {
+            final long backoff = retryMillis << Math.min(failedAttempts - 1, 10);
+            delay = Math.max(retryMillis, Math.min(MAX_BACKOFF_MILLIS, backoff));
+        }
+
+        session.getAsyncRunner().run(new Runnable() {
+            public void run() {
+                connect();
+            }
+        }, delay);
+    }
+
+    private void dispatch(ServerSentEvent event) {
+        for (TypedHandler handler : eventHandlers) {
+            if (handler.type == null || handler.type.equals(event.getType())) {
+                try {
+                    handler.handler.onEvent(event);
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    private static boolean isEventStream(ResponseHeader response) {
+        final String contentType = response.getContentType();
+        return contentType != null && contentType.trim().toLowerCase().startsWith("text/event-stream");
+    }
+
+    private static class TypedHandler {
+        private final String type;
+        private final EventHandler handler;
+
+        TypedHandler(String type, EventHandler handler) {
+            this.type = type;
+            this.handler = handler;
+        }
+    }
+
+    private class Stream extends StreamingResponse {
+        private boolean opened;
+        private boolean ignored;
+        private volatile Throwable failure;
+
+        public void onNext(byte[] chunk) {
+            onChunk(this, chunk);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import io.reinert.requestor.core.HttpConnection;
 import io.reinert.requestor.core.RequestCancelException;
 import io.reinert.requestor.core.RequestException;
 import io.reinert.requestor.core.RequestOptions;
+import io.reinert.requestor.java.ChunkPublisher;
 
 /**
  * HttpConnection implementation for {@link HttpURLConnection}.
@@ -33,12 +34,19 @@ public class JavaNetHttpConnection implements HttpConnection {
     private final HttpURLConnection conn;
     private final Deferred<?> deferred;
     private final RequestOptions request;
+    private final ChunkPublisher readPublisher;
 
     public JavaNetHttpConnection(HttpURLConnection conn, Deferred<?> deferred, RequestOptions request) {
+        this(conn, deferred, request, null);
+    }
+
+    public JavaNetHttpConnection(HttpURLConnection conn, Deferred<?> deferred, RequestOptions request,
+                                 ChunkPublisher readPublisher) {
         if (conn == null) throw new IllegalArgumentException("HttpURLConnection cannot be null.");
         this.conn = conn;
         this.deferred = deferred;
         this.request = request;
+        this.readPublisher = readPublisher;
     }
 
     public void cancel() {
@@ -56,6 +64,8 @@ public class JavaNetHttpConnection implements HttpConnection {
     protected synchronized void cancel(RequestException exception) {
         if (isPending()) {
             conn.disconnect();
+            // Wake up the reading thread if it's waiting for demand
+            if (readPublisher != null) readPublisher.abort(exception);
             deferred.reject(exception);
         }
     }
@@ -18,6 +18,7 @@ package io.reinert.requestor.java.net;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.lang.reflect.Field;
 import java.net.HttpURLConnection;
@@ -43,10 +44,10 @@ import io.reinert.requestor.core.RawResponse;
 import io.reinert.requestor.core.ReadProgress;
 import io.reinert.requestor.core.RequestAbortException;
 import io.reinert.requestor.core.RequestCancelException;
+import io.reinert.requestor.core.RequestDispatchException;
 import io.reinert.requestor.core.RequestDispatcher;
 import io.reinert.requestor.core.RequestException;
 import io.reinert.requestor.core.RequestLogger;
-import io.reinert.requestor.core.RequestOptions;
 import io.reinert.requestor.core.RequestProcessor;
 import io.reinert.requestor.core.RequestTimeoutException;
 import io.reinert.requestor.core.ResponseHeader;
@@ -62,6 +63,7 @@ import io.reinert.requestor.core.payload.SerializedPayload;
 import io.reinert.requestor.core.payload.TextSerializedPayload;
 import io.reinert.requestor.core.payload.type.PayloadType;
 import io.reinert.requestor.core.uri.Uri;
+import io.reinert.requestor.java.ChunkPublisher;
 import io.reinert.requestor.java.ChunkedProgressEvent;
 import io.reinert.requestor.java.FixedProgressEvent;
 import io.reinert.requestor.java.RequestRedirectException;
@@ -79,6 +81,8 @@ import static io.reinert.requestor.java.net.Requestor.OUTPUT_BUFFER_SIZE;
  */
 class JavaNetRequestDispatcher extends RequestDispatcher {
 
+    private static final int DEMAND_WAIT_SLICE = 100;
+
     private final int inputBufferSize;
     private final int outputBufferSize;
 
@@ -97,6 +101,14 @@ class JavaNetRequestDispatcher extends RequestDispatcher {
         // Return if deferred were rejected or resolved before this method was called
         if (!deferred.isPending()) return;
 
+        final ChunkPublisher readPublisher = request.getValue(Requestor.READ_PUBLISHER);
+        if (readPublisher != null && !readPublisher.bind()) {
+            deferred.reject(new RequestDispatchException(request, "The read publisher was already bound to another" +
+                    " response. A ChunkPublisher streams a single response, so it cannot be shared by sessions or" +
+                    " services, nor reused by polls or retries."));
+            return;
+        }
+
         URL url = null;
         HttpURLConnection conn = null;
         JavaNetHttpConnection netConn = null;
@@ -239,14 +251,20 @@ class JavaNetRequestDispatcher extends RequestDispatcher {
 
             // Payload download
             SerializedPayload serializedResponse = SerializedPayload.EMPTY_PAYLOAD;
-            if (payloadType.getType() != Void.class ||
+            if (payloadType.getType() != Void.class || readPublisher != null ||
                     request.exists(Requestor.READ_CHUNKING_ENABLED, Boolean.TRUE)) {
                 int inBufferSize = getInputBufferSize(request);
                 try (InputStream in = getConnInputStream(conn, response, inBufferSize)) {
                     if (in != null) {
                         serializedResponse = readInputStreamToSerializedPayload(request, deferred, conn, in,
-                                inBufferSize, isGzipEncodingEnabled, response);
+                                inBufferSize, isGzipEncodingEnabled, response, readPublisher);
+                    }
+                    if (serializedResponse == null) {
+                        netConn.cancel(new RequestCancelException(request,
+                                "The response stream was cancelled by the subscriber."));
+                        return;
                     }
+                    if (readPublisher != null) readPublisher.complete();
                 } catch (SocketTimeoutException e) {
                     netConn.cancel(new RequestTimeoutException(request, request.getTimeout()));
                     return;
@@ -258,6 +276,9 @@ class JavaNetRequestDispatcher extends RequestDispatcher {
                             "An unexpected error has occurred while reading the response payload.", e));
                     return;
                 }
+            } else {
+                // The body is not needed, but it's drained so the connection can be reused by keep-alive
+                discardResponsePayload(conn, response, getInputBufferSize(request));
             }
 
             // Evaluate response
@@ -272,10 +293,26 @@ class JavaNetRequestDispatcher extends RequestDispatcher {
         }
     }
 
+    private void discardResponsePayload(HttpURLConnection conn, ResponseHeader response, int inBufferSize) {
+        try (InputStream in = response.getStatus().getFamily() == StatusFamily.SUCCESSFUL ?
+                conn.getInputStream() : conn.getErrorStream()) {
+            if (in == null) return;
+            final byte[] buffer = new byte[inBufferSize];
+            int stepRead;
+            do {
+                stepRead = in.read(buffer);
+            } while (stepRead != -1);
+        } catch (IOException e) {
+            // The response was already received; the connection is just not reused
+        }
+    }
+
     private InputStream getConnInputStream(HttpURLConnection conn, ResponseHeader response, int inBufferSize)
             throws IOException {
         final InputStream in = response.getStatus().getFamily() == StatusFamily.SUCCESSFUL ?
                 conn.getInputStream() : conn.getErrorStream();
+        // Responses without body, such as 304, have no error stream either
+        if (in == null) return null;
         int bufSize = conn.getContentLength() > 0 ? Math.min(inBufferSize, conn.getContentLength()) : inBufferSize;
         return "gzip".equalsIgnoreCase(response.getHeader("Content-Encoding")) ? new GZIPInputStream(in, bufSize) : in;
     }
@@ -356,13 +393,16 @@ class JavaNetRequestDispatcher extends RequestDispatcher {
     private <R> SerializedPayload readInputStreamToSerializedPayload(PreparedRequest request, Deferred<R> deferred,
                                                                      HttpURLConnection conn, InputStream in,
                                                                      int inBufferSize, boolean isGzipEncodingEnabled,
-                                                                     ResponseHeader response)
+                                                                     ResponseHeader response,
+                                                                     ChunkPublisher readPublisher)
             throws IOException {
         final String contentType = conn.getContentType();
         final int contentLength = conn.getContentLength();
         final boolean isUncompressed = !isGzipEncodingEnabled;
 
-        final boolean payloadRequested = request.getResponsePayloadType().getType() != Void.class;
+        // NOTE: the body is not accumulated when it's being streamed to a publisher
+        final boolean payloadRequested = request.getResponsePayloadType().getType() != Void.class &&
+                readPublisher == null;
         final boolean chunkingEnabled = request.exists(Requestor.READ_CHUNKING_ENABLED, Boolean.TRUE);
 
         // NOTE: there should be no body when buffering is enabled but return type is void
@@ -370,7 +410,16 @@ class JavaNetRequestDispatcher extends RequestDispatcher {
 
         byte[] buffer = new byte[inBufferSize];
         int stepRead, totalRead = 0;
-        while ((stepRead = in.read(buffer)) != -1) {
+        while (true) {
+            if (readPublisher != null && !awaitDemand(request, deferred, readPublisher)) {
+                // Returning null signals the stream was cancelled
+                return readPublisher.isCancelled() || !deferred.isPending() ? null : SerializedPayload.EMPTY_PAYLOAD;
+            }
+
+            if ((stepRead = in.read(buffer)) == -1) break;
+
+            if (readPublisher != null) readPublisher.publish(Arrays.copyOf(buffer, stepRead));
+
             if (payloadRequested) {
                 if (isUncompressed && contentLength > 0) {
                     System.arraycopy(buffer, 0, body, totalRead, stepRead);
@@ -394,6 +443,32 @@ class JavaNetRequestDispatcher extends RequestDispatcher {
         return serializeContent(contentType, body, request.getCharset());
     }
 
+    private boolean awaitDemand(PreparedRequest request, Deferred<?> deferred, ChunkPublisher readPublisher)
+            throws IOException {
+        final int timeout = request.getTimeout();
+        final long deadline = System.currentTimeMillis() + timeout;
+        try {
+            // Wait in bounded slices, so a stalled subscriber cannot outlive the timeout or the request itself
+            while (readPublisher.awaitDemand(DEMAND_WAIT_SLICE)) {
+                if (readPublisher.hasDemand()) return true;
+
+                if (!deferred.isPending()) {
+                    readPublisher.abort(new RequestCancelException(request,
+                            "The request was aborted while waiting for demand of the response stream."));
+                    return false;
+                }
+
+                if (timeout > 0 && System.currentTimeMillis() >= deadline) {
+                    throw new SocketTimeoutException("Timed out while waiting for demand of the response stream.");
+                }
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for demand of the response stream.");
+        }
+    }
+
     private int getInputBufferSize(Store store) {
         final Integer customBufferSize = store.getValue(INPUT_BUFFER_SIZE);
         return customBufferSize != null ? customBufferSize : inputBufferSize;
@@ -421,8 +496,9 @@ class JavaNetRequestDispatcher extends RequestDispatcher {
                 ? new BinarySerializedPayload(content) : new TextSerializedPayload(content, charset);
     }
 
-    private JavaNetHttpConnection getNetConnection(HttpURLConnection conn, Deferred<?> deferred, RequestOptions req) {
-        return new JavaNetHttpConnection(conn, deferred, req);
+    private JavaNetHttpConnection getNetConnection(HttpURLConnection conn, Deferred<?> deferred,
+                                                   PreparedRequest req) {
+        return new JavaNetHttpConnection(conn, deferred, req, req.<ChunkPublisher>getValue(Requestor.READ_PUBLISHER));
     }
 
     private void setPatchMethod(HttpURLConnection conn) {
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java.net;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.reinert.requestor.core.Request;
+import io.reinert.requestor.core.RequestInvoker;
+import io.reinert.requestor.core.ResponseHeader;
+import io.reinert.requestor.core.Session;
+import io.reinert.requestor.core.payload.TextSerializedPayload;
+import io.reinert.requestor.core.serialization.DeserializationContext;
+import io.reinert.requestor.core.serialization.Deserializer;
+import io.reinert.requestor.core.serialization.SerializationException;
+import io.reinert.requestor.core.serialization.UnableToDeserializeException;
+
+/**
+ * <p>Reads newline-delimited JSON (NDJSON, JSON Lines) responses record by record.</p>
+ *
+ * <p>The body is streamed through the {@link Requestor#READ_PUBLISHER read publisher} and split into lines as it's
+ * read. Each line is decoded with the charset of the Content-Type (UTF-8 by default), deserialized by the
+ * {@link Deserializer} registered in the session for the record type and media type (application/json by default),
+ * and delivered to the record callbacks before the response completes. Only the current line is buffered, so memory
+ * use doesn't depend on the size of the response.</p>
+ *
+ * <p>The callbacks are called sequentially by the thread reading the connection, so a slow consumer slows down the
+ * download. Blank lines are skipped. If a line cannot be deserialized, the error handlers are notified and the
+ * request is cancelled. Unsuccessful responses are not parsed.</p>
+ *
+ * <pre>
+ * Request&lt;Void&gt; request = new NdjsonReader&lt;&gt;(LogEntry.class)
+ *         .onRecord(entry -&gt; index(entry))
+ *         .get(session.req("/logs"));
+ * request.onSuccess(() -&gt; done());
+ * </pre>
+ *
+ * <p>A reader holds the state of a single response and cannot be reused.</p>
+ *
+ * @param <T> the type of the records
+ *
+ * @author Danilo Reinert
+ */
+public class NdjsonReader<T> {
+
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+    public static final String RECORD_MEDIA_TYPE = "application/json";
+
+    /**
+     * Receives the records as they are deserialized.
+     *
+     * @param <T> the type of the records
+     */
+    public interface RecordCallback<T> {
+        void onRecord(T record);
+    }
+
+    /**
+     * Receives the failure to deserialize a record.
+     */
+    public interface ErrorHandler {
+        void onError(Throwable error);
+    }
+
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private final Class<T> recordType;
+    private final String recordMediaType;
+
+    private final List<RecordCallback<T>> recordCallbacks = new CopyOnWriteArrayList<>();
+    private final List<ErrorHandler> errorHandlers = new CopyOnWriteArrayList<>();
+
+    private final StreamingResponse response = new StreamingResponse() {
+        public void onNext(byte[] chunk) {
+            feed(chunk);
+        }
+
+        public void onComplete() {
+            // The last line may not be terminated by a line feed
+            if (lineLength > 0) processLine();
+        }
+    };
+
+    private Session session;
+    private Deserializer<T> deserializer;
+    private DeserializationContext context;
+    private String charset;
+
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private boolean checked;
+    private boolean ignored;
+    private boolean failed;
+    private volatile long recordCount;
+
+    public NdjsonReader(Class<T> recordType) {
+        this(recordType, RECORD_MEDIA_TYPE);
+    }
+
+    /**
+     * @param recordType        the type of the records
+     * @param recordMediaType   the media type used to look up the deserializer of each line
+     */
+    public NdjsonReader(Class<T> recordType, String recordMediaType) {
+        if (recordType == null) throw new NullPointerException("Record type cannot be null");
+        if (recordMediaType == null) throw new NullPointerException("Record media type cannot be null");
+        this.recordType = recordType;
+        this.recordMediaType = recordMediaType;
+    }
+
+    public NdjsonReader<T> onRecord(RecordCallback<T> callback) {
+        recordCallbacks.add(callback);
+        return this;
+    }
+
+    public NdjsonReader<T> onError(ErrorHandler handler) {
+        errorHandlers.add(handler);
+        return this;
+    }
+
+    /**
+     * Sends the request with the GET method and reads the records of the response.
+     *
+     * @param invoker   the request to be sent
+     * @return the request, which completes after all the records were delivered
+     */
+    public Request<Void> get(RequestInvoker invoker) {
+        return send(invoker, false);
+    }
+
+    /**
+     * Sends the request with the POST method and reads the records of the response.
+     *
+     * @param invoker   the request to be sent
+     * @return the request, which completes after all the records were delivered
+     */
+    public Request<Void> post(RequestInvoker invoker) {
+        return send(invoker, true);
+    }
+
+    /**
+     * @return the number of records delivered so far
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    //===================================================================
+    // Internal methods
+    //===================================================================
+
+    private Request<Void> send(RequestInvoker invoker, boolean post) {
+        synchronized (this) {
+            if (session != null) throw new IllegalStateException("NdjsonReader cannot be reused.");
+            session = invoker.getSession();
+        }
+
+        invoker.accept(MEDIA_TYPE + ", application/jsonl, " + RECORD_MEDIA_TYPE);
+        final Request<Void> request = response.send(invoker, post);
+
+        // The body is read only after the request is known, so the response head can be checked before parsing
+        response.start();
+
+        return request;
+    }
+
+    private void feed(byte[] chunk) {
+        if (!checked) {
+            checked = true;
+            final ResponseHeader head = response.getResponseHeader();
+            ignored = head == null || head.getStatusCode() / 100 != 2;
+            if (!ignored) charset = StreamingResponse.getCharset(head);
+        }
+        if (ignored || failed) return;
+
+        for (byte b : chunk) {
+            if (b == LF) {
+                processLine();
+                if (failed) return;
+            } else {
+                if (lineLength == line.length) line = Arrays.copyOf(line, lineLength * 2);
+                line[lineLength++] = b;
+            }
+        }
+    }
+
+    private void processLine() {
+        int length = lineLength;
+        lineLength = 0;
+        if (ignored || failed) return;
+
+        if (length > 0 && line[length - 1] == CR) length--;
+        if (isBlank(line, length)) return;
+
+        final T record;
+        try {
+            record = getDeserializer().deserialize(new TextSerializedPayload(Arrays.copyOf(line, length), charset),
+                    context);
+        } catch (RuntimeException e) {
+            fail(new UnableToDeserializeException("Could not deserialize the record " + (recordCount + 1) +
+                    " of the response to " + recordType.getName() + ".", e));
+            return;
+        }
+
+        recordCount++;
+        for (RecordCallback<T> callback : recordCallbacks) {
+            try {
+                callback.onRecord(record);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private Deserializer<T> getDeserializer() {
+        if (deserializer == null) {
+            deserializer = session.getDeserializer(recordType, recordMediaType);
+            if (deserializer == null) {
+                throw new SerializationException("Could not find Deserializer for class '" + recordType.getName() +
+                        "' and media-type '" + recordMediaType + "'.");
+            }
+            context = new DeserializationContext(charset, recordType) {
+                public <I> I getInstance(Class<I> type) {
+                    return session.getInstance(type);
+                }
+
+                public boolean hasProvider(Class<?> type) {
+                    return session.getProvider(type) != null;
+                }
+            };
+        }
+        return deserializer;
+    }
+
+    private void fail(Throwable error) {
+        failed = true;
+        for (ErrorHandler handler : errorHandlers) handler.onError(error);
+        response.cancel();
+    }
+
+    private static boolean isBlank(byte[] bytes, int length) {
+        for (int i = 0; i < length; i++) {
+            final byte b = bytes[i];
+            if (b != ' ' && b != '\t' && b != CR) return false;
+        }
+        return true;
+    }
+}
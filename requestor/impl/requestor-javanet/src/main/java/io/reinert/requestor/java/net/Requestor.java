@@ -28,11 +28,13 @@ import io.reinert.requestor.core.AsyncRunner;
 import io.reinert.requestor.core.Base64Codec;
 import io.reinert.requestor.core.DeferredPool;
 import io.reinert.requestor.core.RequestDispatcher;
+import io.reinert.requestor.core.RequestInvoker;
 import io.reinert.requestor.core.RequestorCore;
 import io.reinert.requestor.core.Session;
 import io.reinert.requestor.core.auth.DigestAuth;
 import io.reinert.requestor.core.deferred.DeferredPoolFactoryImpl;
 import io.reinert.requestor.core.uri.UriBuilder;
+import io.reinert.requestor.java.ChunkPublisher;
 import io.reinert.requestor.java.ScheduledExecutorAsyncRunner;
 import io.reinert.requestor.java.serialization.BinarySerializer;
 import io.reinert.requestor.java.serialization.ByteSerializer;
@@ -59,6 +61,7 @@ public class Requestor {
     public static final String OUTPUT_BUFFER_SIZE = "requestor.java.net.outputBufferSize";
     public static final String GZIP_ENCODING_ENABLED = "requestor.java.net.gzipEncodingEnabled";
     public static final String FOLLOW_REDIRECTS_DISABLED = "requestor.java.net.followRedirectsDisabled";
+    public static final String READ_PUBLISHER = RequestDispatcher.STREAMED_BODY_KEY;
 
     private static final char[] HEX_ARRAY = "0123456789ABCDEF".toCharArray();
 
@@ -90,6 +93,21 @@ public class Requestor {
         return UriBuilder.newInstance();
     }
 
+    /**
+     * Streams the response body of the given request through a new backpressured {@link ChunkPublisher}.
+     * The body is not accumulated in the response, and it's read only as fast as the subscriber requests it.
+     * <p></p>
+     * The publisher is bound to the first attempt of this request, so polls and retries of it fail.
+     *
+     * @param request  The request whose response body will be published
+     * @return The publisher of the response body
+     */
+    public static ChunkPublisher readPublisher(RequestInvoker request) {
+        final ChunkPublisher publisher = new ChunkPublisher();
+        request.save(READ_PUBLISHER, publisher);
+        return publisher;
+    }
+
     private static Session configure(Session session) {
         RequestorCore.configure(session);
 
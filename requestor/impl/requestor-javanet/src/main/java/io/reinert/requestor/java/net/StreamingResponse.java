@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java.net;
+
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.util.concurrent.ExecutionException;
+
+import io.reinert.requestor.core.HttpConnection;
+import io.reinert.requestor.core.Request;
+import io.reinert.requestor.core.RequestInvoker;
+import io.reinert.requestor.core.ResponseHeader;
+import io.reinert.requestor.core.payload.TextSerializedPayload;
+import io.reinert.requestor.java.ChunkPublisher;
+
+/**
+ * <p>The response of a request whose body is streamed through the {@link Requestor#READ_PUBLISHER read publisher}
+ * and handled by the subclass as it's read.</p>
+ *
+ * <p>No chunk is read before {@link #start()} is called, so the request is known and the response head can be checked
+ * before the body is handled.</p>
+ *
+ * @author Danilo Reinert
+ */
+abstract class StreamingResponse implements ChunkPublisher.Subscriber {
+
+    private ChunkPublisher.Subscription subscription;
+    private volatile Request<Void> request;
+
+    /**
+     * Sends the request with its body streamed to this response.
+     *
+     * @param invoker   the request to be sent
+     * @param post      whether the POST method is used instead of GET
+     * @return the request
+     */
+    Request<Void> send(RequestInvoker invoker, boolean post) {
+        final ChunkPublisher publisher = new ChunkPublisher();
+        publisher.subscribe(this);
+        invoker.save(Requestor.READ_PUBLISHER, publisher);
+
+        request = post ? invoker.post(Void.class) : invoker.get(Void.class);
+        return request;
+    }
+
+    /**
+     * Starts reading the body.
+     */
+    void start() {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    Request<Void> getRequest() {
+        return request;
+    }
+
+    public final void onSubscribe(ChunkPublisher.Subscription subscription) {
+        this.subscription = subscription;
+    }
+
+    public void onError(Throwable throwable) {
+        // Failures are handled by the request callbacks
+    }
+
+    public void onComplete() {
+        // The end of the body is handled by the request callbacks
+    }
+
+    /**
+     * @return the response head, or null if the request failed before it was received
+     */
+    ResponseHeader getResponseHeader() {
+        try {
+            // The response head is notified before the body is read, so it's already available
+            return request.getResponse().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stops reading the body.
+     */
+    void cancel() {
+        // Disconnecting also wakes up the reading thread if it's blocked waiting for the server
+        final HttpConnection connection = request != null ? request.getHttpConnection() : null;
+        if (connection == null) {
+            subscription.cancel();
+            return;
+        }
+        try {
+            if (connection.isPending()) connection.cancel();
+        } catch (IllegalStateException e) {
+            // The response has just completed on its own
+        }
+    }
+
+    /**
+     * @return the charset param of the Content-Type, or the default charset if it's absent or not supported
+     */
+    static String getCharset(ResponseHeader response) {
+        final String contentType = response.getContentType();
+        if (contentType != null) {
+            for (String param : contentType.split(";")) {
+                final int separator = param.indexOf('=');
+                if (separator < 0 || !param.substring(0, separator).trim().equalsIgnoreCase("charset")) continue;
+
+                String charset = param.substring(separator + 1).trim();
+                if (charset.length() > 1 && charset.charAt(0) == '"' && charset.endsWith("\"")) {
+                    charset = charset.substring(1, charset.length() - 1);
+                }
+                try {
+                    if (Charset.isSupported(charset)) return charset;
+                } catch (IllegalCharsetNameException e) {
+                    // Fall back to the default charset
+                }
+            }
+        }
+        return TextSerializedPayload.DEFAULT_CHARSET;
+    }
+}
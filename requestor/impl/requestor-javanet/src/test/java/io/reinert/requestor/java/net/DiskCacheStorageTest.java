@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java.net;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.reinert.requestor.core.Headers;
+import io.reinert.requestor.core.HttpCache;
+import io.reinert.requestor.core.Status;
+import io.reinert.requestor.core.header.Header;
+import io.reinert.requestor.core.payload.TextSerializedPayload;
+import io.reinert.requestor.java.payload.BinarySerializedPayload;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests of {@link DiskCacheStorage} against actual files.
+ */
+public class DiskCacheStorageTest {
+
+    private static final long STORED_AT = 1000000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+    private DiskCacheStorage storage;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = folder.getRoot().toPath();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (storage != null) storage.close();
+    }
+
+    @Test
+    public void testEntriesSurviveReopening() throws IOException {
+        // Given
+        storage = new DiskCacheStorage(directory, 1024 * 1024);
+        storage.save("a", text("hello", "ETag", "\"v1\""));
+        storage.save("b", new HttpCache.CachedResponse(Status.of(203), headers(),
+                new BinarySerializedPayload(new byte[] {1, 2, 3}), Collections.singletonMap("accept", "*/*"),
+                STORED_AT));
+        storage.save("c", text("removed"));
+        storage.remove("c");
+        storage.close();
+
+        // When
+        storage = new DiskCacheStorage(directory, 1024 * 1024);
+
+        // Then
+        Assert.assertEquals(2, storage.getEntryCount());
+        final HttpCache.CachedResponse a = storage.load("a");
+        Assert.assertEquals(200, a.getStatus().getStatusCode());
+        Assert.assertEquals("hello", a.getSerializedPayload().asString());
+        Assert.assertEquals("\"v1\"", a.getHeaders().getValue("ETag"));
+        Assert.assertEquals(STORED_AT, a.getStoredAtMillis());
+        final HttpCache.CachedResponse b = storage.load("b");
+        Assert.assertEquals(203, b.getStatus().getStatusCode());
+        Assert.assertArrayEquals(new byte[] {1, 2, 3}, b.getSerializedPayload().asBytes());
+        Assert.assertEquals("*/*", b.getVaryValues().get("accept"));
+        Assert.assertNull(storage.load("c"));
+    }
+
+    @Test
+    public void testTruncatedLastRecordIsAMiss() throws IOException {
+        // Given
+        storage = new DiskCacheStorage(directory, 1024 * 1024);
+        storage.save("a", text("first"));
+        storage.save("b", text("second"));
+        storage.close();
+        storage = null;
+
+        // When
+        final Path segment = getSegments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            // A torn write of the last record's body
+            channel.truncate(channel.size() - 3);
+        }
+        storage = new DiskCacheStorage(directory, 1024 * 1024);
+
+        // Then
+        Assert.assertEquals(1, storage.getEntryCount());
+        Assert.assertEquals("first", storage.load("a").getSerializedPayload().asString());
+        Assert.assertNull(storage.load("b"));
+
+        // When
+        storage.save("b", text("again"));
+
+        // Then
+        Assert.assertEquals("again", storage.load("b").getSerializedPayload().asString());
+    }
+
+    @Test
+    public void testOldestSegmentIsEvictedWhenTheLimitIsExceeded() throws IOException {
+        // Given
+        storage = new DiskCacheStorage(directory, 2048, 512);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            storage.save("key" + i, text(body(i, 200)));
+        }
+
+        // Then
+        Assert.assertTrue(storage.getSize() <= 2048);
+        Assert.assertNull(storage.load("key0"));
+        Assert.assertEquals(body(19, 200), storage.load("key19").getSerializedPayload().asString());
+        Assert.assertEquals(storage.getEntryCount(), countLoadable(20));
+        Assert.assertTrue(getSegments().size() <= 4);
+    }
+
+    @Test
+    public void testLoadedPayloadOutlivesTheEvictionOfItsSegment() throws IOException {
+        // Given
+        storage = new DiskCacheStorage(directory, 2048, 512, 100);
+        storage.save("large", text(body(0, 400)));
+        final HttpCache.CachedResponse loaded = storage.load("large");
+        Assert.assertFalse(loaded.getSerializedPayload().isBytesAvailable());
+
+        // When
+        for (int i = 1; i < 20; i++) {
+            storage.save("key" + i, text(body(i, 200)));
+        }
+
+        // Then
+        Assert.assertNull(storage.load("large"));
+        Assert.assertEquals(body(0, 400), loaded.getSerializedPayload().asString());
+    }
+
+    @Test
+    public void testRevalidatedPayloadIsCopiedFromItsEvictedSegment() throws IOException {
+        // Given
+        storage = new DiskCacheStorage(directory, 2048, 512, 100);
+        storage.save("large", new HttpCache.CachedResponse(Status.of(200), headers(),
+                new BinarySerializedPayload(body(0, 400).getBytes(StandardCharsets.UTF_8)),
+                new HashMap<String, String>(), STORED_AT));
+        final HttpCache.CachedResponse loaded = storage.load("large");
+        for (int i = 1; i < 20; i++) {
+            storage.save("key" + i, text(body(i, 200)));
+        }
+
+        // When
+        storage.save("large", loaded);
+        storage.close();
+        storage = new DiskCacheStorage(directory, 2048, 512, 100);
+
+        // Then
+        final HttpCache.CachedResponse reloaded = storage.load("large");
+        Assert.assertArrayEquals(body(0, 400).getBytes(StandardCharsets.UTF_8),
+                reloaded.getSerializedPayload().asBytes());
+        Assert.assertEquals(Base64.getEncoder().encodeToString(body(0, 400).getBytes(StandardCharsets.UTF_8)),
+                reloaded.getSerializedPayload().asString());
+    }
+
+    @Test
+    public void testConcurrentSavesAndLoadsKeepTheRecordsIntact() throws Exception {
+        // Given
+        storage = new DiskCacheStorage(directory, 16 * 1024, 2048, 100);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Future<?>> tasks = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            final int thread = t;
+            tasks.add(executor.submit(() -> {
+                for (int i = 0; i < 200; i++) {
+                    final int seed = (thread * 200 + i) % 50;
+                    storage.save("key" + seed, text(body(seed, 150 + seed)));
+                    final HttpCache.CachedResponse loaded = storage.load("key" + (seed + 7) % 50);
+                    // Then
+                    if (loaded != null) {
+                        Assert.assertEquals(body((seed + 7) % 50, 150 + (seed + 7) % 50),
+                                loaded.getSerializedPayload().asString());
+                    }
+                }
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        Assert.assertTrue(storage.getSize() <= 16 * 1024);
+        Assert.assertEquals(storage.getEntryCount(), countLoadable(50));
+    }
+
+    private int countLoadable(int keys) {
+        int count = 0;
+        for (int i = 0; i < keys; i++) {
+            if (storage.load("key" + i) != null) count++;
+        }
+        return count;
+    }
+
+    private List<Path> getSegments() throws IOException {
+        final List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "segment-*.dat")) {
+            for (Path file : files) {
+                segments.add(file);
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private static String body(int seed, int length) {
+        final StringBuilder body = new StringBuilder(length);
+        while (body.length() < length) {
+            body.append((char) ('a' + (seed + body.length()) % 26));
+        }
+        return body.toString();
+    }
+
+    private static HttpCache.CachedResponse text(String body, String... headerPairs) {
+        return new HttpCache.CachedResponse(Status.of(200), headers(headerPairs), new TextSerializedPayload(body),
+                new HashMap<String, String>(), STORED_AT);
+    }
+
+    private static Headers headers(String... headerPairs) {
+        final List<Header> headers = new ArrayList<>();
+        for (int i = 0; i < headerPairs.length; i += 2) {
+            headers.add(Header.fromRawHeader(headerPairs[i], headerPairs[i + 1]));
+        }
+        return new Headers(headers);
+    }
+}
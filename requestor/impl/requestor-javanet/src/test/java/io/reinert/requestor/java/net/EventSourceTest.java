@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java.net;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.reinert.requestor.core.Session;
+import io.reinert.requestor.java.ServerSentEvent;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * EventSource tests. They run against a local server, since httpbin has no event stream endpoint.
+ */
+public class EventSourceTest extends JavaNetTest {
+
+    private static final int TIMEOUT = 10_000;
+
+    private HttpServer server;
+    private String baseUri;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEventsAreResumedWithLastEventId() throws Throwable {
+        final List<String> lastEventIds = new CopyOnWriteArrayList<>();
+        server.createContext("/stream", exchange -> {
+            final String lastEventId = exchange.getRequestHeaders().getFirst("Last-Event-ID");
+            lastEventIds.add(String.valueOf(lastEventId));
+            final int first = lastEventId == null ? 1 : Integer.parseInt(lastEventId) + 1;
+
+            final StringBuilder body = new StringBuilder("retry: 10\n: keep-alive\n\n");
+            for (int i = first; i < first + 2; i++) {
+                body.append("id: ").append(i).append("\r\nevent: tick\r\n")
+                        .append("data: olá\r\ndata: ").append(i).append("\r\n\r\n");
+            }
+            // Writing byte by byte splits lines, CRLFs and multi-byte characters across chunks
+            writeSlowly(exchange, "text/event-stream", body.toString().getBytes(StandardCharsets.UTF_8));
+        });
+
+        final Session session = Requestor.newSession();
+        final List<ServerSentEvent> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(4);
+        final EventSource source = new EventSource(session, baseUri + "/stream")
+                .onEvent("tick", event -> {
+                    events.add(event);
+                    latch.countDown();
+                });
+        source.open();
+
+        Assert.assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        source.close();
+
+        Assert.assertEquals("null", lastEventIds.get(0));
+        Assert.assertEquals("2", lastEventIds.get(1));
+        Assert.assertEquals("4", events.get(3).getId());
+        Assert.assertEquals("tick", events.get(3).getType());
+        Assert.assertEquals("olá\n4", events.get(3).getData());
+        Assert.assertEquals(EventSource.State.CLOSED, source.getState());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSourceIsClosedWhenResponseIsNotAnEventStream() throws Throwable {
+        server.createContext("/html", exchange -> {
+            writeSlowly(exchange, "text/html", "<html></html>".getBytes(StandardCharsets.UTF_8));
+        });
+
+        final Session session = Requestor.newSession();
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final EventSource source = new EventSource(session, baseUri + "/html")
+                .onError(error -> {
+                    errors.add(error);
+                    latch.countDown();
+                });
+        source.open();
+
+        Assert.assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        Assert.assertEquals(1, errors.size());
+        Assert.assertTrue(errors.get(0) instanceof IllegalStateException);
+        Assert.assertEquals(EventSource.State.CLOSED, source.getState());
+    }
+
+    private static void writeSlowly(HttpExchange exchange, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (byte b : body) {
+                out.write(b);
+                out.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java.net;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.reinert.requestor.core.ErrorSink;
+import io.reinert.requestor.core.HttpMethod;
+import io.reinert.requestor.core.RequestException;
+import io.reinert.requestor.core.Response;
+import io.reinert.requestor.core.ResponseFilter;
+import io.reinert.requestor.core.ResponseInProcess;
+import io.reinert.requestor.core.Session;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Fire-and-forget tests. They run against a local server, so the reused connections can be observed.
+ */
+public class FireAndForgetTest extends JavaNetTest {
+
+    private static final int TIMEOUT = 10_000;
+    private static final int REQUESTS = 5;
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger served = new AtomicInteger();
+
+    private HttpServer server;
+    private String baseUri;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/events", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+            final byte[] body = new byte[4096];
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+            served.incrementAndGet();
+        });
+        server.createContext("/fail", exchange -> {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDiscardedBodyLetsTheConnectionBeReused() throws Throwable {
+        // Given
+        final Session session = Requestor.newSession();
+
+        // When
+        for (int i = 1; i <= REQUESTS; i++) {
+            session.req(baseUri + "/events").send(HttpMethod.POST);
+            // One at a time, so the previous connection is idle when the next request is sent
+            while (served.get() < i) Thread.sleep(5);
+            Thread.sleep(50);
+        }
+
+        // Then
+        Assert.assertEquals(1, clientPorts.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testResponseIsNotProcessedAndFailureIsReported() throws Throwable {
+        // Given
+        final AtomicInteger filtered = new AtomicInteger();
+        final AtomicInteger failedStatus = new AtomicInteger();
+        final CountDownLatch reported = new CountDownLatch(1);
+
+        final Session session = Requestor.newSession();
+        session.register(new ResponseFilter() {
+            public void filter(ResponseInProcess response) {
+                filtered.incrementAndGet();
+                response.proceed();
+            }
+        });
+        session.setErrorSink(new ErrorSink() {
+            public void onError(RequestException error) {
+                reported.countDown();
+            }
+
+            public void onFail(Response response) {
+                failedStatus.set(response.getStatusCode());
+                reported.countDown();
+            }
+        });
+
+        // When
+        session.req(baseUri + "/fail").send(HttpMethod.POST);
+
+        // Then
+        Assert.assertTrue(reported.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(500, failedStatus.get());
+        Assert.assertEquals(0, filtered.get());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java.net;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.reinert.requestor.core.RequestCancelException;
+import io.reinert.requestor.core.Response;
+import io.reinert.requestor.core.Session;
+import io.reinert.requestor.core.serialization.UnableToDeserializeException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * NdjsonReader tests. They run against a local server, since httpbin has no NDJSON endpoint.
+ */
+public class NdjsonReaderTest extends JavaNetTest {
+
+    private static final int TIMEOUT = 10_000;
+
+    private HttpServer server;
+    private String baseUri;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRecordsAreDeliveredBeforeTheResponseCompletes() throws Throwable {
+        server.createContext("/logs", exchange ->
+                write(exchange, 200, "{\"n\":1}\n{\"n\":2}\r\n\n  \n{\"n\":3}"));
+
+        final Session session = Requestor.newSession();
+        final List<String> records = new CopyOnWriteArrayList<>();
+        final NdjsonReader<String> reader = new NdjsonReader<>(String.class).onRecord(records::add);
+
+        final Response response = reader.get(session.req(baseUri + "/logs")).await();
+
+        Assert.assertEquals(200, response.getStatusCode());
+        Assert.assertEquals(3, reader.getRecordCount());
+        Assert.assertEquals("{\"n\":1}", records.get(0));
+        Assert.assertEquals("{\"n\":2}", records.get(1));
+        // The last line isn't terminated by a line feed
+        Assert.assertEquals("{\"n\":3}", records.get(2));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRecordsAreDecodedWithTheContentTypeCharset() throws Throwable {
+        server.createContext("/logs", exchange -> write(exchange, 200, NdjsonReader.MEDIA_TYPE + "; charset=ISO-8859-1",
+                "{\"city\":\"S\u00e3o Paulo\"}\n", StandardCharsets.ISO_8859_1));
+
+        final Session session = Requestor.newSession();
+        final List<String> records = new CopyOnWriteArrayList<>();
+        final NdjsonReader<String> reader = new NdjsonReader<>(String.class).onRecord(records::add);
+
+        reader.get(session.req(baseUri + "/logs")).await();
+
+        Assert.assertEquals("{\"city\":\"S\u00e3o Paulo\"}", records.get(0));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testUnsuccessfulResponseIsNotParsed() throws Throwable {
+        server.createContext("/error", exchange -> write(exchange, 500, "{\"error\":true}\n"));
+
+        final Session session = Requestor.newSession();
+        final NdjsonReader<String> reader = new NdjsonReader<>(String.class);
+
+        final Response response = reader.get(session.req(baseUri + "/error")).await();
+
+        Assert.assertEquals(500, response.getStatusCode());
+        Assert.assertEquals(0, reader.getRecordCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRequestIsCancelledWhenRecordCannotBeDeserialized() throws Throwable {
+        server.createContext("/logs", exchange -> write(exchange, 200, "{\"n\":1}\n{\"n\":2}\n"));
+
+        final Session session = Requestor.newSession();
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        // There is no Deserializer for Integer
+        final NdjsonReader<Integer> reader = new NdjsonReader<>(Integer.class).onError(errors::add);
+
+        try {
+            reader.get(session.req(baseUri + "/logs")).await();
+            Assert.fail("The request should have been cancelled");
+        } catch (RequestCancelException e) {
+            Assert.assertEquals(1, errors.size());
+            Assert.assertTrue(errors.get(0) instanceof UnableToDeserializeException);
+            Assert.assertEquals(0, reader.getRecordCount());
+        }
+    }
+
+    private static void write(HttpExchange exchange, int status, String body) throws IOException {
+        write(exchange, status, NdjsonReader.MEDIA_TYPE, body, StandardCharsets.UTF_8);
+    }
+
+    private static void write(HttpExchange exchange, int status, String contentType, String body, Charset charset)
+            throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body.getBytes(charset));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java.net;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.reinert.requestor.core.Request;
+import io.reinert.requestor.core.RequestDispatchException;
+import io.reinert.requestor.core.RequestInvoker;
+import io.reinert.requestor.core.RequestTimeoutException;
+import io.reinert.requestor.core.Response;
+import io.reinert.requestor.core.Session;
+import io.reinert.requestor.java.ChunkPublisher;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the read publisher backpressure. They run against a local server, so the pauses can be observed.
+ */
+public class ReadPublisherTest extends JavaNetTest {
+
+    private static final int TIMEOUT = 10_000;
+    private static final int BODY_SIZE = 64 * 1024;
+    private static final int BUFFER_SIZE = 1024;
+
+    private HttpServer server;
+    private String baseUri;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/bytes", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+            exchange.sendResponseHeaders(200, BODY_SIZE);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(new byte[BODY_SIZE]);
+            }
+        });
+        server.start();
+        baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testReaderPausesWhileDemandIsZero() throws Throwable {
+        // Given
+        final Session session = Requestor.newSession();
+        session.save(Requestor.INPUT_BUFFER_SIZE, BUFFER_SIZE);
+
+        final AtomicInteger chunks = new AtomicInteger();
+        final AtomicLong bytesRead = new AtomicLong();
+        final AtomicInteger completions = new AtomicInteger();
+        final AtomicReference<ChunkPublisher.Subscription> subscription = new AtomicReference<>();
+
+        final RequestInvoker invoker = session.req(baseUri + "/bytes");
+        Requestor.readPublisher(invoker).subscribe(new ChunkPublisher.Subscriber() {
+            public void onSubscribe(ChunkPublisher.Subscription s) {
+                subscription.set(s);
+                // Hold the demand at two chunks
+                s.request(2);
+            }
+
+            public void onNext(byte[] chunk) {
+                chunks.incrementAndGet();
+                bytesRead.addAndGet(chunk.length);
+            }
+
+            public void onError(Throwable throwable) { }
+
+            public void onComplete() {
+                completions.incrementAndGet();
+            }
+        });
+
+        // When
+        final Request<Void> request = invoker.get();
+        Thread.sleep(500);
+
+        // Then
+        Assert.assertEquals(2, chunks.get());
+        Assert.assertEquals(0, completions.get());
+        Assert.assertTrue(request.getHttpConnection().isPending());
+
+        // When
+        subscription.get().request(Long.MAX_VALUE);
+        final Response response = request.await();
+
+        // Then
+        Assert.assertEquals(200, response.getStatusCode());
+        Assert.assertEquals(BODY_SIZE, bytesRead.get());
+        Assert.assertEquals(1, completions.get());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStalledSubscriberTimesOut() throws Throwable {
+        // Given
+        final Session session = Requestor.newSession();
+        session.setTimeout(500);
+
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final RequestInvoker invoker = session.req(baseUri + "/bytes");
+        Requestor.readPublisher(invoker).subscribe(new ChunkPublisher.Subscriber() {
+            public void onSubscribe(ChunkPublisher.Subscription s) {
+                // Never request any chunk
+            }
+
+            public void onNext(byte[] chunk) { }
+
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+            }
+
+            public void onComplete() { }
+        });
+
+        // When
+        try {
+            invoker.get().await();
+            Assert.fail("The request should have timed out");
+        } catch (RequestTimeoutException e) {
+            // Then
+            Assert.assertSame(e, error.get());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPublisherSharedBySessionFailsOnReuse() throws Throwable {
+        // Given
+        final Session session = Requestor.newSession();
+        final AtomicLong bytesRead = new AtomicLong();
+        final ChunkPublisher publisher = new ChunkPublisher();
+        publisher.subscribe(new ChunkPublisher.Subscriber() {
+            public void onSubscribe(ChunkPublisher.Subscription s) {
+                s.request(Long.MAX_VALUE);
+            }
+
+            public void onNext(byte[] chunk) {
+                bytesRead.addAndGet(chunk.length);
+            }
+
+            public void onError(Throwable throwable) { }
+
+            public void onComplete() { }
+        });
+        session.save(Requestor.READ_PUBLISHER, publisher);
+
+        // When
+        session.req(baseUri + "/bytes").get().await();
+        try {
+            session.req(baseUri + "/bytes").get().await();
+            Assert.fail("The second request should have failed");
+        } catch (RequestDispatchException e) {
+            // Then
+            Assert.assertEquals(BODY_SIZE, bytesRead.get());
+        }
+    }
+}
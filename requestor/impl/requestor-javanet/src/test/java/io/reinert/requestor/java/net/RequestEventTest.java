@@ -25,11 +25,15 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
+import io.reinert.requestor.core.ErrorSink;
+import io.reinert.requestor.core.HttpMethod;
 import io.reinert.requestor.core.ReadProgress;
+import io.reinert.requestor.core.RequestException;
 import io.reinert.requestor.core.RequestFilter;
 import io.reinert.requestor.core.Response;
 import io.reinert.requestor.core.Session;
 import io.reinert.requestor.core.payload.SerializedPayload;
+import io.reinert.requestor.java.ChunkPublisher;
 import io.reinert.requestor.java.ScheduledExecutorAsyncRunner;
 
 import org.junit.Assert;
@@ -303,4 +307,91 @@ public class RequestEventTest extends JavaNetTest {
 
         finishTest(result, TIMEOUT);
     }
+
+    @Test(timeout = TIMEOUT)
+    public void testReadPublisherWithBackpressure() throws Throwable {
+        final Thread thread = Thread.currentThread();
+        final TestResult result = new TestResult();
+
+        final Session session = Requestor.newSession(
+                new ScheduledExecutorAsyncRunner(Executors.newSingleThreadScheduledExecutor()));
+        session.setMediaType("application/octet-stream");
+        session.save(Requestor.INPUT_BUFFER_SIZE, 256);
+
+        final int byteSize = 2048;
+        final AtomicLong bytesRead = new AtomicLong(0);
+        final AtomicInteger chunks = new AtomicInteger(0);
+
+        final ChunkPublisher publisher = new ChunkPublisher();
+        publisher.subscribe(new ChunkPublisher.Subscriber() {
+            private ChunkPublisher.Subscription subscription;
+
+            public void onSubscribe(ChunkPublisher.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            public void onNext(byte[] chunk) {
+                chunks.incrementAndGet();
+                bytesRead.addAndGet(chunk.length);
+                // Request the chunks one at a time
+                subscription.request(1);
+            }
+
+            public void onError(Throwable throwable) {
+                result.fail(throwable);
+                thread.interrupt();
+            }
+
+            public void onComplete() {
+                try {
+                    Assert.assertEquals(byteSize, bytesRead.get());
+                    Assert.assertTrue(chunks.get() >= byteSize / 256);
+                    result.success();
+                } catch (Throwable error) {
+                    result.fail(error);
+                } finally {
+                    thread.interrupt();
+                }
+            }
+        });
+
+        session.req("https://httpbin.org/bytes/" + byteSize)
+                .save(Requestor.READ_PUBLISHER, publisher)
+                .get()
+                .onFail(failOnEvent(result))
+                .onError(failOnError(result));
+
+        finishTest(result, TIMEOUT);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testFireAndForgetFailureReportedToErrorSink() throws Throwable {
+        final Thread thread = Thread.currentThread();
+        final TestResult result = new TestResult();
+
+        final Session session = Requestor.newSession(
+                new ScheduledExecutorAsyncRunner(Executors.newSingleThreadScheduledExecutor()));
+        session.setErrorSink(new ErrorSink() {
+            public void onError(RequestException error) {
+                result.fail(error);
+                thread.interrupt();
+            }
+
+            public void onFail(Response response) {
+                try {
+                    Assert.assertEquals(500, response.getStatusCode());
+                    result.success();
+                } catch (Throwable error) {
+                    result.fail(error);
+                } finally {
+                    thread.interrupt();
+                }
+            }
+        });
+
+        session.req("https://httpbin.org/status/500").send(HttpMethod.POST);
+
+        finishTest(result, TIMEOUT);
+    }
 }
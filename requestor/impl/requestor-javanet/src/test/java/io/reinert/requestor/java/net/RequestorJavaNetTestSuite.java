@@ -25,9 +25,15 @@ import junit.framework.TestSuite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+        DiskCacheStorageTest.class,
+        EventSourceTest.class,
+        FireAndForgetTest.class,
         HttpMethodTest.class,
+        NdjsonReaderTest.class,
+        ReadPublisherTest.class,
         RequestEventTest.class,
         SerializationTest.class,
+        VirtualTimeTest.class,
         PollingTest.class,
         RetryTest.class
 })
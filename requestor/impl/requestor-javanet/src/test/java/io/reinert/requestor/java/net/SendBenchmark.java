@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java.net;
+
+import java.lang.management.ManagementFactory;
+
+import io.reinert.requestor.core.AsyncRunner;
+import io.reinert.requestor.core.Deferred;
+import io.reinert.requestor.core.DeferredPool;
+import io.reinert.requestor.core.Headers;
+import io.reinert.requestor.core.HttpMethod;
+import io.reinert.requestor.core.PreparedRequest;
+import io.reinert.requestor.core.RawResponse;
+import io.reinert.requestor.core.RequestDispatcher;
+import io.reinert.requestor.core.RequestLogger;
+import io.reinert.requestor.core.RequestProcessor;
+import io.reinert.requestor.core.ResponseProcessor;
+import io.reinert.requestor.core.Session;
+import io.reinert.requestor.core.Status;
+import io.reinert.requestor.core.deferred.DeferredPoolFactoryImpl;
+import io.reinert.requestor.core.header.Header;
+import io.reinert.requestor.core.payload.SerializedPayload;
+import io.reinert.requestor.core.payload.type.PayloadType;
+
+/**
+ * Compares the per-request allocation of fire-and-forget dispatch against regular dispatch.
+ * <p></p>
+ * Requests are run in the calling thread and answered with 204 without network, so only the client machinery is
+ * measured. Run it with {@code java -cp <test classpath> io.reinert.requestor.java.net.SendBenchmark [iterations]}.
+ */
+public class SendBenchmark {
+
+    public static void main(String[] args) {
+        final int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        final Session session = Requestor.newSession(new DeferredPoolFactoryImpl(), new InlineAsyncRunner(),
+                new NoContentDispatcherFactory());
+        session.getLogger().setActive(false);
+        session.setMediaType("text/plain");
+
+        final Runnable post = () -> session.req("http://localhost/telemetry").payload("event").post();
+        final Runnable send = () -> session.req("http://localhost/telemetry").payload("event").send(HttpMethod.POST);
+
+        // Warm up
+        measure(post, iterations);
+        measure(send, iterations);
+
+        final long postBytes = measure(post, iterations);
+        final long sendBytes = measure(send, iterations);
+
+        System.out.printf("post(): %,d bytes/request%n", postBytes / iterations);
+        System.out.printf("send(): %,d bytes/request%n", sendBytes / iterations);
+        System.out.printf("savings: %.1f%%%n", 100.0 * (postBytes - sendBytes) / postBytes);
+    }
+
+    private static long measure(Runnable task, int iterations) {
+        final com.sun.management.ThreadMXBean bean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        final long before = bean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        return bean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static class InlineAsyncRunner implements AsyncRunner {
+        public void run(Runnable runnable, long delayMillis) {
+            runnable.run();
+        }
+
+        public void sleep(long millis) {
+        }
+
+        public void shutdown() {
+        }
+
+        public boolean isShutdown() {
+            return false;
+        }
+
+        public Lock getLock() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class NoContentDispatcherFactory implements RequestDispatcher.Factory {
+        public RequestDispatcher create(AsyncRunner asyncRunner, RequestProcessor requestProcessor,
+                                        ResponseProcessor responseProcessor,
+                                        DeferredPool.Factory deferredPoolFactory, RequestLogger logger) {
+            return new RequestDispatcher(asyncRunner, requestProcessor, responseProcessor, deferredPoolFactory,
+                    logger) {
+                protected <R> void send(PreparedRequest request, Deferred<R> deferred, PayloadType payloadType) {
+                    final RawResponse response = new RawResponse(deferred, Status.of(204),
+                            new Headers(Header.fromRawHeader("Content-Type", "text/plain")),
+                            payloadType);
+                    response.setSerializedPayload(SerializedPayload.EMPTY_PAYLOAD);
+                    evalResponse(response);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026 Danilo Reinert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.reinert.requestor.java.net;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reinert.requestor.core.AsyncRunner;
+import io.reinert.requestor.core.ConditionalPolling;
+import io.reinert.requestor.core.DelaySequence;
+import io.reinert.requestor.core.PollingRequest;
+import io.reinert.requestor.core.PollingRequestInvoker;
+import io.reinert.requestor.core.PollingStrategy;
+import io.reinert.requestor.core.RequestTimeoutException;
+import io.reinert.requestor.core.Response;
+import io.reinert.requestor.core.Session;
+import io.reinert.requestor.core.Status;
+import io.reinert.requestor.core.deferred.DeferredPoolFactoryImpl;
+import io.reinert.requestor.java.SimulatedRequestDispatcherFactory;
+import io.reinert.requestor.java.SimulatedRequestDispatcherFactory.Outcome;
+import io.reinert.requestor.java.VirtualTimeAsyncRunner;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of sessions running in virtual time against a simulated server.
+ */
+public class VirtualTimeTest {
+
+    private static final int TIMEOUT = 10_000;
+    private static final long LATENCY = 100L;
+
+    private VirtualTimeAsyncRunner runner;
+
+    @Before
+    public void setUp() {
+        runner = new VirtualTimeAsyncRunner();
+        runner.install();
+    }
+
+    @After
+    public void tearDown() {
+        runner.uninstall();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRetriesFollowTheVirtualClock() throws Throwable {
+        // Given
+        final AtomicInteger attempts = new AtomicInteger();
+        final SimulatedRequestDispatcherFactory server = new SimulatedRequestDispatcherFactory((request, random) ->
+                Outcome.response(LATENCY, attempts.incrementAndGet() < 3 ? 503 : 200));
+        final Session session = newSession(server);
+
+        // When
+        final Response response = session.req("https://api.example.com/orders")
+                .retry(DelaySequence.fixed(5, 10), Status.SERVICE_UNAVAILABLE)
+                .get()
+                .await();
+
+        // Then
+        Assert.assertEquals(200, response.getStatusCode());
+        Assert.assertEquals(3, server.getSentCount());
+        Assert.assertEquals(3 * LATENCY + 15_000, runner.currentTimeMillis());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPollingFollowsTheVirtualClock() {
+        // Given
+        final SimulatedRequestDispatcherFactory server = new SimulatedRequestDispatcherFactory((request, random) ->
+                Outcome.response(LATENCY, 200));
+        final Session session = newSession(server);
+        final AtomicLong lastLoadMillis = new AtomicLong();
+
+        // When
+        session.req("https://api.example.com/status")
+                .poll(PollingStrategy.SHORT, 60_000, 10)
+                .get()
+                .onLoad(() -> lastLoadMillis.set(runner.currentTimeMillis()));
+        runner.runUntilIdle();
+
+        // Then
+        Assert.assertEquals(10, server.getSentCount());
+        Assert.assertEquals(9 * 60_000 + LATENCY, lastLoadMillis.get());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAdaptivePollingBacksOffWhileTheResourceIsQuiet() {
+        // Given
+        final Set<String> fixedVersions = new TreeSet<>();
+        final Set<String> adaptiveVersions = new TreeSet<>();
+
+        // When
+        final long fixedPolls = pollResourceChangingEveryMinute(false, fixedVersions);
+        final long adaptivePolls = pollResourceChangingEveryMinute(true, adaptiveVersions);
+
+        // Then
+        Assert.assertEquals(601, fixedPolls);
+        Assert.assertEquals(30, adaptivePolls);
+        Assert.assertEquals(11, adaptiveVersions.size());
+        Assert.assertEquals(fixedVersions, adaptiveVersions);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testUnchangedBodiesAreNotDelivered() {
+        // Given
+        final long start = runner.currentTimeMillis();
+        final SimulatedRequestDispatcherFactory server = new SimulatedRequestDispatcherFactory((request, random) ->
+                Outcome.response(LATENCY, 200, "v" + (runner.currentTimeMillis() - start) / 60_000));
+        final Session session = newSession(server);
+        session.save(ConditionalPolling.KEY, true);
+        final List<String> delivered = new ArrayList<>();
+        final List<Integer> statuses = new ArrayList<>();
+
+        // When
+        final PollingRequest<String> request = session.req("https://api.example.com/status")
+                .poll(PollingStrategy.SHORT, 1_000)
+                .get(String.class)
+                .onSuccess((String version) -> delivered.add(version))
+                .onLoad(response -> statuses.add(response.getStatusCode()));
+        runner.advanceTo(start + 600_000);
+        request.stopPolling();
+        runner.runUntilIdle();
+
+        // Then
+        Assert.assertEquals(601, server.getSentCount());
+        Assert.assertEquals(Arrays.asList("v0", "v1", "v2", "v3", "v4", "v5", "v6", "v7", "v8", "v9", "v10"),
+                delivered);
+        Assert.assertEquals(Arrays.asList(200, 200, 200, 200, 200, 200, 200, 200, 200, 200, 200), statuses);
+        Assert.assertEquals(590, ConditionalPolling.get(request).getUnchangedCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAdaptivePollingStartsAtThePollingIntervalSetLast() {
+        // Given
+        final List<Long> sentMillis = new ArrayList<>();
+        final Session session = newSession(new SimulatedRequestDispatcherFactory((request, random) -> {
+            sentMillis.add(runner.currentTimeMillis());
+            return Outcome.response(LATENCY, 200);
+        }));
+
+        // When
+        session.req("https://api.example.com/status")
+                .poll(PollingStrategy.SHORT, 1_000, 2)
+                .adaptiveInterval(1_000, 32_000)
+                .poll(PollingStrategy.SHORT, 8_000, 2)
+                .get();
+        runner.runUntilIdle();
+
+        // Then
+        Assert.assertEquals(Arrays.asList(0L, 8_000L), sentMillis);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTimeoutIsSimulated() throws Throwable {
+        // Given
+        final SimulatedRequestDispatcherFactory server = new SimulatedRequestDispatcherFactory((request, random) ->
+                Outcome.response(5_000, 200));
+        final Session session = newSession(server);
+        session.setTimeout(1_000);
+
+        // When
+        try {
+            session.req("https://api.example.com/slow").get().await();
+            Assert.fail("The request should have timed out");
+        } catch (RequestTimeoutException e) {
+            // Then
+            Assert.assertEquals(1, server.getTimeoutCount());
+            Assert.assertEquals(1_000, runner.currentTimeMillis());
+        }
+    }
+
+    @Test
+    public void testStoreTtlFollowsTheVirtualClock() {
+        // Given
+        final Session session = newSession(new SimulatedRequestDispatcherFactory((request, random) ->
+                Outcome.response(LATENCY, 200)));
+        session.save("token", "abc", 60_000);
+
+        // When
+        runner.advanceBy(59_999);
+
+        // Then
+        Assert.assertEquals("abc", session.getValue("token"));
+
+        // When
+        runner.advanceBy(2);
+
+        // Then
+        Assert.assertNull(session.getValue("token"));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSimulatedHeadersAreReceived() throws Throwable {
+        // Given
+        final Session session = newSession(new SimulatedRequestDispatcherFactory((request, random) ->
+                Outcome.response(LATENCY, 200, "ok").header("ETag", "\"v1\"")));
+
+        // When
+        final Response response = session.req("https://api.example.com/items").get().await();
+
+        // Then
+        Assert.assertEquals("\"v1\"", response.getHeader("ETag"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAwaitFailsWhenNothingIsLeftToRun() throws InterruptedException {
+        final AsyncRunner.Lock lock = runner.getLock();
+        synchronized (lock) {
+            lock.await(0);
+        }
+    }
+
+    // Polls for ten minutes a resource that changes once a minute, answering 304 while it's unchanged
+    private long pollResourceChangingEveryMinute(boolean adaptive, Set<String> versions) {
+        final long start = runner.currentTimeMillis();
+        final SimulatedRequestDispatcherFactory server = new SimulatedRequestDispatcherFactory((request, random) -> {
+            final String etag = "\"v" + (runner.currentTimeMillis() - start) / 60_000 + "\"";
+            return (etag.equals(request.getHeader("If-None-Match")) ? Outcome.response(LATENCY, 304) :
+                    Outcome.response(LATENCY, 200, etag)).header("ETag", etag);
+        });
+        final Session session = newSession(server);
+        session.save(ConditionalPolling.KEY, true);
+
+        PollingRequestInvoker invoker = session.req("https://api.example.com/status")
+                .poll(PollingStrategy.SHORT, 1_000);
+        if (adaptive) invoker = invoker.adaptiveInterval(1_000, 32_000);
+        final PollingRequest<String> request = invoker.get(String.class).onSuccess(versions::add);
+        runner.advanceTo(start + 600_000);
+        request.stopPolling();
+        runner.runUntilIdle();
+
+        return server.getSentCount();
+    }
+
+    private Session newSession(SimulatedRequestDispatcherFactory server) {
+        return Requestor.newSession(new DeferredPoolFactoryImpl(), runner, server);
+    }
+}